@@ -0,0 +1,50 @@
+package com.woowacourse.zzimkkong.domain;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 벤치마크용 예약 조건을 seed 로 재현 가능하게 만든다
+ * 평일/주말 규칙이 겹치는 실제 공간처럼, 시간대와 요일이 서로 겹치고 우선순위가 모두 다른 조건들을 만든다
+ */
+final class BenchmarkSettings {
+    private static final List<Integer> TIME_UNITS = List.of(10, 30, 60);
+    private static final List<String> ENABLED_DAY_OF_WEEKS = List.of(
+            "monday,tuesday,wednesday,thursday,friday",
+            "saturday,sunday",
+            "monday,wednesday,friday",
+            "tuesday,thursday",
+            "monday,tuesday,wednesday,thursday,friday,saturday,sunday");
+
+    private BenchmarkSettings() {
+    }
+
+    static List<Setting> makeRandomSettings(final int size, final long seed) {
+        Random random = new Random(seed);
+        List<Integer> priorityOrders = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        Collections.shuffle(priorityOrders, random);
+
+        List<Setting> settings = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int startHour = random.nextInt(20);
+            int endHour = Math.min(startHour + 1 + random.nextInt(4), 23);
+            int timeUnit = TIME_UNITS.get(random.nextInt(TIME_UNITS.size()));
+            int maximumTimeUnit = timeUnit * (1 + random.nextInt((endHour - startHour) * 60 / timeUnit));
+            int minimumTimeUnit = timeUnit * (1 + random.nextInt(maximumTimeUnit / timeUnit));
+            settings.add(Setting.builder()
+                    .settingTimeSlot(TimeSlot.of(LocalTime.of(startHour, 0), LocalTime.of(endHour, 0)))
+                    .reservationTimeUnit(TimeUnit.from(timeUnit))
+                    .reservationMinimumTimeUnit(TimeUnit.from(minimumTimeUnit))
+                    .reservationMaximumTimeUnit(TimeUnit.from(maximumTimeUnit))
+                    .enabledDayOfWeek(ENABLED_DAY_OF_WEEKS.get(random.nextInt(ENABLED_DAY_OF_WEEKS.size())))
+                    .priorityOrder(priorityOrders.get(i))
+                    .build());
+        }
+        return settings;
+    }
+}
@@ -0,0 +1,122 @@
+package com.woowacourse.zzimkkong.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.woowacourse.zzimkkong.domain.Setting.FLAT_PRIORITY_ORDER;
+import static com.woowacourse.zzimkkong.domain.Setting.FLAT_SETTING_ID;
+
+/**
+ * 비교용: {@link SettingsSweepLine} 로 바꾸기 전의 flatten, merge 를 그대로 옮겨 둔 사본
+ * - flatten: 우선순위 순서대로, 앞서 flatten 된 조건들마다 조건을 조각낸다 (O(n^2))
+ * - merge: 시간 순으로 정렬된 flat 한 조건들 중 이어지고 시간 단위가 같은 조건들을 합친다 (요일은 비교하지 않는다)
+ */
+final class LegacySettingsMerge {
+    private LegacySettingsMerge() {
+    }
+
+    /**
+     * @param settings 우선순위 순서로 정렬된 예약 조건들
+     */
+    static List<Setting> flatten(final List<Setting> settings) {
+        List<Setting> flatSettings = new ArrayList<>();
+        for (Setting setting : settings) {
+            List<Setting> exclusiveSettingSlots = extractExclusiveSettingSlots(setting, new ArrayList<>(flatSettings));
+            flatSettings.addAll(exclusiveSettingSlots);
+        }
+        flatSettings.sort(Comparator.comparing(Setting::getSettingStartTime));
+        return flatSettings;
+    }
+
+    /**
+     * @param flatSettings settingStartTime 기준 오름차순으로 정렬된, 서로 겹치지 않는 예약 조건들
+     */
+    static List<Setting> merge(final List<Setting> flatSettings, final EnabledDayOfWeek dayOfWeek) {
+        if (flatSettings.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Setting> mergedSettings = new ArrayList<>();
+        Setting startSetting = flatSettings.get(0);
+        if (flatSettings.size() < 2) {
+            return List.of(startSetting.createSettingBasedOn(startSetting.getSettingTimeSlot(), dayOfWeek));
+        }
+
+        for (int i = 1; i < flatSettings.size(); i++) {
+            Setting endSetting = flatSettings.get(i);
+
+            if (startSetting.canMergeIgnoringDayOfWeek(endSetting)) {
+                startSetting = startSetting.createSettingBasedOn(
+                        TimeSlot.of(startSetting.getSettingStartTime(), endSetting.getSettingEndTime()),
+                        dayOfWeek);
+            } else {
+                mergedSettings.add(startSetting.createSettingBasedOn(startSetting.getSettingTimeSlot(), dayOfWeek));
+                startSetting = endSetting;
+            }
+
+            if (i == flatSettings.size() - 1) {
+                mergedSettings.add(startSetting.createSettingBasedOn(startSetting.getSettingTimeSlot(), dayOfWeek));
+            }
+        }
+        return mergedSettings;
+    }
+
+    private static List<Setting> extractExclusiveSettingSlots(final Setting target, final List<Setting> settings) {
+        List<Setting> exclusiveSettingSlots = List.of(Setting.builder()
+                .id(FLAT_SETTING_ID)
+                .settingTimeSlot(target.getSettingTimeSlot())
+                .reservationTimeUnit(target.getReservationTimeUnit())
+                .reservationMinimumTimeUnit(target.getReservationMinimumTimeUnit())
+                .reservationMaximumTimeUnit(target.getReservationMaximumTimeUnit())
+                .enabledDayOfWeek(target.getEnabledDayOfWeek())
+                .priorityOrder(FLAT_PRIORITY_ORDER)
+                .space(target.getSpace())
+                .build());
+        for (Setting setting : settings) {
+            List<Setting> newExclusiveSettingSlots = new ArrayList<>();
+            for (Setting exclusiveSettingSlot : exclusiveSettingSlots) {
+                newExclusiveSettingSlots.addAll(extractNewExclusiveSettingSlots(exclusiveSettingSlot, setting));
+            }
+            exclusiveSettingSlots = newExclusiveSettingSlots;
+        }
+        return exclusiveSettingSlots;
+    }
+
+    private static List<Setting> extractNewExclusiveSettingSlots(final Setting target, final Setting setting) {
+        if (!target.hasConflictWith(setting)) {
+            return List.of(target);
+        }
+
+        List<Setting> newExclusiveSettingSlots = new ArrayList<>();
+
+        List<TimeSlot> exclusiveTimeSlots = target.getSettingTimeSlot().extractExclusiveTimeSlots(setting.getSettingTimeSlot());
+        for (TimeSlot exclusiveTimeSlot : exclusiveTimeSlots) {
+            newExclusiveSettingSlots.add(cut(target, exclusiveTimeSlot, target.getEnabledDayOfWeek()));
+        }
+
+        EnabledDayOfWeekSet exclusiveEnabledDayOfWeek = target.getEnabledDayOfWeekSet().minus(setting.getEnabledDayOfWeekSet());
+        if (!exclusiveEnabledDayOfWeek.isEmpty()) {
+            TimeSlot overlappingTimeSlot = target.getSettingTimeSlot().extractOverlappingTimeSlot(setting.getSettingTimeSlot());
+            newExclusiveSettingSlots.add(cut(target, overlappingTimeSlot, exclusiveEnabledDayOfWeek.toString()));
+        }
+
+        return newExclusiveSettingSlots;
+    }
+
+    private static Setting cut(final Setting target, final TimeSlot timeSlot, final String enabledDayOfWeek) {
+        TimeUnit adjustedIntervalTimeUnit = target.getReservationTimeUnit().getAdjustedIntervalTimeUnit(timeSlot);
+        return Setting.builder()
+                .id(FLAT_SETTING_ID)
+                .settingTimeSlot(timeSlot)
+                .reservationTimeUnit(adjustedIntervalTimeUnit)
+                .reservationMinimumTimeUnit(
+                        target.getReservationMinimumTimeUnit().getAdjustedTimeUnit(timeSlot, adjustedIntervalTimeUnit))
+                .reservationMaximumTimeUnit(
+                        target.getReservationMaximumTimeUnit().getAdjustedTimeUnit(timeSlot, adjustedIntervalTimeUnit))
+                .enabledDayOfWeek(enabledDayOfWeek)
+                .priorityOrder(FLAT_PRIORITY_ORDER)
+                .space(target.getSpace())
+                .build();
+    }
+}
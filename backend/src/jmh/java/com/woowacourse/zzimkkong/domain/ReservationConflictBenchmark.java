@@ -0,0 +1,72 @@
+package com.woowacourse.zzimkkong.domain;
+
+import com.woowacourse.zzimkkong.infrastructure.datetime.TimeZoneUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 공간-날짜의 예약들과의 메모리 안 충돌 검사
+ * 예약 생성/수정의 충돌 검사는 공간 row 를 잠근 뒤 DB 의 겹치는 예약 조회로 하므로, 이 비교는 메모리 안에서 판단할 때의 참고용이다
+ * - linearScan: 기존 방식 (모든 예약의 ReservationTime 과 하나씩 비교)
+ * - intervals: 시작 시간으로 정렬된 구간 ({@link ReservationIntervals}) 에서 이분 탐색
+ * 하루 예약 수 (reservationCount) 를 늘려가며 비교한다. 새 예약은 충돌하지 않는 가장 마지막 빈 시간이다
+ * 예약들은 모두 내일 (한국 시간) 하루 안에 있다. 시각은 UTC 로 넘기므로 한국 시간 자정을 UTC 로 바꿔 시작한다
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReservationConflictBenchmark {
+    private static final int RESERVATION_MINUTES = 10;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Param({"10", "50", "100"})
+    private int reservationCount;
+
+    private List<Reservation> reservations;
+    private ReservationIntervals reservationIntervals;
+    private ReservationTime newReservationTime;
+
+    @Setup
+    public void setUp() {
+        if ((reservationCount + 1) * RESERVATION_MINUTES > MINUTES_PER_DAY) {
+            throw new IllegalArgumentException("하루 안에 들어가지 않는 예약 수입니다: " + reservationCount);
+        }
+        LocalDate serviceDate = LocalDate.now(ZoneId.of(ServiceZone.KOREA.getTimeZone())).plusDays(1);
+        LocalDateTime startOfDay = TimeZoneUtils.convertToUTC(serviceDate.atStartOfDay(), ServiceZone.KOREA);
+
+        reservations = new ArrayList<>();
+        for (int i = 0; i < reservationCount; i++) {
+            LocalDateTime startTime = startOfDay.plusMinutes((long) i * RESERVATION_MINUTES);
+            reservations.add(Reservation.builder()
+                    .id((long) i + 1)
+                    .reservationTime(ReservationTime.ofDefaultServiceZone(startTime, startTime.plusMinutes(RESERVATION_MINUTES)))
+                    .build());
+        }
+        reservationIntervals = ReservationIntervals.from(reservations);
+
+        LocalDateTime newStartTime = startOfDay.plusMinutes((long) reservationCount * RESERVATION_MINUTES);
+        newReservationTime = ReservationTime.ofDefaultServiceZone(newStartTime, newStartTime.plusMinutes(RESERVATION_MINUTES));
+    }
+
+    @Benchmark
+    public boolean linearScan() {
+        return reservations.stream()
+                .anyMatch(reservation -> reservation.getReservationTime().hasConflictWith(newReservationTime));
+    }
+
+    @Benchmark
+    public boolean intervals() {
+        return reservationIntervals.hasConflictWith(newReservationTime, reservationId -> false);
+    }
+
+    @Benchmark
+    public ReservationIntervals buildIntervals() {
+        return ReservationIntervals.from(reservations);
+    }
+}
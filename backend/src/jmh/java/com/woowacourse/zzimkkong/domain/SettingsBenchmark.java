@@ -0,0 +1,81 @@
+package com.woowacourse.zzimkkong.domain;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 조건 엔진의 처리량과 할당량 (gc profiler 의 gc.alloc.rate.norm)
+ * - legacyFlattenThenMerge: 기존 방식 ({@link LegacySettingsMerge}: 앞서 flatten 된 조건들마다 조건을 조각낸 뒤 merge)
+ * - sweepLineMerge: 요일별 sweep line ({@link SettingsSweepLine})
+ * 조건 수를 늘려가며 두 방식의 증가 폭 (O(n^2) 이상 vs O(n log n)) 을 비교한다
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SettingsBenchmark {
+    private static final TimeSlot RESERVATION_TIME_SLOT = TimeSlot.of(LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+    @Param({"1", "5", "20", "50"})
+    private int settingCount;
+
+    private List<Setting> settings;
+    private Settings prioritizedSettings;
+    private List<Setting> legacyPrioritizedSettings;
+    private CompiledSettings compiledSettings;
+    private Setting lowestPrioritySetting;
+    private List<Setting> higherPrioritySettings;
+
+    @Setup
+    public void setUp() {
+        settings = BenchmarkSettings.makeRandomSettings(settingCount, 20210702L);
+        prioritizedSettings = Settings.toPrioritizedSettings(settings);
+        legacyPrioritizedSettings = new ArrayList<>(prioritizedSettings.getSettings());
+        compiledSettings = CompiledSettings.from(prioritizedSettings);
+
+        List<Setting> sortedSettings = prioritizedSettings.getSettings();
+        lowestPrioritySetting = sortedSettings.get(sortedSettings.size() - 1);
+        higherPrioritySettings = Settings.toFlattenedSettings(sortedSettings.subList(0, sortedSettings.size() - 1))
+                .getSettings();
+    }
+
+    @Benchmark
+    public List<Setting> legacyFlattenThenMerge() {
+        return LegacySettingsMerge.merge(LegacySettingsMerge.flatten(legacyPrioritizedSettings), EnabledDayOfWeek.MONDAY);
+    }
+
+    @Benchmark
+    public Settings sweepLineMerge() {
+        return prioritizedSettings.getMergedSettings(EnabledDayOfWeek.MONDAY);
+    }
+
+    @Benchmark
+    public List<TimeSlot> getUnavailableTimeSlots() {
+        return prioritizedSettings.getUnavailableTimeSlots(DayOfWeek.MONDAY);
+    }
+
+    @Benchmark
+    public List<Setting> extractExclusiveSettingSlots() {
+        return lowestPrioritySetting.extractExclusiveSettingSlots(new ArrayList<>(higherPrioritySettings));
+    }
+
+    @Benchmark
+    public CompiledSettings compile() {
+        return CompiledSettings.from(prioritizedSettings);
+    }
+
+    /**
+     * 예약 생성/수정 시의 예약 조건 검증. 컴파일된 조건으로 검증하므로 할당이 없어야 한다
+     */
+    @Benchmark
+    public void validate(final Blackhole blackhole) {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            blackhole.consume(compiledSettings.validate(dayOfWeek, RESERVATION_TIME_SLOT));
+        }
+    }
+}
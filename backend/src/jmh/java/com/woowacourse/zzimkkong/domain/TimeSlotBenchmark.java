@@ -0,0 +1,65 @@
+package com.woowacourse.zzimkkong.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간대 연산의 처리량과 할당량 (gc profiler 의 gc.alloc.rate.norm)
+ * 겹침, 포함, 나누어떨어짐, 길이 비교는 분 단위 int 로 계산하므로 할당이 없어야 한다
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TimeSlotBenchmark {
+    private final TimeSlot settingTimeSlot = TimeSlot.of(LocalTime.of(9, 0), LocalTime.of(18, 0));
+    private final TimeSlot reservationTimeSlot = TimeSlot.of(LocalTime.of(13, 30), LocalTime.of(15, 0));
+    private final TimeSlot otherReservationTimeSlot = TimeSlot.of(LocalTime.of(14, 0), LocalTime.of(16, 0));
+    private final com.woowacourse.zzimkkong.domain.TimeUnit timeUnit = com.woowacourse.zzimkkong.domain.TimeUnit.from(30);
+    private final com.woowacourse.zzimkkong.domain.TimeUnit maximumTimeUnit = com.woowacourse.zzimkkong.domain.TimeUnit.from(120);
+
+    private ReservationTime reservationTime;
+    private ReservationTime otherReservationTime;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1).withHour(1).withMinute(0);
+        reservationTime = ReservationTime.ofDefaultServiceZone(tomorrow, tomorrow.plusMinutes(90));
+        otherReservationTime = ReservationTime.ofDefaultServiceZone(tomorrow.plusMinutes(60), tomorrow.plusMinutes(120));
+    }
+
+    @Benchmark
+    public boolean hasConflictWith() {
+        return reservationTimeSlot.hasConflictWith(otherReservationTimeSlot);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return settingTimeSlot.contains(reservationTimeSlot);
+    }
+
+    @Benchmark
+    public boolean validateTimeUnits() {
+        return reservationTimeSlot.isNotDivisibleBy(timeUnit)
+                || reservationTimeSlot.isDurationShorterThan(timeUnit)
+                || reservationTimeSlot.isDurationLongerThan(maximumTimeUnit);
+    }
+
+    @Benchmark
+    public List<TimeSlot> extractExclusiveTimeSlots() {
+        return settingTimeSlot.extractExclusiveTimeSlots(reservationTimeSlot);
+    }
+
+    @Benchmark
+    public com.woowacourse.zzimkkong.domain.TimeUnit timeUnitFrom() {
+        return com.woowacourse.zzimkkong.domain.TimeUnit.from(60);
+    }
+
+    @Benchmark
+    public boolean reservationTimeHasConflictWith() {
+        return reservationTime.hasConflictWith(otherReservationTime);
+    }
+}
@@ -0,0 +1,59 @@
+package com.woowacourse.zzimkkong.infrastructure.sharingid;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sharing Id 인코딩/디코딩의 처리량과 할당량
+ * - legacy: 호출마다 Cipher 를 새로 만들던 기존 transcoder
+ * - pooled: 스레드마다 초기화된 Cipher 를 재사용하는 {@link AES256Transcoder}
+ * - cached: mapId <-> sharingId 캐시를 거치는 {@link SharingIdGenerator#parseIdFrom(String)} (적중 시)
+ * 여러 스레드에서 실행해 (-t) 스레드별 Cipher 의 효과도 확인할 수 있다
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SharingIdBenchmark {
+    private static final String SECRET_KEY = "zzimkkong_benchmark_secret_key_32bytes";
+    private static final String MAP_ID = "1024";
+
+    private Transcoder legacyTranscoder;
+    private Transcoder pooledTranscoder;
+    private SharingIdGenerator sharingIdGenerator;
+    private String sharingId;
+
+    @Setup
+    public void setUp() {
+        legacyTranscoder = new LegacyAES256Transcoder(SECRET_KEY);
+        pooledTranscoder = new AES256Transcoder(SECRET_KEY);
+        sharingIdGenerator = new SharingIdGenerator(pooledTranscoder, new SharingIdCache(10000));
+        sharingId = pooledTranscoder.encode(MAP_ID);
+        sharingIdGenerator.parseIdFrom(sharingId);
+    }
+
+    @Benchmark
+    public String legacyEncode() {
+        return legacyTranscoder.encode(MAP_ID);
+    }
+
+    @Benchmark
+    public String pooledEncode() {
+        return pooledTranscoder.encode(MAP_ID);
+    }
+
+    @Benchmark
+    public String legacyDecode() {
+        return legacyTranscoder.decode(sharingId);
+    }
+
+    @Benchmark
+    public String pooledDecode() {
+        return pooledTranscoder.decode(sharingId);
+    }
+
+    @Benchmark
+    public Long cachedParseIdFrom() {
+        return sharingIdGenerator.parseIdFrom(sharingId);
+    }
+}
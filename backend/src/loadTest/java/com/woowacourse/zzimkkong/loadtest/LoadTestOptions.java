@@ -0,0 +1,123 @@
+package com.woowacourse.zzimkkong.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 부하 테스트 설정. 모두 -PloadTest.xxx=값 (system property) 으로 바꿀 수 있다
+ * - rate: 초당 요청 수. 요청은 응답을 기다리지 않고 정해진 시각에 보낸다 (open-loop)
+ * - warmup-seconds 동안의 요청은 결과에 포함하지 않는다
+ * - weight.xxx: 요청 종류별 비율
+ * - dataset.xxx: 미리 만들어 둘 데이터의 크기 ({@link com.woowacourse.zzimkkong.dataset.SyntheticDatasetOptions})
+ */
+public class LoadTestOptions {
+    private static final String PREFIX = "loadTest.";
+
+    private final long seed = longOf("seed", 20210708L);
+    private final double rate = doubleOf("rate", 200);
+    private final int durationSeconds = intOf("duration-seconds", 60);
+    private final int warmupSeconds = intOf("warmup-seconds", 10);
+    private final int timeoutSeconds = intOf("timeout-seconds", 10);
+    private final int maximumInFlight = intOf("maximum-in-flight", 2_000);
+    private final int clientThreads = intOf("client-threads", 16);
+    private final int hotSpaces = intOf("hot-spaces", 5);
+    private final int days = intOf("days", 14);
+
+    private final int findAllWeight = intOf("weight.find-all", 50);
+    private final int availabilityWeight = intOf("weight.availability", 20);
+    private final int createWeight = intOf("weight.create", 15);
+    private final int conflictingCreateWeight = intOf("weight.conflicting-create", 5);
+    private final int updateWeight = intOf("weight.update", 10);
+
+    private final int datasetMembers = intOf("dataset.members", 200);
+    private final int datasetMaps = intOf("dataset.maps", 20);
+    private final int datasetSpacesPerMap = intOf("dataset.spaces-per-map", 10);
+    private final long datasetReservations = longOf("dataset.reservations", 50_000L);
+
+    private final Path output = Paths.get(System.getProperty(PREFIX + "output", "build/reports/load-test/result.json"));
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    public int getMaximumInFlight() {
+        return maximumInFlight;
+    }
+
+    public int getClientThreads() {
+        return clientThreads;
+    }
+
+    public int getHotSpaces() {
+        return hotSpaces;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public int weightOf(final Operation operation) {
+        switch (operation) {
+            case FIND_ALL:
+                return findAllWeight;
+            case AVAILABILITY:
+                return availabilityWeight;
+            case CREATE:
+                return createWeight;
+            case CONFLICTING_CREATE:
+                return conflictingCreateWeight;
+            case UPDATE:
+                return updateWeight;
+            default:
+                throw new IllegalArgumentException(operation.name());
+        }
+    }
+
+    public int getDatasetMembers() {
+        return datasetMembers;
+    }
+
+    public int getDatasetMaps() {
+        return datasetMaps;
+    }
+
+    public int getDatasetSpacesPerMap() {
+        return datasetSpacesPerMap;
+    }
+
+    public long getDatasetReservations() {
+        return datasetReservations;
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    private static int intOf(final String name, final int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    private static long longOf(final String name, final long defaultValue) {
+        return Long.parseLong(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleOf(final String name, final double defaultValue) {
+        return Double.parseDouble(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+}
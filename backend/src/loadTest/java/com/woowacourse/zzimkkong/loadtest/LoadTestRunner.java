@@ -0,0 +1,290 @@
+package com.woowacourse.zzimkkong.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.woowacourse.zzimkkong.ZzimkkongApplication;
+import com.woowacourse.zzimkkong.dataset.SyntheticDatasetGenerator;
+import com.woowacourse.zzimkkong.dataset.SyntheticDatasetOptions;
+import com.woowacourse.zzimkkong.dataset.SyntheticDatasetSummary;
+import com.woowacourse.zzimkkong.domain.EnabledDayOfWeekSet;
+import com.woowacourse.zzimkkong.domain.ServiceZone;
+import com.woowacourse.zzimkkong.infrastructure.sharingid.SharingIdGenerator;
+import com.woowacourse.zzimkkong.repository.MapRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * 애플리케이션을 H2 로 띄우고, 실제 HTTP 로 예약 조회/생성/수정 요청을 보내 처리량과 응답 시간을 잰다 (./gradlew loadTest)
+ * - 시작하면 {@link SyntheticDatasetGenerator} 로 데이터를 만든다. 가장 인기 있는 맵의 앞쪽 공간 몇 개 (hot space) 는
+ *   기존 예약을 지우고 매일 06:00 ~ 23:50 (10 분 단위, 최대 2 시간) 예약 조건 하나만 남겨 부하 테스트의 쓰기 대상으로 쓴다
+ * - 요청은 Poisson 도착 간격으로 정해진 시각에 보내고, 응답을 기다리지 않는다 (open-loop)
+ *   서버가 느려져도 보내는 속도가 줄지 않으므로, 밀린 시간까지 응답 시간에 포함된다
+ * - 결과는 요청 종류별 응답 시간 백분위수, 오류율, 처리량 (초당 받은 응답 수) 을 JSON 으로 loadTest.output 에 쓴다
+ *   동시 요청 수 (maximum-in-flight) 를 넘어 보내지 못한 요청은 timeout 만큼 걸린 실패로 세고, 하나라도 있으면 결과에 valid: false 를 쓴다
+ * 운영과 같게 id 기반 캐시를 켜고, 요청마다 남는 로그는 끈다
+ */
+public class LoadTestRunner {
+    private static final ZoneId SERVICE_ZONE = ZoneId.of(ServiceZone.KOREA.getTimeZone());
+    private static final String EVERY_DAY = "monday,tuesday,wednesday,thursday,friday,saturday,sunday";
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final LoadTestOptions options;
+    private final Map<Operation, OperationStatistics> warmupStatistics = newStatistics();
+    private final Map<Operation, OperationStatistics> statistics = newStatistics();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LoadTestRunner(final LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner(new LoadTestOptions()).run();
+    }
+
+    public void run() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ZzimkkongApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "reservation.day-view-cache.maximum-size=10000",
+                        "member.identity-cache.maximum-size=10000",
+                        "logging.request.sample-rate=0",
+                        "logging.request.client-error-sample-rate=0",
+                        "logging.level.org.hibernate.SQL=warn",
+                        "logging.level.com.woowacourse.zzimkkong=warn")
+                .run()) {
+            SyntheticDatasetSummary datasetSummary = context.getBean(SyntheticDatasetGenerator.class)
+                    .generate(datasetOptions());
+            ReservationWorkload workload = prepareWorkload(context);
+
+            long elapsedNanos = drive(workload);
+            writeReport(datasetSummary, elapsedNanos);
+        }
+    }
+
+    private SyntheticDatasetOptions datasetOptions() {
+        return SyntheticDatasetOptions.builder()
+                .seed(options.getSeed())
+                .members(options.getDatasetMembers())
+                .maps(options.getDatasetMaps())
+                .spacesPerMap(options.getDatasetSpacesPerMap())
+                .reservations(options.getDatasetReservations())
+                .startDate(LocalDate.now(SERVICE_ZONE))
+                .days(options.getDays() + 1)
+                .build();
+    }
+
+    private ReservationWorkload prepareWorkload(final ConfigurableApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Long> mapIds = jdbcTemplate.queryForList("select id from map order by id", Long.class);
+        // 맵 인기도는 Zipf 분포를 따르므로 처음 만든 맵이 가장 인기 있는 맵이다
+        List<Long> hotSpaceIds = jdbcTemplate.queryForList(
+                "select id from space where map_id = ? order by id limit ?",
+                Long.class,
+                mapIds.get(0),
+                options.getHotSpaces());
+        resetHotSpaces(jdbcTemplate, hotSpaceIds);
+
+        SharingIdGenerator sharingIdGenerator = context.getBean(SharingIdGenerator.class);
+        Map<Long, String> sharingIds = context.getBean(MapRepository.class).findAllById(mapIds)
+                .stream()
+                .collect(Collectors.toMap(map -> map.getId(), sharingIdGenerator::from));
+        List<String> sharingMapIds = mapIds.stream()
+                .map(sharingIds::get)
+                .collect(Collectors.toList());
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        return new ReservationWorkload(URI.create("http://localhost:" + port), sharingMapIds, hotSpaceIds, options);
+    }
+
+    private void resetHotSpaces(final JdbcTemplate jdbcTemplate, final List<Long> hotSpaceIds) {
+        long nextSettingId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) + 1 from setting", Long.class);
+        for (Long spaceId : hotSpaceIds) {
+            jdbcTemplate.update("delete from reservation where space_id = ?", spaceId);
+            jdbcTemplate.update("delete from setting where space_id = ?", spaceId);
+            jdbcTemplate.update(
+                    "insert into setting (id, setting_start_time, setting_end_time, reservation_time_unit, " +
+                            "reservation_minimum_time_unit, reservation_maximum_time_unit, enabled_day_of_week, " +
+                            "enabled_day_of_week_mask, priority_order, space_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    nextSettingId++,
+                    LocalTime.of(0, 0).plusMinutes(ReservationWorkload.FIRST_MINUTE),
+                    LocalTime.of(0, 0).plusMinutes(ReservationWorkload.LAST_MINUTE),
+                    ReservationWorkload.TIME_UNIT,
+                    ReservationWorkload.TIME_UNIT,
+                    120,
+                    EVERY_DAY,
+                    EnabledDayOfWeekSet.from(EVERY_DAY).getMask(),
+                    0,
+                    spaceId);
+        }
+    }
+
+    /**
+     * warmup 을 포함한 전체 시간 동안 요청을 보내고, 보낸 요청이 모두 끝날 때까지 기다린다
+     *
+     * @return warmup 이후 첫 요청 예정 시각부터 마지막 응답까지 걸린 시간
+     */
+    private long drive(final ReservationWorkload workload) throws InterruptedException {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(options.getClientThreads());
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(options.getTimeoutSeconds()))
+                .executor(clientExecutor)
+                .build();
+        SplittableRandom random = new SplittableRandom(options.getSeed());
+
+        double meanIntervalNanos = NANOS_PER_SECOND / options.getRate();
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + options.getWarmupSeconds() * NANOS_PER_SECOND;
+        long measureUntil = measureFrom + options.getDurationSeconds() * NANOS_PER_SECOND;
+        double scheduledAt = startedAt;
+
+        while (scheduledAt < measureUntil) {
+            long intendedAt = (long) scheduledAt;
+            long waitNanos = intendedAt - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            ReservationWorkload.Call call = workload.next(random);
+            OperationStatistics operationStatistics = (intendedAt < measureFrom ? warmupStatistics : statistics)
+                    .get(call.getOperation());
+            send(httpClient, call, operationStatistics, intendedAt);
+
+            scheduledAt += -Math.log(1 - random.nextDouble()) * meanIntervalNanos;
+        }
+
+        awaitInFlight();
+        long elapsedNanos = Math.max(System.nanoTime(), measureUntil) - measureFrom;
+        clientExecutor.shutdownNow();
+        return elapsedNanos;
+    }
+
+    private void send(
+            final HttpClient httpClient,
+            final ReservationWorkload.Call call,
+            final OperationStatistics operationStatistics,
+            final long intendedAt) {
+        if (inFlight.incrementAndGet() > options.getMaximumInFlight()) {
+            inFlight.decrementAndGet();
+            operationStatistics.recordDropped(options.getTimeoutSeconds() * NANOS_PER_SECOND);
+            return;
+        }
+
+        httpClient.sendAsync(call.getRequest(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, throwable) -> {
+                    long latencyNanos = System.nanoTime() - intendedAt;
+                    inFlight.decrementAndGet();
+                    if (throwable != null) {
+                        operationStatistics.recordFailure(latencyNanos);
+                        return;
+                    }
+                    operationStatistics.recordResponse(response.statusCode(), latencyNanos);
+                    call.onResponse(response);
+                });
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + options.getTimeoutSeconds() * NANOS_PER_SECOND * 2;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void writeReport(final SyntheticDatasetSummary datasetSummary, final long elapsedNanos) throws IOException {
+        double measuredSeconds = (double) elapsedNanos / NANOS_PER_SECOND;
+
+        Map<String, Object> operationReports = new LinkedHashMap<>();
+        long count = 0;
+        long responses = 0;
+        long errors = 0;
+        long dropped = 0;
+        for (Map.Entry<Operation, OperationStatistics> entry : statistics.entrySet()) {
+            Map<String, Object> operationReport = entry.getValue().toReport(measuredSeconds);
+            operationReports.put(entry.getKey().getKey(), operationReport);
+            count += (long) operationReport.get("count");
+            responses += (long) operationReport.get("responses");
+            errors += (long) operationReport.get("serverErrors") + (long) operationReport.get("failures");
+            dropped += (long) operationReport.get("dropped");
+        }
+
+        Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("seed", options.getSeed());
+        configuration.put("rate", options.getRate());
+        configuration.put("durationSeconds", options.getDurationSeconds());
+        configuration.put("warmupSeconds", options.getWarmupSeconds());
+        configuration.put("hotSpaces", options.getHotSpaces());
+        configuration.put("days", options.getDays());
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            weights.put(operation.getKey(), options.weightOf(operation));
+        }
+        configuration.put("weights", weights);
+
+        Map<String, Object> dataset = new LinkedHashMap<>();
+        dataset.put("members", datasetSummary.getMembers());
+        dataset.put("maps", datasetSummary.getMaps());
+        dataset.put("spaces", datasetSummary.getSpaces());
+        dataset.put("settings", datasetSummary.getSettings());
+        dataset.put("reservations", datasetSummary.getReservations());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", OffsetDateTime.now().toString());
+        report.put("configuration", configuration);
+        report.put("dataset", dataset);
+        report.put("measuredSeconds", measuredSeconds);
+        report.put("offeredRate", options.getRate());
+        report.put("count", count);
+        report.put("throughput", responses / measuredSeconds);
+        report.put("errorRate", count == 0 ? 0 : (double) errors / count);
+        report.put("dropped", dropped);
+        // 부하 도구가 요청을 다 보내지 못했으므로, 서버의 결과로 비교하면 안 된다
+        report.put("valid", dropped == 0);
+        report.put("operations", operationReports);
+
+        Files.createDirectories(options.getOutput().toAbsolutePath().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(options.getOutput().toFile(), report);
+        System.out.printf("load test: %d requests, %.1f responses/s, error rate %.4f, %d dropped -> %s%n",
+                count, responses / measuredSeconds, report.get("errorRate"), dropped, options.getOutput().toAbsolutePath());
+        if (dropped > 0) {
+            System.out.printf("load test: INVALID, %d requests were dropped over maximum-in-flight %d%n",
+                    dropped, options.getMaximumInFlight());
+        }
+    }
+
+    private static Map<Operation, OperationStatistics> newStatistics() {
+        Map<Operation, OperationStatistics> statistics = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            statistics.put(operation, new OperationStatistics(operation));
+        }
+        return statistics;
+    }
+}
@@ -0,0 +1,37 @@
+package com.woowacourse.zzimkkong.loadtest;
+
+import java.util.Set;
+
+/**
+ * 부하 테스트에서 보내는 요청 종류와 정상 응답으로 보는 status
+ * 이미 예약된 시간에 다시 예약하는 conflicting-create 는 400 이 정상이다
+ */
+public enum Operation {
+    FIND_ALL("find-all", "GET /api/guests/maps/{mapId}/spaces/reservations", Set.of(200)),
+    AVAILABILITY("availability", "GET /api/guests/maps/{mapId}/spaces/availability", Set.of(200)),
+    CREATE("create", "POST /api/guests/maps/{mapId}/spaces/{spaceId}/reservations", Set.of(201)),
+    CONFLICTING_CREATE("conflicting-create", "POST /api/guests/maps/{mapId}/spaces/{spaceId}/reservations", Set.of(400)),
+    UPDATE("update", "PUT /api/guests/maps/{mapId}/spaces/{spaceId}/reservations/{reservationId}", Set.of(200));
+
+    private final String key;
+    private final String endpoint;
+    private final Set<Integer> expectedStatuses;
+
+    Operation(final String key, final String endpoint, final Set<Integer> expectedStatuses) {
+        this.key = key;
+        this.endpoint = endpoint;
+        this.expectedStatuses = expectedStatuses;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public boolean isExpected(final int status) {
+        return expectedStatuses.contains(status);
+    }
+}
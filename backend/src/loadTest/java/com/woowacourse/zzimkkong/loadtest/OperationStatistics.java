@@ -0,0 +1,96 @@
+package com.woowacourse.zzimkkong.loadtest;
+
+import com.woowacourse.zzimkkong.config.logaspect.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류 하나의 응답 시간과 결과
+ * - 응답 시간은 요청을 보내기로 예정된 시각부터 잰다. 서버가 밀려 요청이 늦게 나가도 그만큼 응답 시간에 포함된다
+ * - expected: 정상 응답 ({@link Operation#isExpected(int)}), unexpected: 그 밖의 5xx 가 아닌 응답
+ * - serverErrors: 5xx, failures: 연결 실패, 시간 초과, 보내지 못한 요청 (dropped)
+ * - dropped: 동시 요청 수 초과로 보내지 못한 요청. 빼고 세면 가장 느린 구간이 결과에서 사라지므로 (coordinated omission),
+ *   시간 초과된 요청으로 보고 응답 시간 (timeout) 과 오류율에 넣는다
+ * - count 는 예정된 요청 수 (dropped 포함), throughput 은 초당 받은 응답 (expected + unexpected + serverErrors) 수이다
+ */
+public class OperationStatistics {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Operation operation;
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    private final LongAdder expected = new LongAdder();
+    private final LongAdder unexpected = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    public OperationStatistics(final Operation operation) {
+        this.operation = operation;
+    }
+
+    public void recordResponse(final int status, final long latencyNanos) {
+        latencyHistogram.record(latencyNanos);
+        statuses.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+        if (operation.isExpected(status)) {
+            expected.increment();
+            return;
+        }
+        if (status >= 500) {
+            serverErrors.increment();
+            return;
+        }
+        unexpected.increment();
+    }
+
+    public void recordFailure(final long latencyNanos) {
+        latencyHistogram.record(latencyNanos);
+        failures.increment();
+    }
+
+    public void recordDropped(final long timeoutNanos) {
+        recordFailure(timeoutNanos);
+        dropped.increment();
+    }
+
+    public Map<String, Object> toReport(final double measuredSeconds) {
+        LatencyHistogram.Snapshot snapshot = latencyHistogram.snapshot();
+        long responses = expected.sum() + unexpected.sum() + serverErrors.sum();
+        long count = responses + failures.sum();
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", toMillis(snapshot.getMeanNanos()));
+        for (double percentile : PERCENTILES) {
+            latency.put("p" + String.valueOf(percentile).replace(".0", ""), toMillis(snapshot.getPercentileNanos(percentile)));
+        }
+        latency.put("max", toMillis(snapshot.getMaximumNanos()));
+
+        Map<String, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, statusCount) -> statusCounts.put(String.valueOf(status), statusCount.sum()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("endpoint", operation.getEndpoint());
+        report.put("count", count);
+        report.put("responses", responses);
+        report.put("throughput", responses / measuredSeconds);
+        report.put("expected", expected.sum());
+        report.put("unexpected", unexpected.sum());
+        report.put("serverErrors", serverErrors.sum());
+        report.put("failures", failures.sum());
+        report.put("dropped", dropped.sum());
+        report.put("errorRate", count == 0 ? 0 : (double) (serverErrors.sum() + failures.sum()) / count);
+        report.put("unexpectedRate", count == 0 ? 0 : (double) unexpected.sum() / count);
+        report.put("statuses", statusCounts);
+        report.put("latencyMillis", latency);
+        return report;
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,325 @@
+package com.woowacourse.zzimkkong.loadtest;
+
+import com.woowacourse.zzimkkong.domain.ServiceZone;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATETIME_FORMAT;
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
+
+/**
+ * 부하 테스트 요청을 만든다
+ * - 읽기 (find-all, availability) 는 80% 는 가장 인기 있는 맵을, 나머지는 아무 맵이나 조회한다
+ * - 쓰기는 인기 있는 맵의 hot space 들에만 한다. 같은 공간-날짜에 예약이 몰리므로 생성, 수정이 서로 충돌할 수 있다
+ * - 생성된 예약은 둘로 나누어, 하나는 같은 시간으로 다시 예약 (conflicting-create), 다른 하나는 수정 (update) 대상으로 쓴다
+ *   수정 중인 예약의 시간으로 충돌 예약을 보내 정상 응답이 달라지는 일이 없도록 하기 위해서다
+ * 요청을 고르는 {@link #next(SplittableRandom)} 는 스케줄러 스레드 하나에서만 호출한다
+ */
+public class ReservationWorkload {
+    private static final ZoneId SERVICE_ZONE = ZoneId.of(ServiceZone.KOREA.getTimeZone());
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT);
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern(DATETIME_FORMAT);
+    private static final String PASSWORD = "1234";
+    private static final double HOT_READ_RATIO = 0.8;
+    private static final int CREATED_RESERVATION_CAPACITY = 4_096;
+
+    static final int FIRST_MINUTE = 6 * 60;
+    static final int LAST_MINUTE = 23 * 60 + 50;
+    static final int TIME_UNIT = 10;
+    static final int MAXIMUM_DURATION = 60;
+
+    private final URI baseUri;
+    private final List<String> sharingMapIds;
+    private final String hotSharingMapId;
+    private final List<Long> hotSpaceIds;
+    private final LocalDate firstDate;
+    private final int days;
+    private final Duration timeout;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final CreatedReservations conflictTargets = new CreatedReservations();
+    private final CreatedReservations updateTargets = new CreatedReservations();
+    private final AtomicLong createdCount = new AtomicLong();
+    private long nameSequence;
+
+    public ReservationWorkload(
+            final URI baseUri,
+            final List<String> sharingMapIds,
+            final List<Long> hotSpaceIds,
+            final LoadTestOptions options) {
+        this.baseUri = baseUri;
+        this.sharingMapIds = sharingMapIds;
+        this.hotSharingMapId = sharingMapIds.get(0);
+        this.hotSpaceIds = hotSpaceIds;
+        this.firstDate = LocalDate.now(SERVICE_ZONE).plusDays(1);
+        this.days = options.getDays();
+        this.timeout = Duration.ofSeconds(options.getTimeoutSeconds());
+        this.operations = Operation.values();
+        this.cumulativeWeights = new int[operations.length];
+
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += options.weightOf(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("요청 종류별 비율의 합은 0 보다 커야 합니다.");
+        }
+    }
+
+    public Call next(final SplittableRandom random) {
+        Operation operation = pick(random);
+        switch (operation) {
+            case FIND_ALL:
+                return findAll(random);
+            case AVAILABILITY:
+                return availability(random);
+            case CONFLICTING_CREATE:
+                CreatedReservation conflictTarget = conflictTargets.pick(random);
+                if (conflictTarget != null) {
+                    return create(Operation.CONFLICTING_CREATE, conflictTarget.spaceId, conflictTarget.slot);
+                }
+                return create(random);
+            case UPDATE:
+                int updateIndex = updateTargets.pickIndex(random);
+                if (updateIndex >= 0) {
+                    return update(random, updateIndex);
+                }
+                return create(random);
+            default:
+                return create(random);
+        }
+    }
+
+    private Operation pick(final SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private Call findAll(final SplittableRandom random) {
+        String path = "/api/guests/maps/" + readTarget(random) + "/spaces/reservations" +
+                "?date=" + randomDate(random).format(DATE_FORMATTER);
+        return new Call(Operation.FIND_ALL, get(path), null);
+    }
+
+    private Call availability(final SplittableRandom random) {
+        Slot slot = randomSlot(random);
+        String path = "/api/guests/maps/" + readTarget(random) + "/spaces/availability" +
+                "?startDateTime=" + encode(slot.startDateTime()) +
+                "&endDateTime=" + encode(slot.endDateTime());
+        return new Call(Operation.AVAILABILITY, get(path), null);
+    }
+
+    private Call create(final SplittableRandom random) {
+        Long spaceId = hotSpaceIds.get(random.nextInt(hotSpaceIds.size()));
+        return create(Operation.CREATE, spaceId, randomSlot(random));
+    }
+
+    private Call create(final Operation operation, final Long spaceId, final Slot slot) {
+        String path = "/api/guests/maps/" + hotSharingMapId + "/spaces/" + spaceId + "/reservations";
+        HttpRequest request = newRequest(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(bodyOf(slot)))
+                .build();
+        if (operation != Operation.CREATE) {
+            return new Call(operation, request, null);
+        }
+        return new Call(operation, request, response -> onCreated(spaceId, slot, response));
+    }
+
+    private Call update(final SplittableRandom random, final int index) {
+        CreatedReservation target = updateTargets.get(index);
+        Slot slot = randomSlot(random, target.slot.date);
+        String path = "/api/guests/maps/" + hotSharingMapId + "/spaces/" + target.spaceId +
+                "/reservations/" + target.reservationId;
+        HttpRequest request = newRequest(path)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(bodyOf(slot)))
+                .build();
+        return new Call(Operation.UPDATE, request, response -> {
+            if (response.statusCode() == 200) {
+                updateTargets.replace(index, target, new CreatedReservation(target.spaceId, target.reservationId, slot));
+            }
+        });
+    }
+
+    private void onCreated(final Long spaceId, final Slot slot, final HttpResponse<?> response) {
+        if (response.statusCode() != 201) {
+            return;
+        }
+        String location = response.headers().firstValue("Location").orElse(null);
+        if (location == null) {
+            return;
+        }
+
+        Long reservationId = Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+        CreatedReservation createdReservation = new CreatedReservation(spaceId, reservationId, slot);
+        if (createdCount.getAndIncrement() % 2 == 0) {
+            conflictTargets.add(createdReservation);
+            return;
+        }
+        updateTargets.add(createdReservation);
+    }
+
+    private String readTarget(final SplittableRandom random) {
+        if (random.nextDouble() < HOT_READ_RATIO) {
+            return hotSharingMapId;
+        }
+        return sharingMapIds.get(random.nextInt(sharingMapIds.size()));
+    }
+
+    private LocalDate randomDate(final SplittableRandom random) {
+        return firstDate.plusDays(random.nextInt(days));
+    }
+
+    private Slot randomSlot(final SplittableRandom random) {
+        return randomSlot(random, randomDate(random));
+    }
+
+    private Slot randomSlot(final SplittableRandom random, final LocalDate date) {
+        int duration = TIME_UNIT * (1 + random.nextInt(MAXIMUM_DURATION / TIME_UNIT));
+        int startCount = (LAST_MINUTE - FIRST_MINUTE - duration) / TIME_UNIT + 1;
+        int startMinute = FIRST_MINUTE + TIME_UNIT * random.nextInt(startCount);
+        return new Slot(date, startMinute, startMinute + duration);
+    }
+
+    private String bodyOf(final Slot slot) {
+        return "{\"startDateTime\":\"" + slot.startDateTime() + "\"," +
+                "\"endDateTime\":\"" + slot.endDateTime() + "\"," +
+                "\"password\":\"" + PASSWORD + "\"," +
+                "\"name\":\"load-" + (nameSequence++ % 100_000) + "\"," +
+                "\"description\":\"load test\"}";
+    }
+
+    private HttpRequest get(final String path) {
+        return newRequest(path).GET().build();
+    }
+
+    private HttpRequest.Builder newRequest(final String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(timeout);
+    }
+
+    private static String encode(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    public static class Call {
+        private final Operation operation;
+        private final HttpRequest request;
+        private final ResponseHandler responseHandler;
+
+        private Call(final Operation operation, final HttpRequest request, final ResponseHandler responseHandler) {
+            this.operation = operation;
+            this.request = request;
+            this.responseHandler = responseHandler;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        public HttpRequest getRequest() {
+            return request;
+        }
+
+        public void onResponse(final HttpResponse<?> response) {
+            if (responseHandler != null) {
+                responseHandler.handle(response);
+            }
+        }
+    }
+
+    private interface ResponseHandler {
+        void handle(HttpResponse<?> response);
+    }
+
+    private static class Slot {
+        private final LocalDate date;
+        private final int startMinute;
+        private final int endMinute;
+
+        private Slot(final LocalDate date, final int startMinute, final int endMinute) {
+            this.date = date;
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+        }
+
+        private String startDateTime() {
+            return format(startMinute);
+        }
+
+        private String endDateTime() {
+            return format(endMinute);
+        }
+
+        private String format(final int minute) {
+            return ZonedDateTime.of(date, LocalTime.of(minute / 60, minute % 60), SERVICE_ZONE).format(DATETIME_FORMATTER);
+        }
+    }
+
+    private static class CreatedReservation {
+        private final Long spaceId;
+        private final Long reservationId;
+        private final Slot slot;
+
+        private CreatedReservation(final Long spaceId, final Long reservationId, final Slot slot) {
+            this.spaceId = spaceId;
+            this.reservationId = reservationId;
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * 최근에 생성된 예약 최대 {@link #CREATED_RESERVATION_CAPACITY} 개. 가득 차면 가장 오래된 것부터 덮어쓴다
+     */
+    private static class CreatedReservations {
+        private final AtomicReferenceArray<CreatedReservation> reservations =
+                new AtomicReferenceArray<>(CREATED_RESERVATION_CAPACITY);
+        private final AtomicLong addedCount = new AtomicLong();
+
+        private void add(final CreatedReservation reservation) {
+            reservations.set((int) (addedCount.getAndIncrement() % CREATED_RESERVATION_CAPACITY), reservation);
+        }
+
+        private int pickIndex(final SplittableRandom random) {
+            int size = (int) Math.min(addedCount.get(), CREATED_RESERVATION_CAPACITY);
+            if (size == 0) {
+                return -1;
+            }
+            int index = random.nextInt(size);
+            return reservations.get(index) == null ? -1 : index;
+        }
+
+        private CreatedReservation pick(final SplittableRandom random) {
+            int index = pickIndex(random);
+            return index < 0 ? null : reservations.get(index);
+        }
+
+        private CreatedReservation get(final int index) {
+            return reservations.get(index);
+        }
+
+        private void replace(final int index, final CreatedReservation before, final CreatedReservation after) {
+            reservations.compareAndSet(index, before, after);
+        }
+    }
+}
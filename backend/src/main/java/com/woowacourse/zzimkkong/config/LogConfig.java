@@ -1,6 +1,12 @@
 package com.woowacourse.zzimkkong.config;
 
 import com.woowacourse.zzimkkong.config.logaspect.LogTraceIdInterceptor;
+import com.woowacourse.zzimkkong.config.logaspect.SqlExecutionTimeListener;
+import com.woowacourse.zzimkkong.config.logaspect.SqlStatementCountingInspector;
+import com.woowacourse.zzimkkong.config.logaspect.SqlStatisticsInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -8,14 +14,28 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class LogConfig implements WebMvcConfigurer {
     private final LogTraceIdInterceptor logTraceIdInterceptor;
+    private final SqlStatisticsInterceptor sqlStatisticsInterceptor;
 
-    public LogConfig(final LogTraceIdInterceptor logTraceIdInterceptor) {
+    public LogConfig(
+            final LogTraceIdInterceptor logTraceIdInterceptor,
+            final SqlStatisticsInterceptor sqlStatisticsInterceptor) {
         this.logTraceIdInterceptor = logTraceIdInterceptor;
+        this.sqlStatisticsInterceptor = sqlStatisticsInterceptor;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(logTraceIdInterceptor)
                 .addPathPatterns("/**");
+        registry.addInterceptor(sqlStatisticsInterceptor)
+                .addPathPatterns("/**");
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatisticsCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCountingInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlExecutionTimeListener.class.getName());
+        };
     }
 }
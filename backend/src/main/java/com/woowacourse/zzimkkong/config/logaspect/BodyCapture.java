@@ -0,0 +1,69 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * 요청/응답 본문 중 앞의 최대 maximumBytes 만큼만 복사해 두고, 나머지는 크기만 센다
+ * 로그에 남길 앞부분을 위해 본문 전체를 메모리에 쌓지 않기 위해 사용한다
+ */
+class BodyCapture {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int maximumBytes;
+    private byte[] bytes = new byte[0];
+    private int capturedLength;
+    private long totalLength;
+
+    BodyCapture(final int maximumBytes) {
+        this.maximumBytes = Math.max(maximumBytes, 0);
+    }
+
+    void write(final int b) {
+        if (capturedLength < maximumBytes) {
+            ensureCapacity(capturedLength + 1);
+            bytes[capturedLength++] = (byte) b;
+        }
+        totalLength++;
+    }
+
+    void write(final byte[] source, final int offset, final int length) {
+        if (length <= 0) {
+            return;
+        }
+
+        int lengthToCapture = Math.min(length, maximumBytes - capturedLength);
+        if (lengthToCapture > 0) {
+            ensureCapacity(capturedLength + lengthToCapture);
+            System.arraycopy(source, offset, bytes, capturedLength, lengthToCapture);
+            capturedLength += lengthToCapture;
+        }
+        totalLength += length;
+    }
+
+    boolean isEmpty() {
+        return totalLength == 0;
+    }
+
+    boolean isTruncated() {
+        return totalLength > capturedLength;
+    }
+
+    long getTotalLength() {
+        return totalLength;
+    }
+
+    /**
+     * 복사해 둔 앞부분을 문자열로 반환한다. 잘린 멀티바이트 문자는 대체 문자로 바뀐다
+     */
+    String toString(final Charset charset) {
+        return new String(bytes, 0, capturedLength, charset);
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > bytes.length) {
+            int newCapacity = Math.min(maximumBytes, Math.max(capacity, Math.max(bytes.length * 2, INITIAL_CAPACITY)));
+            bytes = Arrays.copyOf(bytes, newCapacity);
+        }
+    }
+}
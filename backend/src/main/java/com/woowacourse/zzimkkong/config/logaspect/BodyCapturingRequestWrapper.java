@@ -0,0 +1,94 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 읽히는 요청 본문을 그대로 전달하면서 앞부분만 {@link BodyCapture} 에 복사한다
+ * ContentCachingRequestWrapper 와 달리 읽은 본문 전체를 쌓아두지 않는다
+ */
+class BodyCapturingRequestWrapper extends HttpServletRequestWrapper {
+    private final BodyCapture bodyCapture;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    BodyCapturingRequestWrapper(final HttpServletRequest request, final int maximumBodyBytes) {
+        super(request);
+        this.bodyCapture = new BodyCapture(maximumBodyBytes);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new CapturingInputStream(super.getInputStream(), bodyCapture);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), getCharset()));
+        }
+        return reader;
+    }
+
+    BodyCapture getBodyCapture() {
+        return bodyCapture;
+    }
+
+    Charset getCharset() {
+        String characterEncoding = getCharacterEncoding();
+        return characterEncoding == null ? StandardCharsets.UTF_8 : Charset.forName(characterEncoding);
+    }
+
+    private static class CapturingInputStream extends ServletInputStream {
+        private final ServletInputStream delegate;
+        private final BodyCapture bodyCapture;
+
+        private CapturingInputStream(final ServletInputStream delegate, final BodyCapture bodyCapture) {
+            this.delegate = delegate;
+            this.bodyCapture = bodyCapture;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                bodyCapture.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            int readLength = delegate.read(b, off, len);
+            if (readLength > 0) {
+                bodyCapture.write(b, off, readLength);
+            }
+            return readLength;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
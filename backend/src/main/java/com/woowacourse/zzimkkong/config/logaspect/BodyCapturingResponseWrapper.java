@@ -0,0 +1,110 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답 본문을 바로 클라이언트로 흘려보내면서 앞부분만 {@link BodyCapture} 에 복사한다
+ * ContentCachingResponseWrapper 와 달리 응답 본문 전체를 힙에 쌓았다가 copyBodyToResponse 로 옮기지 않는다
+ */
+class BodyCapturingResponseWrapper extends HttpServletResponseWrapper {
+    private final BodyCapture bodyCapture;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BodyCapturingResponseWrapper(final HttpServletResponse response, final int maximumBodyBytes) {
+        super(response);
+        this.bodyCapture = new BodyCapture(maximumBodyBytes);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream(), bodyCapture);
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharset()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * 필터 체인이 끝난 뒤, writer 에 남아 있는 본문을 내보낸다
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    BodyCapture getBodyCapture() {
+        return bodyCapture;
+    }
+
+    Charset getCharset() {
+        String characterEncoding = getCharacterEncoding();
+        return characterEncoding == null ? StandardCharsets.UTF_8 : Charset.forName(characterEncoding);
+    }
+
+    private static class CapturingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private final BodyCapture bodyCapture;
+
+        private CapturingOutputStream(final ServletOutputStream delegate, final BodyCapture bodyCapture) {
+            this.delegate = delegate;
+            this.bodyCapture = bodyCapture;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            delegate.write(b);
+            bodyCapture.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            delegate.write(b, off, len);
+            bodyCapture.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -4,11 +4,18 @@ import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 메서드의 실행 시간을 나노초 단위로 {@link MethodTimingRegistry} 의 히스토그램에 기록한다
+ * 호출마다 로그를 남기는 것은 {@link LogAspect#shouldLogExecutionInfo()} 가 허용한 호출뿐이다
+ */
 public class ExecutionTimeLogAdvice implements MethodInterceptor {
     private final LogAspect logAspect;
     private final Class<?> typeToLog;
     private final String logGroup;
+    private final Map<Method, LatencyHistogram> histograms = new ConcurrentHashMap<>();
 
     protected ExecutionTimeLogAdvice(final LogAspect logAspect, final Class<?> typeToLog, final String logGroup) {
         this.logAspect = logAspect;
@@ -18,14 +25,18 @@ public class ExecutionTimeLogAdvice implements MethodInterceptor {
 
     @Override
     public Object invoke(MethodInvocation invocation) throws Throwable {
-        long startTime = System.currentTimeMillis();
-        final Object result = invocation.proceed();
-        long endTime = System.currentTimeMillis();
-        long timeTaken = endTime - startTime;
+        long startTime = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long timeTaken = System.nanoTime() - startTime;
 
-        Method method = invocation.getMethod();
-        logAspect.logExecutionInfo(typeToLog, method, timeTaken, logGroup);
-
-        return result;
+            Method method = invocation.getMethod();
+            histograms.computeIfAbsent(method, key -> logAspect.histogramOf(typeToLog, key, logGroup))
+                    .record(timeTaken);
+            if (logAspect.shouldLogExecutionInfo()) {
+                logAspect.logExecutionInfo(typeToLog, method, timeTaken / 1_000_000, logGroup);
+            }
+        }
     }
 }
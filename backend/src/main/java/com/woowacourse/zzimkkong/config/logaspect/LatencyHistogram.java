@@ -0,0 +1,125 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 나노초 단위 실행 시간의 lock-free 히스토그램
+ * - 2 의 거듭제곱 구간을 다시 16 개로 나눈 log-linear bucket 에 센다. 백분위수의 상대 오차는 1/16 (약 6%) 이하이다
+ * - 기록은 bucket, 횟수, 합계, 최댓값의 원자적 증가뿐이므로 여러 스레드가 동시에 기록해도 락을 잡지 않는다
+ * - 약 2^40 ns (18 분) 이상은 마지막 bucket 에 센다
+ * 스냅샷은 기록과 동시에 만들어질 수 있으므로 횟수와 bucket 의 합이 조금 다를 수 있다
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAXIMUM_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAXIMUM_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maximumNanos = new AtomicLong();
+
+    public void record(final long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucketIndexOf(value));
+        count.increment();
+        totalNanos.add(value);
+
+        long currentMaximum = maximumNanos.get();
+        while (value > currentMaximum && !maximumNanos.compareAndSet(currentMaximum, value)) {
+            currentMaximum = maximumNanos.get();
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long bucketTotal = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            bucketTotal += counts[i];
+        }
+        return new Snapshot(counts, bucketTotal, totalNanos.sum(), maximumNanos.get());
+    }
+
+    /**
+     * 16 보다 작은 값은 값 그대로, 그 이상은 (지수, 상위 4 비트) 로 bucket 을 정한다
+     */
+    static int bucketIndexOf(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAXIMUM_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * bucket 에 속하는 가장 큰 값
+     */
+    static long upperBoundOf(final int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucketIndex % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long maximumNanos;
+
+        private Snapshot(final long[] counts, final long count, final long totalNanos, final long maximumNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maximumNanos = maximumNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMeanNanos() {
+            if (count == 0) {
+                return 0;
+            }
+            return totalNanos / count;
+        }
+
+        public long getMaximumNanos() {
+            return maximumNanos;
+        }
+
+        /**
+         * @param percentile 0 초과 100 이하
+         * @return 기록된 값의 percentile % 가 이 값 이하이다. 최댓값을 넘지 않는다
+         */
+        public long getPercentileNanos(final double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+
+            long rank = (long) Math.ceil(count * percentile / 100);
+            long cumulativeCount = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulativeCount += counts[i];
+                if (cumulativeCount >= rank) {
+                    return Math.min(upperBoundOf(i), maximumNanos);
+                }
+            }
+            return maximumNanos;
+        }
+    }
+}
@@ -9,9 +9,11 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.MDC;
 import org.springframework.aop.aspectj.AspectJExpressionPointcutAdvisor;
 import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static net.logstash.logback.argument.StructuredArguments.value;
 
@@ -21,6 +23,30 @@ import static net.logstash.logback.argument.StructuredArguments.value;
 public class LogAspect {
     public static final String ALL_ZZIMKKONG_PUBLIC_METHOD_POINTCUT_EXPRESSION = "execution(public * com.woowacourse.zzimkkong..*(..))";
 
+    private final MethodTimingRegistry methodTimingRegistry;
+    private final double logSampleRate;
+
+    /**
+     * @param logSampleRate 실행 시간을 호출마다 로그로 남길 비율 (0 ~ 1). 기본값 0 은 로그를 남기지 않고 히스토그램에만 기록한다
+     */
+    public LogAspect(
+            final MethodTimingRegistry methodTimingRegistry,
+            @Value("${logging.method-execution-time.sample-rate:0}") final double logSampleRate) {
+        this.methodTimingRegistry = methodTimingRegistry;
+        this.logSampleRate = logSampleRate;
+    }
+
+    LatencyHistogram histogramOf(Class<?> typeToLog, Method method, String logGroup) {
+        return methodTimingRegistry.histogramOf(logGroup, typeToLog, method);
+    }
+
+    boolean shouldLogExecutionInfo() {
+        if (logSampleRate <= 0 || !log.isDebugEnabled()) {
+            return false;
+        }
+        return logSampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < logSampleRate;
+    }
+
     void logExecutionInfo(Class<?> typeToLog, Method method, long timeTaken, String logGroup) {
         String traceId = MDC.get("traceId");
 
@@ -1,37 +1,100 @@
 package com.woowacourse.zzimkkong.config.logaspect;
 
-import org.reflections.Reflections;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
-import java.util.Set;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * {@link LogMethodExecutionTime} 이 붙은 타입 (또는 그 구현체) 의 빈을 실행 시간 기록 프록시로 감싼다
+ * 대상 타입 목록은 classpath 를 훑지 않고, 컴파일 시점에 annotation processor 가 만든 {@link #INDEX_LOCATION} 에서 읽는다
+ * 빈마다 빈 클래스의 상위 클래스/인터페이스를 대상 타입 Map 에서 찾으므로 대상 타입 수와 무관하게 조회한다
+ */
+@Slf4j
 @Component
 public class LogProxyPostProcessor implements BeanPostProcessor {
+    static final String INDEX_LOCATION = "META-INF/zzimkkong/log-method-execution-time.index";
+
     private final LogAspect logAspect;
-    private final Set<Class<?>> typesAnnotatedWith;
+    private final Map<Class<?>, String> groupsByTypeToLog;
+    private final Map<Class<?>, Optional<Class<?>>> typeToLogCache = new ConcurrentHashMap<>();
 
     protected LogProxyPostProcessor(final LogAspect logAspect) {
         this.logAspect = logAspect;
-
-        Reflections reflections = new Reflections("com.woowacourse.zzimkkong");
-        typesAnnotatedWith = Collections.unmodifiableSet(reflections.getTypesAnnotatedWith(LogMethodExecutionTime.class));
+        this.groupsByTypeToLog = Collections.unmodifiableMap(readIndex(getClass().getClassLoader()));
     }
 
     @Override
     public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
-        return typesAnnotatedWith.stream()
-                .filter(typeToLog -> typeToLog.isAssignableFrom(bean.getClass()))
-                .findAny()
-                .map(typeToLog -> createLogProxy(bean, typeToLog))
+        return findTypeToLog(bean.getClass())
+                .map(typeToLog -> logAspect.createLogProxy(bean, typeToLog, groupsByTypeToLog.get(typeToLog)))
                 .orElse(bean);
     }
 
-    private Object createLogProxy(Object bean, Class<?> typeToLog) {
-        LogMethodExecutionTime annotation = typeToLog.getAnnotation(LogMethodExecutionTime.class);
-        String groupName = annotation.group();
-        return logAspect.createLogProxy(bean, typeToLog, groupName);
+    Optional<Class<?>> findTypeToLog(final Class<?> beanClass) {
+        return typeToLogCache.computeIfAbsent(beanClass, this::searchTypeToLog);
+    }
+
+    private Optional<Class<?>> searchTypeToLog(final Class<?> beanClass) {
+        for (Class<?> type = beanClass; type != null; type = type.getSuperclass()) {
+            if (groupsByTypeToLog.containsKey(type)) {
+                return Optional.of(type);
+            }
+        }
+        return ClassUtils.getAllInterfacesForClassAsSet(beanClass)
+                .stream()
+                .filter(groupsByTypeToLog::containsKey)
+                .findAny();
+    }
+
+    static Map<Class<?>, String> readIndex(final ClassLoader classLoader) {
+        Map<Class<?>, String> groupsByTypeToLog = new HashMap<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(INDEX_LOCATION);
+            if (!indexes.hasMoreElements()) {
+                log.warn("{} 가 없어 실행 시간을 기록하지 않습니다. annotation processor 설정을 확인하세요.", INDEX_LOCATION);
+            }
+            while (indexes.hasMoreElements()) {
+                readIndex(indexes.nextElement(), classLoader, groupsByTypeToLog);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return groupsByTypeToLog;
+    }
+
+    private static void readIndex(
+            final URL index,
+            final ClassLoader classLoader,
+            final Map<Class<?>, String> groupsByTypeToLog) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+            String typeName;
+            while ((typeName = reader.readLine()) != null) {
+                typeName = typeName.trim();
+                if (typeName.isEmpty()) {
+                    continue;
+                }
+
+                Class<?> typeToLog = ClassUtils.resolveClassName(typeName, classLoader);
+                LogMethodExecutionTime annotation = typeToLog.getAnnotation(LogMethodExecutionTime.class);
+                if (annotation != null) {
+                    groupsByTypeToLog.put(typeToLog, annotation.group());
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,64 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * {@link LogMethodExecutionTime} 대상 메서드들의 실행 시간 히스토그램 모음
+ * 메서드는 "타입 이름.메서드 이름()" 으로 구분하며, 오버로딩된 메서드는 하나로 합쳐 센다
+ */
+@Component
+public class MethodTimingRegistry {
+    private final Map<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public LatencyHistogram histogramOf(final String group, final Class<?> type, final Method method) {
+        return histograms.computeIfAbsent(
+                new Key(group, type.getName() + "." + method.getName() + "()"),
+                key -> new LatencyHistogram());
+    }
+
+    public List<MethodTiming> findAll() {
+        return histograms.entrySet()
+                .stream()
+                .map(entry -> MethodTiming.of(entry.getKey(), entry.getValue().snapshot()))
+                .filter(methodTiming -> methodTiming.getSnapshot().getCount() > 0)
+                .sorted(Comparator.comparing(MethodTiming::getGroup).thenComparing(MethodTiming::getMethod))
+                .collect(Collectors.toList());
+    }
+
+    @Getter
+    public static class MethodTiming {
+        private final String group;
+        private final String method;
+        private final LatencyHistogram.Snapshot snapshot;
+
+        private MethodTiming(final String group, final String method, final LatencyHistogram.Snapshot snapshot) {
+            this.group = group;
+            this.method = method;
+            this.snapshot = snapshot;
+        }
+
+        private static MethodTiming of(final Key key, final LatencyHistogram.Snapshot snapshot) {
+            return new MethodTiming(key.group, key.method, snapshot);
+        }
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+        private final String group;
+        private final String method;
+
+        private Key(final String group, final String method) {
+            this.group = group;
+            this.method = method;
+        }
+    }
+}
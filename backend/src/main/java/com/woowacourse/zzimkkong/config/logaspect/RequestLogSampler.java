@@ -0,0 +1,90 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 로그를 남길지 경로와 응답 상태로 정한다
+ * - 5xx 응답은 항상 남긴다
+ * - 그 외에는 요청 경로와 가장 길게 일치하는 prefix 의 비율을, 없으면 기본 비율을 사용한다
+ * - 4xx 응답은 위 비율과 clientErrorSampleRate 중 큰 비율을 사용한다
+ * 경로별 비율은 "/api/guests/maps=0.1,/admin=0" 처럼 "prefix=비율" 을 쉼표로 구분해 설정한다
+ */
+class RequestLogSampler {
+    private static final String ROUTE_DELIMITER = ",";
+    private static final String RATE_DELIMITER = "=";
+
+    private final double defaultSampleRate;
+    private final double clientErrorSampleRate;
+    private final List<RouteSampleRate> routeSampleRates;
+
+    RequestLogSampler(
+            final double defaultSampleRate,
+            final double clientErrorSampleRate,
+            final String routeSampleRates) {
+        this.defaultSampleRate = defaultSampleRate;
+        this.clientErrorSampleRate = clientErrorSampleRate;
+        this.routeSampleRates = parse(routeSampleRates);
+    }
+
+    boolean isSampled(final String requestUri, final int status) {
+        HttpStatus.Series series = HttpStatus.Series.resolve(status);
+        if (series == HttpStatus.Series.SERVER_ERROR) {
+            return true;
+        }
+
+        double sampleRate = sampleRateOf(requestUri);
+        if (series == HttpStatus.Series.CLIENT_ERROR) {
+            sampleRate = Math.max(sampleRate, clientErrorSampleRate);
+        }
+        return isSampled(sampleRate);
+    }
+
+    private double sampleRateOf(final String requestUri) {
+        for (RouteSampleRate routeSampleRate : routeSampleRates) {
+            if (requestUri.startsWith(routeSampleRate.prefix)) {
+                return routeSampleRate.sampleRate;
+            }
+        }
+        return defaultSampleRate;
+    }
+
+    private boolean isSampled(final double sampleRate) {
+        if (sampleRate <= 0) {
+            return false;
+        }
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static List<RouteSampleRate> parse(final String routeSampleRates) {
+        List<RouteSampleRate> parsed = new ArrayList<>();
+        if (routeSampleRates == null || routeSampleRates.isBlank()) {
+            return parsed;
+        }
+
+        for (String routeSampleRate : routeSampleRates.split(ROUTE_DELIMITER)) {
+            String[] prefixAndRate = routeSampleRate.split(RATE_DELIMITER);
+            if (prefixAndRate.length != 2) {
+                throw new IllegalArgumentException("잘못된 경로별 요청 로그 비율입니다: " + routeSampleRate);
+            }
+            parsed.add(new RouteSampleRate(prefixAndRate[0].trim(), Double.parseDouble(prefixAndRate[1].trim())));
+        }
+        // 가장 길게 일치하는 prefix 가 먼저 선택되도록 정렬한다
+        parsed.sort(Comparator.comparingInt((RouteSampleRate route) -> route.prefix.length()).reversed());
+        return parsed;
+    }
+
+    private static class RouteSampleRate {
+        private final String prefix;
+        private final double sampleRate;
+
+        private RouteSampleRate(final String prefix, final double sampleRate) {
+            this.prefix = prefix;
+            this.sampleRate = sampleRate;
+        }
+    }
+}
@@ -3,29 +3,41 @@ package com.woowacourse.zzimkkong.config.logaspect;
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.encoder.org.apache.commons.lang3.StringUtils;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.*;
 import java.util.function.Consumer;
 
 import static java.lang.String.join;
 import static java.util.stream.Collectors.toMap;
 
+/**
+ * 요청/응답을 로그로 남긴다
+ * - 본문은 앞의 max-body-bytes 만큼만 복사하고 나머지는 그대로 흘려보낸다 (요청마다 본문 전체를 힙에 쌓지 않는다)
+ * - 로그를 남길지는 경로와 응답 상태로 정한다 ({@link RequestLogSampler}). 5xx 응답은 항상 남긴다
+ * - Authorization, Cookie 헤더 값은 가린다
+ */
 @Component
 @Order(0)
 @Slf4j
 public class RequestLoggingFilter extends OncePerRequestFilter {
+    private static final Set<String> MASKED_HEADERS = Set.of(
+            HttpHeaders.AUTHORIZATION.toLowerCase(Locale.ROOT),
+            HttpHeaders.COOKIE.toLowerCase(Locale.ROOT));
+    private static final String MASK = "****";
+
     private final Set<String> EXCEPT_URIS = new HashSet<>() {
         {
             /**
@@ -35,34 +47,51 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         }
     };
 
+    private final int maximumBodyBytes;
+    private final RequestLogSampler requestLogSampler;
+
+    public RequestLoggingFilter(
+            @Value("${logging.request.max-body-bytes:1024}") final int maximumBodyBytes,
+            @Value("${logging.request.sample-rate:1}") final double sampleRate,
+            @Value("${logging.request.client-error-sample-rate:1}") final double clientErrorSampleRate,
+            @Value("${logging.request.route-sample-rates:}") final String routeSampleRates) {
+        this.maximumBodyBytes = maximumBodyBytes;
+        this.requestLogSampler = new RequestLogSampler(sampleRate, clientErrorSampleRate, routeSampleRates);
+    }
+
     @Override
     protected void doFilterInternal(final HttpServletRequest request,
                                     final HttpServletResponse response,
                                     final FilterChain filterChain) throws IOException, ServletException {
-        ContentCachingRequestWrapper requestToUse =
-                request instanceof ContentCachingRequestWrapper ?
-                        (ContentCachingRequestWrapper) request : new ContentCachingRequestWrapper(request);
+        if (!isLoggingRequestRequired(request)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                removeMDCInfo();
+            }
+            return;
+        }
 
-        ContentCachingResponseWrapper responseToUse =
-                response instanceof ContentCachingResponseWrapper ?
-                        (ContentCachingResponseWrapper) response : new ContentCachingResponseWrapper(response);
+        BodyCapturingRequestWrapper requestToUse = new BodyCapturingRequestWrapper(request, maximumBodyBytes);
+        BodyCapturingResponseWrapper responseToUse = new BodyCapturingResponseWrapper(response, maximumBodyBytes);
 
         long startTimeMillis = System.currentTimeMillis();
 
         try {
             filterChain.doFilter(requestToUse, responseToUse);
         } finally {
+            responseToUse.flushWriter();
             if (!isAsyncStarted(requestToUse)) {
                 afterRequest(requestToUse, responseToUse, System.currentTimeMillis() - startTimeMillis);
             }
         }
     }
 
-    private void afterRequest(final ContentCachingRequestWrapper request,
-                              final ContentCachingResponseWrapper response,
-                              long processingTimeMillis) throws IOException {
+    private void afterRequest(final BodyCapturingRequestWrapper request,
+                              final BodyCapturingResponseWrapper response,
+                              long processingTimeMillis) {
         try {
-            if (isLoggingRequestRequired(request)) {
+            if (requestLogSampler.isSampled(request.getRequestURI(), response.getStatus())) {
                 StringBuilder logMsgBuilder = new StringBuilder()
                         .append("[").append(processingTimeMillis).append("ms] ")
                         .append("[").append(response.getStatus()).append("]");
@@ -80,19 +109,15 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
                                 .collect(toMap(Map.Entry::getKey, entry -> join(",", entry.getValue()), (dupA, dupB) -> dupA, LinkedHashMap::new)),
                         (reqParam) -> logMsgBuilder.append("[REQUEST PARAMETERS: ").append(reqParam).append("] "));
 
-                appendIfNotBlank(new String(request.getContentAsByteArray(), request.getCharacterEncoding()),
+                appendIfNotBlank(bodyOf(request.getBodyCapture(), request.getCharset(), false),
                         (reqBody) -> logMsgBuilder.append("[REQUEST BODY: ").append(reqBody).append("] "));
 
                 appendIfNotBlank(request.getRemoteAddr(),
                         (remoteAddr) -> logMsgBuilder.append("[REMOTE ADDRESS: ").append(getRemoteAddress(request)).append("] "));
 
-                appendIfNotBlank(new String(response.getContentAsByteArray(), response.getCharacterEncoding()),
-                        (resBody) -> {
-                            if (resBody.getBytes().length > 1024) {
-                                resBody = new String(resBody.getBytes(), 0, 1024);
-                            }
-                            logMsgBuilder.append("[RESPONSE: ").append(resBody).append("]");
-                        });
+                boolean encodedResponse = response.getHeader(HttpHeaders.CONTENT_ENCODING) != null;
+                appendIfNotBlank(bodyOf(response.getBodyCapture(), response.getCharset(), encodedResponse),
+                        (resBody) -> logMsgBuilder.append("[RESPONSE: ").append(resBody).append("]"));
 
                 if (HttpStatus.valueOf(response.getStatus()).is5xxServerError()) {
                     log.error(logMsgBuilder.toString());
@@ -101,16 +126,31 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
                 }
             }
         } finally {
-            response.copyBodyToResponse();
             removeMDCInfo();
         }
     }
 
-    private boolean isLoggingRequestRequired(final ContentCachingRequestWrapper request) {
+    /**
+     * 복사해 둔 본문 앞부분. 잘렸다면 전체 크기를, 압축된 (Content-Encoding) 본문이면 크기만 붙인다
+     */
+    private String bodyOf(final BodyCapture bodyCapture, final Charset charset, final boolean encoded) {
+        if (bodyCapture.isEmpty()) {
+            return null;
+        }
+        if (encoded) {
+            return "(encoded, " + bodyCapture.getTotalLength() + " bytes)";
+        }
+        if (bodyCapture.isTruncated()) {
+            return bodyCapture.toString(charset) + "... (" + bodyCapture.getTotalLength() + " bytes)";
+        }
+        return bodyCapture.toString(charset);
+    }
+
+    private boolean isLoggingRequestRequired(final HttpServletRequest request) {
         return doesNotContainExceptUri(request) && log.isInfoEnabled();
     }
 
-    private boolean doesNotContainExceptUri(final ContentCachingRequestWrapper request) {
+    private boolean doesNotContainExceptUri(final HttpServletRequest request) {
         for (String uri : EXCEPT_URIS) {
             if (request.getRequestURI().contains(uri)) {
                 return false;
@@ -131,7 +171,7 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         }
     }
 
-    private String getRemoteAddress(final ContentCachingRequestWrapper request) {
+    private String getRemoteAddress(final HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if(StringUtils.isBlank(xForwardedFor)) {
             return request.getRemoteAddr();
@@ -158,9 +198,11 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
             headerValueBuilder.setLength(0);
 
             headerValues = request.getHeaders(headerName);
+            boolean masked = MASKED_HEADERS.contains(headerName.toLowerCase(Locale.ROOT));
 
             while (headerValues.hasMoreElements()) {
-                headerValueBuilder.append(headerValues.nextElement()).append("|");
+                String headerValue = headerValues.nextElement();
+                headerValueBuilder.append(masked ? MASK : headerValue).append("|");
             }
 
             if (headerValueBuilder.length() > 0) {
@@ -0,0 +1,32 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * JDBC 로 SQL 을 실행하는 데 걸린 시간을 {@link SqlStatisticsHolder} 에 기록한다
+ * Hibernate 가 세션마다 새로 만든다 (hibernate.session.events.auto). 세션은 한 스레드에서만 사용하므로 시작 시각을 필드에 둔다
+ */
+public class SqlExecutionTimeListener extends BaseSessionEventListener {
+    private long statementStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatisticsHolder.recordExecution(System.nanoTime() - statementStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatisticsHolder.recordExecution(System.nanoTime() - batchStartedAt);
+    }
+}
@@ -0,0 +1,14 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하려고 준비하는 SQL 을 {@link SqlStatisticsHolder} 에 기록한다. SQL 은 바꾸지 않는다
+ */
+public class SqlStatementCountingInspector implements StatementInspector {
+    @Override
+    public String inspect(final String sql) {
+        SqlStatisticsHolder.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,82 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 한 요청 (또는 테스트의 한 구간) 동안 실행된 SQL 의 개수, JDBC 실행 시간, 같은 모양의 SQL 반복 횟수
+ * SQL 은 값과 IN 절의 파라미터 개수를 지운 fingerprint 로 묶는다. 지연 로딩으로 같은 SQL 이 반복되면 (N+1) 반복 횟수가 커진다
+ * fingerprint 는 요청마다 최대 {@link #MAXIMUM_FINGERPRINTS} 개까지만 센다
+ */
+public class SqlStatistics {
+    static final int MAXIMUM_FINGERPRINTS = 100;
+
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERALS = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERALS = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern PARAMETER_LISTS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final String traceId;
+    private final AtomicInteger statementCount = new AtomicInteger();
+    private final AtomicLong jdbcNanos = new AtomicLong();
+    private final Map<String, Integer> fingerprintCounts = new HashMap<>();
+
+    public SqlStatistics(final String traceId) {
+        this.traceId = traceId;
+    }
+
+    void recordStatement(final String sql) {
+        statementCount.incrementAndGet();
+        String fingerprint = fingerprintOf(sql);
+        synchronized (fingerprintCounts) {
+            if (fingerprintCounts.containsKey(fingerprint) || fingerprintCounts.size() < MAXIMUM_FINGERPRINTS) {
+                fingerprintCounts.merge(fingerprint, 1, Integer::sum);
+            }
+        }
+    }
+
+    void recordExecution(final long nanos) {
+        jdbcNanos.addAndGet(nanos);
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public int getStatementCount() {
+        return statementCount.get();
+    }
+
+    public long getJdbcTimeMillis() {
+        return jdbcNanos.get() / 1_000_000;
+    }
+
+    /**
+     * minimumCount 번 이상 실행된 SQL fingerprint 와 실행 횟수 (많이 실행된 순)
+     */
+    public Map<String, Integer> getRepeatedStatements(final int minimumCount) {
+        synchronized (fingerprintCounts) {
+            return fingerprintCounts.entrySet()
+                    .stream()
+                    .filter(entry -> entry.getValue() >= minimumCount)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .collect(Collectors.toMap(
+                            Map.Entry::getKey,
+                            Map.Entry::getValue,
+                            (count, duplicated) -> count,
+                            LinkedHashMap::new));
+        }
+    }
+
+    static String fingerprintOf(final String sql) {
+        String fingerprint = WHITESPACES.matcher(sql.trim()).replaceAll(" ");
+        fingerprint = STRING_LITERALS.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMBER_LITERALS.matcher(fingerprint).replaceAll("?");
+        return PARAMETER_LISTS.matcher(fingerprint).replaceAll("(?)");
+    }
+}
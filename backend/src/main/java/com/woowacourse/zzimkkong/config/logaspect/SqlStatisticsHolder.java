@@ -0,0 +1,61 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 실행되는 SQL 을 기록할 {@link SqlStatistics} 를 보관한다
+ * - 요청 단위: 요청을 처리하는 스레드에 묶는다 ({@link SqlStatisticsInterceptor})
+ * - 구간 단위: 스레드와 무관하게 구간 동안 실행된 모든 SQL 을 센다. 테스트에서 다른 스레드 (내장 서버) 가 실행하는 SQL 을 셀 때 사용한다
+ * Hibernate 가 직접 만드는 {@link SqlStatementCountingInspector}, {@link SqlExecutionTimeListener} 에서 접근하므로 static 으로 둔다
+ */
+public final class SqlStatisticsHolder {
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+    private static final List<SqlStatistics> CAPTURES = new CopyOnWriteArrayList<>();
+
+    private SqlStatisticsHolder() {
+    }
+
+    public static void start(final String traceId) {
+        CURRENT.set(new SqlStatistics(traceId));
+    }
+
+    public static SqlStatistics finish() {
+        SqlStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    /**
+     * action 을 실행하는 동안 (모든 스레드에서) 실행된 SQL 을 센다
+     */
+    public static SqlStatistics capture(final Runnable action) {
+        SqlStatistics statistics = new SqlStatistics(null);
+        CAPTURES.add(statistics);
+        try {
+            action.run();
+        } finally {
+            CAPTURES.remove(statistics);
+        }
+        return statistics;
+    }
+
+    static void recordStatement(final String sql) {
+        forEach(statistics -> statistics.recordStatement(sql));
+    }
+
+    static void recordExecution(final long nanos) {
+        forEach(statistics -> statistics.recordExecution(nanos));
+    }
+
+    private static void forEach(final Consumer<SqlStatistics> recorder) {
+        SqlStatistics current = CURRENT.get();
+        if (current != null) {
+            recorder.accept(current);
+        }
+        if (!CAPTURES.isEmpty()) {
+            CAPTURES.forEach(recorder);
+        }
+    }
+}
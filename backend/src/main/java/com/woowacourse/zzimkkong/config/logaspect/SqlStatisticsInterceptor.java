@@ -0,0 +1,58 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+import static net.logstash.logback.argument.StructuredArguments.value;
+
+/**
+ * 요청마다 실행된 SQL 의 개수, JDBC 실행 시간, 반복된 SQL 을 세고 기준을 넘으면 traceId 와 함께 경고를 남긴다
+ * - statement-count-threshold: 한 요청의 SQL 개수 기준
+ * - repeated-statement-threshold: 같은 모양의 SQL 이 반복된 횟수 기준 (N+1 의심)
+ * {@link LogTraceIdInterceptor} 다음에 등록해 traceId 를 사용한다
+ */
+@Slf4j
+@Component
+public class SqlStatisticsInterceptor implements HandlerInterceptor {
+    private final int statementCountThreshold;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatisticsInterceptor(
+            @Value("${logging.sql.statement-count-threshold:20}") final int statementCountThreshold,
+            @Value("${logging.sql.repeated-statement-threshold:5}") final int repeatedStatementThreshold) {
+        this.statementCountThreshold = statementCountThreshold;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatisticsHolder.start(MDC.get("traceId"));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SqlStatistics statistics = SqlStatisticsHolder.finish();
+        if (statistics == null) {
+            return;
+        }
+
+        Map<String, Integer> repeatedStatements = statistics.getRepeatedStatements(repeatedStatementThreshold);
+        if (statistics.getStatementCount() > statementCountThreshold || !repeatedStatements.isEmpty()) {
+            log.warn("{} {} executed {} statements in {} ms. (repeated: {}, traceId: {})",
+                    value("http_method", request.getMethod()),
+                    value("uri", request.getRequestURI()),
+                    value("statement_count", statistics.getStatementCount()),
+                    value("jdbc_time", statistics.getJdbcTimeMillis()),
+                    value("repeated_statements", repeatedStatements),
+                    value("traceId", statistics.getTraceId()));
+        }
+    }
+}
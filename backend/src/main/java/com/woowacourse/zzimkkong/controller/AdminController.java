@@ -1,7 +1,9 @@
 package com.woowacourse.zzimkkong.controller;
 
+import com.woowacourse.zzimkkong.dto.admin.CachesResponse;
 import com.woowacourse.zzimkkong.dto.admin.MapsResponse;
 import com.woowacourse.zzimkkong.dto.admin.MembersResponse;
+import com.woowacourse.zzimkkong.dto.admin.MethodTimingsResponse;
 import com.woowacourse.zzimkkong.dto.admin.ReservationsResponse;
 import com.woowacourse.zzimkkong.dto.admin.SpacesResponse;
 import com.woowacourse.zzimkkong.dto.member.LoginRequest;
@@ -59,6 +61,18 @@ public class AdminController {
         return ResponseEntity.ok(reservationsResponse);
     }
 
+    @GetMapping("/caches")
+    public ResponseEntity<CachesResponse> caches() {
+        CachesResponse cachesResponse = adminService.findCaches();
+        return ResponseEntity.ok(cachesResponse);
+    }
+
+    @GetMapping("/method-timings")
+    public ResponseEntity<MethodTimingsResponse> methodTimings(@RequestParam(required = false) final String group) {
+        MethodTimingsResponse methodTimingsResponse = adminService.findMethodTimings(group);
+        return ResponseEntity.ok(methodTimingsResponse);
+    }
+
     @GetMapping("/profile")
     public ResponseEntity<String> profile() {
         if (profile.equals("dev")) {
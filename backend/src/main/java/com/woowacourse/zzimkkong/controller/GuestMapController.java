@@ -2,17 +2,30 @@ package com.woowacourse.zzimkkong.controller;
 
 import com.woowacourse.zzimkkong.config.logaspect.LogMethodExecutionTime;
 import com.woowacourse.zzimkkong.dto.map.MapFindResponse;
+import com.woowacourse.zzimkkong.infrastructure.compression.GzipUtils;
 import com.woowacourse.zzimkkong.service.MapService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import java.util.function.Supplier;
 
 @LogMethodExecutionTime(group = "controller")
 @RestController
 @RequestMapping("/api/guests/maps")
 public class GuestMapController {
+    private static final MediaType IMAGE_SVG = MediaType.valueOf("image/svg+xml");
+    private static final String THUMBNAIL_CONTENT_SECURITY_POLICY = "default-src 'none'; style-src 'unsafe-inline'";
+    private static final String NO_SNIFF = "nosniff";
+
     private final MapService mapService;
 
     public GuestMapController(final MapService mapService) {
@@ -20,8 +33,78 @@ public class GuestMapController {
     }
 
     @GetMapping
-    public ResponseEntity<MapFindResponse> find(@RequestParam final String sharingMapId) {
+    public ResponseEntity<MapFindResponse> find(
+            @RequestParam final String sharingMapId,
+            final WebRequest webRequest) {
+        String eTag = MapETag.of(mapService.findChangeVersionBySharingId(sharingMapId));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         MapFindResponse mapFindResponse = mapService.findMapBySharingId(sharingMapId);
-        return ResponseEntity.ok().body(mapFindResponse);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(mapFindResponse);
+    }
+
+    @GetMapping("/drawing")
+    public ResponseEntity<byte[]> findMapDrawing(
+            @RequestParam final String sharingMapId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding,
+            final WebRequest webRequest,
+            final HttpServletResponse response) {
+        return findCompressed(
+                sharingMapId,
+                acceptEncoding,
+                webRequest,
+                response,
+                MediaType.APPLICATION_JSON,
+                () -> mapService.findCompressedMapDrawingBySharingId(sharingMapId));
+    }
+
+    @GetMapping("/thumbnail")
+    public ResponseEntity<byte[]> findThumbnail(
+            @RequestParam final String sharingMapId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding,
+            final WebRequest webRequest,
+            final HttpServletResponse response) {
+        // 관리자가 올린 SVG 를 직접 열어도 스크립트가 실행되지 않도록 한다
+        response.setHeader("Content-Security-Policy", THUMBNAIL_CONTENT_SECURITY_POLICY);
+        response.setHeader("X-Content-Type-Options", NO_SNIFF);
+        return findCompressed(
+                sharingMapId,
+                acceptEncoding,
+                webRequest,
+                response,
+                IMAGE_SVG,
+                () -> mapService.findCompressedThumbnailBySharingId(sharingMapId));
+    }
+
+    /**
+     * 저장된 gzip 본문을 클라이언트가 gzip 을 받을 수 있으면 그대로, 아니면 압축을 풀어 응답한다
+     * 304 응답에도 Vary 가 있어야 하므로 ETag 확인 전에 Vary 를 설정한다
+     */
+    private ResponseEntity<byte[]> findCompressed(
+            final String sharingMapId,
+            final String acceptEncoding,
+            final WebRequest webRequest,
+            final HttpServletResponse response,
+            final MediaType contentType,
+            final Supplier<byte[]> compressedBody) {
+        boolean gzipAccepted = GzipUtils.isAcceptedBy(acceptEncoding);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String eTag = MapETag.of(mapService.findChangeVersionBySharingId(sharingMapId), gzipAccepted);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(contentType);
+        if (gzipAccepted) {
+            return responseBuilder
+                    .header(HttpHeaders.CONTENT_ENCODING, GzipUtils.ENCODING)
+                    .body(compressedBody.get());
+        }
+        return responseBuilder.body(GzipUtils.decompress(compressedBody.get()));
     }
 }
@@ -7,14 +7,16 @@ import com.woowacourse.zzimkkong.dto.member.LoginUserEmail;
 import com.woowacourse.zzimkkong.dto.reservation.*;
 import com.woowacourse.zzimkkong.dto.slack.SlackResponse;
 import com.woowacourse.zzimkkong.infrastructure.datetime.TimeZoneUtils;
+import com.woowacourse.zzimkkong.service.MapService;
 import com.woowacourse.zzimkkong.service.ReservationService;
 import com.woowacourse.zzimkkong.service.SlackService;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.net.URI;
@@ -31,12 +33,15 @@ import static com.woowacourse.zzimkkong.infrastructure.datetime.TimeZoneUtils.UT
 public class GuestReservationController {
     private final SlackService slackService;
     private final ReservationService reservationService;
+    private final MapService mapService;
 
     public GuestReservationController(
             final SlackService slackService,
-            final ReservationService reservationService) {
+            final ReservationService reservationService,
+            final MapService mapService) {
         this.slackService = slackService;
         this.reservationService = reservationService;
+        this.mapService = mapService;
     }
 
     @GetMapping("/non-login/reservations")
@@ -54,16 +59,18 @@ public class GuestReservationController {
     @GetMapping("/reservations")
     public ResponseEntity<ReservationInfiniteScrollResponse> findUpcomingReservations(
             @LoginEmail final LoginUserEmail loginUserEmail,
-            @PageableDefault(sort = {"reservationTime.startTime"}) final Pageable Pageable) {
-        ReservationInfiniteScrollResponse reservationInfiniteScrollResponse = reservationService.findUpcomingReservations(loginUserEmail, Pageable);
+            @RequestParam(required = false) final String cursor,
+            @PageableDefault final Pageable Pageable) {
+        ReservationInfiniteScrollResponse reservationInfiniteScrollResponse = reservationService.findUpcomingReservations(loginUserEmail, cursor, Pageable);
         return ResponseEntity.ok().body(reservationInfiniteScrollResponse);
     }
 
     @GetMapping("/reservations/history")
     public ResponseEntity<ReservationInfiniteScrollResponse> findPreviousReservations(
             @LoginEmail final LoginUserEmail loginUserEmail,
-            @PageableDefault(sort = {"reservationTime.startTime"}, direction = Sort.Direction.DESC) final Pageable Pageable) {
-        ReservationInfiniteScrollResponse reservationFindPreviousResponse = reservationService.findPreviousReservations(loginUserEmail, Pageable);
+            @RequestParam(required = false) final String cursor,
+            @PageableDefault final Pageable Pageable) {
+        ReservationInfiniteScrollResponse reservationFindPreviousResponse = reservationService.findPreviousReservations(loginUserEmail, cursor, Pageable);
         return ResponseEntity.ok().body(reservationFindPreviousResponse);
     }
 
@@ -71,14 +78,20 @@ public class GuestReservationController {
     public ResponseEntity<ReservationFindAllResponse> findAll(
             @PathVariable final Long mapId,
             @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date,
-            @LoginEmail(isOptional = true) final LoginUserEmail loginUserEmail) {
+            @LoginEmail(isOptional = true) final LoginUserEmail loginUserEmail,
+            final WebRequest webRequest) {
+        String eTag = MapETag.of(mapService.findChangeVersion(mapId), loginUserEmail);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         ReservationFindAllDto reservationFindAllDto = ReservationFindAllDto.of(
                 mapId,
                 date,
                 loginUserEmail,
                 ReservationType.Constants.GUEST);
         ReservationFindAllResponse reservationFindAllResponse = reservationService.findAllReservations(reservationFindAllDto);
-        return ResponseEntity.ok().body(reservationFindAllResponse);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(reservationFindAllResponse);
     }
 
     @GetMapping("/maps/{mapId}/spaces/{spaceId}/reservations")
@@ -86,7 +99,13 @@ public class GuestReservationController {
             @PathVariable final Long mapId,
             @PathVariable final Long spaceId,
             @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date,
-            @LoginEmail(isOptional = true) final LoginUserEmail loginUserEmail) {
+            @LoginEmail(isOptional = true) final LoginUserEmail loginUserEmail,
+            final WebRequest webRequest) {
+        String eTag = MapETag.of(mapService.findChangeVersion(mapId), loginUserEmail);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         ReservationFindDto reservationFindDto = ReservationFindDto.of(
                 mapId,
                 spaceId,
@@ -94,7 +113,7 @@ public class GuestReservationController {
                 loginUserEmail,
                 ReservationType.Constants.GUEST);
         ReservationFindResponse reservationFindResponse = reservationService.findReservations(reservationFindDto);
-        return ResponseEntity.ok().body(reservationFindResponse);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(reservationFindResponse);
     }
 
     @PostMapping("/maps/{mapId}/spaces/{spaceId}/reservations")
@@ -1,27 +1,37 @@
 package com.woowacourse.zzimkkong.controller;
 
 import com.woowacourse.zzimkkong.config.logaspect.LogMethodExecutionTime;
+import com.woowacourse.zzimkkong.dto.space.SpaceFindAllAvailabilityGridResponse;
 import com.woowacourse.zzimkkong.dto.space.SpaceFindAllAvailabilityResponse;
+import com.woowacourse.zzimkkong.dto.space.SpaceFindAllAvailableSlotResponse;
 import com.woowacourse.zzimkkong.dto.space.SpaceFindAllResponse;
 import com.woowacourse.zzimkkong.dto.space.SpaceFindDetailResponse;
 import com.woowacourse.zzimkkong.infrastructure.datetime.TimeZoneUtils;
+import com.woowacourse.zzimkkong.service.MapService;
 import com.woowacourse.zzimkkong.service.SpaceService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATETIME_FORMAT;
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
 
 @LogMethodExecutionTime(group = "controller")
 @RestController
 @RequestMapping("/api/guests/maps/{mapId}/spaces")
 public class GuestSpaceController {
     private final SpaceService spaceService;
+    private final MapService mapService;
 
-    public GuestSpaceController(SpaceService spaceService) {
+    public GuestSpaceController(final SpaceService spaceService, final MapService mapService) {
         this.spaceService = spaceService;
+        this.mapService = mapService;
     }
 
     @GetMapping("/availability")
@@ -36,17 +46,62 @@ public class GuestSpaceController {
         return ResponseEntity.ok().body(spaceFindAllAvailabilityResponse);
     }
 
+    @GetMapping("/availability/grid")
+    public ResponseEntity<SpaceFindAllAvailabilityGridResponse> findAllSpaceAvailabilityGrid(
+            @PathVariable final Long mapId,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate endDate,
+            @RequestParam(defaultValue = "30") final Integer slotMinutes) {
+        SpaceFindAllAvailabilityGridResponse spaceFindAllAvailabilityGridResponse = spaceService.findAllSpaceAvailabilityGrid(
+                mapId,
+                startDate,
+                endDate,
+                slotMinutes);
+        return ResponseEntity.ok().body(spaceFindAllAvailabilityGridResponse);
+    }
+
+    @GetMapping("/availability/slots")
+    public ResponseEntity<SpaceFindAllAvailableSlotResponse> findAvailableSlots(
+            @PathVariable final Long mapId,
+            @RequestParam @DateTimeFormat(pattern = DATETIME_FORMAT) final ZonedDateTime startDateTime,
+            @RequestParam @DateTimeFormat(pattern = DATETIME_FORMAT) final ZonedDateTime endDateTime,
+            @RequestParam final Integer durationMinutes,
+            @RequestParam(required = false) final List<Long> spaceIds,
+            @RequestParam(defaultValue = "5") final Integer count) {
+        SpaceFindAllAvailableSlotResponse spaceFindAllAvailableSlotResponse = spaceService.findAvailableSlots(
+                mapId,
+                TimeZoneUtils.convertToUTC(startDateTime),
+                TimeZoneUtils.convertToUTC(endDateTime),
+                durationMinutes,
+                spaceIds,
+                count);
+        return ResponseEntity.ok().body(spaceFindAllAvailableSlotResponse);
+    }
+
     @GetMapping
-    public ResponseEntity<SpaceFindAllResponse> findAll(@PathVariable final Long mapId) {
+    public ResponseEntity<SpaceFindAllResponse> findAll(
+            @PathVariable final Long mapId,
+            final WebRequest webRequest) {
+        String eTag = MapETag.of(mapService.findChangeVersion(mapId));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         SpaceFindAllResponse spaceFindAllResponse = spaceService.findAllSpace(mapId);
-        return ResponseEntity.ok().body(spaceFindAllResponse);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(spaceFindAllResponse);
     }
 
     @GetMapping("/{spaceId}")
     public ResponseEntity<SpaceFindDetailResponse> find(
             @PathVariable final Long mapId,
-            @PathVariable final Long spaceId) {
+            @PathVariable final Long spaceId,
+            final WebRequest webRequest) {
+        String eTag = MapETag.of(mapService.findChangeVersion(mapId));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         SpaceFindDetailResponse spaceFindDetailResponse = spaceService.findSpace(mapId, spaceId);
-        return ResponseEntity.ok().body(spaceFindDetailResponse);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(spaceFindDetailResponse);
     }
 }
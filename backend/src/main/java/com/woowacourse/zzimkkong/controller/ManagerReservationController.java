@@ -6,11 +6,14 @@ import com.woowacourse.zzimkkong.domain.ReservationType;
 import com.woowacourse.zzimkkong.dto.member.LoginUserEmail;
 import com.woowacourse.zzimkkong.dto.reservation.*;
 import com.woowacourse.zzimkkong.dto.slack.SlackResponse;
+import com.woowacourse.zzimkkong.service.MapService;
 import com.woowacourse.zzimkkong.service.ReservationService;
 import com.woowacourse.zzimkkong.service.SlackService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.net.URI;
@@ -24,12 +27,15 @@ import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
 public class ManagerReservationController {
     private final SlackService slackService;
     private final ReservationService reservationService;
+    private final MapService mapService;
 
     public ManagerReservationController(
             final SlackService slackService,
-            final ReservationService reservationService) {
+            final ReservationService reservationService,
+            final MapService mapService) {
         this.slackService = slackService;
         this.reservationService = reservationService;
+        this.mapService = mapService;
     }
 
     @PostMapping("/{spaceId}/reservations")
@@ -55,14 +61,20 @@ public class ManagerReservationController {
     public ResponseEntity<ReservationFindAllResponse> findAll(
             @PathVariable final Long mapId,
             @RequestParam @DateTimeFormat(pattern = DATE_FORMAT) final LocalDate date,
-            @LoginEmail final LoginUserEmail loginUserEmail) {
+            @LoginEmail final LoginUserEmail loginUserEmail,
+            final WebRequest webRequest) {
+        String eTag = MapETag.of(mapService.findChangeVersion(mapId, loginUserEmail), loginUserEmail);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         ReservationFindAllDto reservationFindAllDto = ReservationFindAllDto.of(
                 mapId,
                 date,
                 loginUserEmail,
                 ReservationType.Constants.MANAGER);
         ReservationFindAllResponse reservationFindAllResponse = reservationService.findAllReservations(reservationFindAllDto);
-        return ResponseEntity.ok().body(reservationFindAllResponse);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(reservationFindAllResponse);
     }
 
     @GetMapping("/{spaceId}/reservations")
@@ -0,0 +1,42 @@
+package com.woowacourse.zzimkkong.controller;
+
+import com.woowacourse.zzimkkong.dto.member.LoginUserEmail;
+import com.woowacourse.zzimkkong.infrastructure.compression.GzipUtils;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 맵의 변경 버전 ({@link com.woowacourse.zzimkkong.domain.Map#getChangeVersion()}) 으로 만드는 strong ETag
+ * 응답 본문을 직렬화해 hash 하지 않으므로, If-None-Match 가 일치하면 맵과 공간, 예약을 읽기 전에 304 로 응답할 수 있다
+ * 로그인 사용자마다 본문이 달라지는 응답 (ex. isMyReservation) 은 로그인 이메일의 digest 를 함께 넣는다
+ * gzip 으로 보낸 응답은 본문의 byte 가 다르므로 content coding 을 함께 넣는다
+ */
+final class MapETag {
+    private static final String GUEST = "guest";
+
+    private MapETag() {
+    }
+
+    static String of(final long changeVersion) {
+        return "\"v" + changeVersion + "\"";
+    }
+
+    static String of(final long changeVersion, final boolean gzipEncoded) {
+        if (!gzipEncoded) {
+            return of(changeVersion);
+        }
+        return "\"v" + changeVersion + "-" + GzipUtils.ENCODING + "\"";
+    }
+
+    static String of(final long changeVersion, final LoginUserEmail loginUserEmail) {
+        return "\"v" + changeVersion + "-" + userOf(loginUserEmail) + "\"";
+    }
+
+    private static String userOf(final LoginUserEmail loginUserEmail) {
+        if (!loginUserEmail.exists()) {
+            return GUEST;
+        }
+        return DigestUtils.md5DigestAsHex(loginUserEmail.getEmail().getBytes(StandardCharsets.UTF_8));
+    }
+}
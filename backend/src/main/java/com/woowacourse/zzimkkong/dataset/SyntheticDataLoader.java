@@ -0,0 +1,57 @@
+package com.woowacourse.zzimkkong.dataset;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * dataset.enabled=true 로 실행하면 시작할 때 성능 테스트용 데이터를 만든다. 어떤 프로필 (H2, MySQL) 과도 함께 쓸 수 있다
+ * e.g. ./gradlew bootRun --args='--spring.profiles.active=local --dataset.enabled=true --dataset.reservations=10000000'
+ */
+@Component
+@ConditionalOnProperty(name = "dataset.enabled", havingValue = "true")
+public class SyntheticDataLoader implements CommandLineRunner {
+    private final SyntheticDatasetGenerator syntheticDatasetGenerator;
+    private final SyntheticDatasetOptions options;
+
+    public SyntheticDataLoader(
+            final SyntheticDatasetGenerator syntheticDatasetGenerator,
+            @Value("${dataset.seed:20210708}") final long seed,
+            @Value("${dataset.members:1000}") final int members,
+            @Value("${dataset.maps:200}") final int maps,
+            @Value("${dataset.spaces-per-map:10}") final int spacesPerMap,
+            @Value("${dataset.maximum-settings-per-space:3}") final int maximumSettingsPerSpace,
+            @Value("${dataset.reservations:1000000}") final long reservations,
+            @Value("${dataset.start-date:2021-07-01}") final String startDate,
+            @Value("${dataset.days:365}") final int days,
+            @Value("${dataset.map-skew:1.1}") final double mapSkew,
+            @Value("${dataset.member-skew:1.0}") final double memberSkew,
+            @Value("${dataset.login-reservation-ratio:0.7}") final double loginReservationRatio,
+            @Value("${dataset.weekend-density:0.3}") final double weekendDensity,
+            @Value("${dataset.batch-size:1000}") final int batchSize) {
+        this.syntheticDatasetGenerator = syntheticDatasetGenerator;
+        this.options = SyntheticDatasetOptions.builder()
+                .seed(seed)
+                .members(members)
+                .maps(maps)
+                .spacesPerMap(spacesPerMap)
+                .maximumSettingsPerSpace(maximumSettingsPerSpace)
+                .reservations(reservations)
+                .startDate(LocalDate.parse(startDate))
+                .days(days)
+                .mapSkew(mapSkew)
+                .memberSkew(memberSkew)
+                .loginReservationRatio(loginReservationRatio)
+                .weekendDensity(weekendDensity)
+                .batchSize(batchSize)
+                .build();
+    }
+
+    @Override
+    public void run(String... args) {
+        syntheticDatasetGenerator.generate(options);
+    }
+}
@@ -0,0 +1,570 @@
+package com.woowacourse.zzimkkong.dataset;
+
+import com.woowacourse.zzimkkong.domain.EnabledDayOfWeekSet;
+import com.woowacourse.zzimkkong.domain.ProfileEmoji;
+import com.woowacourse.zzimkkong.domain.ServiceZone;
+import com.woowacourse.zzimkkong.infrastructure.compression.GzipUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 회원, 맵, 공간, 우선순위가 있는 예약 조건, 예약을 JDBC batch insert 로 대량 생성한다
+ * - 모든 값은 seed 로 만든 난수 하나에서 정해진 순서로 뽑으므로, 같은 {@link SyntheticDatasetOptions} 면 같은 데이터가 만들어진다
+ * - 맵 인기도와 예약하는 회원은 Zipf 분포를 따른다. 소수의 맵/회원에 예약이 몰리는 실제 분포를 흉내낸다
+ * - 예약은 공간-날짜마다 그 요일에 적용되는 예약 조건 (우선순위가 높은 조건이 겹치는 시간을 가져간다) 안에서,
+ *   조건의 시간 단위에 맞춰 최소 ~ 최대 시간만큼 서로 겹치지 않게 배치한다
+ * - id 는 테이블의 현재 최댓값 다음부터 직접 지정한다 (MySQL, H2 모두 auto increment 컬럼에 id 를 지정할 수 있다)
+ * 예약은 batchSize 만큼만 메모리에 두고 바로 insert 하므로 수천만 건도 만들 수 있다
+ * MySQL 은 jdbc url 에 rewriteBatchedStatements=true 를 주어야 batch 가 multi-row insert 로 바뀐다
+ */
+@Slf4j
+@Component
+public class SyntheticDatasetGenerator {
+    private static final String PASSWORD = "$2a$10$c3BysogWR4hnexYx60/r/e3lEUIbSs4zhW6kuX4UW733MW5/NmbW."; // test1234
+    private static final String GUEST_PASSWORD = "1234";
+    private static final String SPACE_COLOR = "#FED7D9";
+    private static final String SPACE_AREA = "{\"shape\":\"rectangle\",\"x\":10,\"y\":10,\"width\":100,\"height\":100}";
+    private static final String MAP_DRAWING = "{\"width\":800,\"height\":600,\"mapElements\":[]}";
+    private static final String MAP_THUMBNAIL = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"800\" height=\"600\"></svg>";
+    private static final ZoneId UTC = ZoneOffset.UTC;
+
+    private static final int SLOT_MINUTES = 10;
+    private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int MAXIMUM_RESERVATIONS_PER_DAY = SLOTS_PER_DAY;
+
+    private static final List<SettingTemplate> SETTING_TEMPLATES = List.of(
+            new SettingTemplate(LocalTime.of(9, 0), LocalTime.of(18, 0), 10, 10, 120, "monday,tuesday,wednesday,thursday,friday"),
+            new SettingTemplate(LocalTime.of(10, 0), LocalTime.of(16, 0), 30, 30, 180, "saturday,sunday"),
+            new SettingTemplate(LocalTime.of(6, 0), LocalTime.of(23, 50), 10, 30, 120, "monday,tuesday,wednesday,thursday,friday,saturday,sunday"),
+            new SettingTemplate(LocalTime.of(12, 0), LocalTime.of(13, 0), 30, 30, 60, "monday,wednesday,friday"),
+            new SettingTemplate(LocalTime.of(18, 0), LocalTime.of(22, 0), 30, 60, 240, "tuesday,thursday"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyntheticDatasetGenerator(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public SyntheticDatasetSummary generate(final SyntheticDatasetOptions options) {
+        long startedAt = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(options.getSeed());
+        Checksum checksum = new Checksum();
+
+        long firstMemberId = nextIdOf("member");
+        insertMembers(options, firstMemberId, checksum);
+
+        long firstMapId = nextIdOf("map");
+        long firstMapContentId = nextIdOf("map_content");
+        insertMaps(options, firstMapId, firstMapContentId, firstMemberId, checksum);
+
+        long firstSpaceId = nextIdOf("space");
+        int spaceCount = options.getMaps() * options.getSpacesPerMap();
+        insertSpaces(options, firstSpaceId, firstMapId);
+
+        int[][] templateIndexesBySpace = insertSettings(options, random, nextIdOf("setting"), firstSpaceId, spaceCount, checksum);
+        int settingCount = Arrays.stream(templateIndexesBySpace)
+                .mapToInt(templateIndexes -> templateIndexes.length)
+                .sum();
+
+        long reservationCount = insertReservations(
+                options,
+                random,
+                nextIdOf("reservation"),
+                firstSpaceId,
+                firstMemberId,
+                templateIndexesBySpace,
+                checksum);
+
+        SyntheticDatasetSummary summary = new SyntheticDatasetSummary(
+                options.getMembers(),
+                options.getMaps(),
+                spaceCount,
+                settingCount,
+                reservationCount,
+                checksum.value,
+                System.currentTimeMillis() - startedAt);
+        log.info("synthetic dataset generated: {}", summary);
+        return summary;
+    }
+
+    private void insertMembers(final SyntheticDatasetOptions options, final long firstMemberId, final Checksum checksum) {
+        ProfileEmoji[] emojis = ProfileEmoji.values();
+        BatchInserter inserter = new BatchInserter(
+                "insert into member (id, email, user_name, emoji, password, organization) values (?, ?, ?, ?, ?, ?)",
+                options.getBatchSize());
+        for (int i = 0; i < options.getMembers(); i++) {
+            String userName = userNameOf(firstMemberId + i);
+            inserter.add(firstMemberId + i, userName + "@zzimkkong.com", userName, emojis[i % emojis.length].name(), PASSWORD, "perf");
+            checksum.add(i);
+        }
+        inserter.flush();
+    }
+
+    private void insertMaps(
+            final SyntheticDatasetOptions options,
+            final long firstMapId,
+            final long firstMapContentId,
+            final long firstMemberId,
+            final Checksum checksum) {
+        byte[] compressedMapDrawing = GzipUtils.compress(MAP_DRAWING);
+        byte[] compressedThumbnail = GzipUtils.compress(MAP_THUMBNAIL);
+        BatchInserter contentInserter = new BatchInserter(
+                "insert into map_content (id, map_drawing_gzip, thumbnail_gzip) values (?, ?, ?)",
+                options.getBatchSize());
+        BatchInserter mapInserter = new BatchInserter(
+                "insert into map (id, name, map_content_id, member_id, service_zone) values (?, ?, ?, ?, ?)",
+                options.getBatchSize());
+        for (int i = 0; i < options.getMaps(); i++) {
+            String name = "perf-map-" + i;
+            contentInserter.add(firstMapContentId + i, compressedMapDrawing, compressedThumbnail);
+            // 관리자 한 명이 여러 맵을 가지도록 맵 수의 1/4 명에게 나눠준다
+            long managerId = firstMemberId + i % Math.max(1, Math.min(options.getMembers(), options.getMaps() / 4));
+            mapInserter.add(firstMapId + i, name, firstMapContentId + i, managerId, ServiceZone.KOREA.name());
+            checksum.add(name);
+        }
+        contentInserter.flush();
+        mapInserter.flush();
+    }
+
+    private void insertSpaces(final SyntheticDatasetOptions options, final long firstSpaceId, final long firstMapId) {
+        BatchInserter inserter = new BatchInserter(
+                "insert into space (id, name, color, area, reservation_enable, map_id) values (?, ?, ?, ?, ?, ?)",
+                options.getBatchSize());
+        for (int mapIndex = 0; mapIndex < options.getMaps(); mapIndex++) {
+            for (int i = 0; i < options.getSpacesPerMap(); i++) {
+                long spaceId = firstSpaceId + (long) mapIndex * options.getSpacesPerMap() + i;
+                inserter.add(spaceId, "perf-space-" + i, SPACE_COLOR, SPACE_AREA, true, firstMapId + mapIndex);
+            }
+        }
+        inserter.flush();
+    }
+
+    /**
+     * @return 공간마다 만든 예약 조건의 템플릿 번호 (우선순위 순서)
+     */
+    private int[][] insertSettings(
+            final SyntheticDatasetOptions options,
+            final SplittableRandom random,
+            final long firstSettingId,
+            final long firstSpaceId,
+            final int spaceCount,
+            final Checksum checksum) {
+        BatchInserter inserter = new BatchInserter(
+                "insert into setting (id, setting_start_time, setting_end_time, reservation_time_unit, " +
+                        "reservation_minimum_time_unit, reservation_maximum_time_unit, enabled_day_of_week, " +
+                        "enabled_day_of_week_mask, priority_order, space_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                options.getBatchSize());
+        int maximumSettings = Math.max(1, Math.min(options.getMaximumSettingsPerSpace(), SETTING_TEMPLATES.size()));
+        int[][] templateIndexesBySpace = new int[spaceCount][];
+        int settingCount = 0;
+        for (int spaceIndex = 0; spaceIndex < spaceCount; spaceIndex++) {
+            int count = 1 + random.nextInt(maximumSettings);
+            int[] templateIndexes = shuffledIndexes(random, SETTING_TEMPLATES.size());
+            templateIndexesBySpace[spaceIndex] = Arrays.copyOf(templateIndexes, count);
+            for (int priorityOrder = 0; priorityOrder < count; priorityOrder++) {
+                SettingTemplate template = SETTING_TEMPLATES.get(templateIndexes[priorityOrder]);
+                inserter.add(
+                        firstSettingId + settingCount,
+                        template.startTime,
+                        template.endTime,
+                        template.timeUnit,
+                        template.minimumTimeUnit,
+                        template.maximumTimeUnit,
+                        template.enabledDayOfWeek,
+                        template.enabledDayOfWeekSet.getMask(),
+                        priorityOrder,
+                        firstSpaceId + spaceIndex);
+                checksum.add(spaceIndex).add(templateIndexes[priorityOrder]);
+                settingCount++;
+            }
+        }
+        inserter.flush();
+        return templateIndexesBySpace;
+    }
+
+    private long insertReservations(
+            final SyntheticDatasetOptions options,
+            final SplittableRandom random,
+            final long firstReservationId,
+            final long firstSpaceId,
+            final long firstMemberId,
+            final int[][] templateIndexesBySpace,
+            final Checksum checksum) {
+        BatchInserter inserter = new BatchInserter(
+                "insert into reservation (id, date, start_time, end_time, password, user_name, description, space_id, member_id) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                options.getBatchSize());
+        ZoneId serviceZoneId = ZoneId.of(ServiceZone.KOREA.getTimeZone());
+        ZipfDistribution members = new ZipfDistribution(options.getMembers(), options.getMemberSkew());
+        double[] mapWeights = new ZipfDistribution(options.getMaps(), options.getMapSkew()).getProbabilities();
+        double[] dayWeights = dayWeightsOf(options);
+        int[] slotStarts = new int[MAXIMUM_RESERVATIONS_PER_DAY];
+        int[] slotEnds = new int[MAXIMUM_RESERVATIONS_PER_DAY];
+
+        long reservationCount = 0;
+        for (int mapIndex = 0; mapIndex < options.getMaps(); mapIndex++) {
+            double reservationsPerSpace = options.getReservations() * mapWeights[mapIndex] / options.getSpacesPerMap();
+            for (int spaceIndex = 0; spaceIndex < options.getSpacesPerMap(); spaceIndex++) {
+                long spaceId = firstSpaceId + (long) mapIndex * options.getSpacesPerMap() + spaceIndex;
+                List<List<Window>> windowsByDayOfWeek = windowsOf(
+                        templateIndexesBySpace[mapIndex * options.getSpacesPerMap() + spaceIndex]);
+                double[] spaceDayWeights = reservableDayWeightsOf(options, dayWeights, windowsByDayOfWeek);
+                for (int day = 0; day < options.getDays(); day++) {
+                    LocalDate date = options.getStartDate().plusDays(day);
+                    int count = countOf(random, reservationsPerSpace * spaceDayWeights[day]);
+                    List<Window> windows = windowsByDayOfWeek.get(date.getDayOfWeek().ordinal());
+                    int placed = place(random, count, windows, slotStarts, slotEnds);
+                    for (int i = 0; i < placed; i++) {
+                        LocalDateTime startTime = toUtc(date, slotStarts[i], serviceZoneId);
+                        LocalDateTime endTime = toUtc(date, slotEnds[i], serviceZoneId);
+                        boolean login = random.nextDouble() < options.getLoginReservationRatio();
+                        int memberIndex = login ? members.sample(random) : -1;
+                        String userName = login ? userNameOf(firstMemberId + memberIndex) : "guest-" + random.nextInt(10_000);
+                        inserter.add(
+                                firstReservationId + reservationCount,
+                                date,
+                                startTime,
+                                endTime,
+                                login ? null : GUEST_PASSWORD,
+                                userName,
+                                "perf reservation",
+                                spaceId,
+                                login ? firstMemberId + memberIndex : null);
+                        checksum.add(mapIndex).add(spaceIndex).add(day).add(slotStarts[i]).add(slotEnds[i]).add(memberIndex);
+                        if (!login) {
+                            checksum.add(userName);
+                        }
+                        reservationCount++;
+                    }
+                }
+            }
+            log.info("synthetic reservations: {} maps done, {} reservations", mapIndex + 1, reservationCount);
+        }
+        inserter.flush();
+        return reservationCount;
+    }
+
+    /**
+     * 평일과 주말의 밀도를 반영해, 합이 1 인 날짜별 가중치
+     */
+    private double[] dayWeightsOf(final SyntheticDatasetOptions options) {
+        double[] weights = new double[options.getDays()];
+        double total = 0;
+        for (int day = 0; day < weights.length; day++) {
+            DayOfWeek dayOfWeek = options.getStartDate().plusDays(day).getDayOfWeek();
+            boolean weekend = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+            weights[day] = weekend ? options.getWeekendDensity() : 1;
+            total += weights[day];
+        }
+        for (int day = 0; day < weights.length; day++) {
+            weights[day] /= total;
+        }
+        return weights;
+    }
+
+    /**
+     * dayWeights 에 그날 공간의 예약 조건으로 들어갈 수 있는 예약 수를 곱하고 합이 1 이 되도록 다시 나눈 가중치
+     * - 예약할 수 없거나 (예: 주말에만 열리는 공간의 평일) 짧게 열리는 날에 배정된 예약이 자리가 없어 버려지지 않게 한다
+     */
+    private double[] reservableDayWeightsOf(
+            final SyntheticDatasetOptions options,
+            final double[] dayWeights,
+            final List<List<Window>> windowsByDayOfWeek) {
+        double[] weights = new double[dayWeights.length];
+        double total = 0;
+        for (int day = 0; day < weights.length; day++) {
+            DayOfWeek dayOfWeek = options.getStartDate().plusDays(day).getDayOfWeek();
+            weights[day] = dayWeights[day] * capacityOf(windowsByDayOfWeek.get(dayOfWeek.ordinal()));
+            total += weights[day];
+        }
+        for (int day = 0; day < weights.length && total > 0; day++) {
+            weights[day] /= total;
+        }
+        return weights;
+    }
+
+    /**
+     * 기댓값이 expected 인 정수 (소수 부분은 그 확률로 1 을 더한다)
+     */
+    private int countOf(final SplittableRandom random, final double expected) {
+        int count = (int) expected;
+        if (random.nextDouble() < expected - count) {
+            count++;
+        }
+        return Math.min(count, MAXIMUM_RESERVATIONS_PER_DAY);
+    }
+
+    /**
+     * 요일마다 예약할 수 있는 구간들. 우선순위가 높은 조건이 겹치는 시간을 가져가고, 같은 조건이 이어지는 시간이 하나의 구간이 된다
+     */
+    private List<List<Window>> windowsOf(final int[] templateIndexes) {
+        List<List<Window>> windowsByDayOfWeek = new ArrayList<>();
+        int[] owners = new int[SLOTS_PER_DAY];
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            Arrays.fill(owners, -1);
+            for (int templateIndex : templateIndexes) {
+                SettingTemplate template = SETTING_TEMPLATES.get(templateIndex);
+                if (!template.enabledDayOfWeekSet.contains(dayOfWeek)) {
+                    continue;
+                }
+                for (int slot = template.startSlot; slot < template.endSlot; slot++) {
+                    if (owners[slot] < 0) {
+                        owners[slot] = templateIndex;
+                    }
+                }
+            }
+
+            List<Window> windows = new ArrayList<>();
+            int start = 0;
+            for (int slot = 1; slot <= SLOTS_PER_DAY; slot++) {
+                if (slot < SLOTS_PER_DAY && owners[slot] == owners[start]) {
+                    continue;
+                }
+                if (owners[start] >= 0) {
+                    windows.add(new Window(start, slot, SETTING_TEMPLATES.get(owners[start])));
+                }
+                start = slot;
+            }
+            windowsByDayOfWeek.add(windows);
+        }
+        return windowsByDayOfWeek;
+    }
+
+    /**
+     * count 개의 예약을 구간마다 들어갈 수 있는 개수에 비례해 나누어 겹치지 않게 시간순으로 배치하고, 배치한 개수를 반환한다
+     */
+    private int place(
+            final SplittableRandom random,
+            final int count,
+            final List<Window> windows,
+            final int[] slotStarts,
+            final int[] slotEnds) {
+        int capacity = capacityOf(windows);
+        int target = Math.min(count, capacity);
+        if (target == 0) {
+            return 0;
+        }
+        int placed = 0;
+        int allotted = 0;
+        int cumulativeCapacity = 0;
+        for (Window window : windows) {
+            cumulativeCapacity += window.capacity();
+            int share = (int) Math.round((double) target * cumulativeCapacity / capacity) - allotted;
+            allotted += share;
+            placed += placeIn(random, share, window, slotStarts, slotEnds, placed);
+        }
+        return placed;
+    }
+
+    private int capacityOf(final List<Window> windows) {
+        return windows.stream()
+                .mapToInt(Window::capacity)
+                .sum();
+    }
+
+    /**
+     * 구간 안에 count 개의 예약을 구간의 시간 단위에 맞춰 최소 ~ 최대 시간으로 겹치지 않게 배치하고, 배치한 개수를 반환한다
+     */
+    private int placeIn(
+            final SplittableRandom random,
+            final int count,
+            final Window window,
+            final int[] slotStarts,
+            final int[] slotEnds,
+            final int offset) {
+        int length = window.length();
+        int cursor = 0;
+        for (int i = 0; i < count; i++) {
+            int remaining = count - i;
+            int slack = length - cursor - remaining * window.minimumUnits;
+            if (slack < 0) {
+                return i;
+            }
+            int duration = Math.min(
+                    window.minimumUnits + random.nextInt(window.maximumUnits - window.minimumUnits + 1),
+                    window.minimumUnits + slack);
+            int gap = random.nextInt((slack - (duration - window.minimumUnits)) / remaining + 1);
+            int start = cursor + gap;
+            cursor = start + duration;
+            slotStarts[offset + i] = window.startSlot + start * window.unitSlots;
+            slotEnds[offset + i] = window.startSlot + cursor * window.unitSlots;
+        }
+        return count;
+    }
+
+    private LocalDateTime toUtc(final LocalDate date, final int slot, final ZoneId serviceZoneId) {
+        return date.atStartOfDay()
+                .plusMinutes((long) slot * SLOT_MINUTES)
+                .atZone(serviceZoneId)
+                .withZoneSameInstant(UTC)
+                .toLocalDateTime();
+    }
+
+    /**
+     * 회원 이름과 이메일은 유일해야 하므로 id 로 만든다
+     */
+    private String userNameOf(final long memberId) {
+        return "perf-" + memberId;
+    }
+
+    private int[] shuffledIndexes(final SplittableRandom random, final int size) {
+        int[] indexes = new int[size];
+        Arrays.setAll(indexes, i -> i);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = temp;
+        }
+        return indexes;
+    }
+
+    private long nextIdOf(final String table) {
+        Long maximumId = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        return maximumId == null ? 1 : maximumId + 1;
+    }
+
+    private class BatchInserter {
+        private final String sql;
+        private final int batchSize;
+        private final List<Object[]> rows;
+
+        private BatchInserter(final String sql, final int batchSize) {
+            this.sql = sql;
+            this.batchSize = Math.max(1, batchSize);
+            this.rows = new ArrayList<>(this.batchSize);
+        }
+
+        private void add(final Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+
+    private static class SettingTemplate {
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final int timeUnit;
+        private final int minimumTimeUnit;
+        private final int maximumTimeUnit;
+        private final String enabledDayOfWeek;
+        private final EnabledDayOfWeekSet enabledDayOfWeekSet;
+        private final int startSlot;
+        private final int endSlot;
+
+        private SettingTemplate(
+                final LocalTime startTime,
+                final LocalTime endTime,
+                final int timeUnit,
+                final int minimumTimeUnit,
+                final int maximumTimeUnit,
+                final String enabledDayOfWeek) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.timeUnit = timeUnit;
+            this.minimumTimeUnit = minimumTimeUnit;
+            this.maximumTimeUnit = maximumTimeUnit;
+            this.enabledDayOfWeek = enabledDayOfWeek;
+            this.enabledDayOfWeekSet = EnabledDayOfWeekSet.from(enabledDayOfWeek);
+            this.startSlot = startTime.toSecondOfDay() / 60 / SLOT_MINUTES;
+            this.endSlot = endTime.toSecondOfDay() / 60 / SLOT_MINUTES;
+        }
+    }
+
+    /**
+     * 한 예약 조건이 가져간 [startSlot, endSlot) 구간. 길이와 예약 시간은 조건의 시간 단위 (unitSlots) 개수로 센다
+     */
+    private static class Window {
+        private final int startSlot;
+        private final int unitSlots;
+        private final int lengthUnits;
+        private final int minimumUnits;
+        private final int maximumUnits;
+
+        private Window(final int startSlot, final int endSlot, final SettingTemplate template) {
+            this.startSlot = startSlot;
+            this.unitSlots = Math.max(1, template.timeUnit / SLOT_MINUTES);
+            this.lengthUnits = (endSlot - startSlot) / unitSlots;
+            this.minimumUnits = Math.max(1, (template.minimumTimeUnit + template.timeUnit - 1) / template.timeUnit);
+            this.maximumUnits = Math.max(minimumUnits, template.maximumTimeUnit / template.timeUnit);
+        }
+
+        private int length() {
+            return lengthUnits;
+        }
+
+        private int capacity() {
+            return lengthUnits / minimumUnits;
+        }
+    }
+
+    /**
+     * 1 순위의 확률이 가장 큰 Zipf 분포. 누적 확률에서 이분 탐색으로 뽑는다
+     */
+    private static class ZipfDistribution {
+        private final double[] probabilities;
+        private final double[] cumulativeProbabilities;
+
+        private ZipfDistribution(final int size, final double skew) {
+            this.probabilities = new double[Math.max(size, 1)];
+            this.cumulativeProbabilities = new double[probabilities.length];
+
+            double total = 0;
+            for (int rank = 0; rank < probabilities.length; rank++) {
+                probabilities[rank] = 1 / Math.pow(rank + 1, skew);
+                total += probabilities[rank];
+            }
+            double cumulative = 0;
+            for (int rank = 0; rank < probabilities.length; rank++) {
+                probabilities[rank] /= total;
+                cumulative += probabilities[rank];
+                cumulativeProbabilities[rank] = cumulative;
+            }
+        }
+
+        private double[] getProbabilities() {
+            return probabilities;
+        }
+
+        private int sample(final SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+            int rank = index >= 0 ? index : -index - 1;
+            return Math.min(rank, cumulativeProbabilities.length - 1);
+        }
+    }
+
+    private static class Checksum {
+        private long value = 17;
+
+        private Checksum add(final long number) {
+            value = value * 31 + number;
+            return this;
+        }
+
+        private Checksum add(final String text) {
+            return add(text.hashCode());
+        }
+    }
+}
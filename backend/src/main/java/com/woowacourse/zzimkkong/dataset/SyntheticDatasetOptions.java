@@ -0,0 +1,43 @@
+package com.woowacourse.zzimkkong.dataset;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 성능 테스트용 데이터 생성 조건. 같은 조건 (seed 포함) 이면 같은 데이터를 만든다
+ * - mapSkew: 맵 인기도의 Zipf 지수. 클수록 소수의 맵에 예약이 몰린다 (0 이면 고르게 분포)
+ * - loginReservationRatio: 회원 예약의 비율. 예약하는 회원도 Zipf 분포 (memberSkew) 로 고른다
+ * - weekendDensity: 평일 대비 주말 예약 밀도
+ */
+@Getter
+@Builder
+public class SyntheticDatasetOptions {
+    @Builder.Default
+    private final long seed = 20210708L;
+    @Builder.Default
+    private final int members = 1_000;
+    @Builder.Default
+    private final int maps = 200;
+    @Builder.Default
+    private final int spacesPerMap = 10;
+    @Builder.Default
+    private final int maximumSettingsPerSpace = 3;
+    @Builder.Default
+    private final long reservations = 1_000_000L;
+    @Builder.Default
+    private final LocalDate startDate = LocalDate.of(2021, 7, 1);
+    @Builder.Default
+    private final int days = 365;
+    @Builder.Default
+    private final double mapSkew = 1.1;
+    @Builder.Default
+    private final double memberSkew = 1.0;
+    @Builder.Default
+    private final double loginReservationRatio = 0.7;
+    @Builder.Default
+    private final double weekendDensity = 0.3;
+    @Builder.Default
+    private final int batchSize = 1_000;
+}
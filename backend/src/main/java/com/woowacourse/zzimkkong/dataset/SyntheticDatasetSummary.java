@@ -0,0 +1,42 @@
+package com.woowacourse.zzimkkong.dataset;
+
+import lombok.Getter;
+
+/**
+ * 생성한 데이터의 개수와 checksum
+ * checksum 은 id 가 아닌 생성 순서 기준의 값으로 계산하므로, 이미 데이터가 있는 DB 에 만들어도 같은 조건이면 같다
+ */
+@Getter
+public class SyntheticDatasetSummary {
+    private final int members;
+    private final int maps;
+    private final int spaces;
+    private final int settings;
+    private final long reservations;
+    private final long checksum;
+    private final long elapsedMillis;
+
+    SyntheticDatasetSummary(
+            final int members,
+            final int maps,
+            final int spaces,
+            final int settings,
+            final long reservations,
+            final long checksum,
+            final long elapsedMillis) {
+        this.members = members;
+        this.maps = maps;
+        this.spaces = spaces;
+        this.settings = settings;
+        this.reservations = reservations;
+        this.checksum = checksum;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "members=%d, maps=%d, spaces=%d, settings=%d, reservations=%d, checksum=%x, elapsed=%dms",
+                members, maps, spaces, settings, reservations, checksum, elapsedMillis);
+    }
+}
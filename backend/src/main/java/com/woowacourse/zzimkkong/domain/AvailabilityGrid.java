@@ -0,0 +1,88 @@
+package com.woowacourse.zzimkkong.domain;
+
+import com.woowacourse.zzimkkong.exception.reservation.IllegalTimeUnitValueException;
+import com.woowacourse.zzimkkong.exception.space.InvalidAvailabilityDateRangeException;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * 맵의 서비스 지역 기준 [startDate, endDate] 의 날짜들을 slotMinutes 단위 slot 으로 나눈 격자
+ * - slot 의 index 는 (startDate 로부터 지난 날짜 수) * slotsPerDay + (그 날의 slot 순서) 이다
+ * - 공간마다 예약 가능한 slot 을 bit 로 표시한 {@link BitSet} 을 계산한다
+ * 계산에 영속성 컨텍스트가 필요하지 않으므로 여러 공간을 동시에 계산해도 된다
+ */
+@Getter
+public class AvailabilityGrid {
+    public static final int MAXIMUM_DAYS = 31;
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int days;
+    private final int slotMinutes;
+    private final int slotsPerDay;
+
+    private AvailabilityGrid(final LocalDate startDate, final LocalDate endDate, final int slotMinutes) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        this.slotMinutes = slotMinutes;
+        this.slotsPerDay = MinuteOfDay.MINUTES_PER_DAY / slotMinutes;
+    }
+
+    public static AvailabilityGrid of(final LocalDate startDate, final LocalDate endDate, final TimeUnit slotUnit) {
+        if (endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAXIMUM_DAYS) {
+            throw new InvalidAvailabilityDateRangeException(MAXIMUM_DAYS);
+        }
+
+        int slotMinutes = slotUnit.getMinutes();
+        if (MinuteOfDay.MINUTES_PER_DAY % slotMinutes != 0) {
+            throw new IllegalTimeUnitValueException(slotMinutes);
+        }
+        return new AvailabilityGrid(startDate, endDate, slotMinutes);
+    }
+
+    /**
+     * slot 전체가 예약 조건 안에 있고, 어떤 예약과도 겹치지 않으면 예약 가능한 slot 으로 표시한다
+     * 시간 단위, 최소/최대 예약 시간은 slot 하나가 아닌 예약 전체에 대한 조건이므로 반영하지 않는다
+     *
+     * @param reservationTimes 이 공간의 예약 시간들. 격자 밖의 날짜는 무시한다
+     */
+    public BitSet getAvailableSlots(
+            final CompiledSettings compiledSettings,
+            final boolean reservationEnable,
+            final Collection<ReservationTime> reservationTimes,
+            final ServiceZone serviceZone) {
+        BitSet availableSlots = new BitSet(days * slotsPerDay);
+        if (!reservationEnable) {
+            return availableSlots;
+        }
+
+        for (int day = 0; day < days; day++) {
+            LocalDate date = startDate.plusDays(day);
+            for (int slot = 0; slot < slotsPerDay; slot++) {
+                int startMinute = slot * slotMinutes;
+                if (compiledSettings.isOpen(date.getDayOfWeek(), startMinute, startMinute + slotMinutes)) {
+                    availableSlots.set(day * slotsPerDay + slot);
+                }
+            }
+        }
+
+        for (ReservationTime reservationTime : reservationTimes) {
+            LocalDate date = reservationTime.getDate();
+            if (date.isBefore(startDate) || date.isAfter(endDate)) {
+                continue;
+            }
+
+            int dayOffset = (int) ChronoUnit.DAYS.between(startDate, date) * slotsPerDay;
+            TimeSlot timeSlot = reservationTime.at(serviceZone);
+            int fromSlot = timeSlot.getStartMinuteOfDay() / slotMinutes;
+            int toSlot = (timeSlot.getEndMinuteOfDay() + slotMinutes - 1) / slotMinutes;
+            availableSlots.clear(dayOffset + fromSlot, dayOffset + toSlot);
+        }
+        return availableSlots;
+    }
+}
@@ -0,0 +1,21 @@
+package com.woowacourse.zzimkkong.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 가능한 (공간, 시간대) 후보. 시간은 UTC 기준이다
+ */
+@Getter
+public class AvailableSlot {
+    private final Space space;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+
+    public AvailableSlot(final Space space, final LocalDateTime startDateTime, final LocalDateTime endDateTime) {
+        this.space = space;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+    }
+}
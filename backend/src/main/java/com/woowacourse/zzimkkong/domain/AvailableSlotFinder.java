@@ -0,0 +1,228 @@
+package com.woowacourse.zzimkkong.domain;
+
+import com.woowacourse.zzimkkong.exception.space.InvalidAvailabilityDateRangeException;
+import com.woowacourse.zzimkkong.infrastructure.datetime.TimeZoneUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * 주어진 기간 안에서 durationMinutes 동안 예약할 수 있는 가장 이른 (공간, 시작 시간) 후보들을 찾는다
+ * - 공간마다 cursor 하나가 날짜, 예약 순서대로 빈 구간(예약 사이의 구간)을 따라가며, 빈 구간마다 가장 이른 후보 하나를 만든다
+ * - 빈 구간 안에서는 {@link CompiledSettings} 의 flatten 된 예약 조건(시간 단위, 최소/최대 예약 시간, 요일)을 만족하는 가장 이른 시작 시간을 구한다
+ * - 공간별 cursor 들을 다음 후보의 시작 시간 기준 priority queue 로 merge 하므로 slot 단위로 하나씩 확인하지 않는다
+ * 날짜와 분은 맵의 서비스 지역 기준이다
+ */
+public class AvailableSlotFinder {
+    public static final int MAXIMUM_DAYS = AvailabilityGrid.MAXIMUM_DAYS;
+
+    private final ServiceZone serviceZone;
+    private final LocalDate startDate;
+    private final int days;
+    private final int startMinute;
+    private final int endMinute;
+    private final int durationMinutes;
+
+    private AvailableSlotFinder(
+            final ServiceZone serviceZone,
+            final LocalDate startDate,
+            final int days,
+            final int startMinute,
+            final int endMinute,
+            final int durationMinutes) {
+        this.serviceZone = serviceZone;
+        this.startDate = startDate;
+        this.days = days;
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+        this.durationMinutes = durationMinutes;
+    }
+
+    /**
+     * @param startDateTime 검색 시작 시간 (UTC)
+     * @param endDateTime   검색 종료 시간 (UTC). 후보 예약은 이 시간 전에 끝난다
+     * @param now           현재 시간 (UTC). 이 시간 이전에 시작하는 후보는 만들지 않는다
+     */
+    public static AvailableSlotFinder of(
+            final LocalDateTime startDateTime,
+            final LocalDateTime endDateTime,
+            final LocalDateTime now,
+            final TimeUnit duration,
+            final ServiceZone serviceZone) {
+        if (!endDateTime.isAfter(startDateTime) || ChronoUnit.DAYS.between(startDateTime, endDateTime) >= MAXIMUM_DAYS) {
+            throw new InvalidAvailabilityDateRangeException(MAXIMUM_DAYS);
+        }
+
+        LocalDateTime localStartDateTime = TimeZoneUtils.convertTo(
+                startDateTime.isAfter(now) ? startDateTime : now,
+                serviceZone);
+        LocalDateTime localEndDateTime = TimeZoneUtils.convertTo(endDateTime, serviceZone);
+        if (!localEndDateTime.isAfter(localStartDateTime)) {
+            return new AvailableSlotFinder(serviceZone, localStartDateTime.toLocalDate(), 0, 0, 0, duration.getMinutes());
+        }
+
+        int startMinute = MinuteOfDay.of(localStartDateTime.toLocalTime());
+        if (localStartDateTime.getSecond() > 0 || localStartDateTime.getNano() > 0) {
+            startMinute++;
+        }
+        return new AvailableSlotFinder(
+                serviceZone,
+                localStartDateTime.toLocalDate(),
+                (int) ChronoUnit.DAYS.between(localStartDateTime.toLocalDate(), localEndDateTime.toLocalDate()) + 1,
+                startMinute,
+                MinuteOfDay.of(localEndDateTime.toLocalTime()),
+                duration.getMinutes());
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return startDate.plusDays(Math.max(days - 1, 0));
+    }
+
+    /**
+     * @return 시작 시간 순(같으면 spaces 의 순서)으로 최대 count 개의 후보
+     */
+    public List<AvailableSlot> findEarliest(
+            final List<Space> spaces,
+            final Function<Space, CompiledSettings> compiledSettingsOfSpace,
+            final Function<Space, List<ReservationTime>> reservationTimesOfSpace,
+            final int count) {
+        PriorityQueue<SpaceCursor> cursors = new PriorityQueue<>(
+                Comparator.comparingInt((SpaceCursor cursor) -> cursor.candidateDay)
+                        .thenComparingInt(cursor -> cursor.candidateStartMinute)
+                        .thenComparingInt(cursor -> cursor.order));
+        for (int order = 0; order < spaces.size(); order++) {
+            Space space = spaces.get(order);
+            SpaceCursor cursor = new SpaceCursor(
+                    order,
+                    space,
+                    compiledSettingsOfSpace.apply(space),
+                    reservationTimesOfSpace.apply(space));
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+
+        List<AvailableSlot> availableSlots = new ArrayList<>();
+        while (availableSlots.size() < count && !cursors.isEmpty()) {
+            SpaceCursor cursor = cursors.poll();
+            availableSlots.add(cursor.toAvailableSlot());
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return availableSlots;
+    }
+
+    private class SpaceCursor {
+        private final int order;
+        private final Space space;
+        private final CompiledSettings compiledSettings;
+        private final int[] reservedDays;
+        private final int[] reservedStartMinutes;
+        private final int[] reservedEndMinutes;
+
+        private int day = 0;
+        private int minute = startMinute;
+        private int reservationIndex = 0;
+        private int candidateDay;
+        private int candidateStartMinute;
+
+        private SpaceCursor(
+                final int order,
+                final Space space,
+                final CompiledSettings compiledSettings,
+                final List<ReservationTime> reservationTimes) {
+            this.order = order;
+            this.space = space;
+            this.compiledSettings = compiledSettings;
+
+            List<int[]> reservedIntervals = new ArrayList<>();
+            for (ReservationTime reservationTime : reservationTimes) {
+                long reservedDay = ChronoUnit.DAYS.between(startDate, reservationTime.getDate());
+                if (reservedDay < 0 || reservedDay >= days) {
+                    continue;
+                }
+                TimeSlot timeSlot = reservationTime.at(serviceZone);
+                reservedIntervals.add(new int[]{(int) reservedDay, timeSlot.getStartMinuteOfDay(), timeSlot.getEndMinuteOfDay()});
+            }
+            reservedIntervals.sort(Comparator.<int[]>comparingInt(interval -> interval[0])
+                    .thenComparingInt(interval -> interval[1]));
+
+            this.reservedDays = new int[reservedIntervals.size()];
+            this.reservedStartMinutes = new int[reservedIntervals.size()];
+            this.reservedEndMinutes = new int[reservedIntervals.size()];
+            for (int i = 0; i < reservedIntervals.size(); i++) {
+                reservedDays[i] = reservedIntervals.get(i)[0];
+                reservedStartMinutes[i] = reservedIntervals.get(i)[1];
+                reservedEndMinutes[i] = reservedIntervals.get(i)[2];
+            }
+        }
+
+        /**
+         * 다음 빈 구간들을 따라가며 후보를 찾는다
+         *
+         * @return 후보를 찾았으면 true (candidateDay, candidateStartMinute 에 저장), 기간이 끝났으면 false
+         */
+        private boolean advance() {
+            while (day < days) {
+                int dayEndMinute = day == days - 1 ? endMinute : MinuteOfDay.MINUTES_PER_DAY;
+                if (minute >= dayEndMinute) {
+                    day++;
+                    minute = 0;
+                    continue;
+                }
+
+                while (reservationIndex < reservedDays.length && isReservationBeforeCursor(reservationIndex)) {
+                    reservationIndex++;
+                }
+                boolean hasReservationToday = reservationIndex < reservedDays.length && reservedDays[reservationIndex] == day;
+                if (hasReservationToday && reservedStartMinutes[reservationIndex] <= minute) {
+                    minute = reservedEndMinutes[reservationIndex];
+                    continue;
+                }
+
+                int freeEndMinute = hasReservationToday
+                        ? Math.min(reservedStartMinutes[reservationIndex], dayEndMinute)
+                        : dayEndMinute;
+                int earliestStartMinute = compiledSettings.findEarliestStart(getDayOfWeek(day), minute, freeEndMinute, durationMinutes);
+                minute = freeEndMinute;
+                if (earliestStartMinute >= 0) {
+                    candidateDay = day;
+                    candidateStartMinute = earliestStartMinute;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isReservationBeforeCursor(final int index) {
+            return reservedDays[index] < day || (reservedDays[index] == day && reservedEndMinutes[index] <= minute);
+        }
+
+        private DayOfWeek getDayOfWeek(final int day) {
+            return startDate.plusDays(day).getDayOfWeek();
+        }
+
+        private AvailableSlot toAvailableSlot() {
+            LocalDateTime localStartDateTime = startDate.plusDays(candidateDay)
+                    .atStartOfDay()
+                    .plusMinutes(candidateStartMinute);
+            LocalDateTime localEndDateTime = localStartDateTime.plusMinutes(durationMinutes);
+            return new AvailableSlot(
+                    space,
+                    TimeZoneUtils.convertToUTC(localStartDateTime, serviceZone),
+                    TimeZoneUtils.convertToUTC(localEndDateTime, serviceZone));
+        }
+    }
+}
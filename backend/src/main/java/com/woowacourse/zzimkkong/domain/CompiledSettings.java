@@ -0,0 +1,334 @@
+package com.woowacourse.zzimkkong.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * 공간의 예약 조건 ({@link Settings}) 을 요일별로 미리 나누어 둔 객체
+ * - 요일마다 하루를 5분 단위 288 개의 slot 으로 나눈 bitmap 으로 예약 가능 시간대를 보관한다
+ * - 예약 시간대 검증은 {@link Space#getRelevantSettings(TimeSlot, DayOfWeek)} 와 같이 예약 시간대에 걸친 조건들만 flatten & merge 한 결과로 한다
+ * - 걸친 조건들의 조합마다 merge 한 결과를 int 배열로 한 번만 만들어 두고 재사용한다
+ * 원본 예약 조건이 바뀌었는지는 {@link #isCompiledFrom(Settings)} 로 확인한다
+ */
+public class CompiledSettings {
+    private static final int SLOT_MINUTES = TimeUnit.MINIMUM_TIME_UNIT;
+    private static final int SLOT_COUNT = MinuteOfDay.MINUTES_PER_DAY / SLOT_MINUTES;
+
+    private final DaySchedule[] daySchedules;
+    private final Signature signature;
+
+    private CompiledSettings(final DaySchedule[] daySchedules, final Signature signature) {
+        this.daySchedules = daySchedules;
+        this.signature = signature;
+    }
+
+    public static CompiledSettings from(final Settings settings) {
+        List<Setting> sourceSettings = settings.getSettings();
+
+        DayOfWeek[] dayOfWeeks = DayOfWeek.values();
+        DaySchedule[] daySchedules = new DaySchedule[dayOfWeeks.length];
+        for (DayOfWeek dayOfWeek : dayOfWeeks) {
+            List<Setting> settingsOnDayOfWeek = sourceSettings.stream()
+                    .filter(setting -> setting.supports(dayOfWeek))
+                    .collect(Collectors.toList());
+            daySchedules[dayOfWeek.ordinal()] = DaySchedule.of(dayOfWeek, settingsOnDayOfWeek);
+        }
+        return new CompiledSettings(daySchedules, Signature.from(sourceSettings));
+    }
+
+    public boolean isCompiledFrom(final Settings settings) {
+        return signature.matches(settings.getSettings());
+    }
+
+    /**
+     * 주어진 요일, 시간대의 예약이 예약 조건을 위반하는지 검증한다
+     * 예약 시간대에 걸친 조건들만 flatten & merge 한 결과로 검증하며, 검증 순서는 {@link SettingViolation} 의 선언 순서와 같다
+     */
+    public SettingViolation validate(final DayOfWeek dayOfWeek, final TimeSlot timeSlot) {
+        return daySchedules[dayOfWeek.ordinal()].validate(
+                timeSlot.getStartMinuteOfDay(),
+                timeSlot.getEndMinuteOfDay());
+    }
+
+    /**
+     * 주어진 요일의 [startMinute, endMinute) 가 모두 예약 조건 안에 있는지 확인한다 (시간 단위, 최소/최대 시간은 보지 않는다)
+     */
+    public boolean isOpen(final DayOfWeek dayOfWeek, final int startMinute, final int endMinute) {
+        return daySchedules[dayOfWeek.ordinal()].isOpen(startMinute, endMinute);
+    }
+
+    /**
+     * 주어진 요일의 [fromMinute, toMinute) 안에서 durationMinutes 동안의 예약이 {@link #validate(DayOfWeek, TimeSlot)} 를 통과하는 가장 이른 시작 시간(분)
+     * 그런 시간이 없으면 -1 을 반환한다
+     */
+    int findEarliestStart(
+            final DayOfWeek dayOfWeek,
+            final int fromMinute,
+            final int toMinute,
+            final int durationMinutes) {
+        return daySchedules[dayOfWeek.ordinal()].findEarliestStart(fromMinute, toMinute, durationMinutes);
+    }
+
+    private static class DaySchedule {
+        private final EnabledDayOfWeek dayOfWeek;
+        private final long[] openSlots;
+        private final List<Setting> settings;
+        private final int[] settingStartMinutes;
+        private final int[] settingEndMinutes;
+        private final ConcurrentMap<Long, MergedSettings> mergedSettingsByRelevantSettings = new ConcurrentHashMap<>();
+
+        private DaySchedule(
+                final EnabledDayOfWeek dayOfWeek,
+                final long[] openSlots,
+                final List<Setting> settings,
+                final int[] settingStartMinutes,
+                final int[] settingEndMinutes) {
+            this.dayOfWeek = dayOfWeek;
+            this.openSlots = openSlots;
+            this.settings = settings;
+            this.settingStartMinutes = settingStartMinutes;
+            this.settingEndMinutes = settingEndMinutes;
+        }
+
+        /**
+         * 캐시된 객체가 공간 엔티티를 붙잡지 않도록 해당 요일의 조건들을 복사해서 보관한다
+         *
+         * @param settingsOnDayOfWeek 해당 요일에 적용되는 조건들 (우선순위 순서)
+         */
+        private static DaySchedule of(final DayOfWeek dayOfWeek, final List<Setting> settingsOnDayOfWeek) {
+            EnabledDayOfWeek enabledDayOfWeek = EnabledDayOfWeek.from(dayOfWeek);
+            int size = settingsOnDayOfWeek.size();
+            List<Setting> settings = new ArrayList<>(size);
+            int[] settingStartMinutes = new int[size];
+            int[] settingEndMinutes = new int[size];
+            for (int i = 0; i < size; i++) {
+                Setting setting = settingsOnDayOfWeek.get(i);
+                settings.add(setting.createSettingBasedOn(setting.getSettingTimeSlot(), enabledDayOfWeek));
+                settingStartMinutes[i] = setting.getSettingTimeSlot().getStartMinuteOfDay();
+                settingEndMinutes[i] = setting.getSettingTimeSlot().getEndMinuteOfDay();
+            }
+
+            long[] openSlots = new long[(SLOT_COUNT + Long.SIZE - 1) / Long.SIZE];
+            for (Setting mergedSetting : Settings.toMergedSettings(settings, enabledDayOfWeek).getSettings()) {
+                int startSlot = mergedSetting.getSettingTimeSlot().getStartMinuteOfDay() / SLOT_MINUTES;
+                int endSlot = mergedSetting.getSettingTimeSlot().getEndMinuteOfDay() / SLOT_MINUTES;
+                for (int slot = startSlot; slot < endSlot; slot++) {
+                    openSlots[slot / Long.SIZE] |= 1L << (slot % Long.SIZE);
+                }
+            }
+            return new DaySchedule(enabledDayOfWeek, openSlots, settings, settingStartMinutes, settingEndMinutes);
+        }
+
+        /**
+         * 예약 시간대에 걸친 조건들의 index 를 bit 로 모은 값을 key 로, merge 한 결과를 재사용한다
+         * 걸친 조건들의 조합은 조건들의 경계 사이 어디에서 시작하고 끝나는지로 정해지므로 조건이 n 개일 때 O(n^2) 개를 넘지 않는다
+         * 조건이 64 개를 넘으면 재사용하지 않고 매번 merge 한다
+         */
+        private SettingViolation validate(final int startMinute, final int endMinute) {
+            if (settings.size() > Long.SIZE) {
+                return MergedSettings.from(getRelevantSettings(startMinute, endMinute), dayOfWeek)
+                        .validate(startMinute, endMinute);
+            }
+
+            long relevantSettingsKey = 0L;
+            for (int i = 0; i < settings.size(); i++) {
+                if (MinuteOfDay.overlaps(settingStartMinutes[i], settingEndMinutes[i], startMinute, endMinute)) {
+                    relevantSettingsKey |= 1L << i;
+                }
+            }
+            if (relevantSettingsKey == 0L) {
+                return SettingViolation.NO_SETTING;
+            }
+
+            return mergedSettingsByRelevantSettings
+                    .computeIfAbsent(relevantSettingsKey, this::merge)
+                    .validate(startMinute, endMinute);
+        }
+
+        private MergedSettings merge(final long relevantSettingsKey) {
+            List<Setting> relevantSettings = new ArrayList<>(Long.bitCount(relevantSettingsKey));
+            for (int i = 0; i < settings.size(); i++) {
+                if ((relevantSettingsKey & (1L << i)) != 0) {
+                    relevantSettings.add(settings.get(i));
+                }
+            }
+            return MergedSettings.from(relevantSettings, dayOfWeek);
+        }
+
+        private List<Setting> getRelevantSettings(final int startMinute, final int endMinute) {
+            List<Setting> relevantSettings = new ArrayList<>();
+            for (int i = 0; i < settings.size(); i++) {
+                if (MinuteOfDay.overlaps(settingStartMinutes[i], settingEndMinutes[i], startMinute, endMinute)) {
+                    relevantSettings.add(settings.get(i));
+                }
+            }
+            return relevantSettings;
+        }
+
+        /**
+         * 예약 가능 시간대 밖의 시작 시간은 bitmap 으로 먼저 거른다
+         * 걸친 조건들만 merge 한 결과의 시간 단위가 하루 전체를 merge 한 결과와 다를 수 있으므로 5분 간격의 모든 시작 시간을 검증한다
+         */
+        private int findEarliestStart(final int fromMinute, final int toMinute, final int durationMinutes) {
+            for (int startMinute = MinuteOfDay.ceilToAligned(fromMinute, SLOT_MINUTES);
+                 startMinute + durationMinutes <= toMinute;
+                 startMinute += SLOT_MINUTES) {
+                int endMinute = startMinute + durationMinutes;
+                if (isOpen(startMinute, endMinute) && !validate(startMinute, endMinute).exists()) {
+                    return startMinute;
+                }
+            }
+            return -1;
+        }
+
+        private boolean isOpen(final int startMinute, final int endMinute) {
+            for (int slot = startMinute / SLOT_MINUTES; slot < endMinute / SLOT_MINUTES; slot++) {
+                if ((openSlots[slot / Long.SIZE] & (1L << (slot % Long.SIZE))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 예약 시간대에 걸친 조건들을 flatten & merge 한 결과
+     */
+    private static class MergedSettings {
+        private final int[] startMinutes;
+        private final int[] endMinutes;
+        private final int[] timeUnits;
+        private final int[] minimumTimeUnits;
+        private final int[] maximumTimeUnits;
+
+        private MergedSettings(
+                final int[] startMinutes,
+                final int[] endMinutes,
+                final int[] timeUnits,
+                final int[] minimumTimeUnits,
+                final int[] maximumTimeUnits) {
+            this.startMinutes = startMinutes;
+            this.endMinutes = endMinutes;
+            this.timeUnits = timeUnits;
+            this.minimumTimeUnits = minimumTimeUnits;
+            this.maximumTimeUnits = maximumTimeUnits;
+        }
+
+        private static MergedSettings from(final List<Setting> relevantSettings, final EnabledDayOfWeek dayOfWeek) {
+            List<Setting> mergedSettings = Settings.toMergedSettings(relevantSettings, dayOfWeek).getSettings();
+            int size = mergedSettings.size();
+            int[] startMinutes = new int[size];
+            int[] endMinutes = new int[size];
+            int[] timeUnits = new int[size];
+            int[] minimumTimeUnits = new int[size];
+            int[] maximumTimeUnits = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                Setting setting = mergedSettings.get(i);
+                startMinutes[i] = setting.getSettingTimeSlot().getStartMinuteOfDay();
+                endMinutes[i] = setting.getSettingTimeSlot().getEndMinuteOfDay();
+                timeUnits[i] = setting.getReservationTimeUnitAsInt();
+                minimumTimeUnits[i] = setting.getReservationMinimumTimeUnitAsInt();
+                maximumTimeUnits[i] = setting.getReservationMaximumTimeUnitAsInt();
+            }
+            return new MergedSettings(startMinutes, endMinutes, timeUnits, minimumTimeUnits, maximumTimeUnits);
+        }
+
+        private SettingViolation validate(final int startMinute, final int endMinute) {
+            if (startMinutes.length == 0) {
+                return SettingViolation.NO_SETTING;
+            }
+
+            // TODO: 2023/02/09 기준, 예약은 하나의 세팅만 걸쳐야한다
+            if (startMinutes.length >= 2) {
+                return SettingViolation.MULTIPLE_SETTINGS;
+            }
+
+            if (!MinuteOfDay.contains(startMinutes[0], endMinutes[0], startMinute, endMinute)) {
+                return SettingViolation.UNAVAILABLE_TIME;
+            }
+
+            int timeUnit = timeUnits[0];
+            if (!MinuteOfDay.isAlignedTo(startMinute, timeUnit) || !MinuteOfDay.isAlignedTo(endMinute, timeUnit)) {
+                return SettingViolation.TIME_UNIT;
+            }
+
+            int duration = MinuteOfDay.duration(startMinute, endMinute);
+            if (duration < minimumTimeUnits[0]) {
+                return SettingViolation.MINIMUM_TIME_UNIT;
+            }
+            if (duration > maximumTimeUnits[0]) {
+                return SettingViolation.MAXIMUM_TIME_UNIT;
+            }
+            return SettingViolation.NONE;
+        }
+    }
+
+    /**
+     * 컴파일에 사용한 예약 조건들의 값
+     * 영속성 컨텍스트마다 새로 읽힌 Setting 을 비교해야 하므로 참조가 아닌 값으로 비교한다
+     */
+    private static class Signature {
+        private final Long[] ids;
+        private final LocalTime[] startTimes;
+        private final LocalTime[] endTimes;
+        private final int[] timeUnits;
+        private final int[] minimumTimeUnits;
+        private final int[] maximumTimeUnits;
+        private final int[] enabledDayOfWeekMasks;
+        private final int[] priorityOrders;
+
+        private Signature(final int size) {
+            this.ids = new Long[size];
+            this.startTimes = new LocalTime[size];
+            this.endTimes = new LocalTime[size];
+            this.timeUnits = new int[size];
+            this.minimumTimeUnits = new int[size];
+            this.maximumTimeUnits = new int[size];
+            this.enabledDayOfWeekMasks = new int[size];
+            this.priorityOrders = new int[size];
+        }
+
+        private static Signature from(final List<Setting> settings) {
+            Signature signature = new Signature(settings.size());
+            for (int i = 0; i < settings.size(); i++) {
+                Setting setting = settings.get(i);
+                signature.ids[i] = setting.getId();
+                signature.startTimes[i] = setting.getSettingStartTime();
+                signature.endTimes[i] = setting.getSettingEndTime();
+                signature.timeUnits[i] = setting.getReservationTimeUnitAsInt();
+                signature.minimumTimeUnits[i] = setting.getReservationMinimumTimeUnitAsInt();
+                signature.maximumTimeUnits[i] = setting.getReservationMaximumTimeUnitAsInt();
+                signature.enabledDayOfWeekMasks[i] = setting.getEnabledDayOfWeekSet().getMask();
+                signature.priorityOrders[i] = setting.getPriorityOrder();
+            }
+            return signature;
+        }
+
+        private boolean matches(final List<Setting> settings) {
+            if (settings.size() != ids.length) {
+                return false;
+            }
+            for (int i = 0; i < ids.length; i++) {
+                Setting setting = settings.get(i);
+                if (!Objects.equals(ids[i], setting.getId())
+                        || !startTimes[i].equals(setting.getSettingStartTime())
+                        || !endTimes[i].equals(setting.getSettingEndTime())
+                        || timeUnits[i] != setting.getReservationTimeUnitAsInt()
+                        || minimumTimeUnits[i] != setting.getReservationMinimumTimeUnitAsInt()
+                        || maximumTimeUnits[i] != setting.getReservationMaximumTimeUnitAsInt()
+                        || enabledDayOfWeekMasks[i] != setting.getEnabledDayOfWeekSet().getMask()
+                        || priorityOrders[i] != setting.getPriorityOrder()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -4,8 +4,11 @@ import com.woowacourse.zzimkkong.exception.setting.NoSuchEnabledDayOfWeekExcepti
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -19,6 +22,9 @@ public enum EnabledDayOfWeek {
     SATURDAY("토요일"),
     SUNDAY("일요일");
 
+    private static final Map<String, EnabledDayOfWeek> byName = Arrays.stream(values())
+            .collect(Collectors.toMap(Enum::name, Function.identity()));
+
     private final String displayName;
 
     EnabledDayOfWeek(final String displayName) {
@@ -26,21 +32,26 @@ public enum EnabledDayOfWeek {
     }
 
     public static String getDisplayNames(String enabledDayOfWeek) {
-        return Arrays.stream(enabledDayOfWeek.split(Space.DELIMITER))
-                .map(String::trim)
-                .map(EnabledDayOfWeek::from)
+        return EnabledDayOfWeekSet.from(enabledDayOfWeek)
+                .toList()
+                .stream()
                 .map(dayOfWeek -> dayOfWeek.displayName)
                 .collect(Collectors.joining(Space.DELIMITER));
     }
 
     public static EnabledDayOfWeek from(String dayOfWeek) {
-        return Arrays.stream(values())
-                .filter(enabledDayOfWeek -> enabledDayOfWeek.name().equals(dayOfWeek.toUpperCase(Locale.ROOT)))
-                .findFirst()
-                .orElseThrow(() -> {
-                    log.warn("존재하지 않는 요일입니다. {}", dayOfWeek);
-                    throw new NoSuchEnabledDayOfWeekException();
-                });
+        EnabledDayOfWeek enabledDayOfWeek = byName.get(dayOfWeek.toUpperCase(Locale.ROOT));
+        if (enabledDayOfWeek == null) {
+            log.warn("존재하지 않는 요일입니다. {}", dayOfWeek);
+            throw new NoSuchEnabledDayOfWeekException();
+        }
+        return enabledDayOfWeek;
     }
-}
 
+    /**
+     * {@link DayOfWeek} 와 선언 순서가 같으므로 ordinal 로 변환한다
+     */
+    public static EnabledDayOfWeek from(DayOfWeek dayOfWeek) {
+        return values()[dayOfWeek.ordinal()];
+    }
+}
@@ -0,0 +1,134 @@
+package com.woowacourse.zzimkkong.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예약 가능한 요일들의 집합 (EnumSet 과 같은 역할)
+ * {@link EnabledDayOfWeek} 의 ordinal 번째 bit 로 요일을 표현하는 7 bit mask 로 보관한다
+ * {@link DayOfWeek} 와 {@link EnabledDayOfWeek} 는 월요일부터 일요일까지 같은 순서이므로 두 타입 모두 bit 연산 한 번으로 포함 여부를 판단한다
+ */
+@NoArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class EnabledDayOfWeekSet {
+    private static final int ALL_MASK = (1 << EnabledDayOfWeek.values().length) - 1;
+    private static final EnabledDayOfWeekSet[] cache = new EnabledDayOfWeekSet[ALL_MASK + 1];
+    private static final int MAXIMUM_PARSED_CACHE_SIZE = 256;
+    private static final Map<String, EnabledDayOfWeekSet> parsedCache = new ConcurrentHashMap<>();
+
+    static {
+        for (int mask = 0; mask <= ALL_MASK; mask++) {
+            cache[mask] = new EnabledDayOfWeekSet(mask);
+        }
+    }
+
+    @Column(name = "enabled_day_of_week_mask", nullable = false)
+    private int mask;
+
+    private EnabledDayOfWeekSet(final int mask) {
+        this.mask = mask;
+    }
+
+    public static EnabledDayOfWeekSet from(final int mask) {
+        return cache[mask & ALL_MASK];
+    }
+
+    public static EnabledDayOfWeekSet of(final EnabledDayOfWeek... dayOfWeeks) {
+        int mask = 0;
+        for (EnabledDayOfWeek dayOfWeek : dayOfWeeks) {
+            mask |= bitOf(dayOfWeek.ordinal());
+        }
+        return from(mask);
+    }
+
+    /**
+     * "monday,tuesday" 와 같이 {@link Space#DELIMITER} 로 이어진 요일 문자열을 변환한다 (대소문자, 공백 무시)
+     */
+    public static EnabledDayOfWeekSet from(final String enabledDayOfWeek) {
+        if (enabledDayOfWeek == null) {
+            return from(0);
+        }
+
+        EnabledDayOfWeekSet cached = parsedCache.get(enabledDayOfWeek);
+        if (cached != null) {
+            return cached;
+        }
+
+        int mask = 0;
+        for (String dayOfWeek : enabledDayOfWeek.split(Space.DELIMITER)) {
+            String trimmedDayOfWeek = dayOfWeek.trim();
+            if (!trimmedDayOfWeek.isEmpty()) {
+                mask |= bitOf(EnabledDayOfWeek.from(trimmedDayOfWeek).ordinal());
+            }
+        }
+
+        EnabledDayOfWeekSet parsed = from(mask);
+        if (parsedCache.size() < MAXIMUM_PARSED_CACHE_SIZE) {
+            parsedCache.put(enabledDayOfWeek, parsed);
+        }
+        return parsed;
+    }
+
+    public boolean contains(final EnabledDayOfWeek dayOfWeek) {
+        return (mask & bitOf(dayOfWeek.ordinal())) != 0;
+    }
+
+    public boolean contains(final DayOfWeek dayOfWeek) {
+        return (mask & bitOf(dayOfWeek.ordinal())) != 0;
+    }
+
+    public boolean intersects(final EnabledDayOfWeekSet that) {
+        return (this.mask & that.mask) != 0;
+    }
+
+    public EnabledDayOfWeekSet minus(final EnabledDayOfWeekSet that) {
+        return from(this.mask & ~that.mask);
+    }
+
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    public List<EnabledDayOfWeek> toList() {
+        List<EnabledDayOfWeek> dayOfWeeks = new ArrayList<>();
+        for (EnabledDayOfWeek dayOfWeek : EnabledDayOfWeek.values()) {
+            if (contains(dayOfWeek)) {
+                dayOfWeeks.add(dayOfWeek);
+            }
+        }
+        return dayOfWeeks;
+    }
+
+    /**
+     * 월요일부터 순서대로 소문자 요일 이름을 {@link Space#DELIMITER} 로 이어 반환한다
+     */
+    @Override
+    public String toString() {
+        StringJoiner stringJoiner = new StringJoiner(Space.DELIMITER);
+        for (EnabledDayOfWeek dayOfWeek : EnabledDayOfWeek.values()) {
+            if (contains(dayOfWeek)) {
+                stringJoiner.add(dayOfWeek.name().toLowerCase(Locale.ROOT));
+            }
+        }
+        return stringJoiner.toString();
+    }
+
+    private static int bitOf(final int ordinal) {
+        return 1 << ordinal;
+    }
+}
@@ -19,20 +19,16 @@ public class Map {
     @Column(nullable = false, length = 20)
     private String name;
 
-    @Column(nullable = false)
-    @Lob
-    private String mapDrawing;
-
-    @Column(nullable = false)
-    @Lob
-    private String thumbnail;
+    /**
+     * 도면, 썸네일, 공지는 {@link #getMapDrawing()} 등으로 처음 접근할 때 읽는다
+     */
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true, optional = false)
+    @JoinColumn(name = "map_content_id", foreignKey = @ForeignKey(name = "fk_map_map_content"), nullable = false)
+    private MapContent content;
 
     @Lob
     private String slackUrl;
 
-    @Lob
-    private String notice;
-
     @ManyToOne
     @JoinColumn(name = "member_id", foreignKey = @ForeignKey(name = "fk_map_member"), nullable = false)
     private Member member;
@@ -41,12 +37,19 @@ public class Map {
     private List<Space> spaces = new ArrayList<>();
 
     /**
-     * The default Zzimkkong service zone (Asia/Seoul)
-     * 추후 timezone 관련 확장성을 고려한다면 Map Table에 Column으로 추가 될 수도 있음
-     * 일단은 transient field 로 구현
+     * 맵이 운영되는 서비스 지역 (time zone). 기본값은 Asia/Seoul
+     * 예약의 date 가 이 지역 기준으로 저장되므로 맵 생성 이후에는 바꾸지 않는다
      */
-    @Transient
-    private final ServiceZone serviceZone = ServiceZone.KOREA;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private ServiceZone serviceZone = ServiceZone.KOREA;
+
+    /**
+     * 맵, 공간, 예약이 바뀔 때마다 1 씩 늘어나는 변경 버전 (ETag 로 사용한다)
+     * 동시에 바뀌어도 값을 잃지 않도록 {@link com.woowacourse.zzimkkong.repository.MapRepository#increaseChangeVersion(Long)} 의 update 쿼리로만 바꾼다
+     */
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long changeVersion;
 
     @Transient
     private String sharingMapId;
@@ -55,10 +58,20 @@ public class Map {
                final String mapDrawing,
                final String thumbnail,
                final Member member) {
+        this(name, mapDrawing, thumbnail, member, ServiceZone.KOREA);
+    }
+
+    public Map(final String name,
+               final String mapDrawing,
+               final String thumbnail,
+               final Member member,
+               final ServiceZone serviceZone) {
         this.name = name;
-        this.mapDrawing = mapDrawing;
-        this.thumbnail = thumbnail;
+        this.content = new MapContent(mapDrawing, thumbnail);
         this.member = member;
+        if (serviceZone != null) {
+            this.serviceZone = serviceZone;
+        }
 
         if (member != null) {
             member.addMap(this);
@@ -76,7 +89,7 @@ public class Map {
 
     public void update(final String mapName, final String mapDrawing) {
         this.name = mapName;
-        this.mapDrawing = mapDrawing;
+        this.content.updateMapDrawing(mapDrawing);
     }
 
     public boolean isOwnedBy(final String email) {
@@ -95,7 +108,7 @@ public class Map {
     }
 
     public void updateThumbnail(final String thumbnail) {
-        this.thumbnail = thumbnail;
+        this.content.updateThumbnail(thumbnail);
     }
 
     public void updateSlackUrl(final String slackUrl) {
@@ -103,7 +116,7 @@ public class Map {
     }
 
     public void updateNotice(final String notice) {
-        this.notice = notice;
+        this.content.updateNotice(notice);
     }
 
     public void addSpace(final Space space) {
@@ -111,12 +124,35 @@ public class Map {
     }
 
     public void activateSharingMapId(final SharingIdGenerator sharingIdGenerator) {
-        if (StringUtils.isNotBlank(this.sharingMapId)) {
+        if (hasSharingMapId()) {
             return;
         }
         this.sharingMapId = sharingIdGenerator.from(this);
     }
 
+    public void activateSharingMapId(final String sharingMapId) {
+        if (hasSharingMapId()) {
+            return;
+        }
+        this.sharingMapId = sharingMapId;
+    }
+
+    public boolean hasSharingMapId() {
+        return StringUtils.isNotBlank(this.sharingMapId);
+    }
+
+    public String getMapDrawing() {
+        return content.getMapDrawing();
+    }
+
+    public String getThumbnail() {
+        return content.getThumbnail();
+    }
+
+    public String getNotice() {
+        return content.getNotice();
+    }
+
     public List<Space> getSpaces() {
         return Collections.unmodifiableList(spaces);
     }
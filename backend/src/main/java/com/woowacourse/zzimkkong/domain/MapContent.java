@@ -0,0 +1,72 @@
+package com.woowacourse.zzimkkong.domain;
+
+import com.woowacourse.zzimkkong.infrastructure.compression.GzipUtils;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 맵의 도면, 썸네일 (SVG), 공지처럼 크기가 큰 LOB 값들
+ * {@link Map} 은 이 엔티티를 지연 로딩하므로, 예약/공간 처리처럼 맵의 관리자와 공간만 필요한 곳에서는 읽지 않는다
+ * 도면과 썸네일은 gzip 으로 압축해 저장한다. 저장된 값은 Content-Encoding: gzip 응답 본문으로 그대로 보낼 수 있다
+ * 압축을 푼 값은 처음 읽을 때 한 번만 만들어 둔다
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+public class MapContent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "map_drawing_gzip", nullable = false)
+    @Lob
+    private byte[] compressedMapDrawing;
+
+    @Column(name = "thumbnail_gzip", nullable = false)
+    @Lob
+    private byte[] compressedThumbnail;
+
+    @Lob
+    private String notice;
+
+    @Transient
+    private String mapDrawing;
+
+    @Transient
+    private String thumbnail;
+
+    public MapContent(final String mapDrawing, final String thumbnail) {
+        updateMapDrawing(mapDrawing);
+        updateThumbnail(thumbnail);
+    }
+
+    public String getMapDrawing() {
+        if (mapDrawing == null) {
+            mapDrawing = GzipUtils.decompressToString(compressedMapDrawing);
+        }
+        return mapDrawing;
+    }
+
+    public String getThumbnail() {
+        if (thumbnail == null) {
+            thumbnail = GzipUtils.decompressToString(compressedThumbnail);
+        }
+        return thumbnail;
+    }
+
+    public void updateMapDrawing(final String mapDrawing) {
+        this.compressedMapDrawing = GzipUtils.compress(mapDrawing);
+        this.mapDrawing = mapDrawing;
+    }
+
+    public void updateThumbnail(final String thumbnail) {
+        this.compressedThumbnail = GzipUtils.compress(thumbnail);
+        this.thumbnail = thumbnail;
+    }
+
+    public void updateNotice(final String notice) {
+        this.notice = notice;
+    }
+}
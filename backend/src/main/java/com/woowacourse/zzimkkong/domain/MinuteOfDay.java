@@ -0,0 +1,57 @@
+package com.woowacourse.zzimkkong.domain;
+
+import java.time.LocalTime;
+
+/**
+ * 하루 중의 시간을 0 시부터 지난 분(minute-of-day, 0 ~ 1439) 으로 다루는 연산 모음
+ * {@link TimeSlot}, {@link TimeUnit} 등은 이 연산들 위에서 동작하며, 모든 연산은 객체를 생성하지 않는다
+ * 구간은 [start, end) 로 다룬다
+ */
+final class MinuteOfDay {
+    static final int MINUTES_PER_HOUR = 60;
+    static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
+    private MinuteOfDay() {
+    }
+
+    static int of(final LocalTime time) {
+        return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
+    }
+
+    static LocalTime toLocalTime(final int minuteOfDay) {
+        return LocalTime.of(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
+    }
+
+    /**
+     * 시간 단위는 "매 시 정각부터" 나누어 떨어지는지를 본다 (ex. 30분 단위 -> 매 시 00분, 30분)
+     */
+    static boolean isAlignedTo(final int minuteOfDay, final int unitMinutes) {
+        return (minuteOfDay % MINUTES_PER_HOUR) % unitMinutes == 0;
+    }
+
+    /**
+     * minuteOfDay 이후(포함) 처음으로 unitMinutes 에 맞춰지는 시간 (다음 시 정각을 넘으면 다음 시 정각)
+     */
+    static int ceilToAligned(final int minuteOfDay, final int unitMinutes) {
+        if (isAlignedTo(minuteOfDay, unitMinutes)) {
+            return minuteOfDay;
+        }
+
+        int minuteOfHour = minuteOfDay % MINUTES_PER_HOUR;
+        int hourStart = minuteOfDay - minuteOfHour;
+        int nextAligned = (minuteOfHour / unitMinutes + 1) * unitMinutes;
+        return hourStart + Math.min(nextAligned, MINUTES_PER_HOUR);
+    }
+
+    static boolean contains(final int start, final int end, final int thatStart, final int thatEnd) {
+        return start <= thatStart && thatEnd <= end;
+    }
+
+    static boolean overlaps(final int start, final int end, final int thatStart, final int thatEnd) {
+        return start < thatEnd && thatStart < end;
+    }
+
+    static int duration(final int start, final int end) {
+        return end - start;
+    }
+}
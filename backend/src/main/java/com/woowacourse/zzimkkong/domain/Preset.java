@@ -7,7 +7,6 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 import java.time.LocalTime;
 
-@Builder
 @Getter
 @NoArgsConstructor
 @Entity
@@ -52,6 +51,9 @@ public class Preset {
     @Column(nullable = false)
     private String enabledDayOfWeek;
 
+    @Embedded
+    private EnabledDayOfWeekSet enabledDayOfWeekSet;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", foreignKey = @ForeignKey(name = "fk_preset_member"), nullable = false)
     private Member member;
@@ -70,6 +72,7 @@ public class Preset {
         this.reservationMinimumTimeUnit = reservationMinimumTimeUnit;
         this.reservationMaximumTimeUnit = reservationMaximumTimeUnit;
         this.enabledDayOfWeek = enabledDayOfWeek;
+        this.enabledDayOfWeekSet = EnabledDayOfWeekSet.from(enabledDayOfWeek);
         this.member = member;
 
         if (this.member != null) {
@@ -77,6 +80,7 @@ public class Preset {
         }
     }
 
+    @Builder
     public Preset(
             final Long id,
             final String name,
@@ -90,6 +94,16 @@ public class Preset {
         this.id = id;
     }
 
+    /**
+     * mask 컬럼이 채워지기 전에 저장된 row 는 요일 문자열로 mask 를 채운다
+     */
+    @PostLoad
+    public void fillEnabledDayOfWeekSet() {
+        if (enabledDayOfWeekSet == null || enabledDayOfWeekSet.isEmpty()) {
+            enabledDayOfWeekSet = EnabledDayOfWeekSet.from(enabledDayOfWeek);
+        }
+    }
+
     public boolean isNotOwnedBy(final Member member) {
         return this.member.equals(member);
     }
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(indexes = {
         @Index(name = "i_spaceid_date", columnList = "space_id, date"),
-        @Index(name = "i_memberid_date", columnList = "member_id, date")})
+        @Index(name = "i_memberid_date", columnList = "member_id, date"),
+        @Index(name = "i_memberid_starttime_id", columnList = "member_id, start_time, id")})
 public class Reservation {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,154 @@
+package com.woowacourse.zzimkkong.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * 한 공간의 특정 날짜 예약 시간대들을 시작 시간 기준으로 정렬하여 보관하는 불변 객체
+ * 시작 시간 배열의 이분 탐색과 종료 시간의 누적 최댓값(prefix max)으로 [start, end) 겹침 여부를 O(log n) 에 판단한다
+ * 시간은 모두 UTC 기준 epoch second 로 보관한다
+ */
+public class ReservationIntervals {
+    private static final ReservationIntervals EMPTY = new ReservationIntervals(new long[0], new long[0], new long[0]);
+
+    private final long[] ids;
+    private final long[] startTimes;
+    private final long[] endTimes;
+    private final long[] maxEndTimes;
+
+    private ReservationIntervals(final long[] ids, final long[] startTimes, final long[] endTimes) {
+        this.ids = ids;
+        this.startTimes = startTimes;
+        this.endTimes = endTimes;
+        this.maxEndTimes = new long[endTimes.length];
+
+        long maxEndTime = Long.MIN_VALUE;
+        for (int i = 0; i < endTimes.length; i++) {
+            maxEndTime = Math.max(maxEndTime, endTimes[i]);
+            maxEndTimes[i] = maxEndTime;
+        }
+    }
+
+    public static ReservationIntervals empty() {
+        return EMPTY;
+    }
+
+    public static ReservationIntervals from(final List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return EMPTY;
+        }
+
+        Reservation[] sortedReservations = reservations.stream()
+                .sorted(Comparator.comparing(Reservation::getStartTime))
+                .toArray(Reservation[]::new);
+
+        long[] ids = new long[sortedReservations.length];
+        long[] startTimes = new long[sortedReservations.length];
+        long[] endTimes = new long[sortedReservations.length];
+        for (int i = 0; i < sortedReservations.length; i++) {
+            ids[i] = sortedReservations[i].getId();
+            startTimes[i] = toEpochSecond(sortedReservations[i].getStartTime());
+            endTimes[i] = toEpochSecond(sortedReservations[i].getEndTime());
+        }
+        return new ReservationIntervals(ids, startTimes, endTimes);
+    }
+
+    /**
+     * 같은 id 의 예약이 이미 있다면 교체한다 (여러 번 적용해도 결과가 같다)
+     */
+    public ReservationIntervals with(final Long reservationId, final ReservationTime reservationTime) {
+        ReservationIntervals base = without(reservationId);
+        long startTime = toEpochSecond(reservationTime.getStartTime());
+        long endTime = toEpochSecond(reservationTime.getEndTime());
+
+        int size = base.size();
+        int insertionIndex = base.firstIndexStartingAtOrAfter(startTime);
+
+        long[] newIds = new long[size + 1];
+        long[] newStartTimes = new long[size + 1];
+        long[] newEndTimes = new long[size + 1];
+        insert(base.ids, newIds, insertionIndex, reservationId);
+        insert(base.startTimes, newStartTimes, insertionIndex, startTime);
+        insert(base.endTimes, newEndTimes, insertionIndex, endTime);
+        return new ReservationIntervals(newIds, newStartTimes, newEndTimes);
+    }
+
+    /**
+     * 해당 id 의 예약이 없다면 자기 자신을 반환한다
+     */
+    public ReservationIntervals without(final Long reservationId) {
+        int index = indexOf(reservationId);
+        if (index < 0) {
+            return this;
+        }
+        if (size() == 1) {
+            return EMPTY;
+        }
+        return new ReservationIntervals(
+                remove(ids, index),
+                remove(startTimes, index),
+                remove(endTimes, index));
+    }
+
+    public boolean hasConflictWith(final ReservationTime reservationTime, final LongPredicate excluded) {
+        long startTime = toEpochSecond(reservationTime.getStartTime());
+        long endTime = toEpochSecond(reservationTime.getEndTime());
+
+        for (int i = firstIndexStartingAtOrAfter(endTime) - 1; i >= 0 && maxEndTimes[i] > startTime; i--) {
+            if (endTimes[i] > startTime && !excluded.test(ids[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    private int firstIndexStartingAtOrAfter(final long time) {
+        int low = 0;
+        int high = startTimes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startTimes[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int indexOf(final Long reservationId) {
+        if (reservationId == null) {
+            return -1;
+        }
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == reservationId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void insert(final long[] source, final long[] target, final int index, final long value) {
+        System.arraycopy(source, 0, target, 0, index);
+        target[index] = value;
+        System.arraycopy(source, index, target, index + 1, source.length - index);
+    }
+
+    private static long[] remove(final long[] source, final int index) {
+        long[] target = Arrays.copyOf(source, source.length - 1);
+        System.arraycopy(source, index + 1, target, index, source.length - index - 1);
+        return target;
+    }
+
+    private static long toEpochSecond(final LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -50,9 +50,11 @@ public class ReservationTime {
             final boolean manageable) {
         LocalDateTime reservationStartDateTime = startDateTime.withSecond(0).withNano(0);
         LocalDateTime reservationEndDateTime = endDateTime.withSecond(0).withNano(0);
-        validateReservationTime(reservationStartDateTime, reservationEndDateTime, serviceZone, manageable);
+        LocalDateTime convertedStartDateTime = TimeZoneUtils.convertTo(reservationStartDateTime, serviceZone);
+        LocalDateTime convertedEndDateTime = TimeZoneUtils.convertTo(reservationEndDateTime, serviceZone);
+        validateReservationTime(reservationStartDateTime, convertedStartDateTime, convertedEndDateTime, manageable);
 
-        LocalDate date = TimeZoneUtils.convertTo(reservationStartDateTime, serviceZone).toLocalDate();
+        LocalDate date = convertedStartDateTime.toLocalDate();
         return new ReservationTime(date, reservationStartDateTime, reservationEndDateTime);
     }
 
@@ -68,12 +70,9 @@ public class ReservationTime {
 
     private static void validateReservationTime(
             final LocalDateTime startDateTime,
-            final LocalDateTime endDateTime,
-            final ServiceZone serviceZone,
+            final LocalDateTime convertedStartDateTime,
+            final LocalDateTime convertedEndDateTime,
             final boolean manageable) {
-        LocalDateTime convertedStartDateTime = TimeZoneUtils.convertTo(startDateTime, serviceZone);
-        LocalDateTime convertedEndDateTime = TimeZoneUtils.convertTo(endDateTime, serviceZone);
-
         if (!manageable) {
             validatePastTime(startDateTime);
         }
@@ -110,14 +109,6 @@ public class ReservationTime {
     }
 
     public boolean hasConflictWith(final ReservationTime that) {
-        return !(this.isEarlierThan(that) || this.isLaterThan(that));
-    }
-
-    private boolean isEarlierThan(final ReservationTime that) {
-        return this.endTime.equals(that.startTime) || this.endTime.isBefore(that.startTime);
-    }
-
-    private boolean isLaterThan(final ReservationTime that) {
-        return this.startTime.equals(that.endTime) || this.startTime.isAfter(that.endTime);
+        return this.startTime.isBefore(that.endTime) && that.startTime.isBefore(this.endTime);
     }
 }
\ No newline at end of file
@@ -1,15 +1,37 @@
 package com.woowacourse.zzimkkong.domain;
 
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+
+/**
+ * 맵이 운영되는 서비스 지역 (time zone)
+ * - map 테이블의 service_zone 컬럼에 이름으로 저장된다
+ * - ZoneId 와 ZoneRules 는 상수마다 한 번만 resolve 해 두고 재사용한다
+ * - 상수의 순서를 바꾸지 않는다 (ordinal 로 지역별 offset 캐시를 찾는다)
+ */
 public enum ServiceZone {
-    KOREA("Asia/Seoul");
+    KOREA("Asia/Seoul"),
+    UNITED_STATES_EASTERN("America/New_York");
 
     private final String timeZone;
+    private final ZoneId zoneId;
+    private final ZoneRules zoneRules;
 
     ServiceZone(final String timeZone) {
         this.timeZone = timeZone;
+        this.zoneId = ZoneId.of(timeZone);
+        this.zoneRules = zoneId.getRules();
     }
 
     public String getTimeZone() {
         return timeZone;
     }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    public ZoneRules getZoneRules() {
+        return zoneRules;
+    }
 }
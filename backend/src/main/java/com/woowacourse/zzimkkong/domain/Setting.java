@@ -9,21 +9,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import net.logstash.logback.encoder.org.apache.commons.lang3.StringUtils;
-import org.springframework.util.CollectionUtils;
 
 import javax.persistence.*;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
 
 import static com.woowacourse.zzimkkong.dto.ValidatorMessage.INVALID_SETTING_ORDER_MESSAGE;
 import static com.woowacourse.zzimkkong.infrastructure.message.MessageUtils.LINE_SEPARATOR;
 
-@Builder
 @Getter
 @NoArgsConstructor
 @Entity
@@ -68,6 +64,9 @@ public class Setting {
     @Column(nullable = false)
     private String enabledDayOfWeek;
 
+    @Embedded
+    private EnabledDayOfWeekSet enabledDayOfWeekSet;
+
     @Column(nullable = false)
     private Integer priorityOrder;
 
@@ -75,6 +74,7 @@ public class Setting {
     @JoinColumn(name = "space_id", foreignKey = @ForeignKey(name = "fk_setting_space"), nullable = false)
     private Space space;
 
+    @Builder
     public Setting(
             final Long id,
             final TimeSlot settingTimeSlot,
@@ -90,12 +90,23 @@ public class Setting {
         this.reservationMinimumTimeUnit = reservationMinimumTimeUnit;
         this.reservationMaximumTimeUnit = reservationMaximumTimeUnit;
         this.enabledDayOfWeek = enabledDayOfWeek;
+        this.enabledDayOfWeekSet = EnabledDayOfWeekSet.from(enabledDayOfWeek);
         this.priorityOrder = priorityOrder;
         this.space = space;
 
         validateSetting();
     }
 
+    /**
+     * mask 컬럼이 채워지기 전에 저장된 row 는 요일 문자열로 mask 를 채운다
+     */
+    @PostLoad
+    public void fillEnabledDayOfWeekSet() {
+        if (enabledDayOfWeekSet == null || enabledDayOfWeekSet.isEmpty()) {
+            enabledDayOfWeekSet = EnabledDayOfWeekSet.from(enabledDayOfWeek);
+        }
+    }
+
     public Setting createSettingBasedOn(final TimeSlot timeSlot, final EnabledDayOfWeek dayOfWeek) {
         return Setting.builder()
                 .id(this.getId())
@@ -156,15 +167,16 @@ public class Setting {
     }
 
     public boolean hasConflictWith(final Setting that) {
-        List<EnabledDayOfWeek> thisEnabledDayOfWeek = this.getEnabledDayOfWeekList();
-        boolean enabledDayOfWeekMatch = that.getEnabledDayOfWeekList().stream().anyMatch(thisEnabledDayOfWeek::contains);
-
-        return this.settingTimeSlot.hasConflictWith(that.settingTimeSlot) && enabledDayOfWeekMatch;
+        return this.settingTimeSlot.hasConflictWith(that.settingTimeSlot)
+                && this.enabledDayOfWeekSet.intersects(that.enabledDayOfWeekSet);
     }
 
     public boolean supports(final TimeSlot timeSlot, final DayOfWeek dayOfWeek) {
-        return enabledDayOfWeek.contains(dayOfWeek.name().toLowerCase())
-                && settingTimeSlot.hasConflictWith(timeSlot);
+        return supports(dayOfWeek) && settingTimeSlot.hasConflictWith(timeSlot);
+    }
+
+    public boolean supports(final DayOfWeek dayOfWeek) {
+        return enabledDayOfWeekSet.contains(dayOfWeek);
     }
 
     public boolean cannotAcceptDueToTimeUnit(final TimeSlot timeSlot) {
@@ -184,10 +196,7 @@ public class Setting {
     }
 
     public List<EnabledDayOfWeek> getEnabledDayOfWeekList() {
-        return Arrays.stream(this.enabledDayOfWeek.split(Space.DELIMITER))
-                .map(String::trim)
-                .map(EnabledDayOfWeek::from)
-                .collect(Collectors.toList());
+        return enabledDayOfWeekSet.toList();
     }
 
     /**
@@ -251,17 +260,11 @@ public class Setting {
             newExclusiveSettingSlots.add(survivedSettingSlot);
         }
 
-        List<EnabledDayOfWeek> conflictingSettingEnabledDayOfWeek = setting.getEnabledDayOfWeekList();
-        List<EnabledDayOfWeek> exclusiveEnabledDayOfWeek = this.getEnabledDayOfWeekList()
-                .stream()
-                .filter(dayOfWeek -> !conflictingSettingEnabledDayOfWeek.contains(dayOfWeek))
-                .collect(Collectors.toList());
+        EnabledDayOfWeekSet exclusiveEnabledDayOfWeek = this.enabledDayOfWeekSet.minus(setting.enabledDayOfWeekSet);
 
-        if (!CollectionUtils.isEmpty(exclusiveEnabledDayOfWeek)) {
+        if (!exclusiveEnabledDayOfWeek.isEmpty()) {
             TimeSlot overlappingTimeSlot = this.settingTimeSlot.extractOverlappingTimeSlot(setting.settingTimeSlot);
-            String nonConflictingDayOfWeek = exclusiveEnabledDayOfWeek.stream()
-                    .map(dayOfWeek -> dayOfWeek.name().toLowerCase(Locale.ROOT))
-                    .collect(Collectors.joining(","));
+            String nonConflictingDayOfWeek = exclusiveEnabledDayOfWeek.toString();
             TimeUnit adjustedIntervalTimeUnit = this.reservationTimeUnit.getAdjustedIntervalTimeUnit(overlappingTimeSlot);
 
             Setting survivedSettingSlot = Setting.builder()
@@ -58,7 +58,7 @@ public enum SettingViewType {
 
         spaceSettings.flatten();
 
-        return spaceSettings.getSummaryOn(EnabledDayOfWeek.from(dayOfWeek.name()));
+        return spaceSettings.getSummaryOn(EnabledDayOfWeek.from(dayOfWeek));
     }
 
     private static String getStackSingleSummary(final Space space, final LocalDateTime dateTime) {
@@ -67,7 +67,7 @@ public enum SettingViewType {
                 .toLocalDate()
                 .getDayOfWeek();
 
-        return spaceSettings.getSummaryOn(EnabledDayOfWeek.from(dayOfWeek.name()));
+        return spaceSettings.getSummaryOn(EnabledDayOfWeek.from(dayOfWeek));
     }
 
     private static String getFlatAllSummary(final Space space, final LocalDateTime dateTime) {
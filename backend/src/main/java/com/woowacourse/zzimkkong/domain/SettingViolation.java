@@ -0,0 +1,19 @@
+package com.woowacourse.zzimkkong.domain;
+
+/**
+ * {@link CompiledSettings#validate} 의 검증 결과
+ * 검증 경로에서 객체를 생성하지 않기 위해 예외 대신 반환하며, 예외 변환은 호출하는 쪽에서 한다
+ */
+public enum SettingViolation {
+    NONE,
+    NO_SETTING,
+    MULTIPLE_SETTINGS,
+    UNAVAILABLE_TIME,
+    TIME_UNIT,
+    MINIMUM_TIME_UNIT,
+    MAXIMUM_TIME_UNIT;
+
+    public boolean exists() {
+        return this != NONE;
+    }
+}
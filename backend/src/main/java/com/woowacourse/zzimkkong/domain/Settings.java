@@ -22,7 +22,9 @@ import static com.woowacourse.zzimkkong.infrastructure.message.MessageUtils.LINE
 public class Settings {
     public static final int MINIMUM_SETTING_COUNT = 1;
 
+    // 컬렉션을 읽을 때 (지연 로딩, fetch join 모두) 우선순위 순서로 읽는다
     @OneToMany(mappedBy = "space", cascade = CascadeType.PERSIST, fetch = FetchType.LAZY, orphanRemoval = true)
+    @OrderBy("priorityOrder ASC")
     private List<Setting> settings = new ArrayList<>();
 
     private Settings(final List<Setting> settings) {
@@ -65,6 +67,13 @@ public class Settings {
         return newSettings;
     }
 
+    /**
+     * 주어진 조건들이 모두 해당 요일에 적용된다고 보고, flatten 후 merge 한 결과를 반환한다
+     */
+    public static Settings toMergedSettings(final List<Setting> settings, final EnabledDayOfWeek dayOfWeek) {
+        return new Settings(settings).getMergedSettings(dayOfWeek);
+    }
+
     public void add(final Setting setting) {
         if (isFlat()) {
             throw new ZzimkkongException();
@@ -88,9 +97,9 @@ public class Settings {
                 .filter(setting -> setting.supports(timeSlot, dayOfWeek))
                 .collect(Collectors.toList());
 
-        return toFlattenedSettings(relevantSettings).getMergedSettings(
-                EnabledDayOfWeek.from(
-                        dayOfWeek.name().toLowerCase(Locale.ROOT)));
+        return toMergedSettings(
+                relevantSettings,
+                EnabledDayOfWeek.from(dayOfWeek));
     }
 
     public boolean cannotAcceptDueToAvailableTime(final TimeSlot timeSlot, final DayOfWeek dayOfWeek) {
@@ -109,8 +118,7 @@ public class Settings {
      * settings 중 예약이 불가능한 시간 대역을 반환한다
      */
     public List<TimeSlot> getUnavailableTimeSlots(final DayOfWeek dayOfWeek) {
-        Settings flatSettings = toFlattenedSettings(this.settings).getMergedSettings(
-                EnabledDayOfWeek.from(dayOfWeek.name().toLowerCase(Locale.ROOT)));
+        Settings flatSettings = getMergedSettings(EnabledDayOfWeek.from(dayOfWeek));
 
         List<TimeSlot> unavailableTimeSlots = new ArrayList<>();
         LocalTime unavailableStartTime = LocalTime.MIN;
@@ -147,9 +155,7 @@ public class Settings {
                     .map(Setting::getSettingTimeSlot)
                     .collect(Collectors.toList());
         }
-        return toFlattenedSettings(this.settings).getMergedSettings(
-                EnabledDayOfWeek.from(
-                        dayOfWeek.name().toLowerCase(Locale.ROOT)))
+        return getMergedSettings(EnabledDayOfWeek.from(dayOfWeek))
                 .settings
                 .stream()
                 .map(Setting::getSettingTimeSlot)
@@ -167,16 +173,10 @@ public class Settings {
      * - id = {@link Setting#FLAT_SETTING_ID} (실제 존재하는 세팅이 아닌 추상적인 transient entity 임을 명시하기 위함)
      * - order = {@link Setting#FLAT_PRIORITY_ORDER} (동등한 우선순위)
      * - settingStartTime 기준으로 오름차순 정렬된다
-     *
+     * Reference {@link SettingsSweepLine}
      */
     public void flatten() {
-        List<Setting> flatSettings = new ArrayList<>();
-        for (Setting setting : settings) {
-            List<Setting> exclusiveSettingSlots = setting.extractExclusiveSettingSlots(new ArrayList<>(flatSettings));
-            flatSettings.addAll(exclusiveSettingSlots);
-        }
-        this.settings = flatSettings;
-        sortByTime();
+        this.settings = SettingsSweepLine.flatten(settings);
     }
 
     public String getSummary() {
@@ -189,7 +189,7 @@ public class Settings {
 
     public String getSummaryOn(final EnabledDayOfWeek dayOfWeek) {
         List<Setting> settingsOnDayOfWeek = settings.stream()
-                .filter(setting -> setting.getEnabledDayOfWeekList().contains(dayOfWeek))
+                .filter(setting -> setting.getEnabledDayOfWeekSet().contains(dayOfWeek))
                 .collect(Collectors.toList());
 
         if (CollectionUtils.isEmpty(settingsOnDayOfWeek)) {
@@ -213,40 +213,20 @@ public class Settings {
         return stringBuilder.toString();
     }
 
+    /**
+     * 해당 요일에 대해 flatten 후, 시간대가 이어지고 시간 단위가 같은 조건들을 합친 결과를 반환한다
+     * settings 의 조건들은 모두 해당 요일에 적용된다고 본다
+     * Reference {@link SettingsSweepLine}
+     */
     public Settings getMergedSettings(final EnabledDayOfWeek dayOfWeek) {
         if (CollectionUtils.isEmpty(this.settings)) {
             return new Settings();
         }
 
-        Settings flatSettings = toFlattenedSettings(this.settings);
-
-        List<Setting> mergedSettings = new ArrayList<>();
-        Setting startSetting = flatSettings.settings.get(0);
-        if (!flatSettings.haveMultipleSettings()) {
-            return new Settings(
-                    List.of(
-                            startSetting.createSettingBasedOn(
-                                    startSetting.getSettingTimeSlot(),
-                                    dayOfWeek)));
-        }
-
-        for (int i = 1; i < flatSettings.settings.size(); i++) {
-            Setting endSetting = flatSettings.settings.get(i);
-
-            if (startSetting.canMergeIgnoringDayOfWeek(endSetting)) {
-                startSetting = startSetting.createSettingBasedOn(
-                        TimeSlot.of(startSetting.getSettingStartTime(), endSetting.getSettingEndTime()),
-                        dayOfWeek);
-            } else {
-                mergedSettings.add(startSetting.createSettingBasedOn(startSetting.getSettingTimeSlot(), dayOfWeek));
-                startSetting = endSetting;
-            }
-
-            if (i == flatSettings.settings.size() - 1) {
-                mergedSettings.add(startSetting.createSettingBasedOn(startSetting.getSettingTimeSlot(), dayOfWeek));
-            }
+        if (!isFlat()) {
+            validateOrderConflict();
         }
-        return new Settings(mergedSettings);
+        return new Settings(SettingsSweepLine.flattenOn(this.settings, dayOfWeek));
     }
 
     private void validateOrderConflict() {
@@ -276,15 +256,6 @@ public class Settings {
         settings.sort(Comparator.comparing(Setting::getPriorityOrder));
     }
 
-    private void sortByTime() {
-        settings.sort(Comparator.comparing(Setting::getSettingStartTime));
-    }
-
-    @PostLoad
-    public void postLoad() {
-        sortByPriorityOrder();
-    }
-
     @Override
     public String toString() {
         StringBuilder stringBuilder = new StringBuilder();
@@ -0,0 +1,284 @@
+package com.woowacourse.zzimkkong.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+
+import static com.woowacourse.zzimkkong.domain.Setting.FLAT_PRIORITY_ORDER;
+import static com.woowacourse.zzimkkong.domain.Setting.FLAT_SETTING_ID;
+
+/**
+ * 2023.04.02 기준 {@link Settings#flatten()} 과 flatten 후 merge 한 결과를 sweep-line 으로 계산한다
+ * - 예약 조건들의 시작/종료 시간을 한 번 정렬하고, 경계 사이의 구간마다 우선순위가 가장 높은 조건을 고른다
+ * - 같은 조건이 이어지는 구간은 하나의 flat 한 조건으로 만든다
+ * - 조각난 조건의 시간 단위는 {@link Setting#extractExclusiveSettingSlots(List)} 와 같은 방식으로 조정한다
+ */
+final class SettingsSweepLine {
+    private SettingsSweepLine() {
+    }
+
+    /**
+     * 주어진 조건들이 모두 해당 요일에 적용된다고 보고 (요일은 비교하지 않는다) flatten 후 시간 단위가 같은 이웃 조건과 merge 한다
+     * 경계 사이의 구간마다 우선순위가 가장 높은 조건을 priority queue 로 고르므로 조건이 n 개일 때 O(n log n) 에 동작한다
+     *
+     * @return settingStartTime 기준 오름차순으로 정렬된, 서로 겹치지 않고 merge 된 예약 조건들
+     */
+    static List<Setting> flattenOn(final List<Setting> settings, final EnabledDayOfWeek dayOfWeek) {
+        int size = settings.size();
+        boolean flat = settings.stream().allMatch(Setting::isFlattenedSetting);
+
+        int[] startMinutes = new int[size];
+        int[] endMinutes = new int[size];
+        int[] boundaries = new int[size * 2];
+        long[] startOrder = new long[size];
+        for (int i = 0; i < size; i++) {
+            Setting setting = settings.get(i);
+            startMinutes[i] = setting.getSettingTimeSlot().getStartMinuteOfDay();
+            endMinutes[i] = setting.getSettingTimeSlot().getEndMinuteOfDay();
+            boundaries[i * 2] = startMinutes[i];
+            boundaries[i * 2 + 1] = endMinutes[i];
+            startOrder[i] = ((long) startMinutes[i] << Integer.SIZE) | i;
+        }
+        Arrays.sort(boundaries);
+        Arrays.sort(startOrder);
+
+        PriorityQueue<Integer> candidates = new PriorityQueue<>(
+                Comparator.<Integer>comparingInt(index -> settings.get(index).getPriorityOrder())
+                        .thenComparingInt(index -> index));
+        Merger merger = new Merger(dayOfWeek);
+
+        int next = 0;
+        int owner = -1;
+        int ownerStart = 0;
+        for (int i = 0; i < boundaries.length; i++) {
+            int boundary = boundaries[i];
+            if (i > 0 && boundary == boundaries[i - 1]) {
+                continue;
+            }
+
+            while (next < size && (int) (startOrder[next] >>> Integer.SIZE) <= boundary) {
+                candidates.add((int) startOrder[next]);
+                next++;
+            }
+            while (!candidates.isEmpty() && endMinutes[candidates.peek()] <= boundary) {
+                candidates.poll();
+            }
+
+            int winner = candidates.isEmpty() ? -1 : candidates.peek();
+            if (winner != owner) {
+                if (owner >= 0) {
+                    Setting setting = settings.get(owner);
+                    merger.add(toFlatSetting(
+                            setting,
+                            ownerStart,
+                            boundary,
+                            flat ? setting.getId() : FLAT_SETTING_ID,
+                            setting.getEnabledDayOfWeek()));
+                }
+                owner = winner;
+                ownerStart = boundary;
+            }
+        }
+        return merger.finish();
+    }
+
+    /**
+     * 모든 요일에 대해 flatten 한다. 결과는 {@link Settings#flatten()} 의 설명을 따른다
+     * - 요일마다 활성화된 조건들을 우선순위 순서로 보관하고, 경계 사이의 구간마다 요일별로 우선순위가 가장 높은 조건이 그 요일을 가져간다
+     * - 한 조건이 이어지는 구간에서 같은 요일들을 가져가면 하나의 flat 한 조건으로 만든다
+     * 조건마다 요일 수 (최대 7) 만큼 넣고 빼며, 경계마다 요일별 첫 조건 (최대 7 개) 만 보므로 조건이 n 개일 때 O(n log n) 에 동작한다
+     *
+     * @return settingStartTime 기준 오름차순으로 정렬된 flat 한 예약 조건들
+     */
+    static List<Setting> flatten(final List<Setting> settings) {
+        int size = settings.size();
+
+        int[] boundaries = new int[size * 2];
+        long[] startOrder = new long[size];
+        long[] endOrder = new long[size];
+        for (int i = 0; i < size; i++) {
+            TimeSlot settingTimeSlot = settings.get(i).getSettingTimeSlot();
+            boundaries[i * 2] = settingTimeSlot.getStartMinuteOfDay();
+            boundaries[i * 2 + 1] = settingTimeSlot.getEndMinuteOfDay();
+            startOrder[i] = ((long) settingTimeSlot.getStartMinuteOfDay() << Integer.SIZE) | i;
+            endOrder[i] = ((long) settingTimeSlot.getEndMinuteOfDay() << Integer.SIZE) | i;
+        }
+        Arrays.sort(boundaries);
+        Arrays.sort(startOrder);
+        Arrays.sort(endOrder);
+
+        Comparator<Integer> priorityOrder = Comparator.<Integer>comparingInt(index -> settings.get(index).getPriorityOrder())
+                .thenComparingInt(index -> index);
+        int dayCount = EnabledDayOfWeek.values().length;
+        List<TreeSet<Integer>> activeSettingsByDay = new ArrayList<>(dayCount);
+        for (int day = 0; day < dayCount; day++) {
+            activeSettingsByDay.add(new TreeSet<>(priorityOrder));
+        }
+        int[] winningMasks = new int[size];
+        int[] runMasks = new int[size];
+        int[] runStarts = new int[size];
+        List<Integer> runningSettings = new ArrayList<>();
+        List<Integer> winningSettings = new ArrayList<>();
+        List<Setting> flatSettings = new ArrayList<>();
+
+        int nextStart = 0;
+        int nextEnd = 0;
+        for (int i = 0; i < boundaries.length; i++) {
+            int boundary = boundaries[i];
+            if (i > 0 && boundary == boundaries[i - 1]) {
+                continue;
+            }
+
+            while (nextEnd < size && (int) (endOrder[nextEnd] >>> Integer.SIZE) <= boundary) {
+                int index = (int) endOrder[nextEnd];
+                int mask = settings.get(index).getEnabledDayOfWeekSet().getMask();
+                for (int day = 0; day < dayCount; day++) {
+                    if ((mask & (1 << day)) != 0) {
+                        activeSettingsByDay.get(day).remove(index);
+                    }
+                }
+                nextEnd++;
+            }
+            while (nextStart < size && (int) (startOrder[nextStart] >>> Integer.SIZE) <= boundary) {
+                int index = (int) startOrder[nextStart];
+                int mask = settings.get(index).getEnabledDayOfWeekSet().getMask();
+                for (int day = 0; day < dayCount; day++) {
+                    if ((mask & (1 << day)) != 0) {
+                        activeSettingsByDay.get(day).add(index);
+                    }
+                }
+                nextStart++;
+            }
+
+            for (int index : winningSettings) {
+                winningMasks[index] = 0;
+            }
+            winningSettings.clear();
+            for (int day = 0; day < dayCount; day++) {
+                TreeSet<Integer> activeSettings = activeSettingsByDay.get(day);
+                if (activeSettings.isEmpty()) {
+                    continue;
+                }
+                int index = activeSettings.first();
+                if (winningMasks[index] == 0) {
+                    winningSettings.add(index);
+                }
+                winningMasks[index] |= 1 << day;
+            }
+            winningSettings.sort(priorityOrder);
+
+            for (Iterator<Integer> iterator = runningSettings.iterator(); iterator.hasNext(); ) {
+                int index = iterator.next();
+                if (winningMasks[index] != runMasks[index]) {
+                    flatSettings.add(toFlatSetting(settings.get(index), runStarts[index], boundary, runMasks[index]));
+                    runMasks[index] = 0;
+                    iterator.remove();
+                }
+            }
+            for (int index : winningSettings) {
+                if (runMasks[index] == 0) {
+                    runMasks[index] = winningMasks[index];
+                    runStarts[index] = boundary;
+                    runningSettings.add(index);
+                }
+            }
+        }
+
+        flatSettings.sort(Comparator.comparing(Setting::getSettingStartTime));
+        return flatSettings;
+    }
+
+    private static Setting toFlatSetting(
+            final Setting setting,
+            final int startMinute,
+            final int endMinute,
+            final int enabledDayOfWeekMask) {
+        EnabledDayOfWeekSet enabledDayOfWeekSet = EnabledDayOfWeekSet.from(enabledDayOfWeekMask);
+        String enabledDayOfWeek = enabledDayOfWeekSet.equals(setting.getEnabledDayOfWeekSet())
+                ? setting.getEnabledDayOfWeek()
+                : enabledDayOfWeekSet.toString();
+        return toFlatSetting(setting, startMinute, endMinute, FLAT_SETTING_ID, enabledDayOfWeek);
+    }
+
+    private static Setting toFlatSetting(
+            final Setting setting,
+            final int startMinute,
+            final int endMinute,
+            final Long id,
+            final String enabledDayOfWeek) {
+        TimeSlot settingTimeSlot = setting.getSettingTimeSlot();
+        if (startMinute == settingTimeSlot.getStartMinuteOfDay()
+                && endMinute == settingTimeSlot.getEndMinuteOfDay()) {
+            return Setting.builder()
+                    .id(id)
+                    .settingTimeSlot(settingTimeSlot)
+                    .reservationTimeUnit(setting.getReservationTimeUnit())
+                    .reservationMinimumTimeUnit(setting.getReservationMinimumTimeUnit())
+                    .reservationMaximumTimeUnit(setting.getReservationMaximumTimeUnit())
+                    .enabledDayOfWeek(enabledDayOfWeek)
+                    .priorityOrder(FLAT_PRIORITY_ORDER)
+                    .space(setting.getSpace())
+                    .build();
+        }
+
+        TimeSlot exclusiveTimeSlot = TimeSlot.of(MinuteOfDay.toLocalTime(startMinute), MinuteOfDay.toLocalTime(endMinute));
+        TimeUnit adjustedIntervalTimeUnit = setting.getReservationTimeUnit().getAdjustedIntervalTimeUnit(exclusiveTimeSlot);
+        return Setting.builder()
+                .id(id)
+                .settingTimeSlot(exclusiveTimeSlot)
+                .reservationTimeUnit(adjustedIntervalTimeUnit)
+                .reservationMinimumTimeUnit(
+                        setting.getReservationMinimumTimeUnit().getAdjustedTimeUnit(
+                                exclusiveTimeSlot,
+                                adjustedIntervalTimeUnit))
+                .reservationMaximumTimeUnit(
+                        setting.getReservationMaximumTimeUnit().getAdjustedTimeUnit(
+                                exclusiveTimeSlot,
+                                adjustedIntervalTimeUnit))
+                .enabledDayOfWeek(enabledDayOfWeek)
+                .priorityOrder(FLAT_PRIORITY_ORDER)
+                .space(setting.getSpace())
+                .build();
+    }
+
+    /**
+     * 시간 순으로 들어오는 flat 한 조건들을 {@link Settings#getMergedSettings(EnabledDayOfWeek)} 와 같은 규칙으로 merge 한다
+     */
+    private static class Merger {
+        private final EnabledDayOfWeek dayOfWeek;
+        private final List<Setting> mergedSettings = new ArrayList<>();
+        private Setting startSetting;
+
+        private Merger(final EnabledDayOfWeek dayOfWeek) {
+            this.dayOfWeek = dayOfWeek;
+        }
+
+        private void add(final Setting setting) {
+            if (startSetting == null) {
+                startSetting = setting;
+                return;
+            }
+
+            if (startSetting.canMergeIgnoringDayOfWeek(setting)) {
+                startSetting = startSetting.createSettingBasedOn(
+                        TimeSlot.of(startSetting.getSettingStartTime(), setting.getSettingEndTime()),
+                        dayOfWeek);
+                return;
+            }
+
+            mergedSettings.add(startSetting.createSettingBasedOn(startSetting.getSettingTimeSlot(), dayOfWeek));
+            startSetting = setting;
+        }
+
+        private List<Setting> finish() {
+            if (startSetting != null) {
+                mergedSettings.add(startSetting.createSettingBasedOn(startSetting.getSettingTimeSlot(), dayOfWeek));
+            }
+            return mergedSettings;
+        }
+    }
+}
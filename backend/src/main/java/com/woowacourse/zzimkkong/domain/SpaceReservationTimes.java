@@ -0,0 +1,31 @@
+package com.woowacourse.zzimkkong.domain;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 공간의 예약 시간들을 공간 별로 묶은 객체
+ */
+public class SpaceReservationTimes {
+    private final Map<Long, List<ReservationTime>> reservationTimesBySpaceId;
+
+    private SpaceReservationTimes(final Map<Long, List<ReservationTime>> reservationTimesBySpaceId) {
+        this.reservationTimesBySpaceId = reservationTimesBySpaceId;
+    }
+
+    public static SpaceReservationTimes from(final List<Reservation> reservations) {
+        return new SpaceReservationTimes(reservations.stream()
+                .collect(Collectors.groupingBy(
+                        reservation -> reservation.getSpace().getId(),
+                        Collectors.mapping(Reservation::getReservationTime, Collectors.toList()))));
+    }
+
+    /**
+     * 예약이 없는 공간이면 빈 목록을 반환한다
+     */
+    public List<ReservationTime> getOf(final Space space) {
+        return reservationTimesBySpaceId.getOrDefault(space.getId(), Collections.emptyList());
+    }
+}
@@ -9,7 +9,6 @@ import lombok.NoArgsConstructor;
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
 
@@ -57,43 +56,43 @@ public class TimeSlot {
     }
 
     public boolean isDurationShorterThan(final TimeUnit timeUnit) {
-        return getDurationMinute().isShorterThan(timeUnit);
+        return getDurationMinutes() < timeUnit.getMinutes();
     }
 
     public boolean isDurationLongerThan(final TimeUnit timeUnit) {
-        return timeUnit.isShorterThan(getDurationMinute());
+        return getDurationMinutes() > timeUnit.getMinutes();
     }
 
     public boolean contains(final TimeSlot that) {
-        boolean equalOrAfterStartTime = that.startTime.equals(this.startTime) || that.startTime.isAfter(this.startTime);
-        boolean equalOrBeforeEndTime = that.endTime.equals(this.endTime) || that.endTime.isBefore(this.endTime);
-        return equalOrAfterStartTime && equalOrBeforeEndTime;
+        return MinuteOfDay.contains(
+                this.getStartMinuteOfDay(), this.getEndMinuteOfDay(),
+                that.getStartMinuteOfDay(), that.getEndMinuteOfDay());
     }
 
     public boolean isNotWithin(final TimeSlot that) {
-        boolean equalOrAfterStartTime = this.startTime.equals(that.startTime) || this.startTime.isAfter(that.startTime);
-        boolean equalOrBeforeEndTime = this.endTime.equals(that.endTime) || this.endTime.isBefore(that.endTime);
-        return !(equalOrAfterStartTime && equalOrBeforeEndTime);
+        return !that.contains(this);
     }
 
     public boolean isExtendableWith(final TimeSlot that) {
-        return this.endTime.equals(that.startTime);
+        return this.getEndMinuteOfDay() == that.getStartMinuteOfDay();
     }
 
     public boolean hasConflictWith(final TimeSlot that) {
-        return !(this.isEarlierThan(that) || this.isLaterThan(that));
+        return MinuteOfDay.overlaps(
+                this.getStartMinuteOfDay(), this.getEndMinuteOfDay(),
+                that.getStartMinuteOfDay(), that.getEndMinuteOfDay());
     }
 
-    private boolean isEarlierThan(final TimeSlot that) {
-        return this.endTime.equals(that.startTime) || this.endTime.isBefore(that.startTime);
+    public int getStartMinuteOfDay() {
+        return MinuteOfDay.of(startTime);
     }
 
-    private boolean isLaterThan(final TimeSlot that) {
-        return this.startTime.equals(that.endTime) || this.startTime.isAfter(that.endTime);
+    public int getEndMinuteOfDay() {
+        return MinuteOfDay.of(endTime);
     }
 
-    private TimeUnit getDurationMinute() {
-        return TimeUnit.from(ChronoUnit.MINUTES.between(startTime, endTime));
+    public int getDurationMinutes() {
+        return MinuteOfDay.duration(getStartMinuteOfDay(), getEndMinuteOfDay());
     }
 
     public TimeSlot extractOverlappingTimeSlot(final TimeSlot that) {
@@ -139,15 +138,19 @@ public class TimeSlot {
     }
 
     private boolean hasLeftSkewedConflictWith(final TimeSlot that) {
-        return this.startTime.isBefore(that.startTime)
-                && ((this.endTime.isAfter(that.startTime) && this.endTime.isBefore(that.endTime))
-                || this.endTime.equals(that.endTime));
+        int thisStart = this.getStartMinuteOfDay();
+        int thisEnd = this.getEndMinuteOfDay();
+        int thatStart = that.getStartMinuteOfDay();
+        int thatEnd = that.getEndMinuteOfDay();
+        return thisStart < thatStart && thatStart < thisEnd && thisEnd <= thatEnd;
     }
 
     private boolean hasRightSkewedConflictWith(final TimeSlot that) {
-        return ((this.startTime.isAfter(that.startTime) && this.startTime.isBefore(that.endTime))
-                || this.startTime.equals(that.startTime))
-                && this.endTime.isAfter(that.endTime);
+        int thisStart = this.getStartMinuteOfDay();
+        int thisEnd = this.getEndMinuteOfDay();
+        int thatStart = that.getStartMinuteOfDay();
+        int thatEnd = that.getEndMinuteOfDay();
+        return thatStart <= thisStart && thisStart < thatEnd && thatEnd < thisEnd;
     }
 
     @Override
@@ -11,8 +11,6 @@ import javax.persistence.Embeddable;
 import java.time.LocalTime;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Getter
 @NoArgsConstructor
@@ -23,12 +21,12 @@ public class TimeUnit {
 
     public static final Integer MINIMUM_TIME_UNIT = 5;
     private static final Integer MINIMUM_TIME = 0;
-    private static final Map<Integer, TimeUnit> cache = new ConcurrentHashMap<>();
+    private static final int CACHED_TIME_UNIT_COUNT = 24;
+    private static final TimeUnit[] cache = new TimeUnit[CACHED_TIME_UNIT_COUNT + 1];
 
     static {
-        for (int i = 1; i <= 24; i++) {
-            Integer minutes = i * MINIMUM_TIME_UNIT;
-            cache.put(minutes, new TimeUnit(minutes));
+        for (int i = 1; i <= CACHED_TIME_UNIT_COUNT; i++) {
+            cache[i] = new TimeUnit(i * MINIMUM_TIME_UNIT);
         }
     }
 
@@ -44,11 +42,17 @@ public class TimeUnit {
     }
 
     public static TimeUnit from(final int minutes) {
-        return cache.getOrDefault(minutes, new TimeUnit(minutes));
+        if (minutes > MINIMUM_TIME && !cannotDivideByMinimumTimeUnit(minutes)) {
+            int index = minutes / MINIMUM_TIME_UNIT;
+            if (index <= CACHED_TIME_UNIT_COUNT) {
+                return cache[index];
+            }
+        }
+        return new TimeUnit(minutes);
     }
 
     public static TimeUnit from(final long minutes) {
-        return cache.getOrDefault((int) minutes, new TimeUnit((int) minutes));
+        return from((int) minutes);
     }
 
     public static boolean cannotDivideByMinimumTimeUnit(final int minutes) {
@@ -60,7 +64,7 @@ public class TimeUnit {
     }
 
     public boolean canDivide(final LocalTime time) {
-        return time.getMinute() % this.minutes == 0;
+        return MinuteOfDay.isAlignedTo(MinuteOfDay.of(time), this.minutes);
     }
 
     public boolean isShorterThan(final TimeUnit that) {
@@ -111,7 +115,7 @@ public class TimeUnit {
     }
 
     private TimeUnit getNextDivisibleTimeUnit(final TimeUnit timeUnit) {
-        TimeUnit minimumTimeUnit = cache.get(MINIMUM_TIME_UNIT);
+        TimeUnit minimumTimeUnit = from(MINIMUM_TIME_UNIT);
         TimeUnit candidateTimeUnit = this;
         while (!candidateTimeUnit.isDivisibleBy(timeUnit)) {
             candidateTimeUnit = this.minus(minimumTimeUnit);
@@ -0,0 +1,32 @@
+package com.woowacourse.zzimkkong.dto.admin;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class CacheStatisticsResponse {
+    private String name;
+    private int size;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private Long averageLoadMicros;
+
+    private CacheStatisticsResponse(String name, int size, long hitCount, long missCount, long evictionCount, Long averageLoadMicros) {
+        this.name = name;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.averageLoadMicros = averageLoadMicros;
+    }
+
+    public static CacheStatisticsResponse of(String name, int size, long hitCount, long missCount, long evictionCount) {
+        return new CacheStatisticsResponse(name, size, hitCount, missCount, evictionCount, null);
+    }
+
+    public static CacheStatisticsResponse of(String name, int size, long hitCount, long missCount, long evictionCount, long averageLoadMicros) {
+        return new CacheStatisticsResponse(name, size, hitCount, missCount, evictionCount, averageLoadMicros);
+    }
+}
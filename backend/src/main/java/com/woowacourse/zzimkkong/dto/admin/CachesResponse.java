@@ -0,0 +1,20 @@
+package com.woowacourse.zzimkkong.dto.admin;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CachesResponse {
+    private List<CacheStatisticsResponse> caches;
+
+    private CachesResponse(List<CacheStatisticsResponse> caches) {
+        this.caches = caches;
+    }
+
+    public static CachesResponse from(List<CacheStatisticsResponse> caches) {
+        return new CachesResponse(caches);
+    }
+}
@@ -0,0 +1,53 @@
+package com.woowacourse.zzimkkong.dto.admin;
+
+import com.woowacourse.zzimkkong.config.logaspect.LatencyHistogram;
+import com.woowacourse.zzimkkong.config.logaspect.MethodTimingRegistry.MethodTiming;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class MethodTimingResponse {
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private String group;
+    private String method;
+    private long count;
+    private long meanMicros;
+    private long p50Micros;
+    private long p90Micros;
+    private long p99Micros;
+    private long maxMicros;
+
+    private MethodTimingResponse(
+            String group,
+            String method,
+            long count,
+            long meanMicros,
+            long p50Micros,
+            long p90Micros,
+            long p99Micros,
+            long maxMicros) {
+        this.group = group;
+        this.method = method;
+        this.count = count;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p90Micros = p90Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+    }
+
+    public static MethodTimingResponse from(MethodTiming methodTiming) {
+        LatencyHistogram.Snapshot snapshot = methodTiming.getSnapshot();
+        return new MethodTimingResponse(
+                methodTiming.getGroup(),
+                methodTiming.getMethod(),
+                snapshot.getCount(),
+                snapshot.getMeanNanos() / NANOS_PER_MICRO,
+                snapshot.getPercentileNanos(50) / NANOS_PER_MICRO,
+                snapshot.getPercentileNanos(90) / NANOS_PER_MICRO,
+                snapshot.getPercentileNanos(99) / NANOS_PER_MICRO,
+                snapshot.getMaximumNanos() / NANOS_PER_MICRO);
+    }
+}
@@ -0,0 +1,20 @@
+package com.woowacourse.zzimkkong.dto.admin;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class MethodTimingsResponse {
+    private List<MethodTimingResponse> methodTimings;
+
+    private MethodTimingsResponse(List<MethodTimingResponse> methodTimings) {
+        this.methodTimings = methodTimings;
+    }
+
+    public static MethodTimingsResponse from(List<MethodTimingResponse> methodTimings) {
+        return new MethodTimingsResponse(methodTimings);
+    }
+}
@@ -1,5 +1,6 @@
 package com.woowacourse.zzimkkong.dto.map;
 
+import com.woowacourse.zzimkkong.domain.ServiceZone;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -19,9 +20,23 @@ public class MapCreateUpdateRequest {
     @NotBlank(message = EMPTY_MESSAGE)
     private String thumbnail;
 
+    /**
+     * 맵 생성 시에만 사용한다. 없으면 {@link ServiceZone#KOREA}
+     */
+    private ServiceZone serviceZone;
+
     public MapCreateUpdateRequest(final String mapName, final String mapDrawing, final String thumbnail) {
+        this(mapName, mapDrawing, thumbnail, null);
+    }
+
+    public MapCreateUpdateRequest(
+            final String mapName,
+            final String mapDrawing,
+            final String thumbnail,
+            final ServiceZone serviceZone) {
         this.mapName = mapName;
         this.mapDrawing = mapDrawing;
         this.thumbnail = thumbnail;
+        this.serviceZone = serviceZone;
     }
 }
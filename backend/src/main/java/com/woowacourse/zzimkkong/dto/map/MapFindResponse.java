@@ -1,5 +1,6 @@
 package com.woowacourse.zzimkkong.dto.map;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.woowacourse.zzimkkong.domain.Map;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,7 +10,9 @@ import lombok.NoArgsConstructor;
 public class MapFindResponse {
     private Long mapId;
     private String mapName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String mapDrawing;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String thumbnail;
     private String sharingMapId;
     private String slackUrl;
@@ -62,6 +65,22 @@ public class MapFindResponse {
         );
     }
 
+    /**
+     * 게스트 맵 조회용. 도면과 썸네일은 /api/guests/maps/drawing, /thumbnail 에서 압축된 그대로 받으므로 포함하지 않는다
+     * - 공지는 맵 내용을 읽지 않도록 따로 조회해서 받는다
+     */
+    public static MapFindResponse ofGuest(final Map map, final String notice) {
+        return new MapFindResponse(
+                map.getId(),
+                map.getName(),
+                null,
+                null,
+                map.getSlackUrl(),
+                notice,
+                map.getSharingMapId()
+        );
+    }
+
     public static MapFindResponse ofAdmin(final Map map,
                                           final String sharingMapId) {
         return new MapFindResponse(
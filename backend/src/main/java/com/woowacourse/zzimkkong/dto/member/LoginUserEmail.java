@@ -8,16 +8,29 @@ import net.logstash.logback.encoder.org.apache.commons.lang3.StringUtils;
 @NoArgsConstructor
 public class LoginUserEmail {
     private static final String NO_LOGIN_EMAIL = "NO_LOGIN_EMAIL";
-    public static final LoginUserEmail NO_LOGIN = new LoginUserEmail(NO_LOGIN_EMAIL);
+    public static final LoginUserEmail NO_LOGIN = new LoginUserEmail(NO_LOGIN_EMAIL, null);
 
     private String email;
+    private Long memberId;
 
-    private LoginUserEmail(final String email) {
+    private LoginUserEmail(final String email, final Long memberId) {
         this.email = email;
+        this.memberId = memberId;
     }
 
     public static LoginUserEmail from(final String email) {
-        return new LoginUserEmail(email);
+        return new LoginUserEmail(email, null);
+    }
+
+    /**
+     * 토큰에 회원 id claim 이 있으면 함께 담는다. 이전에 발급된 토큰처럼 claim 이 없으면 memberId 는 null 이다
+     */
+    public static LoginUserEmail of(final String email, final Long memberId) {
+        return new LoginUserEmail(email, memberId);
+    }
+
+    public boolean hasMemberId() {
+        return memberId != null;
     }
 
     public boolean exists() {
@@ -64,6 +64,6 @@ public class PresetFindResponse {
                 preset.getReservationTimeUnitAsInt(),
                 preset.getReservationMinimumTimeUnitAsInt(),
                 preset.getReservationMaximumTimeUnitAsInt(),
-                EnabledDayOfWeekDto.from(preset.getEnabledDayOfWeek()));
+                EnabledDayOfWeekDto.from(preset.getEnabledDayOfWeekSet()));
     }
 }
@@ -0,0 +1,54 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.exception.reservation.InvalidReservationCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 회원 예약 목록의 다음 페이지 위치. 마지막으로 응답한 예약의 (시작 시간, id) 이다
+ * 다음 페이지는 OFFSET 없이 이 위치 다음 (이전 예약 목록은 이전) 의 예약부터 읽는다
+ * 클라이언트에는 내용을 알 수 없는 문자열 (token) 로 주고받는다
+ */
+@Getter
+public class ReservationCursor {
+    private static final String DELIMITER = ":";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final LocalDateTime startTime;
+    private final Long id;
+
+    private ReservationCursor(final LocalDateTime startTime, final Long id) {
+        this.startTime = startTime;
+        this.id = id;
+    }
+
+    public static ReservationCursor from(final Reservation reservation) {
+        return new ReservationCursor(reservation.getStartTime(), reservation.getId());
+    }
+
+    public static ReservationCursor from(final String token) {
+        try {
+            String decoded = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            if (values.length != 2) {
+                throw new InvalidReservationCursorException();
+            }
+            LocalDateTime startTime = LocalDateTime.ofEpochSecond(Long.parseLong(values[0]), 0, ZoneOffset.UTC);
+            return new ReservationCursor(startTime, Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidReservationCursorException();
+        }
+    }
+
+    public String toToken() {
+        String value = startTime.toEpochSecond(ZoneOffset.UTC) + DELIMITER + id;
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
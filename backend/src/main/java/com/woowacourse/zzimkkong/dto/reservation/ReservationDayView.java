@@ -0,0 +1,109 @@
+package com.woowacourse.zzimkkong.dto.reservation;
+
+import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.Space;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 맵의 한 날짜에 대한 공간별 예약 목록 ({@link ReservationFindAllResponse}) 을 로그인 사용자와 무관한 값만으로 만들어 둔 불변 객체
+ * 엔티티를 참조하지 않으므로 트랜잭션 밖에서 여러 요청이 공유해도 된다
+ * 로그인 사용자마다 다른 값 (isMyReservation) 은 {@link ReservationFindAllResponse#of(ReservationDayView, Long)} 에서 채운다
+ */
+@Getter
+public class ReservationDayView {
+    private final String managerEmail;
+    private final List<SpaceView> spaces;
+
+    private ReservationDayView(final String managerEmail, final List<SpaceView> spaces) {
+        this.managerEmail = managerEmail;
+        this.spaces = spaces;
+    }
+
+    public static ReservationDayView of(final Map map, final List<Reservation> reservations) {
+        java.util.Map<Long, List<ReservationView>> reservationGroups = reservations.stream()
+                .sorted(Comparator.comparing(Reservation::getStartTime))
+                .collect(Collectors.groupingBy(
+                        reservation -> reservation.getSpace().getId(),
+                        Collectors.mapping(ReservationView::from, Collectors.toList())));
+
+        List<SpaceView> spaceViews = map.getSpaces()
+                .stream()
+                .sorted(Comparator.comparing(Space::getId))
+                .map(space -> SpaceView.of(space, reservationGroups.getOrDefault(space.getId(), List.of())))
+                .collect(Collectors.toUnmodifiableList());
+
+        return new ReservationDayView(map.getMember().getEmail(), spaceViews);
+    }
+
+    @Getter
+    public static class SpaceView {
+        private final Long spaceId;
+        private final String spaceName;
+        private final String spaceColor;
+        private final List<ReservationView> reservations;
+
+        private SpaceView(
+                final Long spaceId,
+                final String spaceName,
+                final String spaceColor,
+                final List<ReservationView> reservations) {
+            this.spaceId = spaceId;
+            this.spaceName = spaceName;
+            this.spaceColor = spaceColor;
+            this.reservations = reservations;
+        }
+
+        private static SpaceView of(final Space space, final List<ReservationView> reservations) {
+            return new SpaceView(space.getId(), space.getName(), space.getColor(), List.copyOf(reservations));
+        }
+    }
+
+    @Getter
+    public static class ReservationView {
+        private final Long id;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final String userName;
+        private final String description;
+        private final boolean loginReservation;
+        private final Long memberId;
+
+        private ReservationView(
+                final Long id,
+                final LocalDateTime startTime,
+                final LocalDateTime endTime,
+                final String userName,
+                final String description,
+                final boolean loginReservation,
+                final Long memberId) {
+            this.id = id;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.userName = userName;
+            this.description = description;
+            this.loginReservation = loginReservation;
+            this.memberId = memberId;
+        }
+
+        private static ReservationView from(final Reservation reservation) {
+            return new ReservationView(
+                    reservation.getId(),
+                    reservation.getStartTime(),
+                    reservation.getEndTime(),
+                    reservation.getUserName(),
+                    reservation.getDescription(),
+                    reservation.hasMember(),
+                    reservation.getMemberId());
+        }
+
+        public boolean isOwnedBy(final Long loginMemberId) {
+            return memberId != null && memberId.equals(loginMemberId);
+        }
+    }
+}
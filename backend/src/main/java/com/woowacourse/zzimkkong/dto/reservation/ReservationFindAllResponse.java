@@ -48,4 +48,13 @@ public class ReservationFindAllResponse {
 
         return new ReservationFindAllResponse(reservationSpaceResponses);
     }
+
+    public static ReservationFindAllResponse of(final ReservationDayView dayView, final Long loginMemberId) {
+        List<ReservationSpaceResponse> reservationSpaceResponses = dayView.getSpaces()
+                .stream()
+                .map(spaceView -> ReservationSpaceResponse.of(spaceView, loginMemberId))
+                .collect(Collectors.toList());
+
+        return new ReservationFindAllResponse(reservationSpaceResponses);
+    }
 }
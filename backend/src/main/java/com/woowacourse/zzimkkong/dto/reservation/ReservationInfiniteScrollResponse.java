@@ -1,5 +1,6 @@
 package com.woowacourse.zzimkkong.dto.reservation;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.woowacourse.zzimkkong.domain.Reservation;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,8 +18,18 @@ public class ReservationInfiniteScrollResponse {
     private List<ReservationOwnerResponse> data;
     private Boolean hasNext;
     private Integer pageNumber;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 
     public static ReservationInfiniteScrollResponse of(final List<Reservation> reservations, final Boolean hasNext, final Integer pageNumber) {
+        return of(reservations, hasNext, pageNumber, null);
+    }
+
+    public static ReservationInfiniteScrollResponse of(
+            final List<Reservation> reservations,
+            final Boolean hasNext,
+            final Integer pageNumber,
+            final String nextCursor) {
         List<ReservationOwnerResponse> reservationOwnerResponses = reservations.stream()
                 .map(ReservationOwnerResponse::from)
                 .collect(Collectors.toList());
@@ -27,6 +38,7 @@ public class ReservationInfiniteScrollResponse {
                 .data(reservationOwnerResponses)
                 .hasNext(hasNext)
                 .pageNumber(pageNumber)
+                .nextCursor(nextCursor)
                 .build();
     }
 }
@@ -86,6 +86,20 @@ public class ReservationResponse {
         );
     }
 
+    public static ReservationResponse of(
+            final ReservationDayView.ReservationView reservationView,
+            final Long loginMemberId) {
+        return new ReservationResponse(
+                reservationView.getId(),
+                reservationView.getStartTime(),
+                reservationView.getEndTime(),
+                reservationView.getUserName(),
+                reservationView.getDescription(),
+                reservationView.isLoginReservation(),
+                reservationView.isOwnedBy(loginMemberId)
+        );
+    }
+
     public static ReservationResponse fromAdmin(final Reservation reservation) {
         Space space = reservation.getSpace();
         Map map = space.getMap();
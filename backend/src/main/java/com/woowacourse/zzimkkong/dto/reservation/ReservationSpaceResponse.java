@@ -53,4 +53,20 @@ public class ReservationSpaceResponse {
                 reservations
         );
     }
+
+    public static ReservationSpaceResponse of(
+            final ReservationDayView.SpaceView spaceView,
+            final Long loginMemberId) {
+        List<ReservationResponse> reservations = spaceView.getReservations()
+                .stream()
+                .map(reservationView -> ReservationResponse.of(reservationView, loginMemberId))
+                .collect(Collectors.toList());
+
+        return new ReservationSpaceResponse(
+                spaceView.getSpaceId(),
+                spaceView.getSpaceName(),
+                spaceView.getSpaceColor(),
+                reservations
+        );
+    }
 }
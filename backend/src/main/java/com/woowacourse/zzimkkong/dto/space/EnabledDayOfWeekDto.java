@@ -1,18 +1,11 @@
 package com.woowacourse.zzimkkong.dto.space;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.woowacourse.zzimkkong.exception.dto.EnabledDayOfWeekResponseReflectionException;
+import com.woowacourse.zzimkkong.domain.EnabledDayOfWeek;
+import com.woowacourse.zzimkkong.domain.EnabledDayOfWeekSet;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
-import static com.woowacourse.zzimkkong.domain.Space.DELIMITER;
-
 @Getter
 @NoArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -26,60 +19,42 @@ public class EnabledDayOfWeekDto {
     private Boolean sunday = true;
 
     public static EnabledDayOfWeekDto from(final String enabledDayOfWeekString) {
-        final EnabledDayOfWeekDto enabledDayOfWeekDto = new EnabledDayOfWeekDto();
-        setFields(enabledDayOfWeekDto, enabledDayOfWeekString);
-        return enabledDayOfWeekDto;
+        return from(EnabledDayOfWeekSet.from(enabledDayOfWeekString));
     }
 
-    private static void setFields(final EnabledDayOfWeekDto enabledDayOfWeekDto, final String enabledDayOfWeekString) {
-        final Field[] fields = enabledDayOfWeekDto.getClass().getDeclaredFields();
-        final List<String> enabledFieldNames = getEnabledFieldNames(enabledDayOfWeekString);
-
-        Arrays.stream(fields)
-                .filter(field -> !enabledFieldNames.contains(field.getName()))
-                .forEach(field -> setFalse(enabledDayOfWeekDto, field));
+    public static EnabledDayOfWeekDto from(final EnabledDayOfWeekSet enabledDayOfWeekSet) {
+        final EnabledDayOfWeekDto enabledDayOfWeekDto = new EnabledDayOfWeekDto();
+        enabledDayOfWeekDto.monday = enabledDayOfWeekSet.contains(EnabledDayOfWeek.MONDAY);
+        enabledDayOfWeekDto.tuesday = enabledDayOfWeekSet.contains(EnabledDayOfWeek.TUESDAY);
+        enabledDayOfWeekDto.wednesday = enabledDayOfWeekSet.contains(EnabledDayOfWeek.WEDNESDAY);
+        enabledDayOfWeekDto.thursday = enabledDayOfWeekSet.contains(EnabledDayOfWeek.THURSDAY);
+        enabledDayOfWeekDto.friday = enabledDayOfWeekSet.contains(EnabledDayOfWeek.FRIDAY);
+        enabledDayOfWeekDto.saturday = enabledDayOfWeekSet.contains(EnabledDayOfWeek.SATURDAY);
+        enabledDayOfWeekDto.sunday = enabledDayOfWeekSet.contains(EnabledDayOfWeek.SUNDAY);
+        return enabledDayOfWeekDto;
     }
 
-    private static List<String> getEnabledFieldNames(final String enabledDayOfWeekString) {
-        return Arrays.stream(enabledDayOfWeekString.split(DELIMITER))
-                .map(String::trim)
-                .map(String::toLowerCase)
-                .collect(Collectors.toList());
+    public EnabledDayOfWeekSet toEnabledDayOfWeekSet() {
+        int mask = 0;
+        mask |= bitIf(monday, EnabledDayOfWeek.MONDAY);
+        mask |= bitIf(tuesday, EnabledDayOfWeek.TUESDAY);
+        mask |= bitIf(wednesday, EnabledDayOfWeek.WEDNESDAY);
+        mask |= bitIf(thursday, EnabledDayOfWeek.THURSDAY);
+        mask |= bitIf(friday, EnabledDayOfWeek.FRIDAY);
+        mask |= bitIf(saturday, EnabledDayOfWeek.SATURDAY);
+        mask |= bitIf(sunday, EnabledDayOfWeek.SUNDAY);
+        return EnabledDayOfWeekSet.from(mask);
     }
 
-    private static void setFalse(final EnabledDayOfWeekDto enabledDayOfWeekDto, final Field targetField) {
-        try {
-            targetField.setAccessible(true);
-            targetField.set(enabledDayOfWeekDto, Boolean.FALSE);
-        } catch (IllegalAccessException e) {
-            throw new EnabledDayOfWeekResponseReflectionException();
+    private static int bitIf(final Boolean enabled, final EnabledDayOfWeek dayOfWeek) {
+        if (Boolean.TRUE.equals(enabled)) {
+            return 1 << dayOfWeek.ordinal();
         }
+        return 0;
     }
 
     @Override
     public String toString() {
-        final Field[] fields = this.getClass().getDeclaredFields();
-        final List<String> enabledDayOfWeek = getEnabledDayOfWeek(fields);
-        return String.join(DELIMITER, enabledDayOfWeek);
-    }
-
-    private List<String> getEnabledDayOfWeek(final Field[] fields) {
-        final List<String> enabledDayOfWeek = new ArrayList<>();
-        for (final Field field : fields) {
-            field.setAccessible(true);
-            final Boolean value = getValue(field);
-            if (Boolean.TRUE.equals(value)) {
-                enabledDayOfWeek.add(field.getName());
-            }
-        }
-        return enabledDayOfWeek;
-    }
-
-    private Boolean getValue(final Field field) {
-        try {
-            return (Boolean) field.get(this);
-        } catch (IllegalAccessException e) {
-            throw new EnabledDayOfWeekResponseReflectionException();
-        }
+        return toEnabledDayOfWeekSet().toString();
     }
 }
@@ -65,7 +65,7 @@ public class SettingResponse {
                 setting.getReservationTimeUnitAsInt(),
                 setting.getReservationMinimumTimeUnitAsInt(),
                 setting.getReservationMaximumTimeUnitAsInt(),
-                EnabledDayOfWeekDto.from(setting.getEnabledDayOfWeek()),
+                EnabledDayOfWeekDto.from(setting.getEnabledDayOfWeekSet()),
                 setting.getPriorityOrder()
         );
     }
@@ -0,0 +1,58 @@
+package com.woowacourse.zzimkkong.dto.space;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.woowacourse.zzimkkong.domain.AvailabilityGrid;
+import com.woowacourse.zzimkkong.domain.Space;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATE_FORMAT;
+
+/**
+ * 맵의 모든 공간에 대해 [startDate, endDate] 를 slotMinutes 단위로 나눈 예약 가능 여부
+ * slot 의 index 는 (startDate 로부터 지난 날짜 수) * slotsPerDay + (그 날의 slot 순서) 이며, 날짜와 시간은 맵의 서비스 지역 기준이다
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceFindAllAvailabilityGridResponse {
+    private Long mapId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATE_FORMAT)
+    private LocalDate startDate;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATE_FORMAT)
+    private LocalDate endDate;
+    private Integer slotMinutes;
+    private Integer slotsPerDay;
+    private List<SpaceFindAvailabilityGridResponse> spaces;
+
+    /**
+     * @param availableSlots spaces 와 같은 순서의 공간별 예약 가능 slot
+     */
+    public static SpaceFindAllAvailabilityGridResponse of(
+            final Long mapId,
+            final AvailabilityGrid availabilityGrid,
+            final List<Space> spaces,
+            final List<BitSet> availableSlots) {
+        List<SpaceFindAvailabilityGridResponse> spaceResponses = new ArrayList<>();
+        for (int i = 0; i < spaces.size(); i++) {
+            spaceResponses.add(SpaceFindAvailabilityGridResponse.of(spaces.get(i), availableSlots.get(i)));
+        }
+
+        return SpaceFindAllAvailabilityGridResponse.builder()
+                .mapId(mapId)
+                .startDate(availabilityGrid.getStartDate())
+                .endDate(availabilityGrid.getEndDate())
+                .slotMinutes(availabilityGrid.getSlotMinutes())
+                .slotsPerDay(availabilityGrid.getSlotsPerDay())
+                .spaces(spaceResponses)
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.woowacourse.zzimkkong.dto.space;
+
+import com.woowacourse.zzimkkong.domain.AvailableSlot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceFindAllAvailableSlotResponse {
+    private Long mapId;
+    private List<SpaceFindAvailableSlotResponse> slots;
+
+    public static SpaceFindAllAvailableSlotResponse of(final Long mapId, final List<AvailableSlot> availableSlots) {
+        List<SpaceFindAvailableSlotResponse> slots = availableSlots.stream()
+                .map(SpaceFindAvailableSlotResponse::from)
+                .collect(Collectors.toList());
+
+        return SpaceFindAllAvailableSlotResponse.builder()
+                .mapId(mapId)
+                .slots(slots)
+                .build();
+    }
+}
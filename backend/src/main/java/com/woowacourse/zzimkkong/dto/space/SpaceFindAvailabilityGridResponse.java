@@ -0,0 +1,32 @@
+package com.woowacourse.zzimkkong.dto.space;
+
+import com.woowacourse.zzimkkong.domain.Space;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Base64;
+import java.util.BitSet;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceFindAvailabilityGridResponse {
+    private Long spaceId;
+
+    /**
+     * 예약 가능한 slot 의 bitset 을 little-endian byte 배열로 만든 뒤 base64 로 인코딩한 값
+     * - i 번째 slot 은 (i / 8) 번째 byte 의 (i % 8) 번째 bit 이며, 1 이면 예약 가능하다
+     * - 뒤쪽의 0 byte 는 생략된다 (생략된 slot 은 예약 불가)
+     */
+    private String availableSlots;
+
+    public static SpaceFindAvailabilityGridResponse of(final Space space, final BitSet availableSlots) {
+        return SpaceFindAvailabilityGridResponse.builder()
+                .spaceId(space.getId())
+                .availableSlots(Base64.getEncoder().encodeToString(availableSlots.toByteArray()))
+                .build();
+    }
+}
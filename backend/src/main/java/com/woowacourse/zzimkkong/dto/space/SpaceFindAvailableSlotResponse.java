@@ -0,0 +1,35 @@
+package com.woowacourse.zzimkkong.dto.space;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.woowacourse.zzimkkong.domain.AvailableSlot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+import static com.woowacourse.zzimkkong.dto.ValidatorMessage.DATETIME_FORMAT;
+import static com.woowacourse.zzimkkong.infrastructure.datetime.TimeZoneUtils.UTC;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceFindAvailableSlotResponse {
+    private Long spaceId;
+    private String spaceName;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATETIME_FORMAT)
+    private ZonedDateTime startDateTime;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATETIME_FORMAT)
+    private ZonedDateTime endDateTime;
+
+    public static SpaceFindAvailableSlotResponse from(final AvailableSlot availableSlot) {
+        return SpaceFindAvailableSlotResponse.builder()
+                .spaceId(availableSlot.getSpace().getId())
+                .spaceName(availableSlot.getSpace().getName())
+                .startDateTime(availableSlot.getStartDateTime().atZone(UTC.toZoneId()))
+                .endDateTime(availableSlot.getEndDateTime().atZone(UTC.toZoneId()))
+                .build();
+    }
+}
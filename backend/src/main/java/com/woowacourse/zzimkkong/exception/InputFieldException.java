@@ -13,6 +13,7 @@ public class InputFieldException extends ZzimkkongException {
     protected static final String END_DATE_TIME = "endDateTime";
     protected static final String AVAILABLE_START_END_TIME = "availableStartEndTime";
     protected static final String MINIMUM_MAXIMUM_TIME_UNIT = "minimumMaximumTimeUnit";
+    protected static final String CURSOR = "cursor";
 
     private final String field;
 
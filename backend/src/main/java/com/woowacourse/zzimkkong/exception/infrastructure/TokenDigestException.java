@@ -0,0 +1,11 @@
+package com.woowacourse.zzimkkong.exception.infrastructure;
+
+import org.springframework.http.HttpStatus;
+
+public class TokenDigestException extends InfrastructureMalfunctionException {
+    private static final String MESSAGE = "토큰 처리에 실패했습니다.";
+
+    public TokenDigestException(final Throwable throwable) {
+        super(MESSAGE, throwable, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,12 @@
+package com.woowacourse.zzimkkong.exception.reservation;
+
+import com.woowacourse.zzimkkong.exception.InputFieldException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidReservationCursorException extends InputFieldException {
+    private static final String MESSAGE = "올바르지 않은 예약 목록 커서입니다.";
+
+    public InvalidReservationCursorException() {
+        super(MESSAGE, HttpStatus.BAD_REQUEST, CURSOR);
+    }
+}
@@ -0,0 +1,12 @@
+package com.woowacourse.zzimkkong.exception.reservation;
+
+import com.woowacourse.zzimkkong.exception.InputFieldException;
+import org.springframework.http.HttpStatus;
+
+public class ReservationCursorRequiredException extends InputFieldException {
+    private static final String MESSAGE = "다음 페이지는 page 대신 이전 응답의 nextCursor 로 조회해주세요.";
+
+    public ReservationCursorRequiredException() {
+        super(MESSAGE, HttpStatus.BAD_REQUEST, CURSOR);
+    }
+}
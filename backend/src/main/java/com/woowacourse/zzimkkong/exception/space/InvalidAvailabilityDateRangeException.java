@@ -0,0 +1,12 @@
+package com.woowacourse.zzimkkong.exception.space;
+
+import com.woowacourse.zzimkkong.exception.ZzimkkongException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidAvailabilityDateRangeException extends ZzimkkongException {
+    private static final String MESSAGE_FORMAT = "조회 시작 날짜는 종료 날짜보다 늦을 수 없으며, 한 번에 최대 %d일까지 조회할 수 있습니다.";
+
+    public InvalidAvailabilityDateRangeException(final int maximumDays) {
+        super(String.format(MESSAGE_FORMAT, maximumDays), HttpStatus.BAD_REQUEST);
+    }
+}
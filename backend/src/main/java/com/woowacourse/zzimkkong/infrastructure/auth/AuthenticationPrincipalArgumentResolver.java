@@ -3,6 +3,7 @@ package com.woowacourse.zzimkkong.infrastructure.auth;
 import com.woowacourse.zzimkkong.config.logaspect.LogMethodExecutionTime;
 import com.woowacourse.zzimkkong.domain.LoginEmail;
 import com.woowacourse.zzimkkong.dto.member.LoginUserEmail;
+import com.woowacourse.zzimkkong.infrastructure.auth.VerifiedTokenCache.VerifiedToken;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -30,13 +31,21 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
 
+        Object verifiedToken = request.getAttribute(LoginInterceptor.VERIFIED_TOKEN_ATTRIBUTE);
+        if (verifiedToken != null) {
+            return toLoginUserEmail((VerifiedToken) verifiedToken);
+        }
+
         LoginEmail loginEmailParameterAnnotation = parameter.getParameterAnnotation(LoginEmail.class);
         if (loginEmailParameterAnnotation.isOptional() && !AuthorizationExtractor.hasAccessToken(request)) {
             return LoginUserEmail.NO_LOGIN;
         }
 
         String token = AuthorizationExtractor.extractAccessToken(request);
-        String email = jwtUtils.getPayload(token);
-        return LoginUserEmail.from(email);
+        return toLoginUserEmail(jwtUtils.getVerifiedToken(token));
+    }
+
+    private LoginUserEmail toLoginUserEmail(final VerifiedToken verifiedToken) {
+        return LoginUserEmail.of(verifiedToken.getSubject(), verifiedToken.getMemberId());
     }
 }
@@ -3,7 +3,9 @@ package com.woowacourse.zzimkkong.infrastructure.auth;
 import com.woowacourse.zzimkkong.config.logaspect.LogMethodExecutionTime;
 import com.woowacourse.zzimkkong.exception.authorization.InvalidTokenException;
 import com.woowacourse.zzimkkong.exception.authorization.TokenExpiredException;
+import com.woowacourse.zzimkkong.infrastructure.auth.VerifiedTokenCache.VerifiedToken;
 import io.jsonwebtoken.*;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -13,15 +15,25 @@ import java.util.Map;
 @Component
 @LogMethodExecutionTime(group = "infrastructure")
 public class JwtUtils {
+    private static final String MEMBER_ID = "memberId";
+
     private final String secretKey;
     private final long validityInMilliseconds;
     private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtUtils(String secretKey, long validityInMilliseconds) {
+        this(secretKey, validityInMilliseconds, new VerifiedTokenCache(0));
+    }
 
+    @Autowired
     public JwtUtils(@Value("${jwt.token.secret-key}") String secretKey,
-                    @Value("${jwt.token.expire-length}") long validityInMilliseconds) {
+                    @Value("${jwt.token.expire-length}") long validityInMilliseconds,
+                    VerifiedTokenCache verifiedTokenCache) {
         this.secretKey = secretKey;
         this.validityInMilliseconds = validityInMilliseconds;
         this.jwtParser = Jwts.parser().setSigningKey(secretKey);
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     public String createToken(Map<String, Object> payload) {
@@ -38,18 +50,25 @@ public class JwtUtils {
     }
 
     public void validateToken(String token) {
-        try {
-            jwtParser.parseClaimsJws(token);
-        } catch (ExpiredJwtException e) {
-            throw new TokenExpiredException();
-        } catch (JwtException e) {
-            throw new InvalidTokenException();
-        }
+        getPayload(token);
     }
 
     public String getPayload(String token) {
+        return getVerifiedToken(token).getSubject();
+    }
+
+    /**
+     * 토큰을 검증하고 subject 와 회원 id claim 을 반환한다
+     * 최근 검증한 토큰은 만료 전까지 서명 검증 없이 캐시된 결과를 반환한다
+     */
+    public VerifiedToken getVerifiedToken(String token) {
+        return verifiedTokenCache.get(token, this::verify);
+    }
+
+    private VerifiedToken verify(String token) {
         try {
-            return jwtParser.parseClaimsJws(token).getBody().getSubject();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return VerifiedToken.of(claims.getSubject(), memberIdOf(claims), claims.getExpiration());
         } catch (ExpiredJwtException e) {
             throw new TokenExpiredException();
         } catch (JwtException e) {
@@ -57,6 +76,14 @@ public class JwtUtils {
         }
     }
 
+    private Long memberIdOf(Claims claims) {
+        Object memberId = claims.get(MEMBER_ID);
+        if (memberId instanceof Number) {
+            return ((Number) memberId).longValue();
+        }
+        return null;
+    }
+
     public static PayloadBuilder payloadBuilder() {
         return new PayloadBuilder();
     }
@@ -73,6 +100,11 @@ public class JwtUtils {
             return this;
         }
 
+        public PayloadBuilder setMemberId(Long memberId) {
+            claims.put(MEMBER_ID, memberId);
+            return this;
+        }
+
         public Map<String, Object> build() {
             return claims;
         }
@@ -2,6 +2,7 @@ package com.woowacourse.zzimkkong.infrastructure.auth;
 
 import com.woowacourse.zzimkkong.config.logaspect.LogMethodExecutionTime;
 import com.woowacourse.zzimkkong.exception.ZzimkkongException;
+import com.woowacourse.zzimkkong.infrastructure.auth.VerifiedTokenCache.VerifiedToken;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -13,6 +14,11 @@ import java.io.IOException;
 @Component
 @LogMethodExecutionTime(group = "infrastructure")
 public class LoginInterceptor implements HandlerInterceptor {
+    /**
+     * 검증한 토큰 ({@link VerifiedToken}) 을 담는 request attribute. 같은 요청 안에서 토큰을 다시 검증하지 않도록 한다
+     */
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = LoginInterceptor.class.getName() + ".VERIFIED_TOKEN";
+
     private final JwtUtils jwtUtils;
 
     public LoginInterceptor(final JwtUtils jwtUtils) {
@@ -27,7 +33,8 @@ public class LoginInterceptor implements HandlerInterceptor {
 
         try {
             String token = AuthorizationExtractor.extractAccessToken(request);
-            jwtUtils.validateToken(token);
+            VerifiedToken verifiedToken = jwtUtils.getVerifiedToken(token);
+            request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken);
         } catch (ZzimkkongException e) {
             response.sendError(e.getStatus().value(), e.getMessage());
             return false;
@@ -0,0 +1,161 @@
+package com.woowacourse.zzimkkong.infrastructure.auth;
+
+import com.woowacourse.zzimkkong.exception.infrastructure.TokenDigestException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 통과한 토큰의 claim (subject, 회원 id) 캐시
+ * - 토큰 원문 대신 SHA-256 digest 를 key 로 저장한다
+ * - 항목은 토큰의 만료 시각까지만 사용한다. 만료된 토큰은 다시 검증하므로 만료 예외가 그대로 발생한다
+ * - maximum-size 를 넘으면 가장 오래 조회되지 않은 토큰부터 제거한다 (LRU)
+ * 적중/실패/제거 횟수와 검증 (캐시 실패) 에 걸린 평균 시간을 센다
+ * maximum-size 가 0 이면 캐시를 사용하지 않고 매번 검증한다
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final int maximumSize;
+    private final Map<String, VerifiedToken> entries;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong verificationNanos = new AtomicLong();
+
+    public VerifiedTokenCache(@Value("${jwt.verified-token-cache.maximum-size:10000}") final int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, VerifiedToken> eldest) {
+                if (size() > VerifiedTokenCache.this.maximumSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 검증된 적 있는 토큰이면 캐시된 결과를, 아니면 verifier 로 검증한 결과를 반환한다
+     * verifier 가 던진 예외 (ex. 만료, 조작) 는 캐싱하지 않고 그대로 던진다
+     */
+    public VerifiedToken get(final String token, final Function<String, VerifiedToken> verifier) {
+        if (maximumSize <= 0) {
+            return verify(token, verifier);
+        }
+
+        String key = digest(token);
+        VerifiedToken cachedToken = find(key);
+        if (cachedToken != null) {
+            hitCount.incrementAndGet();
+            return cachedToken;
+        }
+
+        missCount.incrementAndGet();
+        VerifiedToken verifiedToken = verify(token, verifier);
+        if (verifiedToken.isCacheable(System.currentTimeMillis())) {
+            synchronized (entries) {
+                entries.put(key, verifiedToken);
+            }
+        }
+        return verifiedToken;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getAverageVerificationMicros() {
+        long verificationCount = missCount.get();
+        if (verificationCount == 0) {
+            return 0;
+        }
+        return verificationNanos.get() / verificationCount / 1000;
+    }
+
+    private VerifiedToken verify(final String token, final Function<String, VerifiedToken> verifier) {
+        long startNanos = System.nanoTime();
+        try {
+            return verifier.apply(token);
+        } finally {
+            verificationNanos.addAndGet(System.nanoTime() - startNanos);
+        }
+    }
+
+    private VerifiedToken find(final String key) {
+        synchronized (entries) {
+            VerifiedToken verifiedToken = entries.get(key);
+            if (verifiedToken == null) {
+                return null;
+            }
+            if (verifiedToken.isExpired(System.currentTimeMillis())) {
+                entries.remove(key);
+                evictionCount.incrementAndGet();
+                return null;
+            }
+            return verifiedToken;
+        }
+    }
+
+    private String digest(final String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new TokenDigestException(e);
+        }
+    }
+
+    @Getter
+    public static class VerifiedToken {
+        private final String subject;
+        private final Long memberId;
+        private final Date expiration;
+
+        private VerifiedToken(final String subject, final Long memberId, final Date expiration) {
+            this.subject = subject;
+            this.memberId = memberId;
+            this.expiration = expiration;
+        }
+
+        public static VerifiedToken of(final String subject, final Long memberId, final Date expiration) {
+            return new VerifiedToken(subject, memberId, expiration);
+        }
+
+        private boolean isCacheable(final long now) {
+            return subject != null && expiration != null && !isExpired(now);
+        }
+
+        private boolean isExpired(final long now) {
+            return now >= expiration.getTime();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.woowacourse.zzimkkong.infrastructure.compression;
+
+import com.woowacourse.zzimkkong.exception.infrastructure.CompressionException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 맵 도면, 썸네일처럼 큰 텍스트를 gzip 으로 압축해 저장하고, 압축된 그대로 응답하기 위한 연산 모음
+ * 압축 결과는 HTTP Content-Encoding: gzip 본문으로 그대로 보낼 수 있다
+ */
+public class GzipUtils {
+    public static final String ENCODING = "gzip";
+
+    private static final String ANY_ENCODING = "*";
+    private static final String QUALITY_PREFIX = "q=";
+    private static final int BUFFER_SIZE = 8192;
+
+    private GzipUtils() {
+    }
+
+    public static byte[] compress(final String text) {
+        if (text == null) {
+            return null;
+        }
+
+        byte[] source = text.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(source.length / 4 + 32);
+        try (OutputStream gzip = new GZIPOutputStream(compressed, BUFFER_SIZE)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            throw new CompressionException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    public static byte[] decompress(final byte[] compressed) {
+        if (compressed == null) {
+            return null;
+        }
+
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed), BUFFER_SIZE)) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new CompressionException(e);
+        }
+    }
+
+    public static String decompressToString(final byte[] compressed) {
+        if (compressed == null) {
+            return null;
+        }
+        return new String(decompress(compressed), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip 을 허용하는지 확인한다 (ex. "gzip, deflate, br", "*" 는 허용, "gzip;q=0" 은 허용하지 않음)
+     * gzip 을 직접 지정한 값이 "*" 보다 우선한다
+     */
+    public static boolean isAcceptedBy(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Boolean anyAccepted = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals(ENCODING)) {
+                return !hasZeroQuality(parameters);
+            }
+            if (name.equals(ANY_ENCODING)) {
+                anyAccepted = !hasZeroQuality(parameters);
+            }
+        }
+        return Boolean.TRUE.equals(anyAccepted);
+    }
+
+    private static boolean hasZeroQuality(final String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.startsWith(QUALITY_PREFIX)) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY_PREFIX.length())) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+package com.woowacourse.zzimkkong.infrastructure.datetime;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * 한 서비스 지역의 현지 날짜 하루 동안 유지되는 UTC offset
+ * - [validFrom, validUntil) 사이의 UTC 시각은 모두 같은 offset 으로 현지 시각과 변환된다 (epoch second 기준)
+ * - 구간은 현지 날짜의 시작부터 다음 날짜의 시작까지이며, 그 사이에 DST 전환이 있으면 전환 시각에서 잘린다
+ * - DST 전환과 맞닿은 구간에서는 현지 시각 -> UTC 변환이 모호할 수 있으므로 {@link #canConvertToUTC(LocalDateTime)} 가 false 를 반환한다
+ */
+final class ServiceDayOffset {
+    private final int offsetSeconds;
+    private final long validFrom;
+    private final long validUntil;
+    private final boolean bordersTransition;
+
+    private ServiceDayOffset(
+            final int offsetSeconds,
+            final long validFrom,
+            final long validUntil,
+            final boolean bordersTransition) {
+        this.offsetSeconds = offsetSeconds;
+        this.validFrom = validFrom;
+        this.validUntil = validUntil;
+        this.bordersTransition = bordersTransition;
+    }
+
+    static ServiceDayOffset of(final ZoneRules zoneRules, final long epochSecond) {
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        ZoneOffset offset = zoneRules.getOffset(instant);
+        LocalDate date = LocalDateTime.ofEpochSecond(epochSecond, 0, offset).toLocalDate();
+
+        long validFrom = startOfDay(zoneRules, date);
+        long validUntil = startOfDay(zoneRules, date.plusDays(1));
+        boolean bordersTransition = false;
+
+        ZoneOffsetTransition previousTransition = zoneRules.previousTransition(instant.plusSeconds(1));
+        if (previousTransition != null && previousTransition.toEpochSecond() >= validFrom) {
+            validFrom = previousTransition.toEpochSecond();
+            bordersTransition = true;
+        }
+        ZoneOffsetTransition nextTransition = zoneRules.nextTransition(instant);
+        if (nextTransition != null && nextTransition.toEpochSecond() <= validUntil) {
+            validUntil = nextTransition.toEpochSecond();
+            bordersTransition = true;
+        }
+        return new ServiceDayOffset(offset.getTotalSeconds(), validFrom, validUntil, bordersTransition);
+    }
+
+    /**
+     * 현지 날짜의 자정이 DST 로 건너뛰어진 경우 전환 시각을, 두 번 존재하는 경우 앞선 시각을 그 날의 시작으로 본다
+     */
+    private static long startOfDay(final ZoneRules zoneRules, final LocalDate date) {
+        LocalDateTime midnight = date.atStartOfDay();
+        ZoneOffsetTransition transition = zoneRules.getTransition(midnight);
+        if (transition != null && transition.isGap()) {
+            return transition.toEpochSecond();
+        }
+        return midnight.toEpochSecond(zoneRules.getValidOffsets(midnight).get(0));
+    }
+
+    boolean covers(final long epochSecond) {
+        return validFrom <= epochSecond && epochSecond < validUntil;
+    }
+
+    LocalDateTime toLocal(final LocalDateTime utcDateTime) {
+        return utcDateTime.plusSeconds(offsetSeconds);
+    }
+
+    boolean canConvertToUTC(final LocalDateTime localDateTime) {
+        return !bordersTransition && covers(localDateTime.toEpochSecond(ZoneOffset.UTC) - offsetSeconds);
+    }
+
+    LocalDateTime toUTC(final LocalDateTime localDateTime) {
+        return localDateTime.minusSeconds(offsetSeconds);
+    }
+}
@@ -2,14 +2,24 @@ package com.woowacourse.zzimkkong.infrastructure.datetime;
 
 import com.woowacourse.zzimkkong.domain.ServiceZone;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.TimeZone;
 
+/**
+ * UTC 와 서비스 지역의 현지 시각 간 변환
+ * - 서비스 지역마다 마지막으로 사용한 하루치 offset ({@link ServiceDayOffset}) 을 들고 있다가, 같은 날의 시각이면 offset 만 더하고 뺀다
+ * - 캐시는 불변 객체의 참조 하나이므로 여러 스레드가 동시에 갱신해도 다시 계산할 뿐 잘못된 값을 보지 않는다
+ */
 public class TimeZoneUtils {
     public static final TimeZone UTC = TimeZone.getTimeZone("UTC");
 
+    private static final ServiceDayOffset[] serviceDayOffsets = new ServiceDayOffset[ServiceZone.values().length];
+
     public static LocalDateTime convertTo(final LocalDateTime dateTime, ServiceZone serviceZone) {
         if (dateTime == null) {
             return null;
@@ -17,9 +27,30 @@ public class TimeZoneUtils {
         if (serviceZone == null) {
             serviceZone = ServiceZone.KOREA;
         }
-        return dateTime.atZone(UTC.toZoneId())
-                .withZoneSameInstant(ZoneId.of(serviceZone.getTimeZone()))
-                .toLocalDateTime();
+        return getServiceDayOffset(dateTime.toEpochSecond(ZoneOffset.UTC), serviceZone).toLocal(dateTime);
+    }
+
+    /**
+     * 서비스 지역의 현지 시각을 UTC 로 변환한다
+     * DST 전환으로 존재하지 않는 시각(gap)은 전환 이후로 밀고, 두 번 존재하는 시각(overlap)은 앞선 시각을 택한다 (ZonedDateTime.ofLocal 과 같다)
+     */
+    public static LocalDateTime convertToUTC(final LocalDateTime localDateTime, ServiceZone serviceZone) {
+        if (localDateTime == null) {
+            return null;
+        }
+        if (serviceZone == null) {
+            serviceZone = ServiceZone.KOREA;
+        }
+
+        ServiceDayOffset serviceDayOffset = serviceDayOffsets[serviceZone.ordinal()];
+        if (serviceDayOffset != null && serviceDayOffset.canConvertToUTC(localDateTime)) {
+            return serviceDayOffset.toUTC(localDateTime);
+        }
+
+        ZoneRules zoneRules = serviceZone.getZoneRules();
+        ZoneOffsetTransition transition = zoneRules.getTransition(localDateTime);
+        ZoneOffset offset = transition == null ? zoneRules.getOffset(localDateTime) : transition.getOffsetBefore();
+        return localDateTime.minusSeconds(offset.getTotalSeconds());
     }
 
     public static LocalDateTime convertToUTC(final ZonedDateTime zonedDateTime) {
@@ -28,4 +59,45 @@ public class TimeZoneUtils {
         }
         return zonedDateTime.withZoneSameInstant(UTC.toZoneId()).toLocalDateTime();
     }
+
+    /**
+     * 주어진 UTC 시각에 모든 서비스 지역 중 가장 이른 현지 날짜
+     * 맵을 가리지 않고 예약을 조회할 때 reservation.date 조건의 하한으로 사용한다
+     */
+    public static LocalDate getEarliestServiceDate(final LocalDateTime dateTime) {
+        LocalDate earliestDate = LocalDate.MAX;
+        for (ServiceZone serviceZone : ServiceZone.values()) {
+            LocalDate date = convertTo(dateTime, serviceZone).toLocalDate();
+            if (date.isBefore(earliestDate)) {
+                earliestDate = date;
+            }
+        }
+        return earliestDate;
+    }
+
+    /**
+     * 주어진 UTC 시각에 모든 서비스 지역 중 가장 늦은 현지 날짜
+     * 맵을 가리지 않고 예약을 조회할 때 reservation.date 조건의 상한으로 사용한다
+     */
+    public static LocalDate getLatestServiceDate(final LocalDateTime dateTime) {
+        LocalDate latestDate = LocalDate.MIN;
+        for (ServiceZone serviceZone : ServiceZone.values()) {
+            LocalDate date = convertTo(dateTime, serviceZone).toLocalDate();
+            if (date.isAfter(latestDate)) {
+                latestDate = date;
+            }
+        }
+        return latestDate;
+    }
+
+    private static ServiceDayOffset getServiceDayOffset(final long epochSecond, final ServiceZone serviceZone) {
+        ServiceDayOffset serviceDayOffset = serviceDayOffsets[serviceZone.ordinal()];
+        if (serviceDayOffset != null && serviceDayOffset.covers(epochSecond)) {
+            return serviceDayOffset;
+        }
+
+        serviceDayOffset = ServiceDayOffset.of(serviceZone.getZoneRules(), epochSecond);
+        serviceDayOffsets[serviceZone.ordinal()] = serviceDayOffset;
+        return serviceDayOffset;
+    }
 }
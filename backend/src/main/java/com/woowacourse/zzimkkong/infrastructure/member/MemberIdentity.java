@@ -0,0 +1,23 @@
+package com.woowacourse.zzimkkong.infrastructure.member;
+
+import com.woowacourse.zzimkkong.domain.Member;
+import lombok.Getter;
+
+/**
+ * 로그인 사용자를 식별하는 데 필요한 회원 값 (id, 이메일) 만 담은 불변 객체
+ * 엔티티를 참조하지 않으므로 트랜잭션 밖에서 여러 요청이 공유해도 된다
+ */
+@Getter
+public class MemberIdentity {
+    private final Long id;
+    private final String email;
+
+    private MemberIdentity(final Long id, final String email) {
+        this.id = id;
+        this.email = email;
+    }
+
+    public static MemberIdentity from(final Member member) {
+        return new MemberIdentity(member.getId(), member.getEmail());
+    }
+}
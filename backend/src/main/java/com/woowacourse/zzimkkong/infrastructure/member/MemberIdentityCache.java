@@ -0,0 +1,195 @@
+package com.woowacourse.zzimkkong.infrastructure.member;
+
+import com.woowacourse.zzimkkong.config.logaspect.LogMethodExecutionTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 회원 id, 이메일로 찾는 {@link MemberIdentity} 캐시
+ * - 회원 정보 수정, 비밀번호 변경, 탈퇴 시 트랜잭션 커밋 이후 해당 회원을 제거한다 ({@link #invalidate(Long)})
+ * - 읽는 도중 무효화된 회원이 있으면 읽은 결과를 캐싱하지 않는다
+ * - maximum-size 를 넘으면 가장 오래 조회되지 않은 회원부터 id, 이메일 양쪽에서 제거한다 (LRU)
+ * - 다른 인스턴스에서의 탈퇴를 놓치지 않도록 expire-after-seconds 가 지난 항목은 다시 읽는다
+ * 적중/실패/제거 횟수를 센다. 제거 횟수에는 크기 초과와 만료로 제거된 항목이 포함된다
+ * maximum-size 가 0 이면 캐시를 사용하지 않고 매번 읽는다
+ */
+@Component
+@LogMethodExecutionTime(group = "infrastructure")
+public class MemberIdentityCache {
+    private final int maximumSize;
+    private final long expireAfterMillis;
+    private final Map<Long, Entry> entries;
+    private final Map<String, Long> idsByEmail = new HashMap<>();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public MemberIdentityCache(
+            @Value("${member.identity-cache.maximum-size:10000}") final int maximumSize,
+            @Value("${member.identity-cache.expire-after-seconds:60}") final long expireAfterSeconds) {
+        this.maximumSize = maximumSize;
+        this.expireAfterMillis = expireAfterSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Entry> eldest) {
+                if (size() > MemberIdentityCache.this.maximumSize) {
+                    idsByEmail.remove(eldest.getValue().identity.getEmail());
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 회원 id 로 찾는다. loader 가 찾지 못하면 (null) 캐싱하지 않는다
+     */
+    public MemberIdentity getById(final Long id, final Supplier<MemberIdentity> loader) {
+        if (maximumSize <= 0) {
+            return loader.get();
+        }
+
+        MemberIdentity cachedIdentity = find(id);
+        return loadIfAbsent(cachedIdentity, loader);
+    }
+
+    /**
+     * 이메일로 찾는다. loader 가 찾지 못하면 (null) 캐싱하지 않는다
+     */
+    public MemberIdentity getByEmail(final String email, final Supplier<MemberIdentity> loader) {
+        if (maximumSize <= 0) {
+            return loader.get();
+        }
+
+        MemberIdentity cachedIdentity;
+        synchronized (entries) {
+            cachedIdentity = find(idsByEmail.get(email));
+        }
+        return loadIfAbsent(cachedIdentity, loader);
+    }
+
+    public void invalidate(final Long id) {
+        afterCommit(() -> {
+            synchronized (entries) {
+                invalidationCount.incrementAndGet();
+                Entry entry = entries.remove(id);
+                if (entry != null) {
+                    idsByEmail.remove(entry.identity.getEmail());
+                }
+            }
+        });
+    }
+
+    /**
+     * 전체를 비운다. 커밋 전에 비우고, 그 사이에 읽어 캐싱된 항목이 남지 않도록 커밋 이후에 한 번 더 비운다
+     */
+    public void clear() {
+        Runnable change = () -> {
+            synchronized (entries) {
+                invalidationCount.incrementAndGet();
+                entries.clear();
+                idsByEmail.clear();
+            }
+        };
+        change.run();
+        afterCommit(change);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private MemberIdentity loadIfAbsent(final MemberIdentity cachedIdentity, final Supplier<MemberIdentity> loader) {
+        if (cachedIdentity != null) {
+            hitCount.incrementAndGet();
+            return cachedIdentity;
+        }
+
+        missCount.incrementAndGet();
+        long invalidationCountBeforeLoad = invalidationCount.get();
+        MemberIdentity loadedIdentity = loader.get();
+        if (loadedIdentity == null) {
+            return null;
+        }
+
+        synchronized (entries) {
+            // 읽는 도중 커밋된 무효화가 있다면 반영 여부를 알 수 없으므로 캐싱하지 않는다
+            if (invalidationCountBeforeLoad == invalidationCount.get()) {
+                entries.put(loadedIdentity.getId(), new Entry(loadedIdentity, System.currentTimeMillis()));
+                idsByEmail.put(loadedIdentity.getEmail(), loadedIdentity.getId());
+            }
+        }
+        return loadedIdentity;
+    }
+
+    private MemberIdentity find(final Long id) {
+        if (id == null) {
+            return null;
+        }
+
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(System.currentTimeMillis(), expireAfterMillis)) {
+                entries.remove(id);
+                idsByEmail.remove(entry.identity.getEmail());
+                evictionCount.incrementAndGet();
+                return null;
+            }
+            return entry.identity;
+        }
+    }
+
+    private void afterCommit(final Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private static class Entry {
+        private final MemberIdentity identity;
+        private final long loadedAt;
+
+        private Entry(final MemberIdentity identity, final long loadedAt) {
+            this.identity = identity;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(final long now, final long expireAfterMillis) {
+            return now - loadedAt >= expireAfterMillis;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.woowacourse.zzimkkong.infrastructure.reservation;
+
+import com.woowacourse.zzimkkong.config.logaspect.LogMethodExecutionTime;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationDayView;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 맵-날짜 별 예약 목록 ({@link ReservationDayView}) 캐시
+ * - 맵마다 버전을 두고, 항목은 읽기 시작할 때의 맵 버전과 함께 저장한다. 맵 버전이 바뀐 항목은 사용하지 않는다
+ * - 예약 생성/수정/삭제, 공간 생성/수정/삭제, 맵 삭제 시 트랜잭션 커밋 이후 해당 맵의 버전을 올린다 ({@link #invalidate(Long)})
+ * - 회원 수정/삭제처럼 여러 맵에 걸친 변경은 전체를 비운다 ({@link #clear()})
+ * - maximum-size 를 넘으면 가장 오래 조회되지 않은 맵-날짜부터 제거한다 (LRU). 맵 버전도 같은 크기까지만 보관한다
+ * - 다른 인스턴스의 변경을 놓치지 않도록 expire-after-seconds 가 지난 항목은 다시 읽는다
+ * 적중/실패/제거 횟수를 센다. 제거 횟수에는 크기 초과와 만료로 제거된 항목이 포함된다
+ * maximum-size 가 0 이면 캐시를 사용하지 않고 매번 읽는다
+ */
+@Component
+@LogMethodExecutionTime(group = "infrastructure")
+public class ReservationDayViewCache {
+    private final int maximumSize;
+    private final long expireAfterMillis;
+    private final Map<Key, Entry> entries;
+    private final Map<Long, Long> mapVersions;
+    private long lastVersion;
+    private long baseVersion;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public ReservationDayViewCache(
+            @Value("${reservation.day-view-cache.maximum-size:10000}") final int maximumSize,
+            @Value("${reservation.day-view-cache.expire-after-seconds:60}") final long expireAfterSeconds) {
+        this.maximumSize = maximumSize;
+        this.expireAfterMillis = expireAfterSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                if (size() > ReservationDayViewCache.this.maximumSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.mapVersions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Long> eldest) {
+                if (size() > Math.max(ReservationDayViewCache.this.maximumSize, 0)) {
+                    // 제거된 맵의 버전이 예전 버전으로 돌아가지 않도록, 버전이 없는 맵의 버전을 함께 올린다
+                    baseVersion = Math.max(baseVersion, eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public ReservationDayView get(final Long mapId, final LocalDate date, final Supplier<ReservationDayView> loader) {
+        if (maximumSize <= 0) {
+            return loader.get();
+        }
+
+        Key key = new Key(mapId, date);
+        long versionBeforeLoad = currentVersion(mapId);
+        ReservationDayView cachedView = find(key, versionBeforeLoad);
+        if (cachedView != null) {
+            hitCount.incrementAndGet();
+            return cachedView;
+        }
+
+        missCount.incrementAndGet();
+        ReservationDayView loadedView = loader.get();
+        synchronized (entries) {
+            // 읽는 도중 커밋된 변경이 있다면 반영 여부를 알 수 없으므로 캐싱하지 않는다
+            if (versionBeforeLoad == currentVersion(mapId)) {
+                entries.put(key, new Entry(loadedView, versionBeforeLoad, System.currentTimeMillis()));
+            }
+        }
+        return loadedView;
+    }
+
+    public void invalidate(final Long mapId) {
+        afterCommit(() -> {
+            synchronized (entries) {
+                mapVersions.put(mapId, ++lastVersion);
+            }
+        });
+    }
+
+    /**
+     * 전체를 비운다. 커밋 전에 비우고, 그 사이에 읽어 캐싱된 항목이 남지 않도록 커밋 이후에 한 번 더 비운다
+     */
+    public void clear() {
+        Runnable change = () -> {
+            synchronized (entries) {
+                entries.clear();
+                mapVersions.clear();
+                baseVersion = ++lastVersion;
+            }
+        };
+        change.run();
+        afterCommit(change);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private ReservationDayView find(final Key key, final long version) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(System.currentTimeMillis(), expireAfterMillis)) {
+                entries.remove(key);
+                evictionCount.incrementAndGet();
+                return null;
+            }
+            if (entry.version != version) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.view;
+        }
+    }
+
+    /**
+     * 버전은 모든 맵에 걸쳐 하나씩 늘어나므로, 한 번 지나간 버전으로 돌아가지 않는다
+     * 보관된 버전이 없는 맵 (한 번도 바뀌지 않았거나 제거된 맵) 은 baseVersion 을 사용한다
+     */
+    private long currentVersion(final Long mapId) {
+        synchronized (entries) {
+            return mapVersions.getOrDefault(mapId, baseVersion);
+        }
+    }
+
+    private void afterCommit(final Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+        private final Long mapId;
+        private final LocalDate date;
+
+        private Key(final Long mapId, final LocalDate date) {
+            this.mapId = mapId;
+            this.date = date;
+        }
+    }
+
+    private static class Entry {
+        private final ReservationDayView view;
+        private final long version;
+        private final long loadedAt;
+
+        private Entry(final ReservationDayView view, final long version, final long loadedAt) {
+            this.view = view;
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(final long now, final long expireAfterMillis) {
+            return now - loadedAt >= expireAfterMillis;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.woowacourse.zzimkkong.infrastructure.setting;
+
+import com.woowacourse.zzimkkong.config.logaspect.LogMethodExecutionTime;
+import com.woowacourse.zzimkkong.domain.CompiledSettings;
+import com.woowacourse.zzimkkong.domain.Settings;
+import com.woowacourse.zzimkkong.domain.Space;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 공간 별 {@link CompiledSettings} 캐시
+ * - 캐시된 값이 현재 공간의 예약 조건으로 만들어진 것이 아니라면 (예약 조건이 수정된 경우) 다시 컴파일한다
+ * - maximum-size 를 넘으면 가장 오래 조회되지 않은 공간부터 제거한다 (LRU)
+ * maximum-size 가 0 이면 캐시를 사용하지 않고 매번 컴파일한다
+ */
+@Component
+@LogMethodExecutionTime(group = "infrastructure")
+public class CompiledSettingsCache {
+    private final int maximumSize;
+    private final Map<Long, CompiledSettings> entries;
+
+    public CompiledSettingsCache(@Value("${setting.compiled-cache.maximum-size:10000}") final int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, CompiledSettings> eldest) {
+                return size() > CompiledSettingsCache.this.maximumSize;
+            }
+        };
+    }
+
+    public CompiledSettings get(final Space space) {
+        Settings settings = space.getSpaceSettings();
+        Long spaceId = space.getId();
+        if (maximumSize <= 0 || spaceId == null) {
+            return CompiledSettings.from(settings);
+        }
+
+        CompiledSettings cachedSettings;
+        synchronized (entries) {
+            cachedSettings = entries.get(spaceId);
+        }
+        if (cachedSettings != null && cachedSettings.isCompiledFrom(settings)) {
+            return cachedSettings;
+        }
+
+        CompiledSettings compiledSettings = CompiledSettings.from(settings);
+        synchronized (entries) {
+            entries.put(spaceId, compiledSettings);
+        }
+        return compiledSettings;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
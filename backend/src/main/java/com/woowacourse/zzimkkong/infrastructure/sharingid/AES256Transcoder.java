@@ -17,15 +17,23 @@ import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 
+/**
+ * AES-256 (CBC, 고정 IV) 로 Sharing Id 를 인코딩/디코딩한다
+ * 키와 IV 가 고정이고 doFinal 이 끝나면 Cipher 는 init 직후 상태로 돌아가므로, 초기화된 Cipher 를 스레드마다 재사용한다
+ * 암/복호화에 실패한 Cipher 는 상태를 알 수 없으므로 버리고 다음 호출에서 새로 만든다
+ */
 @Component
 @PropertySource("classpath:config/AES256Transcoder.properties")
 @LogMethodExecutionTime(group = "infrastructure")
 public class AES256Transcoder implements Transcoder {
+    private static final String TRANSFORMATION = "AES/CBC/PKCS5Padding";
     private static final int MINIMUM_LENGTH_OF_SECRET_KEY = 32;
     private static final int LENGTH_OF_INITIALIZATION_VECTOR = 16;
 
     private final SecretKey secureKey;
     private final IvParameterSpec ivParameterSpec;
+    private final ThreadLocal<Cipher> encryptCiphers = new ThreadLocal<>();
+    private final ThreadLocal<Cipher> decryptCiphers = new ThreadLocal<>();
 
     public AES256Transcoder(@Value("${transcoder.secret-key}") String secretKey) {
         validateLengthOfSecretKey(secretKey);
@@ -42,8 +50,7 @@ public class AES256Transcoder implements Transcoder {
     @Override
     public String encode(String input) {
         try {
-            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, secureKey, ivParameterSpec);
+            Cipher cipher = cipherOf(encryptCiphers, Cipher.ENCRYPT_MODE);
 
             byte[] encrypted = cipher.doFinal(input.getBytes(StandardCharsets.UTF_8));
 
@@ -53,6 +60,7 @@ public class AES256Transcoder implements Transcoder {
                 NoSuchPaddingException | NoSuchAlgorithmException |
                 InvalidAlgorithmParameterException |
                 NullPointerException exception) {
+            encryptCiphers.remove();
             throw new EncodingException(exception);
         }
     }
@@ -60,8 +68,7 @@ public class AES256Transcoder implements Transcoder {
     @Override
     public String decode(String input) {
         try {
-            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, secureKey, ivParameterSpec);
+            Cipher cipher = cipherOf(decryptCiphers, Cipher.DECRYPT_MODE);
 
             byte[] byteStr = Base64.decodeBase64(input.getBytes());
 
@@ -70,7 +77,20 @@ public class AES256Transcoder implements Transcoder {
                 IllegalBlockSizeException | BadPaddingException |
                 NoSuchPaddingException | NoSuchAlgorithmException |
                 InvalidAlgorithmParameterException exception) {
+            decryptCiphers.remove();
             throw new DecodingException(exception);
         }
     }
+
+    private Cipher cipherOf(final ThreadLocal<Cipher> ciphers, final int mode) throws
+            NoSuchPaddingException, NoSuchAlgorithmException,
+            InvalidKeyException, InvalidAlgorithmParameterException {
+        Cipher cipher = ciphers.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(mode, secureKey, ivParameterSpec);
+            ciphers.set(cipher);
+        }
+        return cipher;
+    }
 }
@@ -0,0 +1,99 @@
+package com.woowacourse.zzimkkong.infrastructure.sharingid;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 맵 id 와 Sharing Id 의 양방향 캐시
+ * - 인코딩은 키와 IV 가 고정된 결정적 연산이므로, 한 번 계산한 쌍은 맵이 삭제되어도 틀리지 않는다. 따라서 무효화하지 않는다
+ * - 두 방향을 한 항목으로 다루며, maximum-size 를 넘으면 가장 오래 조회되지 않은 쌍부터 양쪽에서 함께 제거한다 (LRU)
+ * - 디코딩에 성공한 Sharing Id 만 저장하므로, 잘못된 Sharing Id 로 캐시를 채울 수 없다
+ * maximum-size 가 0 이면 캐시를 사용하지 않는다
+ */
+@Component
+public class SharingIdCache {
+    private final int maximumSize;
+    private final Map<Long, String> sharingIds;
+    private final Map<String, Long> mapIds = new HashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public SharingIdCache(@Value("${sharing-id.cache.maximum-size:10000}") final int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.sharingIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, String> eldest) {
+                if (size() > SharingIdCache.this.maximumSize) {
+                    mapIds.remove(eldest.getValue());
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public String findSharingId(final Long mapId) {
+        synchronized (sharingIds) {
+            return count(sharingIds.get(mapId));
+        }
+    }
+
+    public Long findMapId(final String sharingId) {
+        synchronized (sharingIds) {
+            Long mapId = mapIds.get(sharingId);
+            if (mapId != null) {
+                // 역방향 조회도 LRU 순서에 반영한다
+                sharingIds.get(mapId);
+            }
+            return count(mapId);
+        }
+    }
+
+    public void put(final Long mapId, final String sharingId) {
+        if (maximumSize <= 0) {
+            return;
+        }
+
+        synchronized (sharingIds) {
+            String previousSharingId = sharingIds.put(mapId, sharingId);
+            if (previousSharingId != null) {
+                mapIds.remove(previousSharingId);
+            }
+            mapIds.put(sharingId, mapId);
+        }
+    }
+
+    public int size() {
+        synchronized (sharingIds) {
+            return sharingIds.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private <T> T count(final T value) {
+        if (value == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return value;
+    }
+}
@@ -6,25 +6,82 @@ import com.woowacourse.zzimkkong.exception.infrastructure.DecodingException;
 import com.woowacourse.zzimkkong.exception.map.InvalidAccessLinkException;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+
 @Component
 @LogMethodExecutionTime(group = "infrastructure")
 public class SharingIdGenerator {
     private final Transcoder transcoder;
+    private final SharingIdCache sharingIdCache;
 
-    public SharingIdGenerator(final Transcoder transcoder) {
+    public SharingIdGenerator(final Transcoder transcoder, final SharingIdCache sharingIdCache) {
         this.transcoder = transcoder;
+        this.sharingIdCache = sharingIdCache;
     }
 
     public String from(final Map map) {
-        return transcoder.encode(map.getId().toString());
+        return from(map.getId());
+    }
+
+    /**
+     * 맵들의 Sharing Id 를 순서대로 반환한다
+     * 같은 맵이 여러 번 있어도 (ex. 같은 맵의 예약 목록) 한 번만 계산한다
+     */
+    public List<String> fromAll(final List<Map> maps) {
+        java.util.Map<Long, String> sharingIds = new HashMap<>();
+        List<String> result = new ArrayList<>(maps.size());
+        for (Map map : maps) {
+            result.add(sharingIds.computeIfAbsent(map.getId(), this::from));
+        }
+        return result;
+    }
+
+    /**
+     * Sharing Id 가 없는 맵들에 한 번에 Sharing Id 를 채운다
+     */
+    public void activateAll(final Collection<Map> maps) {
+        List<Map> inactiveMaps = new ArrayList<>();
+        for (Map map : maps) {
+            if (!map.hasSharingMapId()) {
+                inactiveMaps.add(map);
+            }
+        }
+
+        List<String> sharingIds = fromAll(inactiveMaps);
+        for (int i = 0; i < inactiveMaps.size(); i++) {
+            inactiveMaps.get(i).activateSharingMapId(sharingIds.get(i));
+        }
     }
 
     public Long parseIdFrom(final String publicId) {
+        Long cachedMapId = sharingIdCache.findMapId(publicId);
+        if (cachedMapId != null) {
+            return cachedMapId;
+        }
+
         try {
             String decoded = transcoder.decode(publicId);
-            return Long.parseLong(decoded);
+            Long mapId = Long.parseLong(decoded);
+            // 캐시에는 맵 id 로부터 다시 계산한 정식 Sharing Id 만 넣는다
+            // 같은 id 로 디코딩되는 다른 표기 (ex. padding, 일반 Base64 문자) 는 캐시에 없으므로 매번 디코딩한다
+            from(mapId);
+            return mapId;
         } catch (DecodingException | NumberFormatException exception) {
             throw new InvalidAccessLinkException();
         }
     }
+
+    private String from(final Long mapId) {
+        String cachedSharingId = sharingIdCache.findSharingId(mapId);
+        if (cachedSharingId != null) {
+            return cachedSharingId;
+        }
+
+        String sharingId = transcoder.encode(mapId.toString());
+        sharingIdCache.put(mapId, sharingId);
+        return sharingId;
+    }
 }
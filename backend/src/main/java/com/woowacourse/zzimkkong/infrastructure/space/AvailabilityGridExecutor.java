@@ -0,0 +1,53 @@
+package com.woowacourse.zzimkkong.infrastructure.space;
+
+import com.woowacourse.zzimkkong.config.logaspect.LogMethodExecutionTime;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 공간별 예약 가능 격자 ({@link com.woowacourse.zzimkkong.domain.AvailabilityGrid}) 를 공간마다 나누어 동시에 계산하는 fork-join pool
+ * - 공용 pool (ForkJoinPool.commonPool) 을 쓰는 다른 작업과 섞이지 않도록 전용 pool 을 사용한다
+ * - 공간이 parallel-threshold 개보다 적거나 parallelism 이 1 이면 요청 스레드에서 순서대로 계산한다
+ * mapper 는 영속성 컨텍스트에 접근하지 않는 순수한 계산이어야 한다
+ */
+@Component
+@LogMethodExecutionTime(group = "infrastructure")
+public class AvailabilityGridExecutor implements DisposableBean {
+    private final ForkJoinPool forkJoinPool;
+    private final int parallelThreshold;
+
+    public AvailabilityGridExecutor(
+            @Value("${space.availability-grid.parallelism:0}") final int parallelism,
+            @Value("${space.availability-grid.parallel-threshold:8}") final int parallelThreshold) {
+        int poolParallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.forkJoinPool = new ForkJoinPool(poolParallelism);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * @return elements 와 같은 순서의 결과
+     */
+    public <T, R> List<R> map(final List<T> elements, final Function<T, R> mapper) {
+        if (elements.size() < parallelThreshold || forkJoinPool.getParallelism() <= 1) {
+            return elements.stream()
+                    .map(mapper)
+                    .collect(Collectors.toList());
+        }
+
+        return forkJoinPool.submit(() -> elements.parallelStream()
+                        .map(mapper)
+                        .collect(Collectors.toList()))
+                .join();
+    }
+
+    @Override
+    public void destroy() {
+        forkJoinPool.shutdown();
+    }
+}
@@ -6,6 +6,7 @@ import com.woowacourse.zzimkkong.domain.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,13 +14,38 @@ import java.util.List;
 import java.util.Optional;
 
 @LogMethodExecutionTime(group = "repository")
-public interface MapRepository extends JpaRepository<Map, Long> {
+public interface MapRepository extends JpaRepository<Map, Long>, MapRepositoryCustom {
     List<Map> findAllByMember(final Member member);
 
-    @Query(value = "select m from Map m inner join fetch m.member",
+    @Query(value = "select m from Map m inner join fetch m.member inner join fetch m.content",
             countQuery = "select count(m) from Map m")
     Page<Map> findAllByFetch(Pageable pageable);
 
     @Query("select distinct m from Map m inner join fetch m.member left outer join fetch m.spaces where m.id = :id")
     Optional<Map> findByIdFetch(@Param("id") Long id);
+
+    @Query("select m.changeVersion from Map m where m.id = :id")
+    Optional<Long> findChangeVersionById(@Param("id") Long id);
+
+    /**
+     * 공지만 조회한다. 맵 내용 (map_content) 을 엔티티로 읽으면 압축된 도면과 썸네일까지 함께 읽게 된다
+     */
+    @Query("select c.notice from Map m inner join m.content c where m.id = :id")
+    Optional<String> findNoticeById(@Param("id") Long id);
+
+    @Query("select c.compressedMapDrawing from Map m inner join m.content c where m.id = :id")
+    Optional<byte[]> findCompressedMapDrawingById(@Param("id") Long id);
+
+    @Query("select c.compressedThumbnail from Map m inner join m.content c where m.id = :id")
+    Optional<byte[]> findCompressedThumbnailById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Map m set m.changeVersion = m.changeVersion + 1 where m.id = :id")
+    int increaseChangeVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Map m set m.changeVersion = m.changeVersion + 1 " +
+            "where m.member = :member " +
+            "or m.id in (select s.map.id from Reservation r inner join r.space s where r.member = :member)")
+    int increaseChangeVersionByMember(@Param("member") Member member);
 }
@@ -0,0 +1,9 @@
+package com.woowacourse.zzimkkong.repository;
+
+import com.woowacourse.zzimkkong.domain.Map;
+
+import java.util.Optional;
+
+public interface MapRepositoryCustom {
+    Optional<Map> findByIdFetchSettings(final Long id);
+}
@@ -0,0 +1,48 @@
+package com.woowacourse.zzimkkong.repository;
+
+import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.domain.Space;
+import org.hibernate.jpa.QueryHints;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Optional;
+
+public class MapRepositoryImpl implements MapRepositoryCustom {
+    private final EntityManager entityManager;
+
+    public MapRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 맵, 관리자, 공간들과 공간마다의 예약 조건들을 공간 수와 무관하게 두 번의 쿼리로 읽는다
+     * 두 List 컬렉션 (공간, 예약 조건) 을 한 쿼리로 fetch join 할 수 없으므로, 공간들을 읽은 뒤 같은 영속성 컨텍스트에서 예약 조건들을 채운다
+     */
+    @Override
+    public Optional<Map> findByIdFetchSettings(final Long id) {
+        List<Map> maps = entityManager.createQuery(
+                        "SELECT DISTINCT m FROM Map m " +
+                                "INNER JOIN FETCH m.member " +
+                                "LEFT OUTER JOIN FETCH m.spaces " +
+                                "WHERE m.id = :id", Map.class)
+                .setParameter("id", id)
+                .setHint(QueryHints.HINT_PASS_DISTINCT_THROUGH, false)
+                .getResultList();
+        if (maps.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map map = maps.get(0);
+        if (!map.getSpaces().isEmpty()) {
+            entityManager.createQuery(
+                            "SELECT DISTINCT s FROM Space s " +
+                                    "LEFT OUTER JOIN FETCH s.spaceSettings.settings " +
+                                    "WHERE s.map.id = :id", Space.class)
+                    .setParameter("id", id)
+                    .setHint(QueryHints.HINT_PASS_DISTINCT_THROUGH, false)
+                    .getResultList();
+        }
+        return Optional.of(map);
+    }
+}
@@ -18,7 +18,10 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
 
-    @Query("select distinct m from Member m left outer join fetch m.maps where m.email = :email")
+    @Query("select distinct m from Member m " +
+            "left outer join fetch m.maps mp " +
+            "left outer join fetch mp.content " +
+            "where m.email = :email")
     Optional<Member> findByEmailWithFetchMaps(@Param("email") String email);
 
     Page<Member> findAll(Pageable pageable);
@@ -6,6 +6,7 @@ import com.woowacourse.zzimkkong.domain.Reservation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -30,18 +31,98 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>,
             final Collection<Long> spaceIds,
             final LocalDate date);
 
-    Slice<Reservation> findAllByMemberAndReservationTimeDateGreaterThanEqualAndReservationTimeEndTimeGreaterThanEqual(
-            final Member member,
-            final LocalDate date,
-            final LocalDateTime dateTime,
+    /**
+     * 예약 생성/수정 시 저장 여부를 결정하는 충돌 조회. 공간 row 의 쓰기 잠금을 잡은 뒤 같은 트랜잭션 안에서 읽는다
+     */
+    @Query(value = "SELECT r FROM Reservation r " +
+            "WHERE r.space.id = :spaceId AND " +
+            "r.reservationTime.date = :date AND " +
+            "r.reservationTime.startTime < :endTime AND " +
+            "r.reservationTime.endTime > :startTime")
+    List<Reservation> findAllOverlapping(
+            @Param("spaceId") final Long spaceId,
+            @Param("date") final LocalDate date,
+            @Param("startTime") final LocalDateTime startTime,
+            @Param("endTime") final LocalDateTime endTime);
+
+    /**
+     * 예약자 이름 (로그인 예약은 회원의 이름) 이 필요한 조회에서 사용한다. 회원을 예약마다 따로 읽지 않는다
+     */
+    @Query(value = "SELECT r FROM Reservation r " +
+            "LEFT JOIN FETCH r.member " +
+            "WHERE r.space.id IN :spaceIds AND " +
+            "r.reservationTime.date = :date")
+    List<Reservation> findAllBySpaceIdInAndDateFetch(
+            @Param("spaceIds") final Collection<Long> spaceIds,
+            @Param("date") final LocalDate date);
+
+    /**
+     * 회원의 다가오는 예약을 (시작 시간, id) 순서로 읽는다. 이후 페이지는 {@link #findUpcomingByMemberAfter} 로 읽는다
+     * 순서는 쿼리에 고정되어 있으므로 pageable 의 sort 는 쓰지 않는다
+     */
+    @EntityGraph(attributePaths = {"member", "space", "space.map", "space.map.member"})
+    @Query(value = "SELECT r FROM Reservation r " +
+            "WHERE r.member = :member AND " +
+            "r.reservationTime.date >= :date AND " +
+            "r.reservationTime.endTime >= :dateTime " +
+            "ORDER BY r.reservationTime.startTime ASC, r.id ASC")
+    Slice<Reservation> findUpcomingByMember(
+            @Param("member") final Member member,
+            @Param("date") final LocalDate date,
+            @Param("dateTime") final LocalDateTime dateTime,
             final Pageable pageable);
 
-    Slice<Reservation> findAllByMemberAndReservationTimeDateLessThanEqualAndReservationTimeEndTimeLessThanEqual(
-            final Member member,
-            final LocalDate date,
-            final LocalDateTime dateTime,
+    /**
+     * (startTime, id) &gt; (cursorStartTime, cursorId) 를 풀어 쓴 조건으로, (member_id, start_time, id) 인덱스의 범위를 읽는다
+     */
+    @EntityGraph(attributePaths = {"member", "space", "space.map", "space.map.member"})
+    @Query(value = "SELECT r FROM Reservation r " +
+            "WHERE r.member = :member AND " +
+            "r.reservationTime.date >= :date AND " +
+            "r.reservationTime.endTime >= :dateTime AND " +
+            "(r.reservationTime.startTime > :cursorStartTime OR " +
+            "(r.reservationTime.startTime = :cursorStartTime AND r.id > :cursorId)) " +
+            "ORDER BY r.reservationTime.startTime ASC, r.id ASC")
+    Slice<Reservation> findUpcomingByMemberAfter(
+            @Param("member") final Member member,
+            @Param("date") final LocalDate date,
+            @Param("dateTime") final LocalDateTime dateTime,
+            @Param("cursorStartTime") final LocalDateTime cursorStartTime,
+            @Param("cursorId") final Long cursorId,
+            final Pageable pageable);
+
+    /**
+     * 회원의 지난 예약을 (시작 시간, id) 의 역순으로 읽는다. 이후 페이지는 {@link #findPreviousByMemberBefore} 로 읽는다
+     */
+    @EntityGraph(attributePaths = {"member", "space", "space.map", "space.map.member"})
+    @Query(value = "SELECT r FROM Reservation r " +
+            "WHERE r.member = :member AND " +
+            "r.reservationTime.date <= :date AND " +
+            "r.reservationTime.endTime <= :dateTime " +
+            "ORDER BY r.reservationTime.startTime DESC, r.id DESC")
+    Slice<Reservation> findPreviousByMember(
+            @Param("member") final Member member,
+            @Param("date") final LocalDate date,
+            @Param("dateTime") final LocalDateTime dateTime,
+            final Pageable pageable);
+
+    @EntityGraph(attributePaths = {"member", "space", "space.map", "space.map.member"})
+    @Query(value = "SELECT r FROM Reservation r " +
+            "WHERE r.member = :member AND " +
+            "r.reservationTime.date <= :date AND " +
+            "r.reservationTime.endTime <= :dateTime AND " +
+            "(r.reservationTime.startTime < :cursorStartTime OR " +
+            "(r.reservationTime.startTime = :cursorStartTime AND r.id < :cursorId)) " +
+            "ORDER BY r.reservationTime.startTime DESC, r.id DESC")
+    Slice<Reservation> findPreviousByMemberBefore(
+            @Param("member") final Member member,
+            @Param("date") final LocalDate date,
+            @Param("dateTime") final LocalDateTime dateTime,
+            @Param("cursorStartTime") final LocalDateTime cursorStartTime,
+            @Param("cursorId") final Long cursorId,
             final Pageable pageable);
 
+    @EntityGraph(attributePaths = {"space", "space.map", "space.map.member"})
     Slice<Reservation> findAllByUserNameAndReservationTimeDateGreaterThanEqualAndReservationTimeEndTimeGreaterThanEqualAndMemberIsNull(
             final String userName,
             final LocalDate date,
@@ -5,7 +5,12 @@ import com.woowacourse.zzimkkong.domain.Space;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
 
 @LogMethodExecutionTime(group = "repository")
 public interface SpaceRepository extends JpaRepository<Space, Long> {
@@ -14,4 +19,11 @@ public interface SpaceRepository extends JpaRepository<Space, Long> {
             "order by s.id",
             countQuery = "select count(s) from Space s")
     Page<Space> findAllByFetch(Pageable pageable);
+
+    /**
+     * 공간의 예약 생성/수정을 트랜잭션 단위로 차례로 실행하기 위한 쓰기 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Space s where s.id = :id")
+    Optional<Space> findByIdForUpdate(@Param("id") Long id);
 }
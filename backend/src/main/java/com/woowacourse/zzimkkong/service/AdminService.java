@@ -1,5 +1,7 @@
 package com.woowacourse.zzimkkong.service;
 
+import com.woowacourse.zzimkkong.config.logaspect.MethodTimingRegistry;
+import com.woowacourse.zzimkkong.domain.Map;
 import com.woowacourse.zzimkkong.domain.Member;
 import com.woowacourse.zzimkkong.domain.Reservation;
 import com.woowacourse.zzimkkong.domain.Space;
@@ -8,6 +10,10 @@ import com.woowacourse.zzimkkong.dto.map.MapFindResponse;
 import com.woowacourse.zzimkkong.dto.member.TokenResponse;
 import com.woowacourse.zzimkkong.exception.member.IdPasswordMismatchException;
 import com.woowacourse.zzimkkong.infrastructure.auth.JwtUtils;
+import com.woowacourse.zzimkkong.infrastructure.auth.VerifiedTokenCache;
+import com.woowacourse.zzimkkong.infrastructure.member.MemberIdentityCache;
+import com.woowacourse.zzimkkong.infrastructure.reservation.ReservationDayViewCache;
+import com.woowacourse.zzimkkong.infrastructure.sharingid.SharingIdCache;
 import com.woowacourse.zzimkkong.infrastructure.sharingid.SharingIdGenerator;
 import com.woowacourse.zzimkkong.repository.MapRepository;
 import com.woowacourse.zzimkkong.repository.MemberRepository;
@@ -19,7 +25,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @Transactional(readOnly = true)
@@ -34,6 +42,11 @@ public class AdminService {
     private final SpaceRepository spaces;
     private final ReservationRepository reservations;
     private final SharingIdGenerator sharingIdGenerator;
+    private final ReservationDayViewCache reservationDayViewCache;
+    private final SharingIdCache sharingIdCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberIdentityCache memberIdentityCache;
+    private final MethodTimingRegistry methodTimingRegistry;
 
     public AdminService(@Value("${admin.id}") String adminId,
                         @Value("${admin.pwd}") String adminPwd,
@@ -42,7 +55,12 @@ public class AdminService {
                         final MapRepository maps,
                         final SpaceRepository spaces,
                         final ReservationRepository reservations,
-                        final SharingIdGenerator sharingIdGenerator) {
+                        final SharingIdGenerator sharingIdGenerator,
+                        final ReservationDayViewCache reservationDayViewCache,
+                        final SharingIdCache sharingIdCache,
+                        final VerifiedTokenCache verifiedTokenCache,
+                        final MemberIdentityCache memberIdentityCache,
+                        final MethodTimingRegistry methodTimingRegistry) {
         id = adminId;
         pwd = adminPwd;
         this.jwtUtils = jwtUtils;
@@ -51,6 +69,11 @@ public class AdminService {
         this.spaces = spaces;
         this.reservations = reservations;
         this.sharingIdGenerator = sharingIdGenerator;
+        this.reservationDayViewCache = reservationDayViewCache;
+        this.sharingIdCache = sharingIdCache;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.memberIdentityCache = memberIdentityCache;
+        this.methodTimingRegistry = methodTimingRegistry;
     }
 
     public TokenResponse login(final String id, final String password) {
@@ -63,7 +86,7 @@ public class AdminService {
     }
 
     private String issueToken(final String id) {
-        Map<String, Object> payload = JwtUtils.payloadBuilder()
+        java.util.Map<String, Object> payload = JwtUtils.payloadBuilder()
                 .setSubject(id)
                 .build();
 
@@ -76,10 +99,14 @@ public class AdminService {
     }
 
     public MapsResponse findMaps(Pageable pageable) {
-        Page<MapFindResponse> allMaps = maps.findAllByFetch(pageable)
-                .map(map -> MapFindResponse.ofAdmin(map, sharingIdGenerator.from(map)));
+        Page<Map> allMaps = maps.findAllByFetch(pageable);
+        List<Map> mapsInPage = allMaps.getContent();
+        List<String> sharingMapIds = sharingIdGenerator.fromAll(mapsInPage);
 
-        return MapsResponse.of(allMaps.getContent(), PageInfo.from(allMaps));
+        List<MapFindResponse> responses = IntStream.range(0, mapsInPage.size())
+                .mapToObj(index -> MapFindResponse.ofAdmin(mapsInPage.get(index), sharingMapIds.get(index)))
+                .collect(Collectors.toList());
+        return MapsResponse.of(responses, PageInfo.from(allMaps));
     }
 
     public SpacesResponse findSpaces(Pageable pageable) {
@@ -91,4 +118,45 @@ public class AdminService {
         Page<Reservation> allReservations = reservations.findAllByFetch(pageable);
         return ReservationsResponse.from(allReservations);
     }
+
+    public CachesResponse findCaches() {
+        CacheStatisticsResponse reservationDayView = CacheStatisticsResponse.of(
+                "reservationDayView",
+                reservationDayViewCache.size(),
+                reservationDayViewCache.getHitCount(),
+                reservationDayViewCache.getMissCount(),
+                reservationDayViewCache.getEvictionCount());
+        CacheStatisticsResponse sharingId = CacheStatisticsResponse.of(
+                "sharingId",
+                sharingIdCache.size(),
+                sharingIdCache.getHitCount(),
+                sharingIdCache.getMissCount(),
+                sharingIdCache.getEvictionCount());
+        CacheStatisticsResponse verifiedToken = CacheStatisticsResponse.of(
+                "verifiedToken",
+                verifiedTokenCache.size(),
+                verifiedTokenCache.getHitCount(),
+                verifiedTokenCache.getMissCount(),
+                verifiedTokenCache.getEvictionCount(),
+                verifiedTokenCache.getAverageVerificationMicros());
+        CacheStatisticsResponse memberIdentity = CacheStatisticsResponse.of(
+                "memberIdentity",
+                memberIdentityCache.size(),
+                memberIdentityCache.getHitCount(),
+                memberIdentityCache.getMissCount(),
+                memberIdentityCache.getEvictionCount());
+        return CachesResponse.from(List.of(reservationDayView, sharingId, verifiedToken, memberIdentity));
+    }
+
+    /**
+     * @param group 실행 시간 group (controller, service, repository, infrastructure). null 이면 모든 group
+     */
+    public MethodTimingsResponse findMethodTimings(final String group) {
+        List<MethodTimingResponse> methodTimings = methodTimingRegistry.findAll()
+                .stream()
+                .filter(methodTiming -> group == null || methodTiming.getGroup().equals(group))
+                .map(MethodTimingResponse::from)
+                .collect(Collectors.toList());
+        return MethodTimingsResponse.from(methodTimings);
+    }
 }
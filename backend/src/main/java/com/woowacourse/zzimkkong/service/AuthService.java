@@ -65,6 +65,7 @@ public class AuthService {
     private String issueToken(final Member findMember) {
         Map<String, Object> payload = JwtUtils.payloadBuilder()
                 .setSubject(findMember.getEmail())
+                .setMemberId(findMember.getId())
                 .build();
 
         return jwtUtils.createToken(payload);
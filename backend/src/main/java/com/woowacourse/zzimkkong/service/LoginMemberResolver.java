@@ -0,0 +1,86 @@
+package com.woowacourse.zzimkkong.service;
+
+import com.woowacourse.zzimkkong.domain.Member;
+import com.woowacourse.zzimkkong.dto.member.LoginUserEmail;
+import com.woowacourse.zzimkkong.exception.member.NoSuchMemberException;
+import com.woowacourse.zzimkkong.infrastructure.member.MemberIdentity;
+import com.woowacourse.zzimkkong.infrastructure.member.MemberIdentityCache;
+import com.woowacourse.zzimkkong.repository.MemberRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 로그인 사용자를 회원으로 바꾼다
+ * 캐시된 회원이면 DB 를 읽지 않고 id 로 만든 참조 (프록시) 를 반환하므로, 회원의 값이 필요 없는 곳 (ex. 소유자 비교, 쿼리 조건) 에서 사용한다
+ * 회원을 참조해 저장하는 곳 (ex. 예약 생성) 에서는 {@link #resolveForWrite(LoginUserEmail)} 를 사용한다
+ * 토큰에 회원 id claim 이 있으면 id 로, 없으면 이메일로 찾는다
+ */
+@Component
+public class LoginMemberResolver {
+    private final MemberRepository members;
+    private final MemberIdentityCache memberIdentityCache;
+
+    public LoginMemberResolver(final MemberRepository members, final MemberIdentityCache memberIdentityCache) {
+        this.members = members;
+        this.memberIdentityCache = memberIdentityCache;
+    }
+
+    public Member resolve(final LoginUserEmail loginUserEmail) {
+        AtomicReference<Member> loadedMember = new AtomicReference<>();
+        MemberIdentity memberIdentity = findIdentity(loginUserEmail, loadedMember);
+        if (loadedMember.get() != null) {
+            return loadedMember.get();
+        }
+        return members.getById(memberIdentity.getId());
+    }
+
+    /**
+     * 캐시된 회원이어도 DB 에서 읽어 반환한다
+     * 다른 인스턴스에서 탈퇴해 캐시에만 남은 회원이면, 저장 시 FK 위반 대신 {@link NoSuchMemberException} 이 발생한다
+     */
+    public Member resolveForWrite(final LoginUserEmail loginUserEmail) {
+        AtomicReference<Member> loadedMember = new AtomicReference<>();
+        MemberIdentity memberIdentity = findIdentity(loginUserEmail, loadedMember);
+        if (loadedMember.get() != null) {
+            return loadedMember.get();
+        }
+        return members.findById(memberIdentity.getId())
+                .orElseThrow(() -> {
+                    memberIdentityCache.invalidate(memberIdentity.getId());
+                    return new NoSuchMemberException();
+                });
+    }
+
+    public Long resolveId(final LoginUserEmail loginUserEmail) {
+        return findIdentity(loginUserEmail, new AtomicReference<>()).getId();
+    }
+
+    private MemberIdentity findIdentity(final LoginUserEmail loginUserEmail, final AtomicReference<Member> loadedMember) {
+        if (!loginUserEmail.hasMemberId()) {
+            MemberIdentity memberIdentity = memberIdentityCache.getByEmail(
+                    loginUserEmail.getEmail(),
+                    () -> load(members.findByEmail(loginUserEmail.getEmail()), loadedMember));
+            if (memberIdentity == null) {
+                throw new NoSuchMemberException();
+            }
+            return memberIdentity;
+        }
+
+        MemberIdentity memberIdentity = memberIdentityCache.getById(
+                loginUserEmail.getMemberId(),
+                () -> load(members.findById(loginUserEmail.getMemberId()), loadedMember));
+        // 탈퇴 후 같은 id 로 다른 회원이 가입한 경우처럼 토큰의 이메일과 다르면 찾지 못한 것으로 본다
+        if (memberIdentity == null || !memberIdentity.getEmail().equals(loginUserEmail.getEmail())) {
+            throw new NoSuchMemberException();
+        }
+        return memberIdentity;
+    }
+
+    private MemberIdentity load(final Optional<Member> member, final AtomicReference<Member> loadedMember) {
+        member.ifPresent(loadedMember::set);
+        return member.map(MemberIdentity::from)
+                .orElse(null);
+    }
+}
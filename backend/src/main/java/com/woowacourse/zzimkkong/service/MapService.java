@@ -9,6 +9,7 @@ import com.woowacourse.zzimkkong.dto.map.NoAuthorityOnMapException;
 import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
 import com.woowacourse.zzimkkong.exception.member.NoSuchMemberException;
 import com.woowacourse.zzimkkong.exception.space.ReservationExistOnSpaceException;
+import com.woowacourse.zzimkkong.infrastructure.reservation.ReservationDayViewCache;
 import com.woowacourse.zzimkkong.infrastructure.sharingid.SharingIdGenerator;
 import com.woowacourse.zzimkkong.repository.MapRepository;
 import com.woowacourse.zzimkkong.repository.MemberRepository;
@@ -29,16 +30,19 @@ public class MapService {
     private final MapRepository maps;
     private final ReservationRepository reservations;
     private final SharingIdGenerator sharingIdGenerator;
+    private final ReservationDayViewCache reservationDayViewCache;
 
     public MapService(
             final MemberRepository members,
             final MapRepository maps,
             final ReservationRepository reservations,
-            final SharingIdGenerator sharingIdGenerator) {
+            final SharingIdGenerator sharingIdGenerator,
+            final ReservationDayViewCache reservationDayViewCache) {
         this.members = members;
         this.maps = maps;
         this.reservations = reservations;
         this.sharingIdGenerator = sharingIdGenerator;
+        this.reservationDayViewCache = reservationDayViewCache;
     }
 
     public MapCreateResponse saveMap(final MapCreateUpdateRequest mapCreateUpdateRequest, final LoginUserEmail loginUserEmail) {
@@ -48,7 +52,8 @@ public class MapService {
                 mapCreateUpdateRequest.getMapName(),
                 mapCreateUpdateRequest.getMapDrawing(),
                 mapCreateUpdateRequest.getThumbnail(),
-                manager));
+                manager,
+                mapCreateUpdateRequest.getServiceZone()));
 
         return MapCreateResponse.from(saveMap);
     }
@@ -71,9 +76,9 @@ public class MapService {
                 .orElseThrow(NoSuchMemberException::new);
 
         List<Map> findMaps = manager.getMaps();
+        sharingIdGenerator.activateAll(findMaps);
 
         return findMaps.stream()
-                .peek(map -> map.activateSharingMapId(sharingIdGenerator))
                 .map(MapFindResponse::of)
                 .collect(collectingAndThen(toList(), mapFindResponses -> MapFindAllResponse.of(mapFindResponses, manager)));
     }
@@ -84,8 +89,53 @@ public class MapService {
         Map map = maps.findById(mapId)
                 .orElseThrow(NoSuchMapException::new);
         map.activateSharingMapId(sharingIdGenerator);
+        String notice = maps.findNoticeById(mapId)
+                .orElse(null);
 
-        return MapFindResponse.of(map);
+        return MapFindResponse.ofGuest(map, notice);
+    }
+
+    @Transactional(readOnly = true)
+    public long findChangeVersion(final Long mapId) {
+        return maps.findChangeVersionById(mapId)
+                .orElseThrow(NoSuchMapException::new);
+    }
+
+    /**
+     * 관리자 ETag 용. 맵의 관리자인지 먼저 확인하므로, 다른 회원은 304 응답으로 맵의 변경 여부를 알 수 없다
+     */
+    @Transactional(readOnly = true)
+    public long findChangeVersion(final Long mapId, final LoginUserEmail loginUserEmail) {
+        Map map = maps.findById(mapId)
+                .orElseThrow(NoSuchMapException::new);
+        validateManagerOfMap(map, loginUserEmail.getEmail());
+        return map.getChangeVersion();
+    }
+
+    @Transactional(readOnly = true)
+    public long findChangeVersionBySharingId(final String sharingMapId) {
+        Long mapId = sharingIdGenerator.parseIdFrom(sharingMapId);
+        return findChangeVersion(mapId);
+    }
+
+    /**
+     * gzip 으로 압축된 맵 도면을 엔티티로 읽지 않고 그대로 반환한다
+     */
+    @Transactional(readOnly = true)
+    public byte[] findCompressedMapDrawingBySharingId(final String sharingMapId) {
+        Long mapId = sharingIdGenerator.parseIdFrom(sharingMapId);
+        return maps.findCompressedMapDrawingById(mapId)
+                .orElseThrow(NoSuchMapException::new);
+    }
+
+    /**
+     * gzip 으로 압축된 맵 썸네일 (SVG) 을 엔티티로 읽지 않고 그대로 반환한다
+     */
+    @Transactional(readOnly = true)
+    public byte[] findCompressedThumbnailBySharingId(final String sharingMapId) {
+        Long mapId = sharingIdGenerator.parseIdFrom(sharingMapId);
+        return maps.findCompressedThumbnailById(mapId)
+                .orElseThrow(NoSuchMapException::new);
     }
 
     public void updateMap(final Long mapId,
@@ -99,6 +149,7 @@ public class MapService {
                 mapCreateUpdateRequest.getMapName(),
                 mapCreateUpdateRequest.getMapDrawing());
         map.updateThumbnail(mapCreateUpdateRequest.getThumbnail());
+        maps.increaseChangeVersion(mapId);
     }
 
     public void deleteMap(final Long mapId, final LoginUserEmail loginUserEmail) {
@@ -109,6 +160,7 @@ public class MapService {
         validateExistReservations(map);
 
         maps.delete(map);
+        reservationDayViewCache.invalidate(mapId);
     }
 
     public void saveSlackUrl(final Long mapId,
@@ -118,6 +170,7 @@ public class MapService {
                 .orElseThrow(NoSuchMapException::new);
         validateManagerOfMap(map, loginUserEmail.getEmail());
         map.updateSlackUrl(slackCreateRequest.getSlackUrl());
+        maps.increaseChangeVersion(mapId);
     }
 
     public void saveNotice(final Long mapId,
@@ -127,6 +180,7 @@ public class MapService {
                 .orElseThrow(NoSuchMapException::new);
         validateManagerOfMap(map, loginUserEmail.getEmail());
         map.updateNotice(noticeCreateRequest.getNotice());
+        maps.increaseChangeVersion(mapId);
     }
 
     @Transactional(readOnly = true)
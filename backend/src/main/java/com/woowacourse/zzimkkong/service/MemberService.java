@@ -6,6 +6,9 @@ import com.woowacourse.zzimkkong.domain.ProfileEmoji;
 import com.woowacourse.zzimkkong.dto.member.*;
 import com.woowacourse.zzimkkong.dto.member.oauth.OauthMemberSaveRequest;
 import com.woowacourse.zzimkkong.exception.member.*;
+import com.woowacourse.zzimkkong.infrastructure.member.MemberIdentityCache;
+import com.woowacourse.zzimkkong.infrastructure.reservation.ReservationDayViewCache;
+import com.woowacourse.zzimkkong.repository.MapRepository;
 import com.woowacourse.zzimkkong.repository.MemberRepository;
 import com.woowacourse.zzimkkong.repository.ReservationRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,15 +22,24 @@ import java.util.List;
 @Transactional
 public class MemberService {
     private final MemberRepository members;
+    private final MapRepository maps;
     private final ReservationRepository reservations;
     private final PasswordEncoder passwordEncoder;
+    private final ReservationDayViewCache reservationDayViewCache;
+    private final MemberIdentityCache memberIdentityCache;
 
     public MemberService(final MemberRepository members,
+                         final MapRepository maps,
                          final ReservationRepository reservations,
-                         final PasswordEncoder passwordEncoder) {
+                         final PasswordEncoder passwordEncoder,
+                         final ReservationDayViewCache reservationDayViewCache,
+                         final MemberIdentityCache memberIdentityCache) {
         this.members = members;
+        this.maps = maps;
         this.reservations = reservations;
         this.passwordEncoder = passwordEncoder;
+        this.reservationDayViewCache = reservationDayViewCache;
+        this.memberIdentityCache = memberIdentityCache;
     }
 
     public MemberSaveResponse saveMember(final MemberSaveRequest memberSaveRequest) {
@@ -92,6 +104,10 @@ public class MemberService {
         }
 
         member.update(memberUpdateRequest);
+        maps.increaseChangeVersionByMember(member);
+        // 회원 이름은 여러 맵의 예약 목록에 나타나므로 맵 단위로 무효화하지 않고 전부 비운다
+        reservationDayViewCache.clear();
+        memberIdentityCache.invalidate(member.getId());
     }
 
     public void deleteMember(final LoginUserEmail loginUserEmail) {
@@ -102,7 +118,11 @@ public class MemberService {
             throw new ReservationExistsOnMemberException();
         }
 
+        maps.increaseChangeVersionByMember(member);
         members.delete(member);
+        // 회원의 지난 예약들도 함께 삭제되므로, 예약이 있던 맵들을 알 수 없는 캐시는 전부 비운다
+        reservationDayViewCache.clear();
+        memberIdentityCache.invalidate(member.getId());
     }
 
     @Transactional(readOnly = true)
@@ -118,6 +138,7 @@ public class MemberService {
 
         String newPassword = passwordEncoder.encode(changePasswordRequest.getNewPassword());
         member.updatePassword(newPassword);
+        memberIdentityCache.invalidate(member.getId());
     }
 
     private void validateOldPassword(final Member member, final ChangePasswordRequest changePasswordRequest) {
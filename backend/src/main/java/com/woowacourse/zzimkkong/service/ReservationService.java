@@ -5,17 +5,19 @@ import com.woowacourse.zzimkkong.dto.member.LoginUserEmail;
 import com.woowacourse.zzimkkong.dto.reservation.*;
 import com.woowacourse.zzimkkong.dto.slack.SlackResponse;
 import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
-import com.woowacourse.zzimkkong.exception.member.NoSuchMemberException;
 import com.woowacourse.zzimkkong.exception.reservation.*;
 import com.woowacourse.zzimkkong.exception.setting.MultipleSettingsException;
 import com.woowacourse.zzimkkong.exception.setting.NoSettingAvailableException;
 import com.woowacourse.zzimkkong.exception.space.NoSuchSpaceException;
 import com.woowacourse.zzimkkong.infrastructure.datetime.TimeZoneUtils;
+import com.woowacourse.zzimkkong.infrastructure.reservation.ReservationDayViewCache;
+import com.woowacourse.zzimkkong.infrastructure.setting.CompiledSettingsCache;
 import com.woowacourse.zzimkkong.infrastructure.sharingid.SharingIdGenerator;
 import com.woowacourse.zzimkkong.repository.MapRepository;
-import com.woowacourse.zzimkkong.repository.MemberRepository;
 import com.woowacourse.zzimkkong.repository.ReservationRepository;
+import com.woowacourse.zzimkkong.repository.SpaceRepository;
 import com.woowacourse.zzimkkong.service.strategy.*;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -35,21 +37,30 @@ import java.util.stream.Collectors;
 public class ReservationService {
     private final MapRepository maps;
     private final ReservationRepository reservations;
-    private final MemberRepository members;
+    private final SpaceRepository spaces;
+    private final LoginMemberResolver loginMemberResolver;
     private final SharingIdGenerator sharingIdGenerator;
     private final ReservationStrategies reservationStrategies;
+    private final CompiledSettingsCache compiledSettingsCache;
+    private final ReservationDayViewCache reservationDayViewCache;
 
     public ReservationService(
             final MapRepository maps,
             final ReservationRepository reservations,
-            final MemberRepository members,
+            final SpaceRepository spaces,
+            final LoginMemberResolver loginMemberResolver,
             final SharingIdGenerator sharingIdGenerator,
-            final ReservationStrategies reservationStrategies) {
+            final ReservationStrategies reservationStrategies,
+            final CompiledSettingsCache compiledSettingsCache,
+            final ReservationDayViewCache reservationDayViewCache) {
         this.maps = maps;
         this.reservations = reservations;
-        this.members = members;
+        this.spaces = spaces;
+        this.loginMemberResolver = loginMemberResolver;
         this.sharingIdGenerator = sharingIdGenerator;
         this.reservationStrategies = reservationStrategies;
+        this.compiledSettingsCache = compiledSettingsCache;
+        this.reservationDayViewCache = reservationDayViewCache;
     }
 
     public ReservationCreateResponse saveReservation(
@@ -65,6 +76,8 @@ public class ReservationService {
         validateAvailability(reservation, new ExcludeReservationCreateStrategy());
 
         Reservation savedReservation = reservations.save(reservation);
+        maps.increaseChangeVersion(mapId);
+        reservationDayViewCache.invalidate(mapId);
 
         map.activateSharingMapId(sharingIdGenerator);
 
@@ -77,16 +90,12 @@ public class ReservationService {
 
         Long mapId = reservationFindAllDto.getMapId();
         LoginUserEmail loginUserEmail = reservationFindAllDto.getLoginUserEmail();
-
-        Map map = maps.findByIdFetch(mapId)
-                .orElseThrow(NoSuchMapException::new);
-        reservationStrategy.validateManagerOfMap(map, loginUserEmail);
-
-        List<Space> findSpaces = map.getSpaces();
         LocalDate date = reservationFindAllDto.getDate();
-        List<Reservation> findReservations = getReservations(findSpaces, date);
 
-        return ReservationFindAllResponse.of(findSpaces, findReservations, getLoginUser(loginUserEmail));
+        ReservationDayView dayView = reservationDayViewCache.get(mapId, date, () -> findDayView(mapId, date));
+        reservationStrategy.validateManagerOfMap(dayView.getManagerEmail(), loginUserEmail);
+
+        return ReservationFindAllResponse.of(dayView, getLoginUserId(loginUserEmail));
     }
 
     @Transactional(readOnly = true)
@@ -134,44 +143,59 @@ public class ReservationService {
     }
 
     @Transactional(readOnly = true)
-    public ReservationInfiniteScrollResponse findUpcomingReservations(final LoginUserEmail loginUserEmail, final Pageable pageable) {
-        Member member = members.findByEmail(loginUserEmail.getEmail())
-                .orElseThrow(NoSuchMemberException::new);
+    public ReservationInfiniteScrollResponse findUpcomingReservations(
+            final LoginUserEmail loginUserEmail,
+            final String cursor,
+            final Pageable pageable) {
+        validateCursorPageRequest(cursor, pageable);
+        Member member = loginMemberResolver.resolve(loginUserEmail);
 
         LocalDateTime now = LocalDateTime.now();
-        Slice<Reservation> reservationSlice = reservations.findAllByMemberAndReservationTimeDateGreaterThanEqualAndReservationTimeEndTimeGreaterThanEqual(
-                member,
-                TimeZoneUtils.convertTo(now, ServiceZone.KOREA).toLocalDate(),
-                now,
-                pageable);
-        List<Reservation> upcomingReservations = reservationSlice.getContent()
-                .stream()
-                .sorted(Comparator.comparing(Reservation::getStartTime))
-                .peek(reservation -> reservation.getSpace().getMap().activateSharingMapId(sharingIdGenerator))
-                .collect(Collectors.toList());
+        LocalDate earliestServiceDate = TimeZoneUtils.getEarliestServiceDate(now);
+        Pageable seekPageable = PageRequest.of(0, pageable.getPageSize());
+        Slice<Reservation> reservationSlice;
+        if (cursor == null) {
+            reservationSlice = reservations.findUpcomingByMember(member, earliestServiceDate, now, seekPageable);
+        } else {
+            ReservationCursor reservationCursor = ReservationCursor.from(cursor);
+            reservationSlice = reservations.findUpcomingByMemberAfter(
+                    member,
+                    earliestServiceDate,
+                    now,
+                    reservationCursor.getStartTime(),
+                    reservationCursor.getId(),
+                    seekPageable);
+        }
 
-        return ReservationInfiniteScrollResponse.of(upcomingReservations, reservationSlice.hasNext(), pageable.getPageNumber());
+        return toInfiniteScrollResponse(reservationSlice, pageable.getPageNumber());
     }
 
     @Transactional(readOnly = true)
-    public ReservationInfiniteScrollResponse findPreviousReservations(final LoginUserEmail loginUserEmail, final Pageable pageable) {
-        Member member = members.findByEmail(loginUserEmail.getEmail())
-                .orElseThrow(NoSuchMemberException::new);
+    public ReservationInfiniteScrollResponse findPreviousReservations(
+            final LoginUserEmail loginUserEmail,
+            final String cursor,
+            final Pageable pageable) {
+        validateCursorPageRequest(cursor, pageable);
+        Member member = loginMemberResolver.resolve(loginUserEmail);
 
         LocalDateTime now = LocalDateTime.now();
-        Slice<Reservation> reservationSlice = reservations.findAllByMemberAndReservationTimeDateLessThanEqualAndReservationTimeEndTimeLessThanEqual(
-                member,
-                TimeZoneUtils.convertTo(now, ServiceZone.KOREA).toLocalDate(),
-                now,
-                pageable);
-
-        List<Reservation> previousReservations = reservationSlice.getContent()
-                .stream()
-                .sorted(Comparator.comparing(Reservation::getStartTime).reversed())
-                .peek(reservation -> reservation.getSpace().getMap().activateSharingMapId(sharingIdGenerator))
-                .collect(Collectors.toList());
+        LocalDate latestServiceDate = TimeZoneUtils.getLatestServiceDate(now);
+        Pageable seekPageable = PageRequest.of(0, pageable.getPageSize());
+        Slice<Reservation> reservationSlice;
+        if (cursor == null) {
+            reservationSlice = reservations.findPreviousByMember(member, latestServiceDate, now, seekPageable);
+        } else {
+            ReservationCursor reservationCursor = ReservationCursor.from(cursor);
+            reservationSlice = reservations.findPreviousByMemberBefore(
+                    member,
+                    latestServiceDate,
+                    now,
+                    reservationCursor.getStartTime(),
+                    reservationCursor.getId(),
+                    seekPageable);
+        }
 
-        return ReservationInfiniteScrollResponse.of(previousReservations, reservationSlice.hasNext(), pageable.getPageNumber());
+        return toInfiniteScrollResponse(reservationSlice, pageable.getPageNumber());
     }
 
     @Transactional(readOnly = true)
@@ -181,16 +205,17 @@ public class ReservationService {
             final Pageable pageable) {
         Slice<Reservation> reservationSlice = reservations.findAllByUserNameAndReservationTimeDateGreaterThanEqualAndReservationTimeEndTimeGreaterThanEqualAndMemberIsNull(
                 userName,
-                TimeZoneUtils.convertTo(searchStartTime, ServiceZone.KOREA).toLocalDate(),
+                TimeZoneUtils.getEarliestServiceDate(searchStartTime),
                 searchStartTime,
                 pageable);
 
         List<Reservation> upcomingNonLoginReservations = reservationSlice.getContent()
                 .stream()
                 .sorted(Comparator.comparing(Reservation::getStartTime))
-                .peek(reservation -> reservation.getSpace().getMap().activateSharingMapId(sharingIdGenerator))
                 .collect(Collectors.toList());
 
+        activateSharingMapIds(upcomingNonLoginReservations);
+
         return ReservationInfiniteScrollResponse.of(upcomingNonLoginReservations, reservationSlice.hasNext(), pageable.getPageNumber());
     }
 
@@ -213,6 +238,8 @@ public class ReservationService {
         validateAvailability(updateReservation, new ExcludeReservationUpdateStrategy(reservation));
 
         reservation.update(updateReservation);
+        maps.increaseChangeVersion(mapId);
+        reservationDayViewCache.invalidate(mapId);
 
         map.activateSharingMapId(sharingIdGenerator);
 
@@ -245,6 +272,8 @@ public class ReservationService {
         }
 
         reservations.delete(reservation);
+        maps.increaseChangeVersion(mapId);
+        reservationDayViewCache.invalidate(mapId);
 
         map.activateSharingMapId(sharingIdGenerator);
 
@@ -255,8 +284,51 @@ public class ReservationService {
         if (!loginUserEmail.exists()) {
             return Member.builder().build();
         }
-        return members.findByEmail(loginUserEmail.getEmail())
-                .orElseThrow(NoSuchMemberException::new);
+        return loginMemberResolver.resolve(loginUserEmail);
+    }
+
+    private Long getLoginUserId(final LoginUserEmail loginUserEmail) {
+        if (!loginUserEmail.exists()) {
+            return null;
+        }
+        return loginMemberResolver.resolveId(loginUserEmail);
+    }
+
+    /**
+     * 회원 예약 목록은 OFFSET 없이 커서 다음부터 읽으므로, 커서 없이 첫 페이지가 아닌 page 를 요청하면 (기존 page 방식) 거절한다
+     */
+    private void validateCursorPageRequest(final String cursor, final Pageable pageable) {
+        if (cursor == null && pageable.getPageNumber() > 0) {
+            throw new ReservationCursorRequiredException();
+        }
+    }
+
+    private ReservationInfiniteScrollResponse toInfiniteScrollResponse(
+            final Slice<Reservation> reservationSlice,
+            final int pageNumber) {
+        List<Reservation> reservationsInPage = reservationSlice.getContent();
+        activateSharingMapIds(reservationsInPage);
+
+        String nextCursor = null;
+        if (reservationSlice.hasNext()) {
+            Reservation lastReservation = reservationsInPage.get(reservationsInPage.size() - 1);
+            nextCursor = ReservationCursor.from(lastReservation).toToken();
+        }
+        return ReservationInfiniteScrollResponse.of(reservationsInPage, reservationSlice.hasNext(), pageNumber, nextCursor);
+    }
+
+    private void activateSharingMapIds(final List<Reservation> reservations) {
+        List<Map> reservationMaps = reservations.stream()
+                .map(reservation -> reservation.getSpace().getMap())
+                .collect(Collectors.toList());
+        sharingIdGenerator.activateAll(reservationMaps);
+    }
+
+    private ReservationDayView findDayView(final Long mapId, final LocalDate date) {
+        Map map = maps.findByIdFetch(mapId)
+                .orElseThrow(NoSuchMapException::new);
+        List<Reservation> findReservations = getReservations(map.getSpaces(), date);
+        return ReservationDayView.of(map, findReservations);
     }
 
     private void validateDeletability(final Reservation reservation) {
@@ -276,46 +348,39 @@ public class ReservationService {
         Space space = reservation.getSpace();
         validateSpaceSetting(space, reservation);
 
-        List<Reservation> reservationsOnDate = getReservations(
-                Collections.singletonList(space),
-                reservation.getDate());
-        excludeReservationStrategy.apply(space, reservationsOnDate);
-
-        validateTimeConflicts(reservation, reservationsOnDate);
+        validateTimeConflicts(reservation, excludeReservationStrategy);
     }
 
     private void validateSpaceSetting(final Space space, final Reservation reservation) {
         TimeSlot timeSlot = reservation.getTimeSlot();
         DayOfWeek dayOfWeek = reservation.getDayOfWeek();
 
-        Settings relevantSettings = space.getRelevantSettings(timeSlot, dayOfWeek);
+        SettingViolation settingViolation = compiledSettingsCache.get(space).validate(dayOfWeek, timeSlot);
 
-        if (relevantSettings.isEmpty()) {
+        if (settingViolation == SettingViolation.NO_SETTING) {
             space.getSpaceSettings().flatten();
             throw new NoSettingAvailableException(space);
         }
 
         // TODO: 추후 N부제 -> 예약 유도로 넘어갈 때 이부분이 제거되어야함 - 여러 조건에 걸치면 유도하는 식으로 로직이 변경되어야 하기 때문
-        if (relevantSettings.haveMultipleSettings()) {
-            throw new MultipleSettingsException(relevantSettings);
+        if (settingViolation == SettingViolation.MULTIPLE_SETTINGS) {
+            throw new MultipleSettingsException(space.getRelevantSettings(timeSlot, dayOfWeek));
         }
 
-        if (relevantSettings.cannotAcceptDueToAvailableTime(timeSlot, dayOfWeek)) {
+        if (settingViolation == SettingViolation.UNAVAILABLE_TIME) {
+            Settings relevantSettings = space.getRelevantSettings(timeSlot, dayOfWeek);
             throw new InvalidStartEndTimeException(relevantSettings.getUnavailableTimeSlots(dayOfWeek), timeSlot);
         }
 
-        // TODO: 2023/02/09 기준, 예약은 하나의 세팅만 걸쳐야한다
-        Setting setting = relevantSettings.getSettings().get(0);
-
-        if (setting.cannotAcceptDueToTimeUnit(timeSlot)) {
+        if (settingViolation == SettingViolation.TIME_UNIT) {
             throw new InvalidTimeUnitException();
         }
 
-        if (setting.cannotAcceptDueToMinimumTimeUnit(timeSlot)) {
+        if (settingViolation == SettingViolation.MINIMUM_TIME_UNIT) {
             throw new InvalidMinimumDurationTimeException();
         }
 
-        if (setting.cannotAcceptDueToMaximumTimeUnit(timeSlot)) {
+        if (settingViolation == SettingViolation.MAXIMUM_TIME_UNIT) {
             throw new InvalidMaximumDurationTimeException();
         }
 
@@ -324,13 +389,27 @@ public class ReservationService {
         }
     }
 
+    /**
+     * 공간 row 에 쓰기 잠금 (select ... for update) 을 걸고 겹치는 예약을 조회한다
+     * 같은 공간의 예약 생성/수정은 트랜잭션이 끝날 때까지 차례로 실행되므로, 동시에 겹치는 예약이 저장되지 않는다
+     */
     private void validateTimeConflicts(
             final Reservation reservation,
-            final List<Reservation> reservationsOnDate) {
-        for (Reservation existingReservation : reservationsOnDate) {
-            if (existingReservation.hasConflictWith(reservation)) {
-                throw new ReservationAlreadyExistsException();
-            }
+            final ExcludeReservationStrategy excludeReservationStrategy) {
+        Space space = reservation.getSpace();
+        ReservationTime reservationTime = reservation.getReservationTime();
+
+        // 공간은 맵에서 이미 확인했으므로 잠금만 건다
+        spaces.findByIdForUpdate(space.getId());
+        boolean hasConflictInDatabase = reservations.findAllOverlapping(
+                        space.getId(),
+                        reservation.getDate(),
+                        reservationTime.getStartTime(),
+                        reservationTime.getEndTime())
+                .stream()
+                .anyMatch(overlappingReservation -> !excludeReservationStrategy.excludes(space, overlappingReservation.getId()));
+        if (hasConflictInDatabase) {
+            throw new ReservationAlreadyExistsException();
         }
     }
 
@@ -339,7 +418,7 @@ public class ReservationService {
                 .map(Space::getId)
                 .collect(Collectors.toList());
 
-        return reservations.findAllBySpaceIdInAndReservationTimeDate(spaceIds, date);
+        return reservations.findAllBySpaceIdInAndDateFetch(spaceIds, date);
     }
 
     private void validateSpaceExistence(final Map map, final Long spaceId) {
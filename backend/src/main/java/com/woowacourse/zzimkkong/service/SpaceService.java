@@ -7,6 +7,9 @@ import com.woowacourse.zzimkkong.dto.space.*;
 import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
 import com.woowacourse.zzimkkong.exception.space.NoSuchSpaceException;
 import com.woowacourse.zzimkkong.exception.space.ReservationExistOnSpaceException;
+import com.woowacourse.zzimkkong.infrastructure.reservation.ReservationDayViewCache;
+import com.woowacourse.zzimkkong.infrastructure.setting.CompiledSettingsCache;
+import com.woowacourse.zzimkkong.infrastructure.space.AvailabilityGridExecutor;
 import com.woowacourse.zzimkkong.repository.MapRepository;
 import com.woowacourse.zzimkkong.repository.ReservationRepository;
 import com.woowacourse.zzimkkong.repository.SpaceRepository;
@@ -14,7 +17,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -22,17 +27,28 @@ import java.util.stream.Collectors;
 @Service
 @Transactional
 public class SpaceService {
+    private static final int MAXIMUM_AVAILABLE_SLOT_COUNT = 20;
+
     private final MapRepository maps;
     private final SpaceRepository spaces;
     private final ReservationRepository reservations;
+    private final CompiledSettingsCache compiledSettingsCache;
+    private final AvailabilityGridExecutor availabilityGridExecutor;
+    private final ReservationDayViewCache reservationDayViewCache;
 
     public SpaceService(
             final MapRepository maps,
             final SpaceRepository spaces,
-            final ReservationRepository reservations) {
+            final ReservationRepository reservations,
+            final CompiledSettingsCache compiledSettingsCache,
+            final AvailabilityGridExecutor availabilityGridExecutor,
+            final ReservationDayViewCache reservationDayViewCache) {
         this.maps = maps;
         this.spaces = spaces;
         this.reservations = reservations;
+        this.compiledSettingsCache = compiledSettingsCache;
+        this.availabilityGridExecutor = availabilityGridExecutor;
+        this.reservationDayViewCache = reservationDayViewCache;
     }
 
     public SpaceCreateResponse saveSpace(
@@ -53,6 +69,8 @@ public class SpaceService {
                 .map(map)
                 .build();
         Space saveSpace = spaces.save(space);
+        maps.increaseChangeVersion(mapId);
+        reservationDayViewCache.invalidate(mapId);
 
         map.updateThumbnail(spaceCreateUpdateRequest.getThumbnail());
 
@@ -88,7 +106,7 @@ public class SpaceService {
     public SpaceFindAllResponse findAllSpace(
             final Long mapId,
             final LoginUserEmail loginUserEmail) {
-        Map map = maps.findByIdFetch(mapId)
+        Map map = maps.findByIdFetchSettings(mapId)
                 .orElseThrow(NoSuchMapException::new);
         validateManagerOfMap(map, loginUserEmail.getEmail());
 
@@ -99,7 +117,7 @@ public class SpaceService {
     @Transactional(readOnly = true)
     public SpaceFindAllResponse findAllSpace(
             final Long mapId) {
-        Map map = maps.findByIdFetch(mapId)
+        Map map = maps.findByIdFetchSettings(mapId)
                 .orElseThrow(NoSuchMapException::new);
         List<Space> findAllSpaces = map.getSpaces();
         return SpaceFindAllResponse.from(findAllSpaces);
@@ -109,7 +127,7 @@ public class SpaceService {
             final Long mapId,
             final LocalDateTime startDateTime,
             final LocalDateTime endDateTime) {
-        Map map = maps.findByIdFetch(mapId)
+        Map map = maps.findByIdFetchSettings(mapId)
                 .orElseThrow(NoSuchMapException::new);
         List<Space> allSpaces = map.getSpaces();
 
@@ -125,14 +143,103 @@ public class SpaceService {
                 .filter(reservation -> reservationTime.hasConflictWith(reservation.getReservationTime()))
                 .map(Reservation::getSpace)
                 .collect(Collectors.toSet());
+        TimeSlot timeSlot = reservationTime.at(map.getServiceZone());
         List<Space> settingViolatedSpaces = allSpaces.stream()
-                .filter(space -> isSpaceSettingViolated(space, reservationTime))
+                .filter(space -> isSpaceSettingViolated(space, reservationTime.getDayOfWeek(), timeSlot))
                 .collect(Collectors.toList());
         unavailableSpaces.addAll(settingViolatedSpaces);
 
         return SpaceFindAllAvailabilityResponse.of(mapId, allSpaces, unavailableSpaces);
     }
 
+    /**
+     * 예약 조건과 예약 목록은 요청 스레드에서 모두 읽어 두고, 공간별 격자 계산만 fork-join pool 에서 동시에 수행한다
+     */
+    @Transactional(readOnly = true)
+    public SpaceFindAllAvailabilityGridResponse findAllSpaceAvailabilityGrid(
+            final Long mapId,
+            final LocalDate startDate,
+            final LocalDate endDate,
+            final Integer slotMinutes) {
+        AvailabilityGrid availabilityGrid = AvailabilityGrid.of(startDate, endDate, TimeUnit.from(slotMinutes));
+        Map map = maps.findByIdFetchSettings(mapId)
+                .orElseThrow(NoSuchMapException::new);
+        List<Space> allSpaces = map.getSpaces();
+
+        Set<Long> spaceIds = allSpaces.stream().map(Space::getId).collect(Collectors.toSet());
+        SpaceReservationTimes spaceReservationTimes = SpaceReservationTimes.from(
+                reservations.findAllBySpaceIdInAndDateBetween(spaceIds, startDate, endDate));
+
+        List<SpaceGridSource> spaceGridSources = allSpaces.stream()
+                .map(space -> new SpaceGridSource(
+                        compiledSettingsCache.get(space),
+                        !space.isUnableToReserve(),
+                        spaceReservationTimes.getOf(space)))
+                .collect(Collectors.toList());
+
+        ServiceZone serviceZone = map.getServiceZone();
+        List<BitSet> availableSlots = availabilityGridExecutor.map(
+                spaceGridSources,
+                spaceGridSource -> availabilityGrid.getAvailableSlots(
+                        spaceGridSource.compiledSettings,
+                        spaceGridSource.reservationEnable,
+                        spaceGridSource.reservationTimes,
+                        serviceZone));
+
+        return SpaceFindAllAvailabilityGridResponse.of(mapId, availabilityGrid, allSpaces, availableSlots);
+    }
+
+    /**
+     * 기간 안에서 durationMinutes 동안 예약할 수 있는 가장 이른 (공간, 시작 시간) 후보들을 최대 count 개 반환한다
+     * spaceIds 가 비어 있으면 맵의 모든 공간에서 찾는다
+     */
+    @Transactional(readOnly = true)
+    public SpaceFindAllAvailableSlotResponse findAvailableSlots(
+            final Long mapId,
+            final LocalDateTime startDateTime,
+            final LocalDateTime endDateTime,
+            final Integer durationMinutes,
+            final List<Long> spaceIds,
+            final Integer count) {
+        Map map = maps.findByIdFetchSettings(mapId)
+                .orElseThrow(NoSuchMapException::new);
+        AvailableSlotFinder availableSlotFinder = AvailableSlotFinder.of(
+                startDateTime,
+                endDateTime,
+                LocalDateTime.now(),
+                TimeUnit.from(durationMinutes),
+                map.getServiceZone());
+
+        List<Space> searchSpaces = findSearchSpaces(map, spaceIds).stream()
+                .filter(space -> !space.isUnableToReserve())
+                .collect(Collectors.toList());
+        Set<Long> searchSpaceIds = searchSpaces.stream().map(Space::getId).collect(Collectors.toSet());
+        SpaceReservationTimes spaceReservationTimes = SpaceReservationTimes.from(
+                reservations.findAllBySpaceIdInAndDateBetween(
+                        searchSpaceIds,
+                        availableSlotFinder.getStartDate(),
+                        availableSlotFinder.getEndDate()));
+
+        List<AvailableSlot> availableSlots = availableSlotFinder.findEarliest(
+                searchSpaces,
+                compiledSettingsCache::get,
+                spaceReservationTimes::getOf,
+                Math.min(count, MAXIMUM_AVAILABLE_SLOT_COUNT));
+        return SpaceFindAllAvailableSlotResponse.of(mapId, availableSlots);
+    }
+
+    private List<Space> findSearchSpaces(final Map map, final List<Long> spaceIds) {
+        if (spaceIds == null || spaceIds.isEmpty()) {
+            return map.getSpaces();
+        }
+
+        return spaceIds.stream()
+                .distinct()
+                .map(spaceId -> map.findSpaceById(spaceId)
+                        .orElseThrow(NoSuchSpaceException::new))
+                .collect(Collectors.toList());
+    }
+
     public void updateSpace(
             final Long mapId,
             final Long spaceId,
@@ -155,6 +262,8 @@ public class SpaceService {
                 .build();
 
         space.update(updateSpace);
+        maps.increaseChangeVersion(mapId);
+        reservationDayViewCache.invalidate(mapId);
 
         map.updateThumbnail(spaceCreateUpdateRequest.getThumbnail());
     }
@@ -174,6 +283,8 @@ public class SpaceService {
         validateReservationExistence(spaceId);
 
         spaces.delete(space);
+        maps.increaseChangeVersion(mapId);
+        reservationDayViewCache.invalidate(mapId);
 
         map.updateThumbnail(spaceDeleteRequest.getThumbnail());
     }
@@ -192,19 +303,28 @@ public class SpaceService {
 
     /**
      * Reference {@link ReservationService#validateSpaceSetting(Space, Reservation)}}
+     * 맵의 모든 공간은 같은 서비스 지역에 있으므로 현지 시간대는 공간마다 변환하지 않고 한 번만 구해 넘긴다
      */
-    private Boolean isSpaceSettingViolated(final Space space, final ReservationTime reservationTime) {
-        TimeSlot timeSlot = reservationTime.at(space.getServiceZone());
-        DayOfWeek dayOfWeek = reservationTime.getDayOfWeek();
-
-        Settings relevantSettings = space.getRelevantSettings(timeSlot, dayOfWeek);
-
-        return relevantSettings.isEmpty() ||
-                relevantSettings.haveMultipleSettings() ||
-                relevantSettings.cannotAcceptDueToAvailableTime(timeSlot, dayOfWeek) ||
-                relevantSettings.getSettings().get(0).cannotAcceptDueToTimeUnit(timeSlot) ||
-                relevantSettings.getSettings().get(0).cannotAcceptDueToMinimumTimeUnit(timeSlot) ||
-                relevantSettings.getSettings().get(0).cannotAcceptDueToMaximumTimeUnit(timeSlot) ||
+    private Boolean isSpaceSettingViolated(final Space space, final DayOfWeek dayOfWeek, final TimeSlot timeSlot) {
+        return compiledSettingsCache.get(space).validate(dayOfWeek, timeSlot).exists() ||
                 space.isUnableToReserve();
     }
+
+    /**
+     * 격자 계산에 필요한 공간 하나의 값들. 영속성 컨텍스트 밖의 스레드에서 읽으므로 요청 스레드에서 미리 구해 둔다
+     */
+    private static class SpaceGridSource {
+        private final CompiledSettings compiledSettings;
+        private final boolean reservationEnable;
+        private final List<ReservationTime> reservationTimes;
+
+        private SpaceGridSource(
+                final CompiledSettings compiledSettings,
+                final boolean reservationEnable,
+                final List<ReservationTime> reservationTimes) {
+            this.compiledSettings = compiledSettings;
+            this.reservationEnable = reservationEnable;
+            this.reservationTimes = reservationTimes;
+        }
+    }
 }
@@ -3,8 +3,6 @@ package com.woowacourse.zzimkkong.service.strategy;
 import com.woowacourse.zzimkkong.domain.Reservation;
 import com.woowacourse.zzimkkong.domain.Space;
 
-import java.util.List;
-
 public class ExcludeReservationUpdateStrategy implements ExcludeReservationStrategy {
     private final Reservation reservation;
 
@@ -13,9 +11,7 @@ public class ExcludeReservationUpdateStrategy implements ExcludeReservationStrat
     }
 
     @Override
-    public void apply(final Space space, final List<Reservation> reservationsOnDate) {
-        if (reservation.getSpace().equals(space)) {
-            reservationsOnDate.remove(reservation);
-        }
+    public boolean excludes(final Space space, final Long reservationId) {
+        return reservation.getSpace().equals(space) && reservation.getId().equals(reservationId);
     }
 }
@@ -3,16 +3,18 @@ package com.woowacourse.zzimkkong.service.strategy;
 import com.woowacourse.zzimkkong.domain.*;
 import com.woowacourse.zzimkkong.dto.member.LoginUserEmail;
 import com.woowacourse.zzimkkong.dto.reservation.ReservationCreateDto;
-import com.woowacourse.zzimkkong.exception.member.NoSuchMemberException;
 import com.woowacourse.zzimkkong.exception.reservation.NoAuthorityOnReservationException;
 import com.woowacourse.zzimkkong.repository.MemberRepository;
+import com.woowacourse.zzimkkong.service.LoginMemberResolver;
 import org.springframework.stereotype.Component;
 
 @Component
 public class LoginGuestReservationStrategy extends ReservationStrategy {
+    private final LoginMemberResolver loginMemberResolver;
 
-    public LoginGuestReservationStrategy(final MemberRepository members) {
+    public LoginGuestReservationStrategy(final MemberRepository members, final LoginMemberResolver loginMemberResolver) {
         super(members);
+        this.loginMemberResolver = loginMemberResolver;
     }
 
     @Override
@@ -25,11 +27,15 @@ public class LoginGuestReservationStrategy extends ReservationStrategy {
         // 로그인 예약은 맵의 관리자 확인과정 생략
     }
 
+    @Override
+    public void validateManagerOfMap(final String managerEmail, final LoginUserEmail loginUserEmail) {
+        // 로그인 예약은 맵의 관리자 확인과정 생략
+    }
+
     @Override
     public void validateOwnerOfReservation(final Reservation reservation, final String password, final LoginUserEmail loginUserEmail) {
         if (loginUserEmail.exists()) {
-            Member member = members.findByEmail(loginUserEmail.getEmail())
-                    .orElseThrow(NoSuchMemberException::new);
+            Member member = loginMemberResolver.resolve(loginUserEmail);
             if (reservation.isNotOwnedBy(member)) {
                 throw new NoAuthorityOnReservationException();
             }
@@ -50,8 +56,7 @@ public class LoginGuestReservationStrategy extends ReservationStrategy {
             throw new NoAuthorityOnReservationException();
         }
 
-        Member member = members.findByEmail(loginUserEmail.getEmail())
-                .orElseThrow(NoSuchMemberException::new);
+        Member member = loginMemberResolver.resolveForWrite(loginUserEmail);
         return Reservation.builder()
                 .reservationTime(reservationTime)
                 .member(member)
@@ -22,7 +22,12 @@ public class ManagerNonLoginGuestReservationStrategy extends ReservationStrategy
     @Override
     public void validateManagerOfMap(final Map map, final LoginUserEmail loginUserEmail) {
         Member manager = map.getMember();
-        if (!manager.hasEmail(loginUserEmail.getEmail())) {
+        validateManagerOfMap(manager.getEmail(), loginUserEmail);
+    }
+
+    @Override
+    public void validateManagerOfMap(final String managerEmail, final LoginUserEmail loginUserEmail) {
+        if (!managerEmail.equals(loginUserEmail.getEmail())) {
             throw new NoAuthorityOnMapException();
         }
     }
@@ -25,6 +25,11 @@ public class NonLoginGuestReservationStrategy extends ReservationStrategy {
         // 비로그인 예약은 맵의 관리자 확인과정 생략
     }
 
+    @Override
+    public void validateManagerOfMap(final String managerEmail, final LoginUserEmail loginUserEmail) {
+        // 비로그인 예약은 맵의 관리자 확인과정 생략
+    }
+
     @Override
     public void validateOwnerOfReservation(final Reservation reservation, final String password, final LoginUserEmail loginUserEmail) {
         if (reservation.hasMember()) {
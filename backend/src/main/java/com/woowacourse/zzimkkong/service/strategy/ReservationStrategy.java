@@ -17,6 +17,11 @@ public abstract class ReservationStrategy {
 
     public abstract void validateManagerOfMap(final Map map, final LoginUserEmail loginUserEmail);
 
+    /**
+     * 맵 엔티티 대신 맵 관리자의 이메일로 {@link #validateManagerOfMap(Map, LoginUserEmail)} 와 같은 검증을 한다
+     */
+    public abstract void validateManagerOfMap(final String managerEmail, final LoginUserEmail loginUserEmail);
+
     public abstract void validateOwnerOfReservation(final Reservation reservation, final String password, final LoginUserEmail loginUserEmail);
 
     public abstract boolean isManager();
@@ -0,0 +1,56 @@
+package db.migration.prod;
+
+import com.woowacourse.zzimkkong.infrastructure.compression.GzipUtils;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 맵 도면, 썸네일을 gzip 으로 압축한 컬럼 (map_drawing_gzip, thumbnail_gzip) 으로 옮긴다
+ * MySQL 에는 gzip 형식으로 압축하는 함수가 없으므로 ({@code COMPRESS()} 는 zlib 형식) 애플리케이션과 같은 {@link GzipUtils} 로 압축한다
+ */
+public class V27__compress_map_content extends BaseJavaMigration {
+    private static final int BATCH_SIZE = 100;
+
+    @Override
+    public void migrate(final Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE map_content ADD COLUMN map_drawing_gzip longblob");
+            statement.execute("ALTER TABLE map_content ADD COLUMN thumbnail_gzip longblob");
+        }
+
+        compressExistingContents(connection);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE map_content MODIFY COLUMN map_drawing_gzip longblob not null");
+            statement.execute("ALTER TABLE map_content MODIFY COLUMN thumbnail_gzip longblob not null");
+            statement.execute("ALTER TABLE map_content DROP COLUMN map_drawing");
+            statement.execute("ALTER TABLE map_content DROP COLUMN thumbnail");
+        }
+    }
+
+    private void compressExistingContents(final Connection connection) throws Exception {
+        try (Statement select = connection.createStatement();
+             ResultSet contents = select.executeQuery("SELECT id, map_drawing, thumbnail FROM map_content");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE map_content SET map_drawing_gzip = ?, thumbnail_gzip = ? WHERE id = ?")) {
+            int batchCount = 0;
+            while (contents.next()) {
+                update.setBytes(1, GzipUtils.compress(contents.getString("map_drawing")));
+                update.setBytes(2, GzipUtils.compress(contents.getString("thumbnail")));
+                update.setLong(3, contents.getLong("id"));
+                update.addBatch();
+
+                if (++batchCount % BATCH_SIZE == 0) {
+                    update.executeBatch();
+                }
+            }
+            update.executeBatch();
+        }
+    }
+}
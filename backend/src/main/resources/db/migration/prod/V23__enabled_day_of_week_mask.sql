@@ -0,0 +1,26 @@
+-- ADD Columns (bit n = n 번째 요일, 월요일 = bit 0)
+ALTER TABLE setting ADD COLUMN enabled_day_of_week_mask integer not null default 0;
+ALTER TABLE preset ADD COLUMN enabled_day_of_week_mask integer not null default 0;
+
+-- Data Migration
+UPDATE setting
+SET enabled_day_of_week_mask =
+        (FIND_IN_SET('monday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0)
+        | ((FIND_IN_SET('tuesday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 1)
+        | ((FIND_IN_SET('wednesday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 2)
+        | ((FIND_IN_SET('thursday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 3)
+        | ((FIND_IN_SET('friday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 4)
+        | ((FIND_IN_SET('saturday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 5)
+        | ((FIND_IN_SET('sunday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 6)
+WHERE enabled_day_of_week IS NOT NULL;
+
+UPDATE preset
+SET enabled_day_of_week_mask =
+        (FIND_IN_SET('monday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0)
+        | ((FIND_IN_SET('tuesday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 1)
+        | ((FIND_IN_SET('wednesday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 2)
+        | ((FIND_IN_SET('thursday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 3)
+        | ((FIND_IN_SET('friday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 4)
+        | ((FIND_IN_SET('saturday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 5)
+        | ((FIND_IN_SET('sunday', REPLACE(LOWER(enabled_day_of_week), ' ', '')) > 0) << 6)
+WHERE enabled_day_of_week IS NOT NULL;
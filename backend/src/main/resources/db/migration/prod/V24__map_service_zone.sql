@@ -0,0 +1,2 @@
+-- ADD Columns (ServiceZone enum 이름)
+ALTER TABLE map ADD COLUMN service_zone varchar(40) not null default 'KOREA';
@@ -0,0 +1,2 @@
+-- ADD Columns (맵 변경 버전, ETag)
+ALTER TABLE map ADD COLUMN change_version bigint not null default 0;
@@ -0,0 +1,22 @@
+-- 맵의 LOB (도면, 썸네일, 공지) 를 지연 로딩되는 map_content 테이블로 분리
+create table map_content
+(
+    id          bigint   not null auto_increment primary key,
+    map_drawing longtext not null,
+    thumbnail   longtext not null,
+    notice      longtext
+);
+
+insert into map_content (id, map_drawing, thumbnail, notice)
+select id, map_drawing, thumbnail, notice
+from map;
+
+ALTER TABLE map ADD COLUMN map_content_id bigint;
+UPDATE map SET map_content_id = id;
+ALTER TABLE map MODIFY COLUMN map_content_id bigint not null;
+ALTER TABLE map ADD CONSTRAINT uk_map_map_content UNIQUE (map_content_id);
+ALTER TABLE map ADD CONSTRAINT fk_map_map_content FOREIGN KEY (map_content_id) REFERENCES map_content (id);
+
+ALTER TABLE map DROP COLUMN map_drawing;
+ALTER TABLE map DROP COLUMN thumbnail;
+ALTER TABLE map DROP COLUMN notice;
@@ -0,0 +1,2 @@
+-- indexing
+CREATE INDEX i_memberid_starttime_id on reservation(member_id, start_time, id);
@@ -0,0 +1,78 @@
+package com.woowacourse.zzimkkong.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 컴파일 시점에 @LogMethodExecutionTime 이 붙은 타입들의 이름을 {@link #INDEX_LOCATION} 에 한 줄씩 기록한다
+ * 애플리케이션은 시작할 때 classpath 를 훑지 않고 이 목록만 읽는다 (LogProxyPostProcessor)
+ * 애노테이션 타입은 main 소스에 있으므로 이름으로만 참조한다
+ */
+public class LogMethodExecutionTimeIndexProcessor extends AbstractProcessor {
+    public static final String ANNOTATION_TYPE = "com.woowacourse.zzimkkong.config.logaspect.LogMethodExecutionTime";
+    public static final String INDEX_LOCATION = "META-INF/zzimkkong/log-method-execution-time.index";
+
+    private final Set<String> typeNames = new TreeSet<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(ANNOTATION_TYPE);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement) {
+                    typeNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                    originatingElements.add(element);
+                }
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT,
+                    "",
+                    INDEX_LOCATION,
+                    originatingElements.toArray(new Element[0]));
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String typeName : typeNames) {
+                    writer.write(typeName);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "failed to write " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.woowacourse.zzimkkong;
 
+import com.woowacourse.zzimkkong.infrastructure.member.MemberIdentityCache;
+import com.woowacourse.zzimkkong.infrastructure.reservation.ReservationDayViewCache;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,12 +20,18 @@ public class DatabaseCleaner implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private ReservationDayViewCache reservationDayViewCache;
+
+    @Autowired
+    private MemberIdentityCache memberIdentityCache;
+
     private List<String> tableNames;
 
     @Override
     public void afterPropertiesSet() {
         tableNames = entityManager.getMetamodel().getEntities().stream()
-                .map(entry -> entry.getName().toLowerCase(Locale.ROOT))
+                .map(entry -> entry.getName().replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT))
                 .collect(Collectors.toList());
     }
 
@@ -35,5 +44,14 @@ public class DatabaseCleaner implements InitializingBean {
             entityManager.createNativeQuery("ALTER TABLE " + tableName + " ALTER COLUMN id RESTART WITH 1").executeUpdate();
         }
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        clearCaches();
+    }
+
+    /**
+     * 테이블을 비우면 id 가 다시 1 부터 시작하므로, 이전 테스트의 id 로 채워진 캐시를 함께 비운다
+     */
+    public void clearCaches() {
+        reservationDayViewCache.clear();
+        memberIdentityCache.clear();
     }
 }
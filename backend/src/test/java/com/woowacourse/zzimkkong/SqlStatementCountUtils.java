@@ -0,0 +1,28 @@
+package com.woowacourse.zzimkkong;
+
+import com.woowacourse.zzimkkong.config.logaspect.SqlStatistics;
+import com.woowacourse.zzimkkong.config.logaspect.SqlStatisticsHolder;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 (RestAssured 호출 등) 을 보내는 동안 내장 서버에서 실행된 SQL 개수를 검증한다
+ * e.g. ExtractableResponse<Response> response = assertMaxStatementCount(5, () -> findAllReservations(api, date));
+ */
+public final class SqlStatementCountUtils {
+    private SqlStatementCountUtils() {
+    }
+
+    public static <T> T assertMaxStatementCount(final int maximumCount, final Supplier<T> request) {
+        AtomicReference<T> result = new AtomicReference<>();
+        SqlStatistics statistics = SqlStatisticsHolder.capture(() -> result.set(request.get()));
+
+        assertThat(statistics.getStatementCount())
+                .as("executed statements: %s", statistics.getRepeatedStatements(1))
+                .isLessThanOrEqualTo(maximumCount);
+        return result.get();
+    }
+}
@@ -0,0 +1,38 @@
+package com.woowacourse.zzimkkong;
+
+import com.woowacourse.zzimkkong.controller.MemberController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * test 프로필로 애플리케이션을 띄워 준비될 때까지 걸리는 시간을 잰다
+ * 제한 시간은 -Dstartup.max-millis 로 바꿀 수 있다 (느린 CI 장비 등)
+ * 다른 테스트의 컨텍스트와 같은 H2 DB 를 쓰면 create-drop 이 서로의 테이블을 지우므로 별도의 DB 를 사용한다
+ */
+class ZzimkkongApplicationStartupTest {
+    private static final long MAXIMUM_STARTUP_MILLIS = Long.getLong("startup.max-millis", 20_000);
+
+    @Test
+    @DisplayName("test 프로필의 애플리케이션 컨텍스트가 제한 시간 안에 준비된다")
+    void startup() {
+        long startedAt = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ZzimkkongApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+                .run()) {
+            Duration startupTime = Duration.ofNanos(System.nanoTime() - startedAt);
+
+            assertThat(startupTime).isLessThan(Duration.ofMillis(MAXIMUM_STARTUP_MILLIS));
+            assertThat(AopUtils.isAopProxy(context.getBean(MemberController.class))).isTrue();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BodyCapturingResponseWrapperTest {
+    @Test
+    @DisplayName("응답 본문은 모두 그대로 내보내고, 앞의 최대 크기만큼만 복사한다")
+    void getOutputStream() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        BodyCapturingResponseWrapper responseWrapper = new BodyCapturingResponseWrapper(response, 4);
+
+        responseWrapper.getOutputStream().write("zzimkkong".getBytes(StandardCharsets.UTF_8));
+
+        BodyCapture bodyCapture = responseWrapper.getBodyCapture();
+        assertThat(response.getContentAsString()).isEqualTo("zzimkkong");
+        assertThat(bodyCapture.toString(StandardCharsets.UTF_8)).isEqualTo("zzim");
+        assertThat(bodyCapture.getTotalLength()).isEqualTo(9);
+        assertThat(bodyCapture.isTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("writer 로 쓴 응답 본문도 내보내고 복사한다")
+    void getWriter() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        BodyCapturingResponseWrapper responseWrapper = new BodyCapturingResponseWrapper(response, 1024);
+
+        PrintWriter writer = responseWrapper.getWriter();
+        writer.write("찜꽁");
+        responseWrapper.flushWriter();
+
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("찜꽁");
+        assertThat(responseWrapper.getBodyCapture().toString(StandardCharsets.UTF_8)).isEqualTo("찜꽁");
+        assertThat(responseWrapper.getBodyCapture().isTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("읽힌 요청 본문의 앞의 최대 크기만큼만 복사한다")
+    void requestWrapper() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent("{\"name\":\"luther\"}".getBytes(StandardCharsets.UTF_8));
+        BodyCapturingRequestWrapper requestWrapper = new BodyCapturingRequestWrapper(request, 8);
+
+        byte[] body = requestWrapper.getInputStream().readAllBytes();
+
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"luther\"}");
+        assertThat(requestWrapper.getBodyCapture().toString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":");
+    }
+}
@@ -0,0 +1,70 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+    @ParameterizedTest
+    @ValueSource(longs = {0, 15, 16, 17, 1_000, 123_456, 9_876_543_210L})
+    @DisplayName("값이 속한 bucket 의 최댓값은 값 이상이고, 값과의 차이는 값의 1/16 이하이다")
+    void bucketIndexOf(long value) {
+        long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketIndexOf(value));
+
+        assertThat(upperBound).isGreaterThanOrEqualTo(value);
+        assertThat(upperBound - value).isLessThanOrEqualTo(value / 16);
+    }
+
+    @Test
+    @DisplayName("기록한 값들의 횟수, 평균, 최댓값, 백분위수를 구한다")
+    void snapshot() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getMeanNanos()).isEqualTo(500_500);
+        assertThat(snapshot.getMaximumNanos()).isEqualTo(1_000_000);
+        assertThat(snapshot.getPercentileNanos(50)).isBetween(500_000L, 500_000L + 500_000L / 16);
+        assertThat(snapshot.getPercentileNanos(99)).isBetween(990_000L, 1_000_000L);
+        assertThat(snapshot.getPercentileNanos(100)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 모든 값이 0 이다")
+    void snapshot_empty() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThat(snapshot.getCount()).isZero();
+        assertThat(snapshot.getMeanNanos()).isZero();
+        assertThat(snapshot.getPercentileNanos(99)).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 빠짐없이 센다")
+    void record_concurrently() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executorService.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(histogram.snapshot().getCount()).isEqualTo(40_000);
+    }
+}
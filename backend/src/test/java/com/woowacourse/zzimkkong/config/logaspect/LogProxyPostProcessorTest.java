@@ -0,0 +1,58 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import com.woowacourse.zzimkkong.controller.MemberController;
+import com.woowacourse.zzimkkong.infrastructure.reservation.ReservationDayViewCache;
+import com.woowacourse.zzimkkong.repository.MemberRepository;
+import com.woowacourse.zzimkkong.service.MemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogProxyPostProcessorTest {
+    private final LogProxyPostProcessor logProxyPostProcessor = new LogProxyPostProcessor(
+            new LogAspect(new MethodTimingRegistry(), 0));
+
+    @Test
+    @DisplayName("컴파일 시점에 만들어진 목록에서 @LogMethodExecutionTime 이 붙은 타입과 그룹을 읽는다")
+    void readIndex() {
+        Map<Class<?>, String> groupsByTypeToLog = LogProxyPostProcessor.readIndex(getClass().getClassLoader());
+
+        assertThat(groupsByTypeToLog)
+                .containsEntry(MemberRepository.class, "repository")
+                .containsEntry(MemberController.class, "controller")
+                .containsEntry(ReservationDayViewCache.class, "infrastructure")
+                .doesNotContainKey(MemberService.class);
+    }
+
+    @Test
+    @DisplayName("빈 클래스가 @LogMethodExecutionTime 이 붙은 인터페이스를 구현하면 그 인터페이스를 기록 대상으로 찾는다")
+    void findTypeToLog_interface() {
+        Object repository = Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{MemberRepository.class},
+                (proxy, method, args) -> null);
+
+        assertThat(logProxyPostProcessor.findTypeToLog(repository.getClass())).contains(MemberRepository.class);
+    }
+
+    @Test
+    @DisplayName("빈 클래스가 @LogMethodExecutionTime 이 붙은 클래스를 상속하면 그 클래스를 기록 대상으로 찾는다")
+    void findTypeToLog_superclass() {
+        ReservationDayViewCache subclass = new ReservationDayViewCache(0, 0) {
+        };
+
+        assertThat(logProxyPostProcessor.findTypeToLog(subclass.getClass())).contains(ReservationDayViewCache.class);
+    }
+
+    @Test
+    @DisplayName("기록 대상이 아닌 빈은 그대로 반환한다")
+    void postProcessAfterInitialization_notToLog() {
+        Object bean = new Object();
+
+        assertThat(logProxyPostProcessor.postProcessAfterInitialization(bean, "bean")).isSameAs(bean);
+    }
+}
@@ -0,0 +1,46 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestLogSamplerTest {
+    private final RequestLogSampler requestLogSampler = new RequestLogSampler(
+            1,
+            0,
+            "/api/guests=0, /api/guests/maps/drawing=1, /admin=0");
+
+    @ParameterizedTest
+    @CsvSource({
+            "/api/members/me, 200, true",
+            "/api/guests/maps, 200, false",
+            "/api/guests/maps/drawing, 200, true",
+            "/admin/api/members, 200, false",
+            "/api/guests/maps, 404, false",
+            "/api/guests/maps, 500, true",
+            "/admin/api/members, 503, true"})
+    @DisplayName("가장 길게 일치하는 경로의 비율을 사용하고, 5xx 응답은 항상 남긴다")
+    void isSampled(String requestUri, int status, boolean expected) {
+        assertThat(requestLogSampler.isSampled(requestUri, status)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 경로의 비율과 4xx 비율 중 큰 비율을 사용한다")
+    void isSampled_clientError() {
+        RequestLogSampler sampler = new RequestLogSampler(0, 1, "");
+
+        assertThat(sampler.isSampled("/api/guests/maps", 200)).isFalse();
+        assertThat(sampler.isSampled("/api/guests/maps", 400)).isTrue();
+    }
+
+    @Test
+    @DisplayName("경로별 비율 형식이 잘못되면 예외가 발생한다")
+    void create_invalidRouteSampleRates() {
+        assertThatThrownBy(() -> new RequestLogSampler(1, 1, "/api/guests"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
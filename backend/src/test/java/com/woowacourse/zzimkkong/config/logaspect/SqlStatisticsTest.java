@@ -0,0 +1,50 @@
+package com.woowacourse.zzimkkong.config.logaspect;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatisticsTest {
+    @Test
+    @DisplayName("값과 IN 절의 파라미터 개수만 다른 SQL 은 같은 fingerprint 를 가진다")
+    void fingerprintOf() {
+        String fingerprint = SqlStatistics.fingerprintOf("select s.id from space s\n    where s.map_id = 1 and s.name = 'be' and s.id in (?, ?, ?)");
+
+        assertThat(fingerprint).isEqualTo("select s.id from space s where s.map_id = ? and s.name = ? and s.id in (?)");
+        assertThat(SqlStatistics.fingerprintOf("select s.id from space s where s.map_id = 2 and s.name = 'fe' and s.id in (?)"))
+                .isEqualTo(fingerprint);
+    }
+
+    @Test
+    @DisplayName("SQL 개수와 반복된 SQL 을 센다")
+    void getRepeatedStatements() {
+        SqlStatistics statistics = new SqlStatistics("traceId");
+        statistics.recordStatement("select * from map where id=?");
+        for (int i = 0; i < 3; i++) {
+            statistics.recordStatement("select * from setting where space_id=?");
+        }
+
+        assertThat(statistics.getStatementCount()).isEqualTo(4);
+        assertThat(statistics.getRepeatedStatements(2))
+                .containsOnlyKeys("select * from setting where space_id=?")
+                .containsEntry("select * from setting where space_id=?", 3);
+    }
+
+    @Test
+    @DisplayName("구간 동안 실행된 SQL 을 스레드와 무관하게 센다")
+    void capture() {
+        SqlStatistics statistics = SqlStatisticsHolder.capture(() -> {
+            Thread thread = new Thread(() -> SqlStatisticsHolder.recordStatement("select * from member"));
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        SqlStatisticsHolder.recordStatement("select * from member");
+
+        assertThat(statistics.getStatementCount()).isEqualTo(1);
+    }
+}
@@ -192,6 +192,43 @@ class AdminControllerTest extends AcceptanceTest {
                 .isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("캐시별 크기와 적중/실패/제거 횟수를 조회한다.")
+    void getCaches() {
+        // given, when
+        ExtractableResponse<Response> response = get("/admin/api/caches");
+        CachesResponse actual = response.body().as(CachesResponse.class);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(actual.getCaches())
+                .extracting(CacheStatisticsResponse::getName)
+                .containsExactly("reservationDayView", "sharingId", "verifiedToken", "memberIdentity");
+    }
+
+    @Test
+    @DisplayName("group별 메서드 실행 시간의 백분위수를 조회한다.")
+    void getMethodTimings() {
+        // given
+        get("/admin/api/members");
+
+        // when
+        ExtractableResponse<Response> response = get("/admin/api/method-timings?group=repository");
+        MethodTimingsResponse actual = response.body().as(MethodTimingsResponse.class);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(actual.getMethodTimings())
+                .extracting(MethodTimingResponse::getMethod)
+                .contains("com.woowacourse.zzimkkong.repository.MemberRepository.findAll()");
+        assertThat(actual.getMethodTimings())
+                .allSatisfy(methodTiming -> {
+                    assertThat(methodTiming.getGroup()).isEqualTo("repository");
+                    assertThat(methodTiming.getP50Micros()).isLessThanOrEqualTo(methodTiming.getP99Micros());
+                    assertThat(methodTiming.getP99Micros()).isLessThanOrEqualTo(methodTiming.getMaxMicros());
+                });
+    }
+
     @Test
     @DisplayName("test로 동작 시 url이 존재하지 않아 400 에러가 발생한다..")
     void getProfile() {
@@ -10,6 +10,8 @@ import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 import static com.woowacourse.zzimkkong.Constants.*;
@@ -53,7 +55,59 @@ class GuestMapControllerTest extends AcceptanceTest {
         // then
         assertThat(actual)
                 .usingRecursiveComparison()
+                .ignoringFields("mapDrawing", "thumbnail")
                 .isEqualTo(expected);
+        assertThat(actual.getMapDrawing()).isNull();
+        assertThat(actual.getThumbnail()).isNull();
+    }
+
+    @Test
+    @DisplayName("게스트는 Sharing Id를 통해 gzip 으로 압축된 맵 도면을 조회할 수 있다.")
+    void requestFindMapDrawingBySharingId() {
+        // given
+        String mapId = createMapResponse.header("Location").split("/")[4];
+        String sharingId = findMap("/api/managers/maps/" + mapId).as(MapFindResponse.class).getSharingMapId();
+
+        // when
+        ExtractableResponse<Response> response = requestFindMapDrawingBySharingId(sharingId);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.header(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.body().asString()).isEqualTo(MAP_DRAWING_DATA);
+    }
+
+    @Test
+    @DisplayName("게스트는 Sharing Id를 통해 gzip 으로 압축된 맵 썸네일을 조회할 수 있다.")
+    void requestFindThumbnailBySharingId() {
+        // given
+        String mapId = createMapResponse.header("Location").split("/")[4];
+        String sharingId = findMap("/api/managers/maps/" + mapId).as(MapFindResponse.class).getSharingMapId();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured
+                .given(getRequestSpecification()).log().all()
+                .filter(document("map/getThumbnailBySharingId", getRequestPreprocessor(), getResponsePreprocessor()))
+                .when().get("/api/guests/maps/thumbnail?sharingMapId=" + sharingId)
+                .then().log().all().extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.contentType()).startsWith("image/svg+xml");
+        assertThat(response.header("Content-Security-Policy")).isEqualTo("default-src 'none'; style-src 'unsafe-inline'");
+        assertThat(response.header("X-Content-Type-Options")).isEqualTo("nosniff");
+        assertThat(response.body().asString()).isEqualTo(MAP_SVG);
+    }
+
+    private ExtractableResponse<Response> requestFindMapDrawingBySharingId(String sharingMapId) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("application/json")
+                .filter(document("map/getDrawingBySharingId", getRequestPreprocessor(), getResponsePreprocessor()))
+                .when().get("/api/guests/maps/drawing?sharingMapId=" + sharingMapId)
+                .then().log().all().extract();
     }
 
     private ExtractableResponse<Response> requestFindMapBySharingId(String sharingMapId) {
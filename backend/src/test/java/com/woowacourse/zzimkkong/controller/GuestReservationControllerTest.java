@@ -12,6 +12,8 @@ import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
@@ -23,6 +25,7 @@ import java.util.List;
 
 import static com.woowacourse.zzimkkong.Constants.*;
 import static com.woowacourse.zzimkkong.DocumentUtils.*;
+import static com.woowacourse.zzimkkong.SqlStatementCountUtils.assertMaxStatementCount;
 import static com.woowacourse.zzimkkong.controller.ManagerSpaceControllerTest.saveSpace;
 import static com.woowacourse.zzimkkong.controller.MapControllerTest.saveMap;
 import static com.woowacourse.zzimkkong.infrastructure.datetime.TimeZoneUtils.UTC;
@@ -231,6 +234,21 @@ class GuestReservationControllerTest extends AcceptanceTest {
                 .isEqualTo(expectedResponse);
     }
 
+    @Test
+    @DisplayName("맵의 특정 날짜의 모든 공간에 대한 예약을 조회할 때 공간, 예약 수와 무관한 개수의 SQL 을 실행한다")
+    void findAll_statementCount() {
+        //given
+        String api = beReservationApi.replaceAll("/spaces/[0-9]", "/spaces");
+
+        //when
+        ExtractableResponse<Response> response = assertMaxStatementCount(
+                10,
+                () -> findAllReservations(api, THE_DAY_AFTER_TOMORROW.toString()));
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
     @Test
     @DisplayName("비로그인 예약자의 공간 변경 없는 새로운 예약 정보가 주어지면 예약을 업데이트 한다")
     void update_sameSpace_nonLoginUser() {
@@ -480,6 +498,52 @@ class GuestReservationControllerTest extends AcceptanceTest {
                 .isEqualTo(expectedResponse);
     }
 
+    @Test
+    @DisplayName("로그인 한 예약자가 예약 내역을 조회할 때, 응답한 커서로 다음 페이지를 이어서 조회한다")
+    void findAllUpcomingReservations_cursor() {
+        // given
+        bePmTwoThreeByPobi.getSpace().getMap().activateSharingMapId(sharingIdGenerator);
+        fePmTwoThreeByPobi.getSpace().getMap().activateSharingMapId(sharingIdGenerator);
+        ExtractableResponse<Response> firstResponse = findAllUpcomingReservations("/api/guests/reservations?size=1");
+        ReservationInfiniteScrollResponse firstPage = firstResponse.as(ReservationInfiniteScrollResponse.class);
+
+        // when
+        ExtractableResponse<Response> response = findAllUpcomingReservationsNextPage(
+                "/api/guests/reservations?size=1&cursor=" + firstPage.getNextCursor());
+        ReservationInfiniteScrollResponse actualResponse = response.as(ReservationInfiniteScrollResponse.class);
+
+        // then
+        assertThat(firstPage.getHasNext()).isTrue();
+        assertThat(firstPage.getData()).extracting(ReservationOwnerResponse::getId)
+                .containsExactly(bePmTwoThreeByPobi.getId());
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(actualResponse.getHasNext()).isFalse();
+        assertThat(actualResponse.getNextCursor()).isNull();
+        assertThat(actualResponse.getData()).extracting(ReservationOwnerResponse::getId)
+                .containsExactly(fePmTwoThreeByPobi.getId());
+    }
+
+    @Test
+    @DisplayName("로그인 한 예약자가 올바르지 않은 커서로 예약 내역을 조회하면 400 에러가 발생한다")
+    void findAllUpcomingReservations_invalidCursor() {
+        // given, when
+        ExtractableResponse<Response> response = findAllReservationsWithoutDocument("/api/guests/reservations?cursor=invalid");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/guests/reservations?page=1&size=10", "/api/guests/reservations/history?page=1&size=10"})
+    @DisplayName("로그인 한 예약자가 커서 없이 첫 페이지가 아닌 page 로 예약 내역을 조회하면 400 에러가 발생한다")
+    void findAllReservations_pageWithoutCursor(final String api) {
+        // given, when
+        ExtractableResponse<Response> response = findAllReservationsWithoutDocument(api);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     @Test
     @DisplayName("로그인 한 예약자가 이전 예약 내역을 조회할 떄, 해당 예약자의 이전 예약 내역들을 반환한다")
     void findAllPreviousReservations() {
@@ -525,6 +589,42 @@ class GuestReservationControllerTest extends AcceptanceTest {
                 .isEqualTo(expectedResponse);
     }
 
+    @Test
+    @DisplayName("로그인 한 예약자의 다가오는 예약 내역을 조회할 때 예약 수와 무관한 개수의 SQL 을 실행한다")
+    void findAllUpcomingReservations_statementCount() {
+        // given, when
+        ExtractableResponse<Response> response = assertMaxStatementCount(
+                3,
+                () -> findAllUpcomingReservations("/api/guests/reservations?page=0&size=10"));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    @DisplayName("로그인 한 예약자의 이전 예약 내역을 조회할 때 예약 수와 무관한 개수의 SQL 을 실행한다")
+    void findAllPreviousReservations_statementCount() {
+        // given, when
+        ExtractableResponse<Response> response = assertMaxStatementCount(
+                3,
+                () -> findAllPreviousReservations("/api/guests/reservations/history?page=0&size=10"));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    @DisplayName("비로그인 예약자의 예약 내역을 조회할 때 예약 수와 무관한 개수의 SQL 을 실행한다")
+    void findUpcomingNonLoginReservations_statementCount() {
+        // given, when
+        ExtractableResponse<Response> response = assertMaxStatementCount(
+                2,
+                () -> findAllUpcomingNonLoginReservations("/api/guests/non-login/reservations"));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
     private void saveExampleReservations() {
         ReservationCreateUpdateWithPasswordRequest beAmZeroOneRequest = new ReservationCreateUpdateWithPasswordRequest(
                 BE_AM_TEN_ELEVEN_START_TIME_KST,
@@ -819,6 +919,27 @@ class GuestReservationControllerTest extends AcceptanceTest {
                 .then().log().all().extract();
     }
 
+    private ExtractableResponse<Response> findAllUpcomingReservationsNextPage(final String api) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("application/json")
+                .header("Authorization", AuthorizationExtractor.AUTHENTICATION_TYPE + " " + accessToken)
+                .filter(document("reservation/guest/getAllUpcomingMineNextPage", getRequestPreprocessor(), getResponsePreprocessor()))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
+    private ExtractableResponse<Response> findAllReservationsWithoutDocument(final String api) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("application/json")
+                .header("Authorization", AuthorizationExtractor.AUTHENTICATION_TYPE + " " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
     private ExtractableResponse<Response> findAllPreviousReservations(final String api) {
         return RestAssured
                 .given(getRequestSpecification()).log().all()
@@ -1,7 +1,10 @@
 package com.woowacourse.zzimkkong.controller;
 
 import com.woowacourse.zzimkkong.domain.*;
+import com.woowacourse.zzimkkong.dto.space.SpaceFindAllAvailabilityGridResponse;
 import com.woowacourse.zzimkkong.dto.space.SpaceFindAllAvailabilityResponse;
+import com.woowacourse.zzimkkong.dto.space.SpaceFindAllAvailableSlotResponse;
+import com.woowacourse.zzimkkong.dto.space.SpaceFindAvailableSlotResponse;
 import com.woowacourse.zzimkkong.dto.space.SpaceFindAllResponse;
 import com.woowacourse.zzimkkong.dto.space.SpaceFindDetailResponse;
 import io.restassured.RestAssured;
@@ -13,11 +16,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import java.util.Base64;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 
 import static com.woowacourse.zzimkkong.Constants.*;
 import static com.woowacourse.zzimkkong.DocumentUtils.*;
+import static com.woowacourse.zzimkkong.SqlStatementCountUtils.assertMaxStatementCount;
 import static com.woowacourse.zzimkkong.controller.ManagerSpaceControllerTest.saveSpace;
 import static com.woowacourse.zzimkkong.controller.MapControllerTest.saveMap;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -108,6 +114,26 @@ class GuestSpaceControllerTest extends AcceptanceTest {
                 .isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("이전에 받은 ETag 로 전체 공간을 다시 조회하면, 맵이 바뀌지 않았을 때 304를 반환한다.")
+    void findAll_notModified() {
+        // given
+        String eTag = findAllSpace(guestSpaceApi).header("ETag");
+
+        // when
+        ExtractableResponse<Response> notModifiedResponse = findAllSpaceIfNoneMatch(guestSpaceApi, eTag);
+        saveSpace(spaceApi, feSpaceCreateUpdateRequest);
+        ExtractableResponse<Response> modifiedResponse = findAllSpaceIfNoneMatch(guestSpaceApi, eTag);
+
+        // then
+        assertThat(eTag).isNotBlank();
+        assertThat(notModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(notModifiedResponse.header("ETag")).isEqualTo(eTag);
+        assertThat(modifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(modifiedResponse.header("ETag")).isNotEqualTo(eTag);
+        assertThat(modifiedResponse.body().as(SpaceFindAllResponse.class).getSpaces()).hasSize(3);
+    }
+
     @Test
     @DisplayName("spaceId를 받아 해당 공간에 대한 정보를 조회한다.")
     void find() {
@@ -143,6 +169,72 @@ class GuestSpaceControllerTest extends AcceptanceTest {
                 .isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("전체 공간을 조회할 때 공간 수와 무관한 개수의 SQL 을 실행한다")
+    void findAll_statementCount() {
+        // given
+        saveSpace(spaceApi, feSpaceCreateUpdateRequest);
+
+        // when
+        ExtractableResponse<Response> response = assertMaxStatementCount(
+                3,
+                () -> findAllSpace(guestSpaceApi));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.body().as(SpaceFindAllResponse.class).getSpaces()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("모든 공간의 사용 가능 여부를 조회할 때 공간 수와 무관한 개수의 SQL 을 실행한다")
+    void findAllSpaceAvailability_statementCount() {
+        // given
+        saveSpace(spaceApi, feSpaceCreateUpdateRequest);
+
+        // when
+        ExtractableResponse<Response> response = assertMaxStatementCount(
+                3,
+                () -> findAllSpaceAvailability(guestSpaceApi + "/availability"));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    @DisplayName("mapId와 함께 날짜 범위와 slot 단위가 주어지면, 맵 상의 모든 공간에 대해서 slot 별 사용 가능 여부를 반환한다")
+    void findAllSpaceAvailabilityGrid() {
+        // given, when
+        String api = guestSpaceApi + "/availability/grid";
+        ExtractableResponse<Response> response = findAllSpaceAvailabilityGrid(api);
+        SpaceFindAllAvailabilityGridResponse actual = response.body().as(SpaceFindAllAvailabilityGridResponse.class);
+
+        BitSet expectedSlots = new BitSet();
+        expectedSlots.set(BE_AVAILABLE_START_TIME.getHour(), BE_AVAILABLE_END_TIME.getHour());
+        String expectedAvailableSlots = Base64.getEncoder().encodeToString(expectedSlots.toByteArray());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(actual.getSlotsPerDay()).isEqualTo(24);
+        assertThat(actual.getSpaces()).hasSize(2);
+        assertThat(actual.getSpaces().get(0).getAvailableSlots()).isEqualTo(expectedAvailableSlots);
+    }
+
+    @Test
+    @DisplayName("mapId와 함께 기간과 예약 시간이 주어지면, 예약 가능한 가장 이른 (공간, 시작 시간) 후보들을 반환한다")
+    void findAvailableSlots() {
+        // given, when
+        String api = guestSpaceApi + "/availability/slots";
+        ExtractableResponse<Response> response = findAvailableSlots(api);
+        SpaceFindAllAvailableSlotResponse actual = response.body().as(SpaceFindAllAvailableSlotResponse.class);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(actual.getSlots()).extracting(SpaceFindAvailableSlotResponse::getSpaceId)
+                .containsExactly(be.getId(), fe.getId());
+        assertThat(actual.getSlots()).extracting(slot -> slot.getStartDateTime().toInstant())
+                .containsOnly(BE_AM_TEN_ELEVEN_START_TIME_KST.toInstant());
+    }
+
     private ExtractableResponse<Response> findAllSpace(final String api) {
         return RestAssured
                 .given(getRequestSpecification()).log().all()
@@ -153,6 +245,16 @@ class GuestSpaceControllerTest extends AcceptanceTest {
                 .then().log().all().extract();
     }
 
+    private ExtractableResponse<Response> findAllSpaceIfNoneMatch(final String api, final String eTag) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("application/json")
+                .header("If-None-Match", eTag)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
     private ExtractableResponse<Response> findSpace(final String api) {
         return RestAssured
                 .given(getRequestSpecification()).log().all()
@@ -174,4 +276,31 @@ class GuestSpaceControllerTest extends AcceptanceTest {
                 .when().get(api)
                 .then().log().all().extract();
     }
+
+    private ExtractableResponse<Response> findAllSpaceAvailabilityGrid(final String api) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("application/json")
+                .param("startDate", THE_DAY_AFTER_TOMORROW.toString())
+                .param("endDate", THE_DAY_AFTER_TOMORROW.toString())
+                .param("slotMinutes", 60)
+                .filter(document("space/guest/getAllAvailabilityGrid", getRequestPreprocessor(), getResponsePreprocessor()))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().get(api)
+                .then().log().all().extract();
+    }
+
+    private ExtractableResponse<Response> findAvailableSlots(final String api) {
+        return RestAssured
+                .given(getRequestSpecification()).log().all()
+                .accept("application/json")
+                .param("startDateTime", THE_DAY_AFTER_TOMORROW.toString() + "T00:00:00+09:00")
+                .param("endDateTime", THE_DAY_AFTER_TOMORROW.plusDays(1).toString() + "T00:00:00+09:00")
+                .param("durationMinutes", 60)
+                .param("count", 2)
+                .filter(document("space/guest/getAvailableSlots", getRequestPreprocessor(), getResponsePreprocessor()))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().get(api)
+                .then().log().all().extract();
+    }
 }
@@ -0,0 +1,116 @@
+package com.woowacourse.zzimkkong.dataset;
+
+import com.woowacourse.zzimkkong.domain.CompiledSettings;
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.ServiceZone;
+import com.woowacourse.zzimkkong.domain.SettingViolation;
+import com.woowacourse.zzimkkong.domain.Space;
+import com.woowacourse.zzimkkong.infrastructure.datetime.TimeZoneUtils;
+import com.woowacourse.zzimkkong.repository.MapRepository;
+import com.woowacourse.zzimkkong.repository.MemberRepository;
+import com.woowacourse.zzimkkong.repository.ReservationRepository;
+import com.woowacourse.zzimkkong.repository.SpaceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(SyntheticDatasetGenerator.class)
+class SyntheticDatasetGeneratorTest {
+    private static final SyntheticDatasetOptions OPTIONS = SyntheticDatasetOptions.builder()
+            .members(10)
+            .maps(4)
+            .spacesPerMap(3)
+            .reservations(2_000)
+            .startDate(LocalDate.of(2021, 7, 1))
+            .days(14)
+            .batchSize(100)
+            .build();
+
+    @Autowired
+    private SyntheticDatasetGenerator syntheticDatasetGenerator;
+
+    @Autowired
+    private MemberRepository members;
+
+    @Autowired
+    private MapRepository maps;
+
+    @Autowired
+    private SpaceRepository spaces;
+
+    @Autowired
+    private ReservationRepository reservations;
+
+    @Test
+    @DisplayName("조건만큼의 회원, 맵, 공간, 예약 조건, 예약을 만든다")
+    void generate() {
+        SyntheticDatasetSummary summary = syntheticDatasetGenerator.generate(OPTIONS);
+
+        assertThat(members.count()).isEqualTo(10);
+        assertThat(maps.count()).isEqualTo(4);
+        assertThat(spaces.count()).isEqualTo(12);
+        assertThat(reservations.count()).isEqualTo(summary.getReservations());
+        // 예약 조건이 짧게 열리는 공간은 자리가 모자라므로, 요청한 수보다 적게 만들어질 수 있다
+        assertThat(summary.getReservations()).isBetween(1_200L, 2_000L);
+        assertThat(spaces.findAll())
+                .allMatch(space -> !space.getSpaceSettings().isEmpty());
+    }
+
+    @Test
+    @DisplayName("예약은 서비스 시간대의 날짜 안에 있고, 같은 공간에서 서로 겹치지 않는다")
+    void generate_reservationsDoNotOverlap() {
+        syntheticDatasetGenerator.generate(OPTIONS);
+
+        List<Reservation> allReservations = reservations.findAll();
+        assertThat(allReservations).allMatch(reservation -> reservation.getDate().equals(
+                TimeZoneUtils.convertTo(reservation.getStartTime(), ServiceZone.KOREA).toLocalDate()));
+
+        java.util.Map<Space, List<Reservation>> reservationsBySpace = allReservations.stream()
+                .collect(Collectors.groupingBy(Reservation::getSpace));
+        reservationsBySpace.values().forEach(reservationsOfSpace -> {
+            reservationsOfSpace.sort(Comparator.comparing(Reservation::getStartTime));
+            for (int i = 1; i < reservationsOfSpace.size(); i++) {
+                assertThat(reservationsOfSpace.get(i).getStartTime())
+                        .isAfterOrEqualTo(reservationsOfSpace.get(i - 1).getEndTime());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("예약은 공간의 예약 조건 (요일, 시간, 시간 단위, 최소/최대 시간) 을 지킨다")
+    void generate_reservationsFollowSettings() {
+        syntheticDatasetGenerator.generate(OPTIONS);
+
+        java.util.Map<Space, CompiledSettings> compiledSettingsBySpace = new java.util.HashMap<>();
+        assertThat(reservations.findAll()).allSatisfy(reservation -> {
+            CompiledSettings compiledSettings = compiledSettingsBySpace.computeIfAbsent(
+                    reservation.getSpace(),
+                    space -> CompiledSettings.from(space.getSpaceSettings()));
+            assertThat(compiledSettings.validate(reservation.getDayOfWeek(), reservation.getTimeSlot()))
+                    .isEqualTo(SettingViolation.NONE);
+        });
+    }
+
+    @Test
+    @DisplayName("같은 조건이면 이미 데이터가 있어도 같은 데이터를 만든다")
+    void generate_reproducible() {
+        SyntheticDatasetSummary first = syntheticDatasetGenerator.generate(OPTIONS);
+        SyntheticDatasetSummary second = syntheticDatasetGenerator.generate(OPTIONS);
+
+        assertThat(second.getChecksum()).isEqualTo(first.getChecksum());
+        assertThat(second.getReservations()).isEqualTo(first.getReservations());
+        assertThat(reservations.count()).isEqualTo(first.getReservations() * 2);
+    }
+}
@@ -0,0 +1,100 @@
+package com.woowacourse.zzimkkong.domain;
+
+import com.woowacourse.zzimkkong.exception.reservation.IllegalTimeUnitValueException;
+import com.woowacourse.zzimkkong.exception.space.InvalidAvailabilityDateRangeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AvailabilityGridTest {
+    private static final LocalDate MONDAY = LocalDate.of(2023, 4, 3);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+
+    private CompiledSettings compiledSettings;
+
+    /**
+     * 월요일 10:00 ~ 12:00 에만 예약할 수 있다
+     */
+    @BeforeEach
+    void setUp() {
+        Setting setting = Setting.builder()
+                .settingTimeSlot(TimeSlot.of(LocalTime.of(10, 0), LocalTime.of(12, 0)))
+                .reservationTimeUnit(TimeUnit.from(30))
+                .reservationMinimumTimeUnit(TimeUnit.from(30))
+                .reservationMaximumTimeUnit(TimeUnit.from(120))
+                .enabledDayOfWeek("monday")
+                .priorityOrder(0)
+                .build();
+        compiledSettings = CompiledSettings.from(Settings.toPrioritizedSettings(List.of(setting)));
+    }
+
+    @Test
+    @DisplayName("예약 조건 안에 있는 slot 중 예약과 겹치지 않는 slot 만 예약 가능하다")
+    void getAvailableSlots() {
+        AvailabilityGrid availabilityGrid = AvailabilityGrid.of(MONDAY, TUESDAY, TimeUnit.from(30));
+        ReservationTime tenThirtyToElevenKST = ReservationTime.ofDefaultServiceZone(
+                LocalDateTime.of(MONDAY, LocalTime.of(1, 30)),
+                LocalDateTime.of(MONDAY, LocalTime.of(2, 0)));
+
+        BitSet actual = availabilityGrid.getAvailableSlots(
+                compiledSettings,
+                true,
+                List.of(tenThirtyToElevenKST),
+                ServiceZone.KOREA);
+
+        assertThat(availabilityGrid.getSlotsPerDay()).isEqualTo(48);
+        assertThat(actual.stream().boxed()).containsExactly(20, 22, 23);
+    }
+
+    @Test
+    @DisplayName("slot 과 일부만 겹치는 예약도 slot 전체를 예약 불가로 만든다")
+    void getAvailableSlots_partialOverlap() {
+        AvailabilityGrid availabilityGrid = AvailabilityGrid.of(MONDAY, MONDAY, TimeUnit.from(60));
+        ReservationTime tenThirtyToElevenKST = ReservationTime.ofDefaultServiceZone(
+                LocalDateTime.of(MONDAY, LocalTime.of(1, 30)),
+                LocalDateTime.of(MONDAY, LocalTime.of(2, 0)));
+
+        BitSet actual = availabilityGrid.getAvailableSlots(
+                compiledSettings,
+                true,
+                List.of(tenThirtyToElevenKST),
+                ServiceZone.KOREA);
+
+        assertThat(actual.stream().boxed()).containsExactly(11);
+    }
+
+    @Test
+    @DisplayName("예약이 불가능한 공간은 모든 slot 이 예약 불가하다")
+    void getAvailableSlots_reservationDisabled() {
+        AvailabilityGrid availabilityGrid = AvailabilityGrid.of(MONDAY, TUESDAY, TimeUnit.from(30));
+
+        BitSet actual = availabilityGrid.getAvailableSlots(compiledSettings, false, List.of(), ServiceZone.KOREA);
+
+        assertThat(actual.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료 날짜가 시작 날짜보다 이르거나 최대 조회 기간을 넘으면 예외가 발생한다")
+    void of_invalidDateRange() {
+        assertThatThrownBy(() -> AvailabilityGrid.of(TUESDAY, MONDAY, TimeUnit.from(30)))
+                .isInstanceOf(InvalidAvailabilityDateRangeException.class);
+        assertThatThrownBy(() -> AvailabilityGrid.of(MONDAY, MONDAY.plusDays(AvailabilityGrid.MAXIMUM_DAYS), TimeUnit.from(30)))
+                .isInstanceOf(InvalidAvailabilityDateRangeException.class);
+    }
+
+    @Test
+    @DisplayName("하루를 나누어 떨어지게 하지 않는 slot 단위는 사용할 수 없다")
+    void of_invalidSlotMinutes() {
+        assertThatThrownBy(() -> AvailabilityGrid.of(MONDAY, TUESDAY, TimeUnit.from(35)))
+                .isInstanceOf(IllegalTimeUnitValueException.class);
+    }
+}
@@ -0,0 +1,142 @@
+package com.woowacourse.zzimkkong.domain;
+
+import com.woowacourse.zzimkkong.exception.space.InvalidAvailabilityDateRangeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AvailableSlotFinderTest {
+    private static final LocalDate MONDAY = LocalDate.of(2023, 4, 3);
+    private static final LocalDateTime MONDAY_START_KST = LocalDateTime.of(2023, 4, 2, 15, 0);
+    private static final LocalDateTime TUESDAY_START_KST = LocalDateTime.of(2023, 4, 3, 15, 0);
+    private static final LocalDateTime BEFORE_MONDAY = LocalDateTime.of(2023, 4, 1, 0, 0);
+
+    private Space be;
+    private Space fe;
+    private List<ReservationTime> beReservationTimes;
+
+    /**
+     * be, fe 모두 월요일 10:00 ~ 12:00 (30분 단위, 30 ~ 120분) 에만 예약할 수 있고, be 에는 10:00 ~ 10:30 예약이 있다
+     */
+    @BeforeEach
+    void setUp() {
+        be = makeSpace(1L, "be");
+        fe = makeSpace(2L, "fe");
+        beReservationTimes = List.of(ReservationTime.ofDefaultServiceZone(
+                LocalDateTime.of(MONDAY, LocalTime.of(1, 0)),
+                LocalDateTime.of(MONDAY, LocalTime.of(1, 30))));
+    }
+
+    @Test
+    @DisplayName("공간마다 빈 구간에서 예약 조건을 만족하는 가장 이른 시간을 시작 시간 순으로 반환한다")
+    void findEarliest() {
+        AvailableSlotFinder availableSlotFinder = AvailableSlotFinder.of(
+                MONDAY_START_KST,
+                TUESDAY_START_KST,
+                BEFORE_MONDAY,
+                TimeUnit.from(60),
+                ServiceZone.KOREA);
+
+        List<AvailableSlot> actual = findEarliest(availableSlotFinder, 5);
+
+        assertThat(actual).extracting(AvailableSlot::getSpace).containsExactly(fe, be);
+        assertThat(actual).extracting(AvailableSlot::getStartDateTime).containsExactly(
+                LocalDateTime.of(MONDAY, LocalTime.of(1, 0)),
+                LocalDateTime.of(MONDAY, LocalTime.of(1, 30)));
+        assertThat(actual).extracting(AvailableSlot::getEndDateTime).containsExactly(
+                LocalDateTime.of(MONDAY, LocalTime.of(2, 0)),
+                LocalDateTime.of(MONDAY, LocalTime.of(2, 30)));
+    }
+
+    @Test
+    @DisplayName("현재 시간 이후의 시간 단위에 맞는 시간부터 찾고, 시작 시간이 같으면 주어진 공간 순서대로 반환한다")
+    void findEarliest_afterNow() {
+        LocalDateTime tenFortyKST = LocalDateTime.of(MONDAY, LocalTime.of(1, 40));
+        AvailableSlotFinder availableSlotFinder = AvailableSlotFinder.of(
+                MONDAY_START_KST,
+                TUESDAY_START_KST,
+                tenFortyKST,
+                TimeUnit.from(60),
+                ServiceZone.KOREA);
+
+        List<AvailableSlot> actual = findEarliest(availableSlotFinder, 5);
+
+        assertThat(actual).extracting(AvailableSlot::getSpace).containsExactly(be, fe);
+        assertThat(actual).extracting(AvailableSlot::getStartDateTime).containsOnly(LocalDateTime.of(MONDAY, LocalTime.of(2, 0)));
+    }
+
+    @Test
+    @DisplayName("최대 count 개의 후보만 반환한다")
+    void findEarliest_count() {
+        AvailableSlotFinder availableSlotFinder = AvailableSlotFinder.of(
+                MONDAY_START_KST,
+                TUESDAY_START_KST,
+                BEFORE_MONDAY,
+                TimeUnit.from(60),
+                ServiceZone.KOREA);
+
+        List<AvailableSlot> actual = findEarliest(availableSlotFinder, 1);
+
+        assertThat(actual).extracting(AvailableSlot::getSpace).containsExactly(fe);
+    }
+
+    @Test
+    @DisplayName("최대 예약 시간보다 긴 예약은 후보가 없다")
+    void findEarliest_longerThanMaximumTimeUnit() {
+        AvailableSlotFinder availableSlotFinder = AvailableSlotFinder.of(
+                MONDAY_START_KST,
+                TUESDAY_START_KST,
+                BEFORE_MONDAY,
+                TimeUnit.from(150),
+                ServiceZone.KOREA);
+
+        assertThat(findEarliest(availableSlotFinder, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종료 시간이 시작 시간보다 이르거나 최대 검색 기간을 넘으면 예외가 발생한다")
+    void of_invalidDateRange() {
+        assertThatThrownBy(() -> AvailableSlotFinder.of(TUESDAY_START_KST, MONDAY_START_KST, BEFORE_MONDAY, TimeUnit.from(60), ServiceZone.KOREA))
+                .isInstanceOf(InvalidAvailabilityDateRangeException.class);
+        assertThatThrownBy(() -> AvailableSlotFinder.of(
+                MONDAY_START_KST,
+                MONDAY_START_KST.plusDays(AvailableSlotFinder.MAXIMUM_DAYS),
+                BEFORE_MONDAY,
+                TimeUnit.from(60),
+                ServiceZone.KOREA))
+                .isInstanceOf(InvalidAvailabilityDateRangeException.class);
+    }
+
+    private List<AvailableSlot> findEarliest(final AvailableSlotFinder availableSlotFinder, final int count) {
+        return availableSlotFinder.findEarliest(
+                List.of(be, fe),
+                space -> CompiledSettings.from(space.getSpaceSettings()),
+                space -> space.equals(be) ? beReservationTimes : List.of(),
+                count);
+    }
+
+    private Space makeSpace(final Long id, final String name) {
+        Setting setting = Setting.builder()
+                .settingTimeSlot(TimeSlot.of(LocalTime.of(10, 0), LocalTime.of(12, 0)))
+                .reservationTimeUnit(TimeUnit.from(30))
+                .reservationMinimumTimeUnit(TimeUnit.from(30))
+                .reservationMaximumTimeUnit(TimeUnit.from(120))
+                .enabledDayOfWeek("monday")
+                .priorityOrder(0)
+                .build();
+        return Space.builder()
+                .id(id)
+                .name(name)
+                .reservationEnable(true)
+                .spaceSettings(Settings.toPrioritizedSettings(List.of(setting)))
+                .build();
+    }
+}
@@ -0,0 +1,226 @@
+package com.woowacourse.zzimkkong.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.woowacourse.zzimkkong.Constants.BE_ENABLED_DAY_OF_WEEK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledSettingsTest {
+    private static final List<Integer> DURATIONS = List.of(10, 30, 60, 90, 120, 240);
+
+    private Settings settings;
+    private CompiledSettings compiledSettings;
+
+    /**
+     * 월요일: 10:00 ~ 13:00 (10분 단위, 60 ~ 120분), 13:00 ~ 14:00 (10분 단위, 60 ~ 60분), 14:00 ~ 16:00 (30분 단위, 30 ~ 60분)
+     * 그 외 요일: 10:00 ~ 15:00 (10분 단위, 60 ~ 120분)
+     */
+    @BeforeEach
+    void setUp() {
+        Setting morning = makeSetting(10, 13, 10, 60, 120, BE_ENABLED_DAY_OF_WEEK, 0);
+        Setting mondayAfternoon = makeSetting(14, 16, 30, 30, 60, "monday", 1);
+        Setting noon = makeSetting(12, 15, 10, 60, 120, BE_ENABLED_DAY_OF_WEEK, 2);
+
+        settings = Settings.toPrioritizedSettings(List.of(morning, mondayAfternoon, noon));
+        compiledSettings = CompiledSettings.from(settings);
+    }
+
+    @ParameterizedTest
+    @DisplayName("예약 시간대에 걸친 예약 조건들만 flatten, merge 한 결과를 기준으로 예약 시간대를 검증한다")
+    @CsvSource({
+            "MONDAY,08:00,09:00,NO_SETTING",
+            "MONDAY,16:00,17:00,NO_SETTING",
+            "MONDAY,13:00,15:00,MULTIPLE_SETTINGS",
+            "MONDAY,09:00,11:00,UNAVAILABLE_TIME",
+            "MONDAY,15:30,16:30,UNAVAILABLE_TIME",
+            "MONDAY,10:05,11:05,TIME_UNIT",
+            "MONDAY,14:10,14:40,TIME_UNIT",
+            "MONDAY,10:00,10:30,MINIMUM_TIME_UNIT",
+            "MONDAY,10:00,13:00,MAXIMUM_TIME_UNIT",
+            "MONDAY,12:00,14:00,NONE",
+            "MONDAY,11:00,13:00,NONE",
+            "MONDAY,13:00,14:00,NONE",
+            "MONDAY,14:30,15:30,MULTIPLE_SETTINGS",
+            "TUESDAY,13:00,15:00,NONE",
+            "TUESDAY,14:00,14:30,MINIMUM_TIME_UNIT",
+            "TUESDAY,15:00,16:00,NO_SETTING"
+    })
+    void validate(
+            final DayOfWeek dayOfWeek,
+            final LocalTime startTime,
+            final LocalTime endTime,
+            final SettingViolation expected) {
+        SettingViolation actual = compiledSettings.validate(dayOfWeek, TimeSlot.of(startTime, endTime));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("예약 시간대에 걸치지 않은 우선순위가 높은 조건은 시간 단위 조정에 영향을 주지 않는다")
+    void validate_ignoresSettingsNotOverlappingTimeSlot() {
+        CompiledSettings compiledSettings = CompiledSettings.from(Settings.toPrioritizedSettings(List.of(
+                makeSetting(LocalTime.of(12, 30), LocalTime.of(13, 0), 30, 30, 30, BE_ENABLED_DAY_OF_WEEK, 0),
+                makeSetting(LocalTime.of(9, 0), LocalTime.of(18, 0), 60, 60, 240, BE_ENABLED_DAY_OF_WEEK, 1))));
+
+        SettingViolation actual = compiledSettings.validate(
+                DayOfWeek.MONDAY,
+                TimeSlot.of(LocalTime.of(10, 30), LocalTime.of(11, 30)));
+
+        assertThat(actual).isEqualTo(SettingViolation.TIME_UNIT);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("overlappingSettings")
+    @DisplayName("모든 요일, 시간대에 대해 공간의 relevant settings 로 검증한 결과와 같다")
+    void validate_sameAsRelevantSettings(final String description, final List<Setting> settingsToCompile) {
+        Settings prioritizedSettings = Settings.toPrioritizedSettings(settingsToCompile);
+        Space space = Space.builder()
+                .spaceSettings(prioritizedSettings)
+                .build();
+        CompiledSettings compiledSettings = CompiledSettings.from(prioritizedSettings);
+
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            for (int startMinute = 6 * 60; startMinute < 20 * 60; startMinute += 10) {
+                for (int duration : DURATIONS) {
+                    TimeSlot timeSlot = TimeSlot.of(
+                            LocalTime.of(startMinute / 60, startMinute % 60),
+                            LocalTime.of((startMinute + duration) / 60, (startMinute + duration) % 60));
+
+                    assertThat(compiledSettings.validate(dayOfWeek, timeSlot))
+                            .as("%s %s", dayOfWeek, timeSlot)
+                            .isEqualTo(validateByRelevantSettings(space, dayOfWeek, timeSlot));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("요일 문자열이 소문자로 저장된 요일만 예약 가능한 요일로 취급한다")
+    void validate_dayOfWeekIgnoresUpperCase() {
+        Settings upperCaseSettings = Settings.toPrioritizedSettings(
+                List.of(makeSetting(10, 13, 10, 60, 120, "FRIDAY", 0)));
+
+        SettingViolation actual = CompiledSettings.from(upperCaseSettings)
+                .validate(DayOfWeek.FRIDAY, TimeSlot.of(LocalTime.of(10, 0), LocalTime.of(11, 0)));
+
+        assertThat(actual).isEqualTo(SettingViolation.NO_SETTING);
+    }
+
+    @Test
+    @DisplayName("같은 값을 가진 예약 조건들로 만들어졌는지 확인한다")
+    void isCompiledFrom() {
+        Settings sameSettings = Settings.toPrioritizedSettings(List.of(
+                makeSetting(10, 13, 10, 60, 120, BE_ENABLED_DAY_OF_WEEK, 0),
+                makeSetting(14, 16, 30, 30, 60, "monday", 1),
+                makeSetting(12, 15, 10, 60, 120, BE_ENABLED_DAY_OF_WEEK, 2)));
+        Settings changedSettings = Settings.toPrioritizedSettings(List.of(
+                makeSetting(10, 13, 10, 60, 120, BE_ENABLED_DAY_OF_WEEK, 0),
+                makeSetting(14, 16, 30, 30, 60, "monday,tuesday", 1),
+                makeSetting(12, 15, 10, 60, 120, BE_ENABLED_DAY_OF_WEEK, 2)));
+
+        assertThat(compiledSettings.isCompiledFrom(settings)).isTrue();
+        assertThat(compiledSettings.isCompiledFrom(sameSettings)).isTrue();
+        assertThat(compiledSettings.isCompiledFrom(changedSettings)).isFalse();
+    }
+
+    /**
+     * 예약 시 {@link Space#getRelevantSettings(TimeSlot, DayOfWeek)} 로 예약 조건을 검증하던 순서 그대로 검증한다
+     */
+    private SettingViolation validateByRelevantSettings(
+            final Space space,
+            final DayOfWeek dayOfWeek,
+            final TimeSlot timeSlot) {
+        Settings relevantSettings = space.getRelevantSettings(timeSlot, dayOfWeek);
+        if (relevantSettings.isEmpty()) {
+            return SettingViolation.NO_SETTING;
+        }
+        if (relevantSettings.haveMultipleSettings()) {
+            return SettingViolation.MULTIPLE_SETTINGS;
+        }
+        if (relevantSettings.cannotAcceptDueToAvailableTime(timeSlot, dayOfWeek)) {
+            return SettingViolation.UNAVAILABLE_TIME;
+        }
+
+        Setting setting = relevantSettings.getSettings().get(0);
+        if (setting.cannotAcceptDueToTimeUnit(timeSlot)) {
+            return SettingViolation.TIME_UNIT;
+        }
+        if (setting.cannotAcceptDueToMinimumTimeUnit(timeSlot)) {
+            return SettingViolation.MINIMUM_TIME_UNIT;
+        }
+        if (setting.cannotAcceptDueToMaximumTimeUnit(timeSlot)) {
+            return SettingViolation.MAXIMUM_TIME_UNIT;
+        }
+        return SettingViolation.NONE;
+    }
+
+    private static Stream<Arguments> overlappingSettings() {
+        return Stream.of(
+                Arguments.of("하루 종일인 조건 사이에 우선순위가 높은 짧은 조건", List.of(
+                        makeSetting(LocalTime.of(9, 0), LocalTime.of(18, 0), 60, 60, 240, BE_ENABLED_DAY_OF_WEEK, 1),
+                        makeSetting(LocalTime.of(12, 30), LocalTime.of(13, 0), 30, 30, 30, BE_ENABLED_DAY_OF_WEEK, 0))),
+                Arguments.of("요일마다 다르게 겹치는 조건", List.of(
+                        makeSetting(10, 13, 10, 60, 120, BE_ENABLED_DAY_OF_WEEK, 0),
+                        makeSetting(14, 16, 30, 30, 60, "monday", 1),
+                        makeSetting(12, 15, 10, 60, 120, BE_ENABLED_DAY_OF_WEEK, 2))),
+                Arguments.of("우선순위가 높을수록 안쪽에 있는 조건", List.of(
+                        makeSetting(10, 18, 10, 10, 480, BE_ENABLED_DAY_OF_WEEK, 2),
+                        makeSetting(12, 16, 30, 30, 120, BE_ENABLED_DAY_OF_WEEK, 1),
+                        makeSetting(13, 14, 60, 60, 60, BE_ENABLED_DAY_OF_WEEK, 0))),
+                Arguments.of("요일이 다르게 엇갈린 조건", List.of(
+                        makeSetting(9, 13, 30, 30, 120, "monday,tuesday", 0),
+                        makeSetting(11, 15, 10, 20, 180, "monday,wednesday", 1),
+                        makeSetting(14, 20, 60, 60, 240, BE_ENABLED_DAY_OF_WEEK, 2))),
+                Arguments.of("merge 되는 이웃 조건 아래에 가려진 조건", List.of(
+                        makeSetting(9, 12, 10, 60, 120, BE_ENABLED_DAY_OF_WEEK, 1),
+                        makeSetting(12, 15, 10, 60, 120, BE_ENABLED_DAY_OF_WEEK, 0),
+                        makeSetting(LocalTime.of(11, 30), LocalTime.of(12, 30), 10, 30, 60, BE_ENABLED_DAY_OF_WEEK, 2))));
+    }
+
+    private static Setting makeSetting(
+            final int startHour,
+            final int endHour,
+            final int timeUnit,
+            final int minimumTimeUnit,
+            final int maximumTimeUnit,
+            final String enabledDayOfWeek,
+            final int priorityOrder) {
+        return makeSetting(
+                LocalTime.of(startHour, 0),
+                LocalTime.of(endHour, 0),
+                timeUnit,
+                minimumTimeUnit,
+                maximumTimeUnit,
+                enabledDayOfWeek,
+                priorityOrder);
+    }
+
+    private static Setting makeSetting(
+            final LocalTime startTime,
+            final LocalTime endTime,
+            final int timeUnit,
+            final int minimumTimeUnit,
+            final int maximumTimeUnit,
+            final String enabledDayOfWeek,
+            final int priorityOrder) {
+        return Setting.builder()
+                .settingTimeSlot(TimeSlot.of(startTime, endTime))
+                .reservationTimeUnit(TimeUnit.from(timeUnit))
+                .reservationMinimumTimeUnit(TimeUnit.from(minimumTimeUnit))
+                .reservationMaximumTimeUnit(TimeUnit.from(maximumTimeUnit))
+                .enabledDayOfWeek(enabledDayOfWeek)
+                .priorityOrder(priorityOrder)
+                .build();
+    }
+}
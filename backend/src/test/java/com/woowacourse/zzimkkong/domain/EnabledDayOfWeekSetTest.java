@@ -0,0 +1,56 @@
+package com.woowacourse.zzimkkong.domain;
+
+import com.woowacourse.zzimkkong.exception.setting.NoSuchEnabledDayOfWeekException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.DayOfWeek;
+
+import static com.woowacourse.zzimkkong.Constants.BE_ENABLED_DAY_OF_WEEK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnabledDayOfWeekSetTest {
+    @ParameterizedTest
+    @ValueSource(strings = {"monday,wednesday", "monday, wednesday", "WEDNESDAY,Monday", "wednesday,monday,"})
+    @DisplayName("요일 문자열을 대소문자, 공백, 순서와 관계없이 요일 집합으로 변환한다")
+    void from(final String enabledDayOfWeek) {
+        EnabledDayOfWeekSet enabledDayOfWeekSet = EnabledDayOfWeekSet.from(enabledDayOfWeek);
+
+        assertThat(enabledDayOfWeekSet).isEqualTo(EnabledDayOfWeekSet.of(EnabledDayOfWeek.MONDAY, EnabledDayOfWeek.WEDNESDAY));
+        assertThat(enabledDayOfWeekSet.getMask()).isEqualTo(0b101);
+        assertThat(enabledDayOfWeekSet).hasToString("monday,wednesday");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 요일이 있으면 예외를 던진다")
+    void from_noSuchDayOfWeek() {
+        assertThatThrownBy(() -> EnabledDayOfWeekSet.from("monday,holiday"))
+                .isInstanceOf(NoSuchEnabledDayOfWeekException.class);
+    }
+
+    @Test
+    @DisplayName("DayOfWeek, EnabledDayOfWeek 모두 같은 bit 로 포함 여부를 판단한다")
+    void contains() {
+        EnabledDayOfWeekSet enabledDayOfWeekSet = EnabledDayOfWeekSet.from("tuesday,sunday");
+
+        assertThat(enabledDayOfWeekSet.contains(DayOfWeek.TUESDAY)).isTrue();
+        assertThat(enabledDayOfWeekSet.contains(EnabledDayOfWeek.SUNDAY)).isTrue();
+        assertThat(enabledDayOfWeekSet.contains(DayOfWeek.MONDAY)).isFalse();
+        assertThat(enabledDayOfWeekSet.contains(EnabledDayOfWeek.SATURDAY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("두 요일 집합의 교집합 여부와 차집합을 구한다")
+    void intersectsAndMinus() {
+        EnabledDayOfWeekSet allDays = EnabledDayOfWeekSet.from(BE_ENABLED_DAY_OF_WEEK);
+        EnabledDayOfWeekSet weekend = EnabledDayOfWeekSet.of(EnabledDayOfWeek.SATURDAY, EnabledDayOfWeek.SUNDAY);
+
+        assertThat(allDays.intersects(weekend)).isTrue();
+        assertThat(allDays.minus(weekend)).hasToString("monday,tuesday,wednesday,thursday,friday");
+        assertThat(weekend.minus(allDays).isEmpty()).isTrue();
+        assertThat(weekend.intersects(weekend.minus(allDays))).isFalse();
+    }
+}
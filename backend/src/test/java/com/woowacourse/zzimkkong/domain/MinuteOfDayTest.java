@@ -0,0 +1,56 @@
+package com.woowacourse.zzimkkong.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MinuteOfDayTest {
+    @Test
+    @DisplayName("LocalTime 과 0 시부터 지난 분을 서로 변환한다")
+    void ofAndToLocalTime() {
+        assertThat(MinuteOfDay.of(LocalTime.of(0, 0))).isZero();
+        assertThat(MinuteOfDay.of(LocalTime.of(13, 25))).isEqualTo(805);
+        assertThat(MinuteOfDay.of(LocalTime.of(23, 50, 59))).isEqualTo(1430);
+        assertThat(MinuteOfDay.toLocalTime(805)).isEqualTo(LocalTime.of(13, 25));
+    }
+
+    @ParameterizedTest
+    @DisplayName("시간 단위는 매 시 정각을 기준으로 나누어 떨어지는지 판단한다")
+    @CsvSource({"600,60,true", "630,30,true", "630,60,false", "625,10,false", "625,5,true", "780,120,true"})
+    void isAlignedTo(final int minuteOfDay, final int unitMinutes, final boolean expected) {
+        assertThat(MinuteOfDay.isAlignedTo(minuteOfDay, unitMinutes)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @DisplayName("시간 단위에 맞는 가장 가까운 이후 시간을 구하며, 다음 시 정각을 넘지 않는다")
+    @CsvSource({"600,30,600", "601,30,630", "631,30,660", "641,10,650", "601,120,660", "655,5,655"})
+    void ceilToAligned(final int minuteOfDay, final int unitMinutes, final int expected) {
+        assertThat(MinuteOfDay.ceilToAligned(minuteOfDay, unitMinutes)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @DisplayName("[start, end) 구간의 겹침과 포함 여부를 판단한다")
+    @CsvSource({
+            "600,720,540,600,false,false",
+            "600,720,540,610,true,false",
+            "600,720,600,720,true,true",
+            "600,720,650,700,true,true",
+            "600,720,710,780,true,false",
+            "600,720,720,780,false,false"})
+    void overlapsAndContains(
+            final int start,
+            final int end,
+            final int thatStart,
+            final int thatEnd,
+            final boolean overlaps,
+            final boolean contains) {
+        assertThat(MinuteOfDay.overlaps(start, end, thatStart, thatEnd)).isEqualTo(overlaps);
+        assertThat(MinuteOfDay.contains(start, end, thatStart, thatEnd)).isEqualTo(contains);
+        assertThat(MinuteOfDay.duration(start, end)).isEqualTo(end - start);
+    }
+}
@@ -0,0 +1,77 @@
+package com.woowacourse.zzimkkong.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.woowacourse.zzimkkong.Constants.THE_DAY_AFTER_TOMORROW;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationIntervalsTest {
+    private final Reservation oneToTwo = makeReservation(1L, 1, 2);
+    private final Reservation fourToFive = makeReservation(2L, 4, 5);
+    private final ReservationIntervals reservationIntervals = ReservationIntervals.from(List.of(fourToFive, oneToTwo));
+
+    @ParameterizedTest
+    @DisplayName("주어진 시간대가 기존 예약과 겹치면 true, 맞닿거나 겹치지 않으면 false 를 반환한다")
+    @CsvSource(value = {"0:1:false", "0:2:true", "1:2:true", "1:3:true", "2:3:false", "2:4:false", "3:6:true", "5:6:false"}, delimiter = ':')
+    void hasConflictWith(final int startHour, final int endHour, final boolean expected) {
+        ReservationTime reservationTime = makeReservationTime(startHour, endHour);
+
+        assertThat(reservationIntervals.hasConflictWith(reservationTime, reservationId -> false)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("제외한 예약과만 겹치면 충돌하지 않은 것으로 판단한다")
+    void hasConflictWith_excluded() {
+        ReservationTime reservationTime = makeReservationTime(1, 3);
+
+        assertThat(reservationIntervals.hasConflictWith(reservationTime, reservationId -> reservationId == 1L)).isFalse();
+        assertThat(reservationIntervals.hasConflictWith(reservationTime, reservationId -> reservationId == 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("예약을 추가하거나 제거한 새로운 인덱스를 반환한다")
+    void withAndWithout() {
+        ReservationTime twoToThree = makeReservationTime(2, 3);
+
+        ReservationIntervals added = reservationIntervals.with(3L, twoToThree);
+        ReservationIntervals removed = added.without(1L);
+
+        assertThat(reservationIntervals.hasConflictWith(twoToThree, reservationId -> false)).isFalse();
+        assertThat(added.size()).isEqualTo(3);
+        assertThat(added.hasConflictWith(twoToThree, reservationId -> false)).isTrue();
+        assertThat(removed.size()).isEqualTo(2);
+        assertThat(removed.hasConflictWith(makeReservationTime(1, 2), reservationId -> false)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 id 의 예약을 다시 추가하면 시간대를 교체한다")
+    void with_sameId() {
+        ReservationIntervals moved = reservationIntervals.with(1L, makeReservationTime(6, 7));
+
+        assertThat(moved.size()).isEqualTo(2);
+        assertThat(moved.hasConflictWith(makeReservationTime(1, 2), reservationId -> false)).isFalse();
+        assertThat(moved.hasConflictWith(makeReservationTime(6, 7), reservationId -> false)).isTrue();
+    }
+
+    private Reservation makeReservation(final Long id, final int startHour, final int endHour) {
+        return Reservation.builder()
+                .id(id)
+                .reservationTime(makeReservationTime(startHour, endHour))
+                .build();
+    }
+
+    /**
+     * 시간은 UTC 기준이며, 한국 시간으로 변환해도 같은 날짜에 속하도록 0 ~ 14시 사이로 지정한다
+     */
+    private ReservationTime makeReservationTime(final int startHour, final int endHour) {
+        LocalDateTime startTime = THE_DAY_AFTER_TOMORROW.atTime(startHour, 0);
+        LocalDateTime endTime = THE_DAY_AFTER_TOMORROW.atTime(endHour, 0);
+        return ReservationTime.ofDefaultServiceZone(startTime, endTime);
+    }
+}
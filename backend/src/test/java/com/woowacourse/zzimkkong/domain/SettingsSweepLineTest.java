@@ -0,0 +1,167 @@
+package com.woowacourse.zzimkkong.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.woowacourse.zzimkkong.domain.Setting.FLAT_PRIORITY_ORDER;
+import static com.woowacourse.zzimkkong.domain.Setting.FLAT_SETTING_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SettingsSweepLineTest {
+    private static final List<Integer> TIME_UNITS = List.of(10, 30, 60);
+    private static final int ALL_DAY_OF_WEEK_MASK = EnabledDayOfWeekSet.of(EnabledDayOfWeek.values()).getMask();
+
+    @Test
+    @DisplayName("우선순위가 높은 조건을 남기고, 조각난 조건의 시간 단위를 조정한 뒤 merge 한다")
+    void flattenOn() {
+        List<Setting> settings = List.of(
+                makeSetting(11, 12, 10, 10, 30, "monday", 0),
+                makeSetting(10, 14, 10, 60, 120, "monday", 1),
+                makeSetting(13, 16, 10, 10, 30, "monday", 2));
+
+        List<Setting> actual = SettingsSweepLine.flattenOn(settings, EnabledDayOfWeek.MONDAY);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(List.of(
+                makeFlatSetting(10, 11, 10, 60, 60),
+                makeFlatSetting(11, 12, 10, 10, 30),
+                makeFlatSetting(12, 14, 10, 60, 120),
+                makeFlatSetting(14, 16, 10, 10, 30)));
+    }
+
+    @RepeatedTest(100)
+    @DisplayName("해당 요일에 적용되는 조건들을 기존 방식으로 flatten 후 merge 한 결과와 같은 결과를 반환한다")
+    void flattenOn_sameAsLegacyFlattenAndMerge(final RepetitionInfo repetitionInfo) {
+        List<Setting> settings = makeRandomSettings(new Random(repetitionInfo.getCurrentRepetition()));
+
+        for (EnabledDayOfWeek dayOfWeek : EnabledDayOfWeek.values()) {
+            List<Setting> settingsOnDayOfWeek = settings.stream()
+                    .filter(setting -> setting.getEnabledDayOfWeekSet().contains(dayOfWeek))
+                    .collect(Collectors.toList());
+
+            List<Setting> actual = SettingsSweepLine.flattenOn(settingsOnDayOfWeek, dayOfWeek);
+            List<Setting> expected = LegacySettingsMerge.merge(
+                    filterByDayOfWeek(LegacySettingsMerge.flatten(sortByPriorityOrder(settingsOnDayOfWeek)), dayOfWeek),
+                    dayOfWeek);
+
+            assertThat(actual).as(dayOfWeek.name()).usingRecursiveComparison().isEqualTo(expected);
+        }
+    }
+
+    /**
+     * 조각의 경계는 기존 방식과 다를 수 있으므로 (한 조건이 이어지는 구간은 한 조각이 된다)
+     * 요일, 시간마다 겹치지 않게 한 조각만 있는지와 그 조각의 예약 시간 단위가 기존 방식과 같은지 비교한다
+     */
+    @RepeatedTest(100)
+    @DisplayName("모든 요일을 flatten 한 결과는 요일, 시간마다 기존 방식과 같은 예약 시간 단위를 가진다")
+    void flatten_sameTimeUnitsAsLegacyFlatten(final RepetitionInfo repetitionInfo) {
+        List<Setting> settings = sortByPriorityOrder(makeRandomSettings(new Random(repetitionInfo.getCurrentRepetition())));
+
+        List<Setting> actual = SettingsSweepLine.flatten(settings);
+        List<Setting> expected = LegacySettingsMerge.flatten(settings);
+
+        for (EnabledDayOfWeek dayOfWeek : EnabledDayOfWeek.values()) {
+            for (int hour = 0; hour < 23; hour++) {
+                TimeSlot timeSlot = TimeSlot.of(LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0));
+                List<Integer> actualTimeUnits = getTimeUnitsOn(actual, dayOfWeek, timeSlot);
+
+                assertThat(actualTimeUnits).as("%s %s", dayOfWeek, timeSlot)
+                        .hasSizeLessThanOrEqualTo(1)
+                        .isEqualTo(getTimeUnitsOn(expected, dayOfWeek, timeSlot));
+            }
+        }
+    }
+
+    private List<Integer> getTimeUnitsOn(
+            final List<Setting> flatSettings,
+            final EnabledDayOfWeek dayOfWeek,
+            final TimeSlot timeSlot) {
+        return filterByDayOfWeek(flatSettings, dayOfWeek).stream()
+                .filter(setting -> setting.getSettingTimeSlot().contains(timeSlot))
+                .map(Setting::getReservationTimeUnitAsInt)
+                .collect(Collectors.toList());
+    }
+
+    private List<Setting> filterByDayOfWeek(final List<Setting> settings, final EnabledDayOfWeek dayOfWeek) {
+        return settings.stream()
+                .filter(setting -> setting.getEnabledDayOfWeekSet().contains(dayOfWeek))
+                .collect(Collectors.toList());
+    }
+
+    private List<Setting> sortByPriorityOrder(final List<Setting> settings) {
+        return settings.stream()
+                .sorted(Comparator.comparing(Setting::getPriorityOrder))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 시간 단위 조정이 조각나는 순서에 영향을 받지 않도록 모든 조건은 정각에 시작하고 끝난다
+     * 요일은 무작위로 골라 우선순위가 높은 조건과 일부 요일만 겹치는 경우를 만든다
+     */
+    private List<Setting> makeRandomSettings(final Random random) {
+        int size = 1 + random.nextInt(10);
+        List<Integer> priorityOrders = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        Collections.shuffle(priorityOrders, random);
+
+        List<Setting> settings = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int startHour = random.nextInt(20);
+            int endHour = Math.min(startHour + 1 + random.nextInt(4), 23);
+            int timeUnit = TIME_UNITS.get(random.nextInt(TIME_UNITS.size()));
+            int maximumTimeUnit = timeUnit * (1 + random.nextInt((endHour - startHour) * 60 / timeUnit));
+            int minimumTimeUnit = timeUnit * (1 + random.nextInt(maximumTimeUnit / timeUnit));
+            String enabledDayOfWeek = EnabledDayOfWeekSet.from(1 + random.nextInt(ALL_DAY_OF_WEEK_MASK)).toString();
+            settings.add(makeSetting(startHour, endHour, timeUnit, minimumTimeUnit, maximumTimeUnit, enabledDayOfWeek, priorityOrders.get(i)));
+        }
+        return settings;
+    }
+
+    private Setting makeSetting(
+            final int startHour,
+            final int endHour,
+            final int timeUnit,
+            final int minimumTimeUnit,
+            final int maximumTimeUnit,
+            final String enabledDayOfWeek,
+            final int priorityOrder) {
+        return Setting.builder()
+                .settingTimeSlot(TimeSlot.of(
+                        LocalTime.of(startHour, 0),
+                        LocalTime.of(endHour, 0)))
+                .reservationTimeUnit(TimeUnit.from(timeUnit))
+                .reservationMinimumTimeUnit(TimeUnit.from(minimumTimeUnit))
+                .reservationMaximumTimeUnit(TimeUnit.from(maximumTimeUnit))
+                .enabledDayOfWeek(enabledDayOfWeek)
+                .priorityOrder(priorityOrder)
+                .build();
+    }
+
+    private Setting makeFlatSetting(
+            final int startHour,
+            final int endHour,
+            final int timeUnit,
+            final int minimumTimeUnit,
+            final int maximumTimeUnit) {
+        return Setting.builder()
+                .id(FLAT_SETTING_ID)
+                .settingTimeSlot(TimeSlot.of(
+                        LocalTime.of(startHour, 0),
+                        LocalTime.of(endHour, 0)))
+                .reservationTimeUnit(TimeUnit.from(timeUnit))
+                .reservationMinimumTimeUnit(TimeUnit.from(minimumTimeUnit))
+                .reservationMaximumTimeUnit(TimeUnit.from(maximumTimeUnit))
+                .enabledDayOfWeek("monday")
+                .priorityOrder(FLAT_PRIORITY_ORDER)
+                .build();
+    }
+}
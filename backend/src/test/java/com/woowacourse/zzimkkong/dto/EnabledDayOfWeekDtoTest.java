@@ -1,5 +1,7 @@
 package com.woowacourse.zzimkkong.dto;
 
+import com.woowacourse.zzimkkong.domain.EnabledDayOfWeek;
+import com.woowacourse.zzimkkong.domain.EnabledDayOfWeekSet;
 import com.woowacourse.zzimkkong.dto.space.EnabledDayOfWeekDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,4 +30,12 @@ class EnabledDayOfWeekDtoTest {
         final EnabledDayOfWeekDto enabledDayOfWeekDto = EnabledDayOfWeekDto.from("monday,tuesday,wednesday");
         assertThat(enabledDayOfWeekDto.toString()).isEqualTo("monday,tuesday,wednesday");
     }
+
+    @Test
+    @DisplayName("필드 중 true인 요일만 담은 요일 집합으로 변환한다")
+    void toEnabledDayOfWeekSet() {
+        final EnabledDayOfWeekDto enabledDayOfWeekDto = EnabledDayOfWeekDto.from("friday,saturday");
+        assertThat(enabledDayOfWeekDto.toEnabledDayOfWeekSet())
+                .isEqualTo(EnabledDayOfWeekSet.of(EnabledDayOfWeek.FRIDAY, EnabledDayOfWeek.SATURDAY));
+    }
 }
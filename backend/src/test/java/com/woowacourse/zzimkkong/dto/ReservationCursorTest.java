@@ -0,0 +1,40 @@
+package com.woowacourse.zzimkkong.dto;
+
+import com.woowacourse.zzimkkong.domain.Reservation;
+import com.woowacourse.zzimkkong.domain.ReservationTime;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationCursor;
+import com.woowacourse.zzimkkong.exception.reservation.InvalidReservationCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReservationCursorTest {
+    @Test
+    @DisplayName("예약의 시작 시간과 id 로 만든 token 을 다시 같은 커서로 읽는다")
+    void toToken() {
+        LocalDateTime startTime = LocalDateTime.of(2021, 7, 9, 5, 10);
+        Reservation reservation = Reservation.builder()
+                .id(3L)
+                .reservationTime(ReservationTime.ofDefaultServiceZone(startTime, startTime.plusMinutes(30)))
+                .build();
+
+        ReservationCursor actual = ReservationCursor.from(ReservationCursor.from(reservation).toToken());
+
+        assertThat(actual.getStartTime()).isEqualTo(startTime);
+        assertThat(actual.getId()).isEqualTo(3L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "invalid", "%%%", "MTYyNTgwNzQwMA", "YWJjOjM"})
+    @DisplayName("올바르지 않은 token 이면 에러가 발생한다")
+    void from_invalidToken(final String token) {
+        assertThatThrownBy(() -> ReservationCursor.from(token))
+                .isInstanceOf(InvalidReservationCursorException.class);
+    }
+}
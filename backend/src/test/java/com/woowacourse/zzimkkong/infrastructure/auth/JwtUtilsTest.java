@@ -59,6 +59,42 @@ class JwtUtilsTest {
         jwtUtils.validateToken(token);
     }
 
+    @Test
+    @DisplayName("한 번 검증한 토큰은 다시 검증하지 않고 Payload를 얻어낸다.")
+    void getPayloadFromVerifiedToken() {
+        // given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10);
+        JwtUtils jwtUtils = new JwtUtils("Temporal_Secret_Key", 60_000, verifiedTokenCache);
+        String token = jwtUtils.createToken(createPayload());
+        jwtUtils.validateToken(token);
+
+        // when
+        String actual = jwtUtils.getPayload(token);
+
+        // then
+        assertThat(actual).isEqualTo(EMAIL);
+        assertThat(verifiedTokenCache.getHitCount()).isEqualTo(1);
+        assertThat(verifiedTokenCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰에 담은 회원 id를 얻어낸다.")
+    void getVerifiedTokenWithMemberId() {
+        // given
+        Map<String, Object> payload = JwtUtils.payloadBuilder()
+                .setSubject(EMAIL)
+                .setMemberId(1L)
+                .build();
+        String token = jwtUtils.createToken(payload);
+
+        // when
+        VerifiedTokenCache.VerifiedToken actual = jwtUtils.getVerifiedToken(token);
+
+        // then
+        assertThat(actual.getSubject()).isEqualTo(EMAIL);
+        assertThat(actual.getMemberId()).isEqualTo(1L);
+    }
+
     @Test
     @DisplayName("유효기간이 지나면 예외를 발생시킨다.")
     void expiredTokenThrowsException() {
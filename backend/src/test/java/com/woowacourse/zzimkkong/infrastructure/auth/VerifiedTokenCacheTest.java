@@ -0,0 +1,95 @@
+package com.woowacourse.zzimkkong.infrastructure.auth;
+
+import com.woowacourse.zzimkkong.exception.authorization.InvalidTokenException;
+import com.woowacourse.zzimkkong.infrastructure.auth.VerifiedTokenCache.VerifiedToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+    private static final String EMAIL = "pobi@email.com";
+    private static final Long MEMBER_ID = 1L;
+    private static final String TOKEN = "header.payload.signature";
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(2);
+    private final AtomicInteger verifyCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("검증한 적 있는 토큰은 다시 검증하지 않고 subject 를 반환한다")
+    void get_hit() {
+        cache.get(TOKEN, verifier(new Date(System.currentTimeMillis() + 60_000)));
+        VerifiedToken verifiedToken = cache.get(TOKEN, verifier(new Date(System.currentTimeMillis() + 60_000)));
+
+        assertThat(verifiedToken.getSubject()).isEqualTo(EMAIL);
+        assertThat(verifiedToken.getMemberId()).isEqualTo(MEMBER_ID);
+        assertThat(verifyCount.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 다시 검증한다")
+    void get_expired() {
+        cache.get(TOKEN, verifier(new Date(System.currentTimeMillis() - 1)));
+        cache.get(TOKEN, verifier(new Date(System.currentTimeMillis() - 1)));
+
+        assertThat(verifyCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐싱하지 않는다")
+    void get_invalid() {
+        Function<String, VerifiedToken> invalidVerifier = token -> {
+            verifyCount.incrementAndGet();
+            throw new InvalidTokenException();
+        };
+
+        assertThatThrownBy(() -> cache.get(TOKEN, invalidVerifier))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> cache.get(TOKEN, invalidVerifier))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThat(verifyCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 토큰부터 제거한다")
+    void get_evict() {
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        cache.get("first", verifier(expiration));
+        cache.get("second", verifier(expiration));
+        cache.get("first", verifier(expiration));
+        cache.get("third", verifier(expiration));
+
+        cache.get("second", verifier(expiration));
+
+        assertThat(verifyCount.get()).isEqualTo(4);
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기가 0 이면 캐시를 사용하지 않는다")
+    void get_disabled() {
+        VerifiedTokenCache disabledCache = new VerifiedTokenCache(0);
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+        disabledCache.get(TOKEN, verifier(expiration));
+        disabledCache.get(TOKEN, verifier(expiration));
+
+        assertThat(verifyCount.get()).isEqualTo(2);
+        assertThat(disabledCache.size()).isZero();
+    }
+
+    private Function<String, VerifiedToken> verifier(final Date expiration) {
+        return token -> {
+            verifyCount.incrementAndGet();
+            return VerifiedToken.of(EMAIL, MEMBER_ID, expiration);
+        };
+    }
+}
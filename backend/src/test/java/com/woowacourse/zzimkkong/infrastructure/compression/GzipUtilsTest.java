@@ -0,0 +1,63 @@
+package com.woowacourse.zzimkkong.infrastructure.compression;
+
+import com.woowacourse.zzimkkong.exception.infrastructure.CompressionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.woowacourse.zzimkkong.Constants.MAP_SVG;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GzipUtilsTest {
+    @Test
+    @DisplayName("압축한 값을 풀면 원래 문자열을 반환한다")
+    void compressAndDecompress() {
+        byte[] compressed = GzipUtils.compress(MAP_SVG);
+
+        assertThat(compressed.length).isLessThan(MAP_SVG.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(GzipUtils.decompressToString(compressed)).isEqualTo(MAP_SVG);
+    }
+
+    @Test
+    @DisplayName("null 은 압축하거나 풀지 않고 null 을 반환한다")
+    void compress_null() {
+        assertThat(GzipUtils.compress(null)).isNull();
+        assertThat(GzipUtils.decompressToString(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("gzip 형식이 아닌 값을 풀면 에러가 발생한다")
+    void decompress_invalid() {
+        byte[] invalid = MAP_SVG.getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> GzipUtils.decompress(invalid))
+                .isInstanceOf(CompressionException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "gzip, deflate, br:true",
+            "GZIP:true",
+            "deflate, gzip;q=0.5:true",
+            "*:true",
+            "gzip;q=0:false",
+            "gzip;q=0, *:false",
+            "*;q=0:false",
+            "*;q=0, gzip:true",
+            "deflate, br:false",
+            "identity:false"}, delimiter = ':')
+    @DisplayName("Accept-Encoding 헤더가 gzip 을 허용하는지 확인한다")
+    void isAcceptedBy(String acceptEncoding, boolean expected) {
+        assertThat(GzipUtils.isAcceptedBy(acceptEncoding)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 헤더가 없으면 gzip 을 허용하지 않는다")
+    void isAcceptedBy_null() {
+        assertThat(GzipUtils.isAcceptedBy(null)).isFalse();
+    }
+}
@@ -0,0 +1,72 @@
+package com.woowacourse.zzimkkong.infrastructure.datetime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceDayOffsetTest {
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final long HALF_HOUR = 30 * 60;
+
+    @ParameterizedTest
+    @DisplayName("offset 이 유지되는 구간 안의 UTC 시각은 ZonedDateTime 으로 변환한 현지 시각과 같다")
+    @ValueSource(strings = {"2023-03-10T00:00", "2023-11-03T00:00", "2023-07-01T00:00"})
+    void toLocal(final String from) {
+        ZoneRules zoneRules = NEW_YORK.getRules();
+        LocalDateTime utcFrom = LocalDateTime.parse(from);
+
+        for (int i = 0; i < 5 * 48; i++) {
+            LocalDateTime utcDateTime = utcFrom.plusSeconds(i * HALF_HOUR);
+            ServiceDayOffset serviceDayOffset = ServiceDayOffset.of(zoneRules, utcDateTime.toEpochSecond(ZoneOffset.UTC));
+
+            for (int j = 0; j < 48; j++) {
+                LocalDateTime candidate = utcDateTime.plusSeconds(j * HALF_HOUR);
+                if (!serviceDayOffset.covers(candidate.toEpochSecond(ZoneOffset.UTC))) {
+                    break;
+                }
+                assertThat(serviceDayOffset.toLocal(candidate)).isEqualTo(toLocal(candidate));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @DisplayName("DST 전환이 있는 날의 offset 구간은 전환 시각에서 잘린다")
+    @ValueSource(strings = {"2023-03-12T06:59:59", "2023-11-05T05:59:59"})
+    void coversUntilTransition(final String beforeTransition) {
+        LocalDateTime utcDateTime = LocalDateTime.parse(beforeTransition);
+        long epochSecond = utcDateTime.toEpochSecond(ZoneOffset.UTC);
+
+        ServiceDayOffset serviceDayOffset = ServiceDayOffset.of(NEW_YORK.getRules(), epochSecond);
+
+        assertThat(serviceDayOffset.covers(epochSecond)).isTrue();
+        assertThat(serviceDayOffset.covers(epochSecond + 1)).isFalse();
+        assertThat(serviceDayOffset.canConvertToUTC(toLocal(utcDateTime))).isFalse();
+    }
+
+    @ParameterizedTest
+    @DisplayName("DST 전환이 없는 날에는 현지 시각을 같은 offset 으로 UTC 로 변환한다")
+    @ValueSource(strings = {"2023-03-11T00:00", "2023-03-11T13:30", "2023-03-11T23:59"})
+    void toUTC(final String localDateTime) {
+        LocalDateTime local = LocalDateTime.parse(localDateTime);
+        LocalDateTime noon = LocalDateTime.parse("2023-03-11T17:00");
+        ServiceDayOffset serviceDayOffset = ServiceDayOffset.of(NEW_YORK.getRules(), noon.toEpochSecond(ZoneOffset.UTC));
+
+        assertThat(serviceDayOffset.canConvertToUTC(local)).isTrue();
+        assertThat(serviceDayOffset.toUTC(local))
+                .isEqualTo(local.atZone(NEW_YORK).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime());
+    }
+
+    private LocalDateTime toLocal(final LocalDateTime utcDateTime) {
+        return ZonedDateTime.of(utcDateTime, ZoneOffset.UTC)
+                .withZoneSameInstant(NEW_YORK)
+                .toLocalDateTime();
+    }
+}
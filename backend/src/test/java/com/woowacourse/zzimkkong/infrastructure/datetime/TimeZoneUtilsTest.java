@@ -0,0 +1,64 @@
+package com.woowacourse.zzimkkong.infrastructure.datetime;
+
+import com.woowacourse.zzimkkong.domain.ServiceZone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeZoneUtilsTest {
+    @ParameterizedTest
+    @DisplayName("UTC 시각과 서비스 지역의 현지 시각을 서로 변환한다 (DST 전환이 있는 날 포함)")
+    @EnumSource(ServiceZone.class)
+    void convert(final ServiceZone serviceZone) {
+        for (LocalDateTime utcFrom : List.of(
+                LocalDateTime.of(2023, 3, 11, 0, 0),
+                LocalDateTime.of(2023, 4, 1, 0, 0),
+                LocalDateTime.of(2023, 11, 4, 0, 0))) {
+            for (int i = 0; i < 3 * 24 * 6; i++) {
+                LocalDateTime utcDateTime = utcFrom.plusMinutes(i * 10L);
+                LocalDateTime expected = utcDateTime.atZone(ZoneOffset.UTC)
+                        .withZoneSameInstant(serviceZone.getZoneId())
+                        .toLocalDateTime();
+
+                LocalDateTime localDateTime = TimeZoneUtils.convertTo(utcDateTime, serviceZone);
+
+                assertThat(localDateTime).isEqualTo(expected);
+                // DST 가 끝나 같은 현지 시각이 두 번 있으면 이른 offset 으로 변환한다
+                LocalDateTime expectedUTC = localDateTime.atZone(serviceZone.getZoneId())
+                        .withZoneSameInstant(ZoneOffset.UTC)
+                        .toLocalDateTime();
+                assertThat(TimeZoneUtils.convertToUTC(localDateTime, serviceZone)).isEqualTo(expectedUTC);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("서비스 지역이 없으면 기본 서비스 지역으로 변환한다")
+    void convert_nullServiceZone() {
+        LocalDateTime utcDateTime = LocalDateTime.of(2023, 4, 1, 15, 0);
+
+        assertThat(TimeZoneUtils.convertTo(utcDateTime, null))
+                .isEqualTo(TimeZoneUtils.convertTo(utcDateTime, ServiceZone.KOREA));
+        assertThat(TimeZoneUtils.convertTo(null, ServiceZone.KOREA)).isNull();
+    }
+
+    @Test
+    @DisplayName("모든 서비스 지역의 현지 날짜 중 가장 이른 날짜와 가장 늦은 날짜를 구한다")
+    void getServiceDate() {
+        LocalDateTime utcDateTime = LocalDateTime.of(2023, 4, 1, 15, 0);
+
+        assertThat(TimeZoneUtils.getEarliestServiceDate(utcDateTime))
+                .isBeforeOrEqualTo(TimeZoneUtils.getLatestServiceDate(utcDateTime));
+        assertThat(TimeZoneUtils.getLatestServiceDate(utcDateTime))
+                .isEqualTo(TimeZoneUtils.convertTo(utcDateTime, ServiceZone.KOREA).toLocalDate());
+        assertThat(TimeZoneUtils.getEarliestServiceDate(utcDateTime))
+                .isEqualTo(TimeZoneUtils.convertTo(utcDateTime, ServiceZone.UNITED_STATES_EASTERN).toLocalDate());
+    }
+}
@@ -0,0 +1,108 @@
+package com.woowacourse.zzimkkong.infrastructure.member;
+
+import com.woowacourse.zzimkkong.domain.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.woowacourse.zzimkkong.Constants.EMAIL;
+import static com.woowacourse.zzimkkong.Constants.NEW_EMAIL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberIdentityCacheTest {
+    private static final Long POBI_ID = 1L;
+    private static final Long SAKJUNG_ID = 2L;
+
+    private final MemberIdentityCache cache = new MemberIdentityCache(1, 60);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("이메일로 읽은 회원은 id 로도 다시 읽지 않고 찾을 수 있다")
+    void get_hit() {
+        MemberIdentity first = cache.getByEmail(EMAIL, loader(POBI_ID, EMAIL));
+        MemberIdentity second = cache.getById(POBI_ID, loader(POBI_ID, EMAIL));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화된 회원은 다시 읽는다")
+    void invalidate() {
+        cache.getByEmail(EMAIL, loader(POBI_ID, EMAIL));
+
+        cache.invalidate(POBI_ID);
+        cache.getByEmail(EMAIL, loader(POBI_ID, EMAIL));
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체를 비우면 id, 이메일 양쪽에서 다시 읽는다")
+    void clear() {
+        cache.getByEmail(EMAIL, loader(POBI_ID, EMAIL));
+
+        cache.clear();
+        cache.getById(POBI_ID, loader(POBI_ID, EMAIL));
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("읽는 도중 무효화되면 읽은 결과를 캐싱하지 않는다")
+    void get_invalidatedWhileLoading() {
+        cache.getById(POBI_ID, () -> {
+            cache.invalidate(POBI_ID);
+            return loader(POBI_ID, EMAIL).get();
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("찾지 못한 회원은 캐싱하지 않는다")
+    void get_notFound() {
+        MemberIdentity memberIdentity = cache.getByEmail(EMAIL, () -> null);
+
+        assertThat(memberIdentity).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 회원을 id, 이메일 양쪽에서 제거한다")
+    void get_evict() {
+        cache.getByEmail(EMAIL, loader(POBI_ID, EMAIL));
+        cache.getByEmail(NEW_EMAIL, loader(SAKJUNG_ID, NEW_EMAIL));
+
+        cache.getByEmail(EMAIL, loader(POBI_ID, EMAIL));
+
+        assertThat(loadCount.get()).isEqualTo(3);
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기가 0 이면 캐시를 사용하지 않는다")
+    void get_disabled() {
+        MemberIdentityCache disabledCache = new MemberIdentityCache(0, 60);
+
+        disabledCache.getById(POBI_ID, loader(POBI_ID, EMAIL));
+        disabledCache.getById(POBI_ID, loader(POBI_ID, EMAIL));
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(disabledCache.size()).isZero();
+    }
+
+    private Supplier<MemberIdentity> loader(final Long id, final String email) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return MemberIdentity.from(Member.builder()
+                    .id(id)
+                    .email(email)
+                    .build());
+        };
+    }
+}
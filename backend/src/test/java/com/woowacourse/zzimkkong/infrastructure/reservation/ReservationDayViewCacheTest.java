@@ -0,0 +1,131 @@
+package com.woowacourse.zzimkkong.infrastructure.reservation;
+
+import com.woowacourse.zzimkkong.domain.Map;
+import com.woowacourse.zzimkkong.domain.Member;
+import com.woowacourse.zzimkkong.dto.reservation.ReservationDayView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.woowacourse.zzimkkong.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationDayViewCacheTest {
+    private static final Long LUTHER_ID = 1L;
+    private static final Long SMALL_HOUSE_ID = 2L;
+    private static final Long GREEN_HOUSE_ID = 3L;
+    private static final LocalDate DATE = THE_DAY_AFTER_TOMORROW;
+
+    private final ReservationDayViewCache cache = new ReservationDayViewCache(2, 60);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 맵-날짜를 다시 조회하면 읽지 않고 캐시된 결과를 반환한다")
+    void get_hit() {
+        ReservationDayView first = cache.get(LUTHER_ID, DATE, loader());
+        ReservationDayView second = cache.get(LUTHER_ID, DATE, loader());
+
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("맵의 버전이 바뀌면 해당 맵의 모든 날짜를 다시 읽는다")
+    void invalidate() {
+        cache.get(LUTHER_ID, DATE, loader());
+        cache.get(LUTHER_ID, DATE.plusDays(1), loader());
+        cache.get(SMALL_HOUSE_ID, DATE, loader());
+
+        cache.invalidate(LUTHER_ID);
+        cache.get(LUTHER_ID, DATE, loader());
+        cache.get(LUTHER_ID, DATE.plusDays(1), loader());
+        cache.get(SMALL_HOUSE_ID, DATE, loader());
+
+        assertThat(loadCount.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 맵의 버전이 바뀌면 읽은 결과를 캐싱하지 않는다")
+    void get_invalidatedWhileLoading() {
+        cache.get(LUTHER_ID, DATE, () -> {
+            cache.invalidate(LUTHER_ID);
+            return loader().get();
+        });
+        cache.get(LUTHER_ID, DATE, loader());
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("맵 버전이 최대 크기를 넘어 제거되어도, 버전이 바뀌기 전에 캐싱된 항목은 사용하지 않는다")
+    void invalidate_versionEvicted() {
+        cache.get(LUTHER_ID, DATE, loader());
+
+        cache.invalidate(LUTHER_ID);
+        cache.invalidate(SMALL_HOUSE_ID);
+        cache.invalidate(GREEN_HOUSE_ID);
+        cache.get(LUTHER_ID, DATE, loader());
+        cache.get(LUTHER_ID, DATE, loader());
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체를 비우면 모든 맵을 다시 읽는다")
+    void clear() {
+        cache.get(LUTHER_ID, DATE, loader());
+        cache.get(SMALL_HOUSE_ID, DATE, loader());
+
+        cache.clear();
+        cache.get(LUTHER_ID, DATE, loader());
+        cache.get(SMALL_HOUSE_ID, DATE, loader());
+
+        assertThat(loadCount.get()).isEqualTo(4);
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 항목부터 제거한다")
+    void get_evict() {
+        cache.get(LUTHER_ID, DATE, loader());
+        cache.get(LUTHER_ID, DATE.plusDays(1), loader());
+        cache.get(LUTHER_ID, DATE, loader());
+        cache.get(LUTHER_ID, DATE.plusDays(2), loader());
+
+        cache.get(LUTHER_ID, DATE, loader());
+        cache.get(LUTHER_ID, DATE.plusDays(1), loader());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("최대 크기가 0 이면 캐시를 사용하지 않는다")
+    void get_disabled() {
+        ReservationDayViewCache disabledCache = new ReservationDayViewCache(0, 60);
+
+        disabledCache.get(LUTHER_ID, DATE, loader());
+        disabledCache.get(LUTHER_ID, DATE, loader());
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(disabledCache.size()).isZero();
+    }
+
+    private Supplier<ReservationDayView> loader() {
+        return () -> {
+            loadCount.incrementAndGet();
+            Member pobi = Member.builder()
+                    .email(EMAIL)
+                    .build();
+            return ReservationDayView.of(new Map(LUTHER_NAME, MAP_DRAWING_DATA, MAP_SVG, pobi), List.of());
+        };
+    }
+}
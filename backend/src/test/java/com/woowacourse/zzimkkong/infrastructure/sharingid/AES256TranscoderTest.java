@@ -57,6 +57,22 @@ class AES256TranscoderTest {
                 .isInstanceOf(DecodingException.class);
     }
 
+    @Test
+    @DisplayName("디코딩에 실패한 뒤에도 같은 스레드에서 다시 디코딩 할 수 있다.")
+    void decodeAfterFailure() {
+        // given
+        String expected = "zzimkkong";
+        String encoded = aes256Transcoder.encode(expected);
+        assertThatThrownBy(() -> aes256Transcoder.decode("zzimkkong"))
+                .isInstanceOf(DecodingException.class);
+
+        // when
+        String actual = aes256Transcoder.decode(encoded);
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
     @Test
     @DisplayName("옳지 않은 길이의 key가 들어오면 오류가 발생한다.")
     void invalidLength() {
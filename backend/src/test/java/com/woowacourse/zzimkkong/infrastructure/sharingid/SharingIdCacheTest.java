@@ -0,0 +1,48 @@
+package com.woowacourse.zzimkkong.infrastructure.sharingid;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharingIdCacheTest {
+    private final SharingIdCache cache = new SharingIdCache(2);
+
+    @Test
+    @DisplayName("저장한 쌍은 맵 id 와 Sharing Id 양쪽으로 조회할 수 있다")
+    void find() {
+        cache.put(1L, "luther");
+
+        assertThat(cache.findSharingId(1L)).isEqualTo("luther");
+        assertThat(cache.findMapId("luther")).isEqualTo(1L);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 쌍을 양쪽에서 함께 제거한다")
+    void put_evict() {
+        cache.put(1L, "luther");
+        cache.put(2L, "smallHouse");
+        cache.findMapId("luther");
+
+        cache.put(3L, "wooteco");
+
+        assertThat(cache.findSharingId(2L)).isNull();
+        assertThat(cache.findMapId("smallHouse")).isNull();
+        assertThat(cache.findMapId("luther")).isEqualTo(1L);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기가 0 이면 캐시를 사용하지 않는다")
+    void put_disabled() {
+        SharingIdCache disabledCache = new SharingIdCache(0);
+
+        disabledCache.put(1L, "luther");
+
+        assertThat(disabledCache.findSharingId(1L)).isNull();
+        assertThat(disabledCache.findMapId("luther")).isNull();
+        assertThat(disabledCache.size()).isZero();
+    }
+}
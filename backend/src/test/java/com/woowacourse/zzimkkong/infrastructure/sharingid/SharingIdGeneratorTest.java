@@ -11,6 +11,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+
 import static com.woowacourse.zzimkkong.Constants.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -54,6 +56,36 @@ class SharingIdGeneratorTest {
         assertThat(sharingMapId).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("여러 Map의 Sharing Id를 순서대로 한 번에 만들어낸다.")
+    void generateSharingIdsFromMaps() {
+        // given
+        Map smallHouse = new Map(2L,
+                SMALL_HOUSE_NAME,
+                MAP_DRAWING_DATA,
+                MAP_SVG,
+                pobi);
+
+        // when
+        List<String> sharingMapIds = sharingIdGenerator.fromAll(List.of(luther, smallHouse, luther));
+
+        // then
+        assertThat(sharingMapIds).containsExactly(
+                transcoder.encode("1"),
+                transcoder.encode("2"),
+                transcoder.encode("1"));
+    }
+
+    @Test
+    @DisplayName("Sharing Id가 없는 Map들에 한 번에 Sharing Id를 채운다.")
+    void activateAll() {
+        // given, when
+        sharingIdGenerator.activateAll(List.of(luther));
+
+        // then
+        assertThat(luther.getSharingMapId()).isEqualTo(transcoder.encode("1"));
+    }
+
     @Test
     @DisplayName("인코딩된 Sharing Id로부터 Id를 얻어낸다.")
     void parseIdFromEncodedString() {
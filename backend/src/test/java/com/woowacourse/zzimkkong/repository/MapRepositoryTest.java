@@ -2,9 +2,12 @@ package com.woowacourse.zzimkkong.repository;
 
 import com.woowacourse.zzimkkong.domain.*;
 import com.woowacourse.zzimkkong.exception.map.NoSuchMapException;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -15,6 +18,9 @@ import static com.woowacourse.zzimkkong.Constants.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class MapRepositoryTest extends RepositoryTest {
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     private Member pobi;
     private Map luther;
     private Map smallHouse;
@@ -147,6 +153,98 @@ class MapRepositoryTest extends RepositoryTest {
         assertThat(actual).isEqualTo(savedMap);
     }
 
+    @Test
+    @DisplayName("공간 수와 무관하게 공간마다의 예약 조건까지 우선순위 순서로 함께 가져온다.")
+    void findByIdFetchSettings() {
+        // given
+        Map savedMap = maps.save(luther);
+
+        Setting beSetting = Setting.builder()
+                .settingTimeSlot(TimeSlot.of(
+                        BE_AVAILABLE_START_TIME,
+                        BE_AVAILABLE_END_TIME))
+                .reservationTimeUnit(BE_RESERVATION_TIME_UNIT)
+                .reservationMinimumTimeUnit(BE_RESERVATION_MINIMUM_TIME_UNIT)
+                .reservationMaximumTimeUnit(BE_RESERVATION_MAXIMUM_TIME_UNIT)
+                .enabledDayOfWeek(BE_ENABLED_DAY_OF_WEEK)
+                .priorityOrder(1)
+                .build();
+
+        Setting feSetting = Setting.builder()
+                .settingTimeSlot(TimeSlot.of(
+                        FE_AVAILABLE_START_TIME,
+                        FE_AVAILABLE_END_TIME))
+                .reservationTimeUnit(FE_RESERVATION_TIME_UNIT)
+                .reservationMinimumTimeUnit(FE_RESERVATION_MINIMUM_TIME_UNIT)
+                .reservationMaximumTimeUnit(FE_RESERVATION_MAXIMUM_TIME_UNIT)
+                .enabledDayOfWeek(FE_ENABLED_DAY_OF_WEEK)
+                .priorityOrder(0)
+                .build();
+
+        Setting fe1Setting = Setting.builder()
+                .settingTimeSlot(TimeSlot.of(
+                        FE_AVAILABLE_START_TIME,
+                        FE_AVAILABLE_END_TIME))
+                .reservationTimeUnit(FE_RESERVATION_TIME_UNIT)
+                .reservationMinimumTimeUnit(FE_RESERVATION_MINIMUM_TIME_UNIT)
+                .reservationMaximumTimeUnit(FE_RESERVATION_MAXIMUM_TIME_UNIT)
+                .enabledDayOfWeek(FE_ENABLED_DAY_OF_WEEK)
+                .priorityOrder(0)
+                .build();
+
+        Space be = Space.builder()
+                .name(BE_NAME)
+                .color(BE_COLOR)
+                .area(SPACE_DRAWING)
+                .reservationEnable(BE_RESERVATION_ENABLE)
+                .spaceSettings(Settings.toPrioritizedSettings(List.of(beSetting, feSetting)))
+                .map(luther)
+                .build();
+
+        Space fe = Space.builder()
+                .name(FE_NAME)
+                .color(FE_COLOR)
+                .area(SPACE_DRAWING)
+                .reservationEnable(FE_RESERVATION_ENABLE)
+                .spaceSettings(Settings.toPrioritizedSettings(List.of(fe1Setting)))
+                .map(luther)
+                .build();
+
+        spaces.save(be);
+        spaces.save(fe);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        Map actual = maps.findByIdFetchSettings(savedMap.getId())
+                .orElseThrow(NoSuchMapException::new);
+
+        // then
+        assertThat(actual.getSpaces()).hasSize(2);
+        assertThat(actual.getSpaces())
+                .allMatch(space -> Hibernate.isInitialized(space.getSpaceSettings().getSettings()));
+        Space actualBe = actual.findSpaceById(be.getId())
+                .orElseThrow();
+        assertThat(actualBe.getSpaceSettings().getSettings())
+                .extracting(Setting::getPriorityOrder)
+                .containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("공간이 없는 Map도 예약 조건과 함께 찾아올 수 있다.")
+    void findByIdFetchSettingsWithoutSpaces() {
+        // given
+        Map savedMap = maps.save(luther);
+
+        // when
+        Map actual = maps.findByIdFetchSettings(savedMap.getId())
+                .orElseThrow(NoSuchMapException::new);
+
+        // then
+        assertThat(actual).isEqualTo(savedMap);
+        assertThat(actual.getSpaces()).isEmpty();
+    }
+
     @Test
     @DisplayName("공간이 없어도 Fetch Join을 통해 Map을 찾아올 수 있다.")
     void findByIdFetchWithoutSpaces() {
@@ -160,4 +258,22 @@ class MapRepositoryTest extends RepositoryTest {
         // then
         assertThat(actual).isEqualTo(savedMap);
     }
+
+    @Test
+    @DisplayName("Fetch Join으로 Map을 찾아올 때 도면, 썸네일은 읽지 않고, 처음 접근할 때 읽는다.")
+    void findByIdFetchWithoutContent() {
+        // given
+        Map savedMap = maps.save(luther);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        Map actual = maps.findByIdFetch(savedMap.getId())
+                .orElseThrow(NoSuchMapException::new);
+
+        // then
+        assertThat(Hibernate.isInitialized(actual.getContent())).isFalse();
+        assertThat(actual.getMapDrawing()).isEqualTo(MAP_DRAWING_DATA);
+        assertThat(actual.getThumbnail()).isEqualTo(MAP_SVG);
+    }
 }
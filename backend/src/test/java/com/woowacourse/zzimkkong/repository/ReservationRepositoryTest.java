@@ -246,6 +246,20 @@ class ReservationRepositoryTest extends RepositoryTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("space id 들과 날짜가 주어질 때, 해당 공간들의 해당 날짜 예약들을 회원과 함께 찾아온다")
+    void findAllBySpaceIdInAndDateFetch() {
+        // given, when
+        List<Reservation> foundReservations = reservations.findAllBySpaceIdInAndDateFetch(
+                List.of(be.getId(), fe.getId()),
+                THE_DAY_AFTER_TOMORROW);
+
+        // then
+        assertThat(foundReservations).usingRecursiveComparison()
+                .ignoringCollectionOrder()
+                .isEqualTo(List.of(beAmZeroOne, bePmOneTwo, fe1ZeroOne, bePmTwoThreeByPobi));
+    }
+
     @Test
     @DisplayName("page로 모든 예약을 조회한다.")
     void findAllByPaging() {
@@ -269,9 +283,9 @@ class ReservationRepositoryTest extends RepositoryTest {
 
     @Test
     @DisplayName("로그인한 예약자의 특정 시간 이후 (Inclusive) 예약 내역을 조회한다")
-    void findAllByMemberAndReservationTimeDateGreaterThanEqualAndReservationTimeStartTimeGreaterThanEqual() {
-        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("reservationTime.startTime"));
-        Slice<Reservation> actual = reservations.findAllByMemberAndReservationTimeDateGreaterThanEqualAndReservationTimeEndTimeGreaterThanEqual(
+    void findUpcomingByMember() {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        Slice<Reservation> actual = reservations.findUpcomingByMember(
                 pobi,
                 THE_DAY_AFTER_TOMORROW,
                 TimeZoneUtils.convertToUTC(BE_PM_TWO_THREE_START_TIME_KST),
@@ -281,11 +295,35 @@ class ReservationRepositoryTest extends RepositoryTest {
         assertThat(actual.getContent()).isEqualTo(expectedContent);
     }
 
+    @Test
+    @DisplayName("로그인한 예약자의 예약 내역을 커서 이후부터 시작 시간 순서대로 조회한다")
+    void findUpcomingByMemberAfter() {
+        PageRequest pageRequest = PageRequest.of(0, 1);
+        Slice<Reservation> firstSlice = reservations.findUpcomingByMember(
+                pobi,
+                beFiveDaysAgoPmTwoThreeByPobi.getDate(),
+                beFiveDaysAgoPmTwoThreeByPobi.getStartTime(),
+                pageRequest);
+        Reservation lastReservation = firstSlice.getContent().get(0);
+        Slice<Reservation> nextSlice = reservations.findUpcomingByMemberAfter(
+                pobi,
+                beFiveDaysAgoPmTwoThreeByPobi.getDate(),
+                beFiveDaysAgoPmTwoThreeByPobi.getStartTime(),
+                lastReservation.getStartTime(),
+                lastReservation.getId(),
+                pageRequest);
+
+        assertThat(firstSlice.getContent()).containsExactly(beFiveDaysAgoPmTwoThreeByPobi);
+        assertThat(firstSlice.hasNext()).isTrue();
+        assertThat(nextSlice.getContent()).containsExactly(bePmTwoThreeByPobi);
+        assertThat(nextSlice.hasNext()).isFalse();
+    }
+
     @Test
     @DisplayName("로그인한 예약자의 특정 날짜 이전 (Inclusive) 예약 내역을 조회한다")
-    void findAllByMemberAndReservationTimeDateLessThanEqual() {
-        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("reservationTime.endTime").descending());
-        Slice<Reservation> actual = reservations.findAllByMemberAndReservationTimeDateLessThanEqualAndReservationTimeEndTimeLessThanEqual(
+    void findPreviousByMember() {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        Slice<Reservation> actual = reservations.findPreviousByMember(
                 pobi,
                 THE_DAY_AFTER_TOMORROW,
                 TimeZoneUtils.convertToUTC(BE_PM_TWO_THREE_END_TIME_KST),
@@ -293,4 +331,20 @@ class ReservationRepositoryTest extends RepositoryTest {
 
         assertThat(actual.getContent()).containsExactly(bePmTwoThreeByPobi, beFiveDaysAgoPmTwoThreeByPobi);
     }
+
+    @Test
+    @DisplayName("로그인한 예약자의 이전 예약 내역을 커서 이전부터 시작 시간의 역순으로 조회한다")
+    void findPreviousByMemberBefore() {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        Slice<Reservation> actual = reservations.findPreviousByMemberBefore(
+                pobi,
+                THE_DAY_AFTER_TOMORROW,
+                TimeZoneUtils.convertToUTC(BE_PM_TWO_THREE_END_TIME_KST),
+                bePmTwoThreeByPobi.getStartTime(),
+                bePmTwoThreeByPobi.getId(),
+                pageRequest);
+
+        assertThat(actual.getContent()).containsExactly(beFiveDaysAgoPmTwoThreeByPobi);
+        assertThat(actual.hasNext()).isFalse();
+    }
 }
@@ -27,6 +27,7 @@ import static com.woowacourse.zzimkkong.infrastructure.datetime.TimeZoneUtils.UT
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 
 class AdminServiceTest extends ServiceTest {
@@ -96,8 +97,8 @@ class AdminServiceTest extends ServiceTest {
         PageRequest pageRequest = PageRequest.of(0, 20, Sort.unsorted());
         given(maps.findAllByFetch(any(Pageable.class)))
                 .willReturn(new PageImpl<>(List.of(luther), pageRequest, 1));
-        given(sharingIdGenerator.from(any(Map.class)))
-                .willReturn("someId");
+        given(sharingIdGenerator.fromAll(anyList()))
+                .willReturn(List.of("someId"));
         //when
         MapsResponse expected = MapsResponse.of(
                 List.of(MapFindResponse.ofAdmin(luther, "someId")),
@@ -314,9 +314,11 @@ class GuestReservationServiceTest extends ServiceTest {
         //given, when
         given(maps.findByIdFetch(anyLong()))
                 .willReturn(Optional.of(luther));
-        given(reservations.findAllBySpaceIdInAndReservationTimeDate(
-                anyList(),
-                any(LocalDate.class)))
+        given(reservations.findAllOverlapping(
+                anyLong(),
+                any(LocalDate.class),
+                any(LocalDateTime.class),
+                any(LocalDateTime.class)))
                 .willReturn(List.of(makeReservation(
                         reservationCreateUpdateWithPasswordRequest.localStartDateTime().minusMinutes(startMinute),
                         reservationCreateUpdateWithPasswordRequest.localEndDateTime().plusMinutes(endMinute),
@@ -744,7 +746,7 @@ class GuestReservationServiceTest extends ServiceTest {
 
         given(maps.findByIdFetch(anyLong()))
                 .willReturn(Optional.of(luther));
-        given(reservations.findAllBySpaceIdInAndReservationTimeDate(
+        given(reservations.findAllBySpaceIdInAndDateFetch(
                 anyList(),
                 any(LocalDate.class)))
                 .willReturn(foundReservations);
@@ -867,7 +869,7 @@ class GuestReservationServiceTest extends ServiceTest {
 
         given(maps.findByIdFetch(anyLong()))
                 .willReturn(Optional.of(luther));
-        given(reservations.findAllBySpaceIdInAndReservationTimeDate(
+        given(reservations.findAllBySpaceIdInAndDateFetch(
                 anyList(),
                 any(LocalDate.class)))
                 .willReturn(foundReservations);
@@ -1096,9 +1098,11 @@ class GuestReservationServiceTest extends ServiceTest {
                 .willReturn(Optional.of(luther));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
-        given(reservations.findAllBySpaceIdInAndReservationTimeDate(
-                anyList(),
-                any(LocalDate.class)))
+        given(reservations.findAllOverlapping(
+                anyLong(),
+                any(LocalDate.class),
+                any(LocalDateTime.class),
+                any(LocalDateTime.class)))
                 .willReturn(Arrays.asList(
                         beAmZeroOne,
                         bePmOneTwo));
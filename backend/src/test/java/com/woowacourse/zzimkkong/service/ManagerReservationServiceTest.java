@@ -377,9 +377,11 @@ class ManagerReservationServiceTest extends ServiceTest {
         //given, when
         given(maps.findByIdFetch(anyLong()))
                 .willReturn(Optional.of(luther));
-        given(reservations.findAllBySpaceIdInAndReservationTimeDate(
-                anyList(),
-                any(LocalDate.class)))
+        given(reservations.findAllOverlapping(
+                anyLong(),
+                any(LocalDate.class),
+                any(LocalDateTime.class),
+                any(LocalDateTime.class)))
                 .willReturn(List.of(makeReservation(
                         reservationCreateUpdateWithPasswordRequest.localStartDateTime().minusMinutes(startMinute),
                         reservationCreateUpdateWithPasswordRequest.localEndDateTime().plusMinutes(endMinute),
@@ -841,7 +843,7 @@ class ManagerReservationServiceTest extends ServiceTest {
 
         given(maps.findByIdFetch(anyLong()))
                 .willReturn(Optional.of(luther));
-        given(reservations.findAllBySpaceIdInAndReservationTimeDate(
+        given(reservations.findAllBySpaceIdInAndDateFetch(
                 anyList(),
                 any(LocalDate.class)))
                 .willReturn(foundReservations);
@@ -1000,7 +1002,7 @@ class ManagerReservationServiceTest extends ServiceTest {
 
         given(maps.findByIdFetch(anyLong()))
                 .willReturn(Optional.of(luther));
-        given(reservations.findAllBySpaceIdInAndReservationTimeDate(
+        given(reservations.findAllBySpaceIdInAndDateFetch(
                 anyList(),
                 any(LocalDate.class)))
                 .willReturn(foundReservations);
@@ -1292,9 +1294,11 @@ class ManagerReservationServiceTest extends ServiceTest {
                 .willReturn(Optional.of(luther));
         given(reservations.findById(anyLong()))
                 .willReturn(Optional.of(reservation));
-        given(reservations.findAllBySpaceIdInAndReservationTimeDate(
-                anyList(),
-                any(LocalDate.class)))
+        given(reservations.findAllOverlapping(
+                anyLong(),
+                any(LocalDate.class),
+                any(LocalDateTime.class),
+                any(LocalDateTime.class)))
                 .willReturn(Arrays.asList(
                         beAmZeroOne,
                         bePmOneTwo));
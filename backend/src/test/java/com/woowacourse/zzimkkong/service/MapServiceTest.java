@@ -175,6 +175,19 @@ class MapServiceTest extends ServiceTest {
                 .isInstanceOf(NoAuthorityOnMapException.class);
     }
 
+    @Test
+    @DisplayName("권한이 없는 관리자가 맵의 변경 버전을 조회하려고 할 경우 예외가 발생한다.")
+    void findChangeVersionManagerException() {
+        //given
+        LoginUserEmail anotherEmail = LoginUserEmail.from(NEW_EMAIL);
+        given(maps.findById(anyLong()))
+                .willReturn(Optional.of(luther));
+
+        // when, then
+        assertThatThrownBy(() -> mapService.findChangeVersion(lutherId, anotherEmail))
+                .isInstanceOf(NoAuthorityOnMapException.class);
+    }
+
     @Test
     @DisplayName("맵 삭제 요청 시, 이후에 존재하는 예약이 없다면 삭제한다.")
     void delete() {
@@ -211,15 +224,19 @@ class MapServiceTest extends ServiceTest {
         String sharingId = sharingIdGenerator.from(luther);
         given(maps.findById(anyLong()))
                 .willReturn(Optional.of(luther));
+        given(maps.findNoticeById(anyLong()))
+                .willReturn(Optional.ofNullable(luther.getNotice()));
 
         // when
         MapFindResponse actual = mapService.findMapBySharingId(sharingId);
-        MapFindResponse expected = MapFindResponse.of(luther);
+        MapFindResponse expected = MapFindResponse.ofGuest(luther, luther.getNotice());
 
         // then
         assertThat(actual)
                 .usingRecursiveComparison()
                 .isEqualTo(expected);
+        assertThat(actual.getMapDrawing()).isNull();
+        assertThat(actual.getThumbnail()).isNull();
     }
 
     @Test
@@ -247,7 +247,7 @@ class SpaceServiceTest extends ServiceTest {
     @DisplayName("전체 공간을 조회한다.")
     void findAll() {
         // given
-        given(maps.findByIdFetch(anyLong()))
+        given(maps.findByIdFetchSettings(anyLong()))
                 .willReturn(Optional.of(luther));
 
         // when
@@ -262,7 +262,7 @@ class SpaceServiceTest extends ServiceTest {
     @DisplayName("공간 전체 조회시, 공간 관리자가 아니라면 예외를 발생시킨다.")
     void findAllNoAuthorityOnMap() {
         // given
-        given(maps.findByIdFetch(anyLong()))
+        given(maps.findByIdFetchSettings(anyLong()))
                 .willReturn(Optional.of(luther));
 
         // when, then
@@ -274,7 +274,7 @@ class SpaceServiceTest extends ServiceTest {
     @DisplayName("예약자 전체 공간을 조회한다.")
     void findAllGuest() {
         // given
-        given(maps.findByIdFetch(anyLong()))
+        given(maps.findByIdFetchSettings(anyLong()))
                 .willReturn(Optional.of(luther));
 
         // when
@@ -383,7 +383,7 @@ class SpaceServiceTest extends ServiceTest {
                 .space(be)
                 .build();
 
-        given(maps.findByIdFetch(anyLong()))
+        given(maps.findByIdFetchSettings(anyLong()))
                 .willReturn(Optional.of(luther));
         given(reservations.findAllBySpaceIdInAndReservationTimeDate(anyCollection(), any()))
                 .willReturn(List.of(beAmTenEleven, bePmOneTwo));
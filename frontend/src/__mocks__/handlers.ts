@@ -1,6 +1,6 @@
 import { DefaultRequestBody, rest, RestHandler } from 'msw';
 import { BASE_URL } from 'constants/api';
-import { MapItemResponse } from 'types/response';
+import { MapItemResponse, QueryGuestMapDrawingSuccess } from 'types/response';
 import { formatDate } from 'utils/datetime';
 import { ManagerSpaceAPI, Reservation } from './../types/common';
 import { guestMaps, reservations, spaces } from './mockData';
@@ -9,6 +9,8 @@ const ENDPOINT = process.env.DEPLOY_ENV !== 'production' ? BASE_URL.DEV : BASE_U
 
 type GetGuestMapResponseBody = MapItemResponse;
 
+type GetGuestMapDrawingResponseBody = QueryGuestMapDrawingSuccess;
+
 interface GetGuestSpacesResponseBody {
   spaces: ManagerSpaceAPI[];
 }
@@ -65,6 +67,26 @@ const handlers: RestHandler[] = [
     return res(ctx.status(200), ctx.json(guestMaps[sharingMapId]));
   }),
 
+  rest.get<never, GetGuestMapDrawingResponseBody, never>(
+    `${ENDPOINT}/guests/maps/drawing`,
+    (req, res, ctx) => {
+      const sharingMapId = req.url.searchParams.get('sharingMapId');
+
+      if (!sharingMapId) {
+        return res(ctx.status(400));
+      }
+
+      if (!guestMaps[sharingMapId]) {
+        return res(ctx.status(404));
+      }
+
+      return res(
+        ctx.status(200),
+        ctx.json(JSON.parse(guestMaps[sharingMapId].mapDrawing) as GetGuestMapDrawingResponseBody)
+      );
+    }
+  ),
+
   rest.get<never, GetGuestSpacesResponseBody, GetGuestSpacesParams>(
     `${ENDPOINT}/guests/maps/:mapId/spaces`,
     (req, res, ctx) => {
@@ -1,6 +1,6 @@
 import { AxiosResponse } from 'axios';
 import { QueryFunction, QueryKey } from 'react-query';
-import { QueryGuestMapSuccess } from 'types/response';
+import { QueryGuestMapDrawingSuccess, QueryGuestMapSuccess } from 'types/response';
 import api from './api';
 
 export interface QueryGuestMapParams {
@@ -16,3 +16,13 @@ export const queryGuestMap: QueryFunction<
 
   return api.get(`/guests/maps?sharingMapId=${sharingMapId}`);
 };
+
+export const queryGuestMapDrawing: QueryFunction<
+  AxiosResponse<QueryGuestMapDrawingSuccess>,
+  [QueryKey, QueryGuestMapParams]
+> = ({ queryKey }) => {
+  const [, data] = queryKey;
+  const { sharingMapId } = data;
+
+  return api.get(`/guests/maps/drawing?sharingMapId=${sharingMapId}`);
+};
@@ -20,7 +20,7 @@ export interface QueryNonLoginReservationsParams {
 }
 
 export interface QueryMemberReservationsParams {
-  page: number;
+  cursor?: string;
 }
 
 export interface GuestReservationParams {
@@ -97,16 +97,16 @@ export const queryGuestNonLoginReservations = ({
 
 // 내 예약 조회
 export const queryMemberReservations = ({
-  page,
+  cursor,
 }: QueryMemberReservationsParams): Promise<AxiosResponse<QueryMemberReservationsSuccess>> => {
-  return api.get(`/guests/reservations?page=${page}`);
+  return api.get('/guests/reservations', { params: { cursor } });
 };
 
 // 내 이전 예약 조회
 export const queryMemberReservationHistory = ({
-  page,
+  cursor,
 }: QueryMemberReservationsParams): Promise<AxiosResponse<QueryMemberReservationsSuccess>> => {
-  return api.get(`/guests/reservations/history?page=${page}`);
+  return api.get('/guests/reservations/history', { params: { cursor } });
 };
 
 export const postGuestReservation = ({
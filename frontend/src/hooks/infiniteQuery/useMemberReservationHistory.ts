@@ -5,9 +5,10 @@ import { queryMemberReservationHistory } from './../../api/guestReservation';
 const useMemberReservationHistory = () => {
   const infiniteQueryResponse = useInfiniteQuery(
     ['infiniteQueryMemberRreservationHistory'],
-    ({ pageParam = 0 }) => queryMemberReservationHistory({ page: Number(pageParam) }),
+    ({ pageParam }) => queryMemberReservationHistory({ cursor: pageParam as string | undefined }),
     {
-      getNextPageParam: (response) => response.data.hasNext,
+      getNextPageParam: (response) =>
+        response.data.hasNext ? response.data.nextCursor : undefined,
     }
   );
 
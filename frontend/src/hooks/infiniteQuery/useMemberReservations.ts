@@ -5,9 +5,10 @@ import { queryMemberReservations } from '../../api/guestReservation';
 const useMemberReservations = () => {
   const infiniteQueryResponse = useInfiniteQuery(
     ['infiniteQueryMemberRreservations'],
-    ({ pageParam = 0 }) => queryMemberReservations({ page: Number(pageParam) }),
+    ({ pageParam }) => queryMemberReservations({ cursor: pageParam as string | undefined }),
     {
-      getNextPageParam: (response) => response.data.hasNext,
+      getNextPageParam: (response) =>
+        response.data.hasNext ? response.data.nextCursor : undefined,
     }
   );
 
@@ -0,0 +1,17 @@
+import { AxiosError, AxiosResponse } from 'axios';
+import { QueryKey, useQuery, UseQueryOptions, UseQueryResult } from 'react-query';
+import { queryGuestMapDrawing, QueryGuestMapParams } from 'api/guestMap';
+import { ErrorResponse, QueryGuestMapDrawingSuccess } from 'types/response';
+
+const useGuestMapDrawing = <TData = AxiosResponse<QueryGuestMapDrawingSuccess>>(
+  { sharingMapId }: QueryGuestMapParams,
+  options?: UseQueryOptions<
+    AxiosResponse<QueryGuestMapDrawingSuccess>,
+    AxiosError<ErrorResponse>,
+    TData,
+    [QueryKey, QueryGuestMapParams]
+  >
+): UseQueryResult<TData, AxiosError<ErrorResponse>> =>
+  useQuery(['getGuestMapDrawing', { sharingMapId }], queryGuestMapDrawing, options);
+
+export default useGuestMapDrawing;
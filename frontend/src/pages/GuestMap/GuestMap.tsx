@@ -10,8 +10,8 @@ import { HREF } from 'constants/path';
 import useGuestReservations from 'hooks/query/useGuestReservations';
 import useGuestSpaces from 'hooks/query/useGuestSpaces';
 import { AccessTokenContext } from 'providers/AccessTokenProvider';
-import { Area, MapItem, Reservation, ScrollPosition, Space } from 'types/common';
-import { GuestPageURLParams } from 'types/guest';
+import { Area, Reservation, ScrollPosition, Space } from 'types/common';
+import { GuestMapItem, GuestPageURLParams } from 'types/guest';
 import { ErrorResponse } from 'types/response';
 import { formatDate } from 'utils/datetime';
 import { isNullish } from 'utils/type';
@@ -31,7 +31,7 @@ export interface GuestMapState {
 }
 
 interface GuestMapProps {
-  map: MapItem;
+  map: GuestMapItem;
 }
 
 const GuestMap = ({ map }: GuestMapProps): JSX.Element => {
@@ -1,10 +1,10 @@
-import React, { useState } from 'react';
+import React from 'react';
 import { useHistory, useParams } from 'react-router-dom';
 import MESSAGE from 'constants/message';
 import PATH from 'constants/path';
 import useGuestMap from 'hooks/query/useGuestMap';
-import { MapDrawing, MapItem } from 'types/common';
-import { GuestPageURLParams } from 'types/guest';
+import useGuestMapDrawing from 'hooks/query/useGuestMapDrawing';
+import { GuestMapItem, GuestPageURLParams } from 'types/guest';
 import GuestMap from './GuestMap';
 import * as Styled from './GuestMap.styles';
 import GuestMapFormProvider from './providers/GuestMapFormProvider';
@@ -13,31 +13,32 @@ const GuestMapContainer = () => {
   const { sharingMapId } = useParams<GuestPageURLParams>();
   const history = useHistory();
 
-  const [map, setMap] = useState<MapItem | null>(null);
-
-  useGuestMap(
+  const guestMap = useGuestMap(
     { sharingMapId },
     {
       onError: () => {
         history.replace(PATH.NOT_FOUND);
       },
-      onSuccess: (response) => {
-        const mapData = response.data;
-
-        try {
-          setMap({
-            ...mapData,
-            mapDrawing: JSON.parse(mapData.mapDrawing) as MapDrawing,
-          });
-        } catch (error) {
-          alert(MESSAGE.GUEST_MAP.MAP_DRAWING_PARSE_ERROR);
-        }
+      retry: false,
+    }
+  );
+
+  const guestMapDrawing = useGuestMapDrawing(
+    { sharingMapId },
+    {
+      onError: () => {
+        alert(MESSAGE.GUEST_MAP.MAP_DRAWING_PARSE_ERROR);
       },
       retry: false,
     }
   );
 
-  if (map === null) return <></>;
+  const mapData = guestMap.data?.data;
+  const mapDrawing = guestMapDrawing.data?.data;
+
+  if (!mapData || !mapDrawing) return <></>;
+
+  const map: GuestMapItem = { ...mapData, mapDrawing };
 
   return (
     <Styled.Page>
@@ -1,12 +1,13 @@
 import Switch from 'components/Switch/Switch';
-import { MapItem, Reservation } from 'types/common';
+import { Reservation } from 'types/common';
+import { GuestMapItem } from 'types/guest';
 import { SWITCH_LABEL_LIST } from '../GuestMap';
 import * as Styled from './Aside.styled';
 import ReservationForm from './ReservationForm';
 import ReservationList from './ReservationList';
 
 interface Props {
-  map: MapItem;
+  map: GuestMapItem;
   selectedLabel: typeof SWITCH_LABEL_LIST[number];
   onClickSwitch: (label: typeof SWITCH_LABEL_LIST[number]) => void;
   selectedSpaceId: number | null;
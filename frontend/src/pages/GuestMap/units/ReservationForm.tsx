@@ -21,7 +21,7 @@ import RESERVATION from 'constants/reservation';
 import SPACE from 'constants/space';
 import useMember from 'hooks/query/useMember';
 import { AccessTokenContext } from 'providers/AccessTokenProvider';
-import { MapItem } from 'types/common';
+import { GuestMapItem } from 'types/guest';
 import { ErrorResponse } from 'types/response';
 import { formatTimeWithSecond, isPastDate } from 'utils/datetime';
 import { isNullish } from 'utils/type';
@@ -30,7 +30,7 @@ import { GuestMapFormContext } from '../providers/GuestMapFormProvider';
 import * as Styled from './ReservationForm.styled';
 
 interface Props {
-  map: MapItem;
+  map: GuestMapItem;
 }
 
 const ReservationForm = ({ map }: Props) => {
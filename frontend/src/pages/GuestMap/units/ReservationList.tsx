@@ -12,7 +12,8 @@ import DATE from 'constants/date';
 import useGuestReservations from 'hooks/query/useGuestReservations';
 import useGuestSpace from 'hooks/query/useGuestSpace';
 import { AccessTokenContext } from 'providers/AccessTokenProvider';
-import { MapItem, Reservation } from 'types/common';
+import { Reservation } from 'types/common';
+import { GuestMapItem } from 'types/guest';
 import { formatDate, isPastTime } from 'utils/datetime';
 import { getReservationStatus } from 'utils/reservation';
 import { isNullish } from 'utils/type';
@@ -20,7 +21,7 @@ import { GuestMapFormContext } from '../providers/GuestMapFormProvider';
 import * as Styled from './ReservationList.styled';
 
 interface Props {
-  map: MapItem;
+  map: GuestMapItem;
   // selectedSpaceId: number | null;
   onEdit: (reservation: Reservation) => void;
   onDelete: (reservation: Reservation) => void;
@@ -1,5 +1,7 @@
 import { MapItem } from './common';
 
+export type GuestMapItem = Omit<MapItem, 'thumbnail'>;
+
 export interface GuestPageURLParams {
   sharingMapId: MapItem['sharingMapId'];
 }
@@ -1,6 +1,7 @@
 import {
   Emoji,
   ManagerSpaceAPI,
+  MapDrawing,
   MapItem,
   MemberReservation,
   Preset,
@@ -40,7 +41,9 @@ export interface QueryEmojiListSuccess {
   emojis: Emoji[];
 }
 
-export type QueryGuestMapSuccess = MapItemResponse;
+export type QueryGuestMapSuccess = Omit<MapItemResponse, 'mapDrawing' | 'thumbnail'>;
+
+export type QueryGuestMapDrawingSuccess = MapDrawing;
 
 export type QueryManagerMapSuccess = MapItemResponse;
 
@@ -90,6 +93,7 @@ export interface QueryMemberReservationsSuccess {
   data: MemberReservation[];
   hasNext: boolean;
   pageNumber: number;
+  nextCursor?: string;
 }
 
 export interface QuerySettingSummarySuccess {